@@ -61,6 +61,18 @@ public final class VirtualThreadExecutorHolder {
         return executor;
     }
 
+    /**
+     * @param name prefix of thread names, threads are numbered starting from 1
+     * @return factory of virtual threads or null if they are not {@link VirtualThreadStatus#ENABLED}
+     */
+    @Nullable
+    public static ThreadFactory threadFactory(String name) {
+        if (status != VirtualThreadStatus.ENABLED) {
+            return null;
+        }
+        return createLoomThreadFactory(name);
+    }
+
     @Nullable
     private static ThreadFactory createLoomThreadFactory(String name) {
         try {
@@ -35,7 +35,7 @@ public interface CommonConfigModule extends DefaultConfigExtractorsModule {
     }
 
     @Root
-    default ConfigWatcher configRefresher(@ApplicationConfig Optional<ValueOf<ConfigOrigin>> applicationConfig) {
-        return new ConfigWatcher(applicationConfig, 1000);
+    default ConfigWatcher configRefresher(@ApplicationConfig Optional<ValueOf<ConfigOrigin>> applicationConfig, Optional<ValueOf<ConfigWatcherMetrics>> metrics) {
+        return new ConfigWatcher(applicationConfig, metrics, 200);
     }
 }
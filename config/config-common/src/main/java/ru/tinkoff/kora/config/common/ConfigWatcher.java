@@ -1,5 +1,6 @@
 package ru.tinkoff.kora.config.common;
 
+import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.tinkoff.kora.application.graph.Lifecycle;
@@ -9,27 +10,67 @@ import ru.tinkoff.kora.config.common.origin.ContainerConfigOrigin;
 import ru.tinkoff.kora.config.common.origin.FileConfigOrigin;
 
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
 
+/**
+ * Watches directories of application config files and refreshes config when any of them is changed.
+ * Directories of every symlink on the way to real config file are watched, so Kubernetes ConfigMap
+ * atomic symlink swap is noticed as well as in place file modification.
+ * Events for files other than config files and links to them are ignored.
+ * Events are debounced: config is refreshed only after no events were received for debounce interval or after max debounce interval since first event.
+ * Application config origin is single graph node, so its refresh reparses every file origin and refreshes dependent components.
+ * Failed refresh is retried after retry interval until it succeeds or config files are changed back.
+ */
 public class ConfigWatcher implements Lifecycle {
     private static final Logger log = LoggerFactory.getLogger(ConfigWatcher.class);
+    private static final int MAX_SYMLINK_DEPTH = 16;
 
     private final Optional<ValueOf<ConfigOrigin>> applicationConfig;
+    private final Optional<ValueOf<ConfigWatcherMetrics>> metrics;
     private final AtomicBoolean isStarted = new AtomicBoolean(false);
-    private final int checkTime;
+    private final int debounceTime;
+    private final int maxDebounceTime;
+    private final int retryTime;
     private volatile Thread thread;
+    private volatile WatchService watchService;
 
-    public ConfigWatcher(Optional<ValueOf<ConfigOrigin>> applicationConfig, int checkTime) {
+    public ConfigWatcher(Optional<ValueOf<ConfigOrigin>> applicationConfig, int debounceTime) {
+        this(applicationConfig, Optional.empty(), debounceTime);
+    }
+
+    public ConfigWatcher(Optional<ValueOf<ConfigOrigin>> applicationConfig, Optional<ValueOf<ConfigWatcherMetrics>> metrics, int debounceTime) {
+        this(applicationConfig, metrics, debounceTime, debounceTime * 10, 5000);
+    }
+
+    /**
+     * @param debounceTime    millis without events to wait before refresh
+     * @param maxDebounceTime max millis to wait before refresh since first event, even if events keep coming
+     * @param retryTime       millis to wait before retrying failed refresh
+     */
+    public ConfigWatcher(Optional<ValueOf<ConfigOrigin>> applicationConfig, Optional<ValueOf<ConfigWatcherMetrics>> metrics, int debounceTime, int maxDebounceTime, int retryTime) {
         this.applicationConfig = applicationConfig;
-        this.checkTime = checkTime;
+        this.metrics = metrics;
+        this.debounceTime = debounceTime;
+        this.maxDebounceTime = maxDebounceTime;
+        this.retryTime = retryTime;
     }
 
     @Override
@@ -58,79 +99,217 @@ public class ConfigWatcher implements Lifecycle {
             return;
         }
         if (this.isStarted.compareAndSet(true, false)) {
+            var watchService = this.watchService;
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException e) {
+                    log.debug("Error on closing config watch service", e);
+                }
+            }
             this.thread.interrupt();
             this.thread = null;
         }
     }
 
+    private record FileState(Path realPath, Instant lastModifiedTime, long size) {}
+
     private void watchJob() {
         if (this.applicationConfig.isEmpty()) {
             return;
         }
-        var config = this.applicationConfig.get().get();
-        var origins = this.parseOrigin(config);
+        var origins = this.parseOrigin(this.applicationConfig.get().get());
         if (origins.isEmpty()) {
             return;
         }
-        record State(Path configPath, Instant lastModifiedTime) {}
-        Function<Path, State> stateExtractor = configuredPath -> {
-            try {
-                var configPath = configuredPath.toAbsolutePath().toRealPath();
-                var lastModifiedTime = Files.getLastModifiedTime(configPath).toInstant();
-                return new State(configPath, lastModifiedTime);
-            } catch (IOException e) {
-                log.warn("Can't locate config file or ", e);
-                return null;
+
+        try (var watchService = FileSystems.getDefault().newWatchService()) {
+            this.watchService = watchService;
+            var keys = new HashMap<Path, WatchKey>();
+            var state = new HashMap<Path, FileState>();
+            for (var origin : origins) {
+                state.put(origin.path(), fileState(origin.path()));
             }
-        };
-        var state = new HashMap<Path, State>();
-        for (var origin : origins) {
-            var originalState = stateExtractor.apply(origin.path());
-            state.put(origin.path(), originalState);
-        }
-        while (this.isStarted.get()) {
-            var changed = new HashMap<Path, State>();
-            for (var entry : state.entrySet()) {
-                var path = entry.getKey();
-                var newState = stateExtractor.apply(path);
-                if (newState == null) {
-                    continue;
+            var names = this.registerDirectories(watchService, keys, origins);
+            var failedRefreshEvent = -1L;
+
+            while (this.isStarted.get()) {
+                final long firstEvent;
+                if (failedRefreshEvent < 0) {
+                    if (!this.consume(watchService.take(), names)) {
+                        continue;
+                    }
+                    firstEvent = System.nanoTime();
+                } else {
+                    var key = watchService.poll(this.retryTime, TimeUnit.MILLISECONDS);
+                    if (key != null) {
+                        this.consume(key, names);
+                    }
+                    // retry latency is measured from the event refresh failed for
+                    firstEvent = failedRefreshEvent;
                 }
-                if (entry.getValue() == null) {
-                    log.debug("New config symlink target");
-                    changed.put(entry.getKey(), newState);
-                    continue;
+                // debounce: wait until there are no config events during debounce time, but no longer than max debounce time
+                var debounceNanos = TimeUnit.MILLISECONDS.toNanos(this.debounceTime);
+                var debounceDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.maxDebounceTime);
+                var quietDeadline = System.nanoTime() + debounceNanos;
+                while (true) {
+                    var wait = Math.min(quietDeadline, debounceDeadline) - System.nanoTime();
+                    if (wait <= 0) {
+                        break;
+                    }
+                    var key = watchService.poll(wait, TimeUnit.NANOSECONDS);
+                    if (key == null) {
+                        break;
+                    }
+                    if (this.consume(key, names)) {
+                        quietDeadline = System.nanoTime() + debounceNanos;
+                    }
                 }
-                var configPath = entry.getValue().configPath();
-                var lastModifiedTime = entry.getValue().lastModifiedTime();
-                var currentConfigPath = newState.configPath;
-                var currentLastModifiedTime = newState.lastModifiedTime;
-                if (!currentConfigPath.equals(configPath)) {
-                    log.debug("New config symlink target");
-                    changed.put(entry.getKey(), newState);
-                } else if (currentLastModifiedTime.isAfter(lastModifiedTime)) {
-                    log.debug("Config modified");
-                    changed.put(entry.getKey(), newState);
+
+                var changed = new HashMap<Path, FileState>();
+                for (var origin : origins) {
+                    var newState = fileState(origin.path());
+                    if (newState != null && !newState.equals(state.get(origin.path()))) {
+                        log.debug("Config {} changed: {} -> {}", origin.path(), state.get(origin.path()), newState);
+                        changed.put(origin.path(), newState);
+                    }
                 }
-            }
-            try {
-                if (!changed.isEmpty()) {
-                    this.applicationConfig.get().refresh();
-                    log.info("Config refreshed");
+                // symlink targets could change, so watched directories are recalculated on every event batch
+                names = this.registerDirectories(watchService, keys, origins);
+                if (changed.isEmpty()) {
+                    failedRefreshEvent = -1;
+                } else if (this.refresh(changed.keySet(), firstEvent)) {
+                    failedRefreshEvent = -1;
                     state.putAll(changed);
+                } else {
+                    failedRefreshEvent = firstEvent;
                 }
-                Thread.sleep(this.checkTime);
-            } catch (InterruptedException ignore) {
-            } catch (Exception e) {
-                log.warn("Error on checking config for changes", e);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignore) {
+        } catch (IOException e) {
+            log.warn("Can't start config watch service, config won't be refreshed", e);
+        } finally {
+            this.watchService = null;
+        }
+    }
+
+    /**
+     * @param names names of config files and links to them in every watched directory
+     * @return true if any of events is about config file or link to it
+     */
+    private boolean consume(WatchKey key, Map<Path, Set<Path>> names) {
+        var directoryNames = names.getOrDefault((Path) key.watchable(), Set.of());
+        var relevant = false;
+        for (var event : key.pollEvents()) {
+            log.trace("Config directory {} event {} {}", key.watchable(), event.kind(), event.context());
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || directoryNames.contains((Path) event.context())) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    private boolean refresh(Set<Path> changed, long firstEvent) {
+        var started = System.nanoTime();
+        try {
+            this.applicationConfig.get().refresh();
+            var finished = System.nanoTime();
+            log.info("Config refreshed after {} changed", changed);
+            this.metrics.ifPresent(m -> m.get().recordReload(finished - firstEvent, finished - started, null));
+            return true;
+        } catch (Exception e) {
+            var finished = System.nanoTime();
+            log.warn("Error on refreshing config after {} changed", changed, e);
+            this.metrics.ifPresent(m -> m.get().recordReload(finished - firstEvent, finished - started, e));
+            return false;
+        }
+    }
+
+    private Map<Path, Set<Path>> registerDirectories(WatchService watchService, Map<Path, WatchKey> keys, List<FileConfigOrigin> origins) {
+        var names = new HashMap<Path, Set<Path>>();
+        var directories = new LinkedHashSet<Path>();
+        for (var origin : origins) {
+            directories.addAll(watchedDirectories(origin.path(), names));
+        }
+        var iterator = keys.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (!directories.contains(entry.getKey()) || !entry.getValue().isValid()) {
+                entry.getValue().cancel();
+                iterator.remove();
+            }
+        }
+        for (var directory : directories) {
+            if (keys.containsKey(directory)) {
+                continue;
+            }
+            try {
+                var key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                keys.put(directory, key);
+                log.debug("Watching config directory {}", directory);
+            } catch (IOException e) {
+                log.warn("Can't watch config directory {}", directory, e);
+            }
+        }
+        names.keySet().retainAll(directories);
+        return names;
+    }
+
+    /**
+     * Real directories containing every link on the way from configured path to real config file
+     *
+     * @param names filled with names of path elements on the way to real config file for every real directory
+     */
+    private static Set<Path> watchedDirectories(Path configPath, Map<Path, Set<Path>> names) {
+        var result = new LinkedHashSet<Path>();
+        var path = configPath.toAbsolutePath().normalize();
+        for (int i = 0; i < MAX_SYMLINK_DEPTH && path != null; i++) {
+            var parent = path.getParent();
+            if (parent == null) {
+                break;
+            }
+            Path realParent;
+            try {
+                realParent = parent.toRealPath();
+            } catch (IOException e) {
+                break;
+            }
+            result.add(realParent);
+            // symlinks could be anywhere in the parent path, e.g. ..data link of ConfigMap volume, so every element is relevant
+            var prefix = path.getRoot();
+            for (var element : path) {
                 try {
-                    Thread.sleep(this.checkTime);
-                } catch (InterruptedException ignore) {
+                    names.computeIfAbsent(prefix.toRealPath(), k -> new HashSet<>()).add(element);
+                } catch (IOException e) {
+                    break;
                 }
+                prefix = prefix.resolve(element);
+            }
+            var realPath = realParent.resolve(path.getFileName());
+            if (!Files.isSymbolicLink(realPath)) {
+                break;
+            }
+            try {
+                path = realParent.resolve(Files.readSymbolicLink(realPath)).normalize();
+            } catch (IOException e) {
+                break;
             }
         }
+        return result;
     }
 
+    @Nullable
+    private static FileState fileState(Path configuredPath) {
+        try {
+            var configPath = configuredPath.toAbsolutePath().toRealPath();
+            var attributes = Files.readAttributes(configPath, BasicFileAttributes.class);
+            return new FileState(configPath, attributes.lastModifiedTime().toInstant(), attributes.size());
+        } catch (IOException e) {
+            log.warn("Can't locate config file {}", configuredPath, e);
+            return null;
+        }
+    }
 
     private List<FileConfigOrigin> parseOrigin(ConfigOrigin origin) {
         if (origin instanceof FileConfigOrigin o) {
@@ -0,0 +1,13 @@
+package ru.tinkoff.kora.config.common;
+
+import jakarta.annotation.Nullable;
+
+public interface ConfigWatcherMetrics {
+
+    /**
+     * @param latencyNanos time from first file system event till config refresh completion, including debounce time
+     * @param refreshNanos time spent parsing changed config and refreshing dependent components
+     * @param error        refresh error if config failed to refresh
+     */
+    void recordReload(long latencyNanos, long refreshNanos, @Nullable Throwable error);
+}
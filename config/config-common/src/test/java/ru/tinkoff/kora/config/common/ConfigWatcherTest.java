@@ -2,6 +2,7 @@ package ru.tinkoff.kora.config.common;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.LoggerContext;
+import jakarta.annotation.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,8 +18,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static ru.tinkoff.kora.config.common.ConfigTestUtils.*;
@@ -32,8 +38,13 @@ class ConfigWatcherTest {
         """);
     private Path dataDir = createOrUpdateDataDir(this.configDir, this.currentConfigDir);
     private Path configFile = createConfigFile(this.configDir, this.dataDir);
+    private final AtomicInteger refreshes = new AtomicInteger();
+    private final AtomicInteger failingRefreshes = new AtomicInteger();
+    private final List<Reload> reloads = new CopyOnWriteArrayList<>();
     private final ValueOf<Config> config = getConfig();
-    private final ConfigWatcher configWatcher = new ConfigWatcher(Optional.of(config.map(Config::origin)), 50);
+    private final ConfigWatcher configWatcher = new ConfigWatcher(Optional.of(config.map(Config::origin)), Optional.of(metrics()), 50, 1000, 100);
+
+    private record Reload(long latencyNanos, long refreshNanos, @Nullable Throwable error) {}
 
     @BeforeEach
     void setUp() throws InterruptedException {
@@ -102,6 +113,108 @@ class ConfigWatcherTest {
         });
     }
 
+    @Test
+    void burstOfChangesIsRefreshedOnce() throws IOException, InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(10);
+            this.writeConfig(i);
+        }
+
+        assertWithTimeout(Duration.ofSeconds(10), () -> assertThat(config.get().get("database.username").asString()).isEqualTo("test_user4"));
+        Thread.sleep(300);
+        assertThat(this.refreshes).hasValue(1);
+        assertThat(this.reloads).hasSize(1);
+    }
+
+    @Test
+    void debounceIsLimitedByMaxDebounceTime() throws IOException, InterruptedException {
+        var started = System.nanoTime();
+        // changes keep coming more often than debounce time, but config is refreshed after max debounce time anyway
+        for (int i = 0; this.refreshes.get() == 0 && System.nanoTime() - started < Duration.ofSeconds(10).toNanos(); i++) {
+            this.writeConfig(i);
+            Thread.sleep(20);
+        }
+
+        assertThat(this.refreshes.get()).isPositive();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void eventsOfOtherFilesAreIgnored() throws Exception {
+        var otherFile = this.configFile.toAbsolutePath().toRealPath().resolveSibling("other.conf");
+        var otherWriter = Executors.newSingleThreadExecutor();
+        try {
+            otherWriter.submit(() -> {
+                // events of other file don't trigger refresh and don't delay it
+                for (int i = 0; !Thread.currentThread().isInterrupted(); i++) {
+                    Files.writeString(otherFile, "value=" + i);
+                    Thread.sleep(10);
+                }
+                return null;
+            });
+            Thread.sleep(300);
+            assertThat(this.refreshes).hasValue(0);
+
+            var changed = System.nanoTime();
+            this.writeConfig(1);
+
+            assertWithTimeout(Duration.ofSeconds(10), () -> assertThat(this.refreshes).hasValue(1));
+            assertThat(Duration.ofNanos(System.nanoTime() - changed)).isLessThan(Duration.ofMillis(900));
+        } finally {
+            otherWriter.shutdownNow();
+            otherWriter.awaitTermination(1, TimeUnit.SECONDS);
+            Files.deleteIfExists(otherFile);
+        }
+    }
+
+    @Test
+    void reloadIsRecordedInMetrics() throws IOException {
+        this.writeConfig(1);
+
+        assertWithTimeout(Duration.ofSeconds(10), () -> assertThat(this.reloads).hasSize(1));
+        var reload = this.reloads.get(0);
+        assertThat(reload.error()).isNull();
+        assertThat(reload.refreshNanos()).isPositive();
+        // latency includes debounce time
+        assertThat(reload.latencyNanos()).isGreaterThanOrEqualTo(reload.refreshNanos() + Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    void failedRefreshIsRetried() throws IOException {
+        this.failingRefreshes.set(2);
+        this.writeConfig(1);
+
+        assertWithTimeout(Duration.ofSeconds(10), () -> assertThat(config.get().get("database.username").asString()).isEqualTo("test_user1"));
+        assertThat(this.reloads).hasSize(3);
+        assertThat(this.reloads.get(0).error()).hasMessage("test");
+        assertThat(this.reloads.get(1).error()).hasMessage("test");
+        assertThat(this.reloads.get(2).error()).isNull();
+        // retries are measured from the first event
+        assertThat(this.reloads.get(2).latencyNanos()).isGreaterThan(this.reloads.get(0).latencyNanos() + Duration.ofMillis(200).toNanos());
+    }
+
+    private void writeConfig(int i) throws IOException {
+        // comment changes file size, so change is noticed even if modification time stays the same
+        Files.writeString(this.configFile, "#" + "-".repeat(i) + "\n" + """
+            database.username=test_user%d
+            database.password=test_password
+            """.formatted(i));
+    }
+
+    private ValueOf<ConfigWatcherMetrics> metrics() {
+        return new ValueOf<>() {
+            @Override
+            public ConfigWatcherMetrics get() {
+                return (latencyNanos, refreshNanos, error) -> reloads.add(new Reload(latencyNanos, refreshNanos, error));
+            }
+
+            @Override
+            public void refresh() {
+
+            }
+        };
+    }
+
     private static void assertWithTimeout(Duration duration, Runnable runnable) {
         var deadline = Instant.now().plus(duration);
         AssertionError error = null;
@@ -137,6 +250,10 @@ class ConfigWatcherTest {
 
             @Override
             public void refresh() {
+                refreshes.incrementAndGet();
+                if (failingRefreshes.getAndUpdate(i -> Math.max(0, i - 1)) > 0) {
+                    throw new IllegalStateException("test");
+                }
                 try {
                     this.config = this.load();
                 } catch (IOException e) {
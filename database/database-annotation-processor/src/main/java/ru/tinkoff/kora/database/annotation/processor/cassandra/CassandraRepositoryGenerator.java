@@ -116,7 +116,7 @@ public class CassandraRepositoryGenerator implements RepositoryGenerator {
             b.addStatement("_ctxFork.inject()");
             b.addStatement("var _telemetry = this._connectionFactory.telemetry().createContext(_ctxFork, _query)");
             b.addStatement("var _session = this._connectionFactory.currentSession()");
-            b.addCode("return $T.fromCompletionStage(_session.prepareAsync(_query.sql()))", CommonClassNames.mono);
+            b.addCode("return $T.fromCompletionStage(this._connectionFactory.prepareAsync(_query.sql()))", CommonClassNames.mono);
             if (isMono) {
                 b.beginControlFlow(".flatMap(_st ->");
             } else {
@@ -128,7 +128,7 @@ public class CassandraRepositoryGenerator implements RepositoryGenerator {
             b.addStatement("var _ctxFork = _ctxCurrent.fork()");
             b.addStatement("var _telemetry = this._connectionFactory.telemetry().createContext(_ctxFork, _query)", CommonClassNames.context);
             b.addStatement("var _session = this._connectionFactory.currentSession()");
-            b.addCode("return _session.prepareAsync(_query.sql())\n");
+            b.addCode("return this._connectionFactory.prepareAsync(_query.sql())\n");
             b.addCode("  .thenCompose(_st -> {$>$>\n");
             b.addStatement("_ctxFork.inject()");
             b.addStatement("var _stmt = _st.boundStatementBuilder()");
@@ -136,7 +136,7 @@ public class CassandraRepositoryGenerator implements RepositoryGenerator {
             b.addStatement("var _ctxCurrent = $T.current()", CommonClassNames.context);
             b.addStatement("var _telemetry = this._connectionFactory.telemetry().createContext(_ctxCurrent, _query)", CommonClassNames.context);
             b.addStatement("var _session = this._connectionFactory.currentSession()");
-            b.addStatement("var _stmt = _session.prepare(_query.sql()).boundStatementBuilder()");
+            b.addStatement("var _stmt = this._connectionFactory.prepare(_query.sql()).boundStatementBuilder()");
         }
         if (profile != null) {
             b.addStatement("_stmt.setExecutionProfileName($S)", profile);
@@ -144,11 +144,14 @@ public class CassandraRepositoryGenerator implements RepositoryGenerator {
 
         StatementSetterGenerator.generate(b, method, query, parameters, batchParam, parameterMappers);
         if (isMono || isFlux) {
-            b.addStatement("var _rrs = _session.executeReactive(_s)");
-            if (CommonUtils.isVoid(((DeclaredType) returnType).getTypeArguments().get(0))) {
+            if (batchParam != null) {
+                b.addStatement("return $T.fromCompletionStage(this._connectionFactory.executeBatchAsync(_s))", CommonClassNames.mono);
+            } else if (CommonUtils.isVoid(((DeclaredType) returnType).getTypeArguments().get(0))) {
+                b.addStatement("var _rrs = _session.executeReactive(_s)");
                 b.addStatement("return $T.from(_rrs).then()", CommonClassNames.flux);
             } else {
                 Objects.requireNonNull(resultMapperName, () -> "Illegal State occurred when expected to get result mapper, but got null in " + method.getEnclosingElement().getSimpleName() + "#" + method.getSimpleName());
+                b.addStatement("var _rrs = _session.executeReactive(_s)");
                 b.addStatement("return $N.apply(_rrs)", resultMapperName);
             }
             b.endControlFlow().addCode(")\n");// flatMap Statement
@@ -165,7 +168,9 @@ public class CassandraRepositoryGenerator implements RepositoryGenerator {
                 """);
             b.endControlFlow(")");// defer
         } else if (isFuture) {
-            if (CommonUtils.isVoid(((DeclaredType) returnType).getTypeArguments().get(0))) {
+            if (batchParam != null) {
+                b.addStatement("return this._connectionFactory.executeBatchAsync(_s)");
+            } else if (CommonUtils.isVoid(((DeclaredType) returnType).getTypeArguments().get(0))) {
                 b.addStatement("return _session.executeAsync(_s).thenApply(_rs -> (Void)null)");
             } else {
                 Objects.requireNonNull(resultMapperName, () -> "Illegal State occurred when expected to get result mapper, but got null in " + method.getEnclosingElement().getSimpleName() + "#" + method.getSimpleName());
@@ -185,7 +190,11 @@ public class CassandraRepositoryGenerator implements RepositoryGenerator {
             }
         } else {
             b.beginControlFlow("try");
-            b.addStatement("var _rs = _session.execute(_s)");
+            if (batchParam != null) {
+                b.addStatement("this._connectionFactory.executeBatch(_s)");
+            } else {
+                b.addStatement("var _rs = _session.execute(_s)");
+            }
             if (returnType.getKind() != TypeKind.VOID) {
                 Objects.requireNonNull(resultMapperName, () -> "Illegal State occurred when expected to get result mapper, but got null in " + method.getEnclosingElement().getSimpleName() + "#" + method.getSimpleName());
                 b.addStatement("var _result = $N.apply(_rs)", resultMapperName);
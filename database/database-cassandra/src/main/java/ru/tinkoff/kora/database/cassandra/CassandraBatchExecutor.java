@@ -0,0 +1,152 @@
+package ru.tinkoff.kora.database.cassandra;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits unlogged batch into single partition parts, so each part is routed by token aware load balancing policy
+ * directly to its replicas instead of making coordinator fan out whole batch across the cluster.
+ */
+final class CassandraBatchExecutor {
+
+    private final boolean tokenAware;
+    private final int concurrency;
+
+    CassandraBatchExecutor(CassandraConfig.BatchConfig config) {
+        this.tokenAware = config.tokenAware();
+        this.concurrency = Math.max(1, config.concurrency());
+    }
+
+    void execute(CqlSession session, BatchStatement batch) {
+        var parts = this.split(session, batch);
+        if (parts.size() == 1) {
+            session.execute(parts.get(0));
+            return;
+        }
+
+        try {
+            new FanOut(session, parts, this.concurrency).start().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    CompletionStage<Void> executeAsync(CqlSession session, BatchStatement batch) {
+        var parts = this.split(session, batch);
+        if (parts.size() == 1) {
+            return session.executeAsync(parts.get(0)).thenApply(rs -> null);
+        }
+
+        return new FanOut(session, parts, this.concurrency).start();
+    }
+
+    private List<Statement<?>> split(CqlSession session, BatchStatement batch) {
+        if (!this.tokenAware || batch.size() < 2) {
+            return List.of(batch);
+        }
+
+        var tokenMap = session.getMetadata().getTokenMap().orElse(null);
+        var partitions = new LinkedHashMap<Object, List<BatchableStatement<?>>>();
+        var unrouted = new ArrayList<BatchableStatement<?>>();
+        for (var statement : batch) {
+            var key = partitionKey(tokenMap, statement);
+            if (key == null) {
+                unrouted.add(statement);
+            } else {
+                partitions.computeIfAbsent(key, k -> new ArrayList<>()).add(statement);
+            }
+        }
+        if (partitions.size() + (unrouted.isEmpty() ? 0 : 1) < 2) {
+            return List.of(batch);
+        }
+
+        var parts = new ArrayList<Statement<?>>(partitions.size() + 1);
+        for (var partition : partitions.values()) {
+            if (partition.size() == 1) {
+                parts.add(partition.get(0));
+            } else {
+                parts.add(batch.clear().addAll(partition));
+            }
+        }
+        if (!unrouted.isEmpty()) {
+            // statements without routing information are kept together as they were before the split
+            parts.add(batch.clear().addAll(unrouted));
+        }
+        return parts;
+    }
+
+    private static Object partitionKey(TokenMap tokenMap, BatchableStatement<?> statement) {
+        var token = statement.getRoutingToken();
+        if (token != null) {
+            return token;
+        }
+        var routingKey = statement.getRoutingKey();
+        if (routingKey == null) {
+            return null;
+        }
+        if (tokenMap != null) {
+            return tokenMap.newToken(routingKey.duplicate());
+        }
+        return routingKey;
+    }
+
+    private static final class FanOut {
+        private final CqlSession session;
+        private final List<Statement<?>> statements;
+        private final int concurrency;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final AtomicInteger next = new AtomicInteger(0);
+        private final AtomicInteger pending;
+
+        private FanOut(CqlSession session, List<Statement<?>> statements, int concurrency) {
+            this.session = session;
+            this.statements = statements;
+            this.concurrency = concurrency;
+            this.pending = new AtomicInteger(statements.size());
+        }
+
+        private CompletableFuture<Void> start() {
+            var initial = Math.min(this.concurrency, this.statements.size());
+            for (int i = 0; i < initial; i++) {
+                this.executeNext();
+            }
+            return this.result;
+        }
+
+        private void executeNext() {
+            if (this.result.isDone()) {
+                return;
+            }
+            var i = this.next.getAndIncrement();
+            if (i >= this.statements.size()) {
+                return;
+            }
+
+            this.session.executeAsync(this.statements.get(i)).whenComplete((rs, error) -> {
+                if (error != null) {
+                    this.result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error);
+                } else if (this.pending.decrementAndGet() == 0) {
+                    this.result.complete(null);
+                } else {
+                    this.executeNext();
+                }
+            });
+        }
+    }
+}
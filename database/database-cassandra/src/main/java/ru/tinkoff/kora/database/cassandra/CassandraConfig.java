@@ -35,6 +35,8 @@ public interface CassandraConfig {
 
     TelemetryConfig telemetry();
 
+    BatchConfig batch();
+
     @ConfigValueExtractor
     interface CassandraCredentials {
         String login();
@@ -42,6 +44,33 @@ public interface CassandraConfig {
         String password();
     }
 
+    /**
+     * <b>Русский</b>: Настройки выполнения {@link ru.tinkoff.kora.database.common.annotation.Batch} запросов.
+     * <hr>
+     * <b>English</b>: Settings for {@link ru.tinkoff.kora.database.common.annotation.Batch} query execution.
+     */
+    @ConfigValueExtractor
+    interface BatchConfig {
+
+        /**
+         * <b>Русский</b>: Разбивать пакет по токену партиции и выполнять части параллельно на узлах-репликах.
+         * <hr>
+         * <b>English</b>: Split the batch by partition token and execute parts concurrently on replica nodes.
+         */
+        default boolean tokenAware() {
+            return true;
+        }
+
+        /**
+         * <b>Русский</b>: Максимальное количество одновременно выполняемых частей пакета.
+         * <hr>
+         * <b>English</b>: Maximum number of batch parts executed concurrently.
+         */
+        default int concurrency() {
+            return 32;
+        }
+    }
+
     @ConfigValueExtractor
     interface Profile {
         Basic basic();
@@ -1,12 +1,14 @@
 package ru.tinkoff.kora.database.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.database.common.QueryContext;
 import ru.tinkoff.kora.database.common.annotation.Repository;
 import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetry;
 
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 /**
@@ -22,9 +24,25 @@ public interface CassandraConnectionFactory {
 
     DataBaseTelemetry telemetry();
 
+    default PreparedStatement prepare(String cql) {
+        return this.currentSession().prepare(cql);
+    }
+
+    default CompletionStage<PreparedStatement> prepareAsync(String cql) {
+        return this.currentSession().prepareAsync(cql);
+    }
+
+    default void executeBatch(BatchStatement batch) {
+        this.currentSession().execute(batch);
+    }
+
+    default CompletionStage<Void> executeBatchAsync(BatchStatement batch) {
+        return this.currentSession().executeAsync(batch).thenApply(rs -> null);
+    }
+
     default <T> T query(QueryContext queryContext, Function<PreparedStatement, T> callback) {
         var telemetry = this.telemetry().createContext(Context.current(), queryContext);
-        var stmt = this.currentSession().prepare(queryContext.sql());
+        var stmt = this.prepare(queryContext.sql());
         try {
             var result = callback.apply(stmt);
             telemetry.close(null);
@@ -1,6 +1,8 @@
 package ru.tinkoff.kora.database.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.tinkoff.kora.application.graph.Lifecycle;
@@ -10,13 +12,20 @@ import ru.tinkoff.kora.database.common.telemetry.DataBaseTelemetryFactory;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class CassandraDatabase implements CassandraConnectionFactory, Lifecycle {
 
     private static final Logger logger = LoggerFactory.getLogger(CassandraDatabase.class);
 
+    private static final int MAX_CACHED_STATEMENTS = 4096;
+
     private final CassandraConfig config;
     private final DataBaseTelemetry telemetry;
+    private final CassandraBatchExecutor batchExecutor;
+    private final ConcurrentHashMap<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
     private volatile CqlSession cqlSession;
 
     public CassandraDatabase(CassandraConfig config, DataBaseTelemetryFactory telemetryFactory) {
@@ -28,6 +37,7 @@ public final class CassandraDatabase implements CassandraConnectionFactory, Life
             "cassandra",
             Optional.ofNullable(config.auth()).map(CassandraConfig.CassandraCredentials::login).orElse("anonymous")
         ), DataBaseTelemetryFactory.EMPTY);
+        this.batchExecutor = new CassandraBatchExecutor(config.batch());
     }
 
     @Override
@@ -40,6 +50,49 @@ public final class CassandraDatabase implements CassandraConnectionFactory, Life
         return this.telemetry;
     }
 
+    @Override
+    public PreparedStatement prepare(String cql) {
+        var cached = this.preparedStatements.get(cql);
+        this.telemetry.recordPreparedStatementCache(cached != null);
+        if (cached != null) {
+            return cached;
+        }
+
+        var prepared = this.cqlSession.prepare(cql);
+        this.cachePreparedStatement(cql, prepared);
+        return prepared;
+    }
+
+    @Override
+    public CompletionStage<PreparedStatement> prepareAsync(String cql) {
+        var cached = this.preparedStatements.get(cql);
+        this.telemetry.recordPreparedStatementCache(cached != null);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return this.cqlSession.prepareAsync(cql).thenApply(prepared -> {
+            this.cachePreparedStatement(cql, prepared);
+            return prepared;
+        });
+    }
+
+    private void cachePreparedStatement(String cql, PreparedStatement prepared) {
+        if (this.preparedStatements.size() < MAX_CACHED_STATEMENTS) {
+            this.preparedStatements.putIfAbsent(cql, prepared);
+        }
+    }
+
+    @Override
+    public void executeBatch(BatchStatement batch) {
+        this.batchExecutor.execute(this.cqlSession, batch);
+    }
+
+    @Override
+    public CompletionStage<Void> executeBatchAsync(BatchStatement batch) {
+        return this.batchExecutor.executeAsync(this.cqlSession, batch);
+    }
+
     @Override
     public void init() {
         logger.debug("CassandraDatabase {} starting...", config.basic().contactPoints());
@@ -59,6 +112,7 @@ public final class CassandraDatabase implements CassandraConnectionFactory, Life
 
             s.close();
             cqlSession = null;
+            preparedStatements.clear();
 
             logger.info("CassandraDatabase '{}' stopped in {}", config.basic().contactPoints(), TimeUtils.tookForLogging(started));
         }
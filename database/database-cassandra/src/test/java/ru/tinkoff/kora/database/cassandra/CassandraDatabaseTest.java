@@ -1,5 +1,7 @@
 package ru.tinkoff.kora.database.cassandra;
 
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -60,7 +62,8 @@ class CassandraDatabaseTest {
                 new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(true),
                 new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
                 new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null)
-            )
+            ),
+            new $CassandraConfig_BatchConfig_ConfigValueExtractor.BatchConfig_Impl(true, 2)
         );
         return new CassandraDatabase(config, new DefaultDataBaseTelemetryFactory(null, null, null));
     }
@@ -131,4 +134,23 @@ class CassandraDatabaseTest {
 
         });
     }
+
+    @Test
+    public void testTokenAwareBatch(CassandraParams params) {
+        params.execute("create table test_table(id int, value varchar, primary key (id));\n");
+
+        withDb(params, db -> {
+            var stmt = db.prepare("INSERT INTO test_table(id, value) VALUES (?, ?)");
+            var batch = BatchStatement.builder(DefaultBatchType.UNLOGGED);
+            for (int i = 0; i < 10; i++) {
+                batch.addStatement(stmt.bind(i, "test" + i));
+            }
+            db.executeBatchAsync(batch.build()).toCompletableFuture().join();
+            db.executeBatch(BatchStatement.newInstance(DefaultBatchType.UNLOGGED, stmt.bind(10, "test10"), stmt.bind(11, "test11")));
+
+            var count = db.currentSession().execute("SELECT count(*) FROM test_table").one().getLong(0);
+            Assertions.assertThat(count).isEqualTo(12);
+            Assertions.assertThat(db.prepare("INSERT INTO test_table(id, value) VALUES (?, ?)")).isSameAs(stmt);
+        });
+    }
 }
@@ -6,5 +6,7 @@ import ru.tinkoff.kora.database.common.QueryContext;
 public interface DataBaseMetricWriter {
     void recordQuery(long queryBegin, QueryContext queryContext, @Nullable Throwable exception);
 
+    default void recordPreparedStatementCache(boolean hit) {}
+
     Object getMetricRegistry();
 }
@@ -13,4 +13,6 @@ public interface DataBaseTelemetry {
     }
 
     DataBaseTelemetryContext createContext(Context context, QueryContext query);
+
+    default void recordPreparedStatementCache(boolean hit) {}
 }
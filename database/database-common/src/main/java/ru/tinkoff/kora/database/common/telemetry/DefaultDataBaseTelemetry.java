@@ -26,6 +26,13 @@ public class DefaultDataBaseTelemetry implements DataBaseTelemetry {
         return this.metricWriter.getMetricRegistry();
     }
 
+    @Override
+    public void recordPreparedStatementCache(boolean hit) {
+        if (this.metricWriter != null) {
+            this.metricWriter.recordPreparedStatementCache(hit);
+        }
+    }
+
     @Override
     public DataBaseTelemetryContext createContext(Context ctx, QueryContext query) {
         var metricWriter = this.metricWriter;
@@ -113,7 +113,7 @@ class CassandraRepositoryGenerator(private val resolver: Resolver) : RepositoryG
         if (isFlow) {
             b.controlFlow("return %M", flowBuilder) {
                 controlFlow("try") {
-                    addStatement("val _st = _session.prepareAsync(_query.sql()).%M()", await)
+                    addStatement("val _st = this._cassandraConnectionFactory.prepareAsync(_query.sql()).%M()", await)
                     addStatement("var _stmt = _st.boundStatementBuilder()")
                     if (profile != null) {
                         addStatement("_stmt.setExecutionProfileName(%S)", profile)
@@ -139,13 +139,17 @@ class CassandraRepositoryGenerator(private val resolver: Resolver) : RepositoryG
             }
         } else if (isSuspend) {
             b.controlFlow("try") {
-                addStatement("val _st = _session.prepareAsync(_query.sql()).%M()", await)
+                addStatement("val _st = this._cassandraConnectionFactory.prepareAsync(_query.sql()).%M()", await)
                 addStatement("var _stmt = _st.boundStatementBuilder()")
                 if (profile != null) {
                     addStatement("_stmt.setExecutionProfileName(%S)", profile)
                 }
                 StatementSetterGenerator.generate(this, query, parameters, batchParam, parameterMappers)
-                addStatement("val _rrs = _session.executeAsync(_s).%M()", await)
+                if (batchParam != null) {
+                    addStatement("this._cassandraConnectionFactory.executeBatchAsync(_s).%M()", await)
+                } else {
+                    addStatement("val _rrs = _session.executeAsync(_s).%M()", await)
+                }
                 if (returnType != resolver.builtIns.unitType) {
                     if (function.returnType!!.isMarkedNullable) {
                         addStatement("val _result = (%N as %T).apply(_rrs).%M()", resultMapper!!, CassandraTypes.asyncResultSetMapper.parameterizedBy(function.returnType!!.toTypeName()), await)
@@ -164,13 +168,17 @@ class CassandraRepositoryGenerator(private val resolver: Resolver) : RepositoryG
                 addStatement("_ctxCurrent.inject()")
             }
         } else {
-            b.addStatement("var _stmt = _session.prepare(_query.sql()).boundStatementBuilder()")
+            b.addStatement("var _stmt = this._cassandraConnectionFactory.prepare(_query.sql()).boundStatementBuilder()")
             if (profile != null) {
                 b.addStatement("_stmt.setExecutionProfileName(%S)", profile)
             }
             StatementSetterGenerator.generate(b, query, parameters, batchParam, parameterMappers)
             b.controlFlow("try") {
-                addStatement("val _rs = _session.execute(_s)")
+                if (batchParam != null) {
+                    addStatement("this._cassandraConnectionFactory.executeBatch(_s)")
+                } else {
+                    addStatement("val _rs = _session.execute(_s)")
+                }
                 if (returnType == resolver.builtIns.unitType) {
                     addStatement("_telemetry.close(null)")
                 } else {
@@ -122,7 +122,7 @@ public interface AwsS3ClientModule extends S3ClientModule {
                                                    S3Config config,
                                                    AwsS3ClientConfig awsS3ClientConfig) {
         var telemetry = telemetryFactory.get(config.telemetry(), S3KoraAsyncClient.class);
-        return new AwsS3KoraAsyncClient(s3AsyncClient, awsExecutor, telemetry, awsS3ClientConfig);
+        return new AwsS3KoraAsyncClient(s3AsyncClient, awsExecutor, telemetry, awsS3ClientConfig, config);
     }
 
     @Tag(MultipartUpload.class)
@@ -4,10 +4,13 @@ import jakarta.annotation.Nullable;
 import org.jetbrains.annotations.ApiStatus;
 import reactor.adapter.JdkFlowAdapter;
 import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.s3.client.S3Concurrency;
+import ru.tinkoff.kora.s3.client.S3Config;
 import ru.tinkoff.kora.s3.client.S3DeleteException;
 import ru.tinkoff.kora.s3.client.S3Exception;
 import ru.tinkoff.kora.s3.client.S3KoraAsyncClient;
 import ru.tinkoff.kora.s3.client.S3NotFoundException;
+import ru.tinkoff.kora.s3.client.S3PagedPublisher;
 import ru.tinkoff.kora.s3.client.model.S3Object;
 import ru.tinkoff.kora.s3.client.model.*;
 import ru.tinkoff.kora.s3.client.telemetry.S3KoraClientTelemetry;
@@ -19,14 +22,14 @@ import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3AsyncCli
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.nio.channels.FileChannel;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -38,14 +41,17 @@ public class AwsS3KoraAsyncClient implements S3KoraAsyncClient {
     private final ExecutorService awsExecutor;
     private final S3KoraClientTelemetry telemetry;
     private final AwsS3ClientConfig awsS3ClientConfig;
+    private final S3Config s3Config;
 
     public AwsS3KoraAsyncClient(S3AsyncClient asyncClient,
                                 ExecutorService awsExecutor,
                                 S3KoraClientTelemetry telemetry,
-                                AwsS3ClientConfig awsS3ClientConfig) {
+                                AwsS3ClientConfig awsS3ClientConfig,
+                                S3Config s3Config) {
         this.asyncClient = asyncClient;
         this.awsExecutor = awsExecutor;
         this.telemetry = telemetry;
+        this.s3Config = s3Config;
 
         this.awsS3ClientConfig = awsS3ClientConfig;
         this.multipartAsyncClient = MultipartS3AsyncClient.create(asyncClient,
@@ -72,6 +78,48 @@ public class AwsS3KoraAsyncClient implements S3KoraAsyncClient {
             () -> telemetry.get("GetObject", bucket, key, null));
     }
 
+    private CompletionStage<S3Object> getRangeInternal(String bucket, String key, long offset, long length) {
+        var request = GetObjectRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .range("bytes=" + offset + "-" + (offset + length - 1))
+            .build();
+
+        return asyncClient.getObject(request, AsyncResponseTransformer.toPublisher())
+            .thenApply(r -> new AwsS3Object(request.key(), r));
+    }
+
+    @Override
+    public CompletionStage<S3Object> get(String bucket, String key, long offset, long length) {
+        return wrapWithTelemetry(getRangeInternal(bucket, key, offset, length),
+            () -> telemetry.get("GetObjectRange", bucket, key, length));
+    }
+
+    @Override
+    public CompletionStage<Long> download(String bucket, String key, FileChannel target) {
+        var ctx = Context.current();
+        try {
+            var fork = ctx.fork();
+            fork.inject();
+
+            var context = telemetry.get("DownloadObject", bucket, key, null);
+            var download = s3Config.download();
+            return getMetaInternal(bucket, key)
+                .thenCompose(meta -> S3Concurrency.downloadRanges(meta.size(), download.partSize().toBytes(), download.concurrency(), target,
+                    (offset, length) -> getRangeInternal(bucket, key, offset, length)))
+                .exceptionallyCompose(AwsS3KoraAsyncClient::handleExceptionStage)
+                .whenComplete((r, e) -> {
+                    if (e != null) {
+                        context.close(handleException(e));
+                    } else {
+                        context.close(r, null);
+                    }
+                });
+        } finally {
+            ctx.inject();
+        }
+    }
+
     private CompletionStage<S3ObjectMeta> getMetaInternal(String bucket, String key) {
         var request = GetObjectAttributesRequest.builder()
             .bucket(bucket)
@@ -91,14 +139,7 @@ public class AwsS3KoraAsyncClient implements S3KoraAsyncClient {
 
     @Override
     public CompletionStage<List<S3Object>> get(String bucket, Collection<String> keys) {
-        var futures = keys.stream()
-            .map(k -> getInternal(bucket, k).toCompletableFuture())
-            .toArray(CompletableFuture[]::new);
-
-        var operation = CompletableFuture.allOf(futures)
-            .thenApply(_v -> Arrays.stream(futures)
-                .map(f -> ((S3Object) f.join()))
-                .toList())
+        var operation = S3Concurrency.mapBounded(keys, s3Config.bulkConcurrency(), k -> getInternal(bucket, k))
             .exceptionallyCompose(AwsS3KoraAsyncClient::handleExceptionStage);
 
         return wrapWithTelemetry(operation,
@@ -107,14 +148,7 @@ public class AwsS3KoraAsyncClient implements S3KoraAsyncClient {
 
     @Override
     public CompletionStage<List<S3ObjectMeta>> getMeta(String bucket, Collection<String> keys) {
-        var futures = keys.stream()
-            .map(k -> getMetaInternal(bucket, k).toCompletableFuture())
-            .toArray(CompletableFuture[]::new);
-
-        var operation = CompletableFuture.allOf(futures)
-            .thenApply(_v -> Arrays.stream(futures)
-                .map(f -> ((S3ObjectMeta) f.join()))
-                .toList())
+        var operation = S3Concurrency.mapBounded(keys, s3Config.bulkConcurrency(), k -> getMetaInternal(bucket, k))
             .exceptionallyCompose(AwsS3KoraAsyncClient::handleExceptionStage);
 
         return wrapWithTelemetry(operation,
@@ -133,19 +167,8 @@ public class AwsS3KoraAsyncClient implements S3KoraAsyncClient {
                 try {
                     context.inject();
 
-                    var futures = metaList.metas().stream()
-                        .map(meta -> getInternal(bucket, meta.key()).toCompletableFuture())
-                        .toArray(CompletableFuture[]::new);
-
-                    return CompletableFuture.allOf(futures)
-                        .thenApply(_v -> {
-                            final List<S3Object> objects = new ArrayList<>(futures.length);
-                            for (var future : futures) {
-                                objects.add(((S3Object) future.join()));
-                            }
-
-                            return new AwsS3ObjectList(((AwsS3ObjectMetaList) metaList).response(), objects);
-                        });
+                    return S3Concurrency.mapBounded(metaList.metas(), s3Config.bulkConcurrency(), meta -> getInternal(bucket, meta.key()))
+                        .thenApply(objects -> new AwsS3ObjectList(((AwsS3ObjectMetaList) metaList).response(), objects));
                 } finally {
                     Context.clear();
                 }
@@ -170,32 +193,42 @@ public class AwsS3KoraAsyncClient implements S3KoraAsyncClient {
             () -> telemetry.get("ListObjectMetas", bucket, prefix, null));
     }
 
+    @Override
+    public Flow.Publisher<S3ObjectMeta> listMetaPages(String bucket, @Nullable String prefix, @Nullable String delimiter, int pageSize) {
+        var context = Context.current().fork();
+        return new S3PagedPublisher<>(token -> {
+            var ctx = Context.current();
+            try {
+                context.inject();
+
+                var request = ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .prefix(prefix)
+                    .maxKeys(pageSize)
+                    .delimiter(delimiter)
+                    .continuationToken(token)
+                    .build();
+
+                return wrapWithTelemetry(asyncClient.listObjectsV2(request)
+                        .thenApply(response -> new S3PagedPublisher.Page<>(new AwsS3ObjectMetaList(response).metas(),
+                            Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null)),
+                    () -> telemetry.get("ListObjectMetas", bucket, prefix, null));
+            } finally {
+                ctx.inject();
+            }
+        });
+    }
+
     @Override
     public CompletionStage<List<S3ObjectList>> list(String bucket, Collection<String> prefixes, @Nullable String delimiter, int limitPerPrefix) {
-        return wrapWithTelemetry(fork -> {
-            var futures = prefixes.stream()
-                .map(p -> listInternal(bucket, p, delimiter, limitPerPrefix, fork).toCompletableFuture())
-                .toArray(CompletableFuture[]::new);
-
-            return CompletableFuture.allOf(futures)
-                .thenApply(_v -> Arrays.stream(futures)
-                    .map(f -> ((S3ObjectList) f.join()))
-                    .toList());
-        }, () -> telemetry.get("ListMultiObjects", bucket, null, null));
+        return wrapWithTelemetry(fork -> S3Concurrency.mapBounded(prefixes, s3Config.bulkConcurrency(), p -> listInternal(bucket, p, delimiter, limitPerPrefix, fork)),
+            () -> telemetry.get("ListMultiObjects", bucket, null, null));
     }
 
     @Override
     public CompletionStage<List<S3ObjectMetaList>> listMeta(String bucket, Collection<String> prefixes, @Nullable String delimiter, int limitPerPrefix) {
-        return wrapWithTelemetry(fork -> {
-            var futures = prefixes.stream()
-                .map(p -> listMetaInternal(bucket, p, delimiter, limitPerPrefix).toCompletableFuture())
-                .toArray(CompletableFuture[]::new);
-
-            return CompletableFuture.allOf(futures)
-                .thenApply(_v -> Arrays.stream(futures)
-                    .map(f -> ((S3ObjectMetaList) f.join()))
-                    .toList());
-        }, () -> telemetry.get("ListMultiObjectMetas", bucket, null, null));
+        return wrapWithTelemetry(fork -> S3Concurrency.mapBounded(prefixes, s3Config.bulkConcurrency(), p -> listMetaInternal(bucket, p, delimiter, limitPerPrefix)),
+            () -> telemetry.get("ListMultiObjectMetas", bucket, null, null));
     }
 
     @Override
@@ -0,0 +1,85 @@
+package ru.tinkoff.kora.s3.client.aws;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.adapter.JdkFlowAdapter;
+import ru.tinkoff.kora.s3.client.S3Config;
+import ru.tinkoff.kora.s3.client.model.S3ObjectMeta;
+import ru.tinkoff.kora.s3.client.telemetry.S3KoraClientTelemetry;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AwsS3KoraAsyncClientTest {
+
+    private final S3AsyncClient s3 = mock(S3AsyncClient.class);
+    private final AwsS3KoraAsyncClient client = new AwsS3KoraAsyncClient(s3, mock(ExecutorService.class), telemetry(), config(), mock(S3Config.class));
+
+    @Test
+    void listMetaPagesFollowsContinuationToken() {
+        when(this.s3.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(
+            CompletableFuture.completedFuture(response("t1", "a", "b")),
+            CompletableFuture.completedFuture(response(null, "c"))
+        );
+
+        var keys = JdkFlowAdapter.flowPublisherToFlux(this.client.listMetaPages("bucket", "prefix", "/", 2))
+            .map(S3ObjectMeta::key)
+            .collectList()
+            .block();
+
+        assertThat(keys).containsExactly("a", "b", "c");
+        var requests = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(this.s3, times(2)).listObjectsV2(requests.capture());
+        assertThat(requests.getAllValues()).extracting(ListObjectsV2Request::continuationToken).containsExactly(null, "t1");
+        assertThat(requests.getAllValues()).allSatisfy(rq -> {
+            assertThat(rq.bucket()).isEqualTo("bucket");
+            assertThat(rq.prefix()).isEqualTo("prefix");
+            assertThat(rq.delimiter()).isEqualTo("/");
+            assertThat(rq.maxKeys()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void listMetaPagesStopsWhenResponseIsNotTruncated() {
+        // continuation token of not truncated response is ignored
+        when(this.s3.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(CompletableFuture.completedFuture(response(null, "a").toBuilder()
+            .nextContinuationToken("t1")
+            .build()));
+
+        var keys = JdkFlowAdapter.flowPublisherToFlux(this.client.listMetaPages("bucket", "prefix", null, 2))
+            .map(S3ObjectMeta::key)
+            .collectList()
+            .block();
+
+        assertThat(keys).containsExactly("a");
+        verify(this.s3, times(1)).listObjectsV2(any(ListObjectsV2Request.class));
+    }
+
+    private static ListObjectsV2Response response(String nextToken, String... keys) {
+        return ListObjectsV2Response.builder()
+            .isTruncated(nextToken != null)
+            .nextContinuationToken(nextToken)
+            .contents(Arrays.stream(keys).map(key -> S3Object.builder().key(key).size(1L).lastModified(Instant.EPOCH).build()).toList())
+            .build();
+    }
+
+    private static S3KoraClientTelemetry telemetry() {
+        var telemetry = mock(S3KoraClientTelemetry.class);
+        when(telemetry.get(any(), any(), any(), any())).thenReturn(mock(S3KoraClientTelemetry.S3KoraClientTelemetryContext.class));
+        return telemetry;
+    }
+
+    private static AwsS3ClientConfig config() {
+        var upload = new AwsS3ClientConfig.UploadConfig() {};
+        return () -> upload;
+    }
+}
@@ -0,0 +1,208 @@
+package ru.tinkoff.kora.s3.client;
+
+import jakarta.annotation.Nullable;
+import org.jetbrains.annotations.ApiStatus;
+import ru.tinkoff.kora.s3.client.model.S3Body;
+import ru.tinkoff.kora.s3.client.model.S3Object;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Helpers for S3 client implementations running multiple requests of single operation with bounded concurrency
+ */
+@ApiStatus.Experimental
+public final class S3Concurrency {
+
+    private S3Concurrency() {}
+
+    @FunctionalInterface
+    public interface RangeGetter {
+
+        CompletionStage<S3Object> get(long offset, long length);
+    }
+
+    /**
+     * Runs operation for every item with at most concurrency operations in flight, fails on first failed operation.
+     * No operations are started after result is failed or cancelled, operations in flight are left to complete and their results are ignored.
+     *
+     * @return results in order of items
+     */
+    public static <T, R> CompletableFuture<List<R>> mapBounded(Collection<T> items, int concurrency, Function<T, ? extends CompletionStage<R>> operation) {
+        if (items.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return new BoundedMap<>(items, Math.max(concurrency, 1), operation).start();
+    }
+
+    /**
+     * Downloads object of given size into channel with parallel range requests.
+     * When result is failed or cancelled, no more ranges are requested and bodies of ranges in flight are cancelled before next chunk is written.
+     *
+     * @return number of bytes downloaded
+     */
+    public static CompletableFuture<Long> downloadRanges(long size, long partSize, int concurrency, FileChannel target, RangeGetter getter) {
+        if (size <= 0) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        if (partSize <= 0) {
+            throw new IllegalArgumentException("Part size should be positive: " + partSize);
+        }
+        var offsets = new ArrayList<Long>((int) Math.min(Integer.MAX_VALUE, (size + partSize - 1) / partSize));
+        for (long offset = 0; offset < size; offset += partSize) {
+            offsets.add(offset);
+        }
+        var download = new CompletableFuture<Long>();
+        var parts = mapBounded(offsets, concurrency, offset -> {
+            var length = Math.min(partSize, size - offset);
+            return getter.get(offset, length)
+                .thenCompose(object -> write(object.body(), target, offset, length, download));
+        });
+        parts.whenComplete((r, e) -> {
+            if (e != null) {
+                download.completeExceptionally(e);
+            } else {
+                download.complete(size);
+            }
+        });
+        download.whenComplete((r, e) -> parts.cancel(false));
+        return download;
+    }
+
+    private static CompletableFuture<Void> write(S3Body body, FileChannel target, long position, long length, CompletableFuture<?> download) {
+        var writer = new ChannelWriter(target, position, length, download);
+        body.asPublisher().subscribe(writer);
+        return writer.future;
+    }
+
+    private static final class BoundedMap<T, R> {
+        private final Object[] items;
+        private final Object[] results;
+        private final Function<T, ? extends CompletionStage<R>> operation;
+        private final CompletableFuture<List<R>> result = new CompletableFuture<>();
+        private final AtomicInteger permits;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger wip = new AtomicInteger();
+        private int next = 0;
+
+        private BoundedMap(Collection<T> items, int concurrency, Function<T, ? extends CompletionStage<R>> operation) {
+            this.items = items.toArray();
+            this.results = new Object[this.items.length];
+            this.operation = operation;
+            this.permits = new AtomicInteger(concurrency);
+        }
+
+        private CompletableFuture<List<R>> start() {
+            this.drain();
+            return this.result;
+        }
+
+        // operations completed synchronously call drain recursively, so launching is trampolined with wip counter
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (this.next < this.items.length && !this.result.isDone() && this.permits.get() > 0) {
+                    this.permits.decrementAndGet();
+                    this.launch(this.next++);
+                }
+            } while (this.wip.decrementAndGet() != 0);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void launch(int index) {
+            final CompletionStage<R> stage;
+            try {
+                stage = this.operation.apply((T) this.items[index]);
+            } catch (Throwable e) {
+                this.result.completeExceptionally(e);
+                return;
+            }
+            stage.whenComplete((r, e) -> {
+                if (e != null) {
+                    this.result.completeExceptionally(e);
+                    return;
+                }
+                this.results[index] = r;
+                if (this.completed.incrementAndGet() == this.results.length) {
+                    this.result.complete((List<R>) Collections.unmodifiableList(Arrays.asList(this.results)));
+                } else {
+                    this.permits.incrementAndGet();
+                    this.drain();
+                }
+            });
+        }
+    }
+
+    private static final class ChannelWriter implements Flow.Subscriber<ByteBuffer> {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final CompletableFuture<?> download;
+        private final FileChannel channel;
+        private final long start;
+        private final long length;
+        private long position;
+        @Nullable
+        private Flow.Subscription subscription;
+
+        private ChannelWriter(FileChannel channel, long position, long length, CompletableFuture<?> download) {
+            this.download = download;
+            this.channel = channel;
+            this.start = position;
+            this.position = position;
+            this.length = length;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            if (this.download.isDone()) {
+                // other range failed or download is cancelled, target channel may be already closed by caller
+                this.subscription.cancel();
+                this.future.cancel(false);
+                return;
+            }
+            try {
+                while (item.hasRemaining()) {
+                    this.position += this.channel.write(item, this.position);
+                }
+            } catch (IOException e) {
+                this.subscription.cancel();
+                this.future.completeExceptionally(new S3Exception(e, "IOException", e.getMessage()));
+                return;
+            }
+            this.subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.future.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            var written = this.position - this.start;
+            if (written != this.length) {
+                this.future.completeExceptionally(new S3Exception("Range response has " + written + " bytes, expected " + this.length, "InvalidRange", "Range response size mismatch"));
+            } else {
+                this.future.complete(null);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package ru.tinkoff.kora.s3.client;
 
 import org.jetbrains.annotations.ApiStatus;
+import ru.tinkoff.kora.common.util.Size;
 import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
 import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
@@ -18,6 +19,33 @@ public interface S3Config {
         return "aws-global";
     }
 
+    /**
+     * Max number of concurrent requests of single operation with multiple keys or prefixes
+     */
+    default int bulkConcurrency() {
+        return 16;
+    }
+
+    DownloadConfig download();
+
     TelemetryConfig telemetry();
+
+    @ConfigValueExtractor
+    interface DownloadConfig {
+
+        /**
+         * Size of range requested by single request of parallel download
+         */
+        default Size partSize() {
+            return Size.of(8, Size.Type.MiB);
+        }
+
+        /**
+         * Max number of concurrent range requests of single parallel download
+         */
+        default int concurrency() {
+            return 4;
+        }
+    }
 }
 
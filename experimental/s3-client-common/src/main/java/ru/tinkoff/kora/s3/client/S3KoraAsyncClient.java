@@ -5,9 +5,15 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Range;
 import ru.tinkoff.kora.s3.client.model.*;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 
 @ApiStatus.Experimental
 public interface S3KoraAsyncClient {
@@ -16,6 +22,39 @@ public interface S3KoraAsyncClient {
 
     CompletionStage<S3ObjectMeta> getMeta(String bucket, String key) throws S3NotFoundException;
 
+    /**
+     * @param offset first byte of range
+     * @param length number of bytes in range
+     */
+    CompletionStage<S3Object> get(String bucket, String key, long offset, long length) throws S3NotFoundException;
+
+    /**
+     * Downloads object into channel with parallel range requests, see {@link S3Config.DownloadConfig}
+     *
+     * @return number of bytes downloaded
+     */
+    CompletionStage<Long> download(String bucket, String key, FileChannel target) throws S3NotFoundException;
+
+    /**
+     * Downloads object into file with parallel range requests, file is created or truncated
+     *
+     * @return number of bytes downloaded
+     */
+    default CompletionStage<Long> download(String bucket, String key, Path target) throws S3NotFoundException {
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new S3Exception(e, "IOException", e.getMessage()));
+        }
+        return download(bucket, key, channel).whenComplete((r, e) -> {
+            try {
+                channel.close();
+            } catch (IOException ignore) {
+            }
+        });
+    }
+
     CompletionStage<List<S3Object>> get(String bucket, Collection<String> keys) throws S3NotFoundException;
 
     CompletionStage<List<S3ObjectMeta>> getMeta(String bucket, Collection<String> keys) throws S3NotFoundException;
@@ -48,6 +87,22 @@ public interface S3KoraAsyncClient {
                                                @Nullable String delimiter,
                                                @Range(from = 1, to = 1000) int limit);
 
+    default Flow.Publisher<S3ObjectMeta> listMetaPages(String bucket,
+                                                       @Nullable String prefix) {
+        return listMetaPages(bucket, prefix, null, 1000);
+    }
+
+    /**
+     * Lists all objects under prefix page by page without limit, next page is fetched while current one is consumed,
+     * see {@link S3PagedPublisher}
+     *
+     * @param pageSize number of keys fetched with single request
+     */
+    Flow.Publisher<S3ObjectMeta> listMetaPages(String bucket,
+                                               @Nullable String prefix,
+                                               @Nullable String delimiter,
+                                               @Range(from = 1, to = 1000) int pageSize);
+
     default CompletionStage<List<S3ObjectList>> list(String bucket,
                                                      Collection<String> prefixes) throws S3NotFoundException {
         return list(bucket, prefixes, null, 1000);
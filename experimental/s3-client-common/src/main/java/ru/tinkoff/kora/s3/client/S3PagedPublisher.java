@@ -0,0 +1,190 @@
+package ru.tinkoff.kora.s3.client;
+
+import jakarta.annotation.Nullable;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publisher of items from paginated listing, next page is fetched while current one is consumed.
+ * At most {@link #MAX_BUFFERED_PAGES} pages are held in memory per subscription, no pages are fetched until items are requested.
+ */
+@ApiStatus.Experimental
+public final class S3PagedPublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * Page being consumed and page fetched ahead
+     */
+    public static final int MAX_BUFFERED_PAGES = 2;
+
+    /**
+     * @param nextToken token to fetch next page with, null if page is last
+     */
+    public record Page<T>(List<T> items, @Nullable String nextToken) {}
+
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+
+        /**
+         * @param token null for first page
+         */
+        CompletionStage<Page<T>> fetch(@Nullable String token);
+    }
+
+    private final PageFetcher<T> fetcher;
+
+    public S3PagedPublisher(PageFetcher<T> fetcher) {
+        this.fetcher = fetcher;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        subscriber.onSubscribe(new PagedSubscription<>(this.fetcher, subscriber));
+    }
+
+    private static final class PagedSubscription<T> implements Flow.Subscription {
+        private final PageFetcher<T> fetcher;
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicInteger wip = new AtomicInteger();
+
+        // guarded by this
+        private final ArrayDeque<List<T>> pages = new ArrayDeque<>(MAX_BUFFERED_PAGES);
+        private int index = 0;
+        private long requested = 0;
+        private boolean started = false;
+        private boolean fetching = false;
+        private boolean exhausted = false;
+        private boolean terminated = false;
+        @Nullable
+        private String nextToken;
+        @Nullable
+        private Throwable error;
+
+        private PagedSubscription(PageFetcher<T> fetcher, Flow.Subscriber<? super T> subscriber) {
+            this.fetcher = fetcher;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (this.terminated) {
+                    return;
+                }
+                if (n <= 0) {
+                    this.pages.clear();
+                    this.error = new IllegalArgumentException("Requested items should be positive: " + n);
+                    this.exhausted = true;
+                } else {
+                    this.requested = this.requested + n < 0 ? Long.MAX_VALUE : this.requested + n;
+                }
+                this.started = true;
+            }
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                this.terminated = true;
+                this.pages.clear();
+            }
+        }
+
+        // page fetch can complete synchronously and call drain recursively, so emission is trampolined with wip counter
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            var missed = 1;
+            do {
+                while (true) {
+                    final T item;
+                    synchronized (this) {
+                        if (this.terminated) {
+                            return;
+                        }
+                        var page = this.pages.peek();
+                        if (page != null && this.index >= page.size()) {
+                            this.pages.poll();
+                            this.index = 0;
+                            continue;
+                        }
+                        if (page == null || this.requested == 0) {
+                            break;
+                        }
+                        item = page.get(this.index++);
+                        if (this.requested != Long.MAX_VALUE) {
+                            this.requested--;
+                        }
+                    }
+                    this.subscriber.onNext(item);
+                }
+
+                Throwable error = null;
+                var complete = false;
+                var fetch = false;
+                String token = null;
+                synchronized (this) {
+                    if (this.terminated) {
+                        return;
+                    }
+                    if (this.pages.isEmpty() && this.error != null) {
+                        error = this.error;
+                        this.terminated = true;
+                    } else if (this.pages.isEmpty() && this.exhausted && !this.fetching) {
+                        complete = true;
+                        this.terminated = true;
+                    } else if (this.started && !this.fetching && !this.exhausted && this.error == null && this.pages.size() < MAX_BUFFERED_PAGES) {
+                        fetch = true;
+                        token = this.nextToken;
+                        this.fetching = true;
+                    }
+                }
+                if (error != null) {
+                    this.subscriber.onError(error);
+                    return;
+                }
+                if (complete) {
+                    this.subscriber.onComplete();
+                    return;
+                }
+                if (fetch) {
+                    this.fetch(token);
+                }
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void fetch(@Nullable String token) {
+            CompletionStage<Page<T>> stage;
+            try {
+                stage = this.fetcher.fetch(token);
+            } catch (Throwable e) {
+                stage = CompletableFuture.failedFuture(e);
+            }
+            stage.whenComplete((page, e) -> {
+                synchronized (this) {
+                    this.fetching = false;
+                    if (e != null) {
+                        this.error = e;
+                    } else {
+                        if (!page.items().isEmpty() && !this.terminated) {
+                            this.pages.add(page.items());
+                        }
+                        this.nextToken = page.nextToken();
+                        this.exhausted = page.nextToken() == null;
+                    }
+                }
+                this.drain();
+            });
+        }
+    }
+}
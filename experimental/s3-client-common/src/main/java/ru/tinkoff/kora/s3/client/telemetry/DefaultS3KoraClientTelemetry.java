@@ -1,6 +1,7 @@
 package ru.tinkoff.kora.s3.client.telemetry;
 
 import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.s3.client.S3Exception;
 
 public final class DefaultS3KoraClientTelemetry implements S3KoraClientTelemetry {
 
@@ -29,17 +30,28 @@ public final class DefaultS3KoraClientTelemetry implements S3KoraClientTelemetry
             span = null;
         }
 
-        return exception -> {
-            var end = System.nanoTime();
-            var processingTime = end - start;
-            if (metrics != null) {
-                metrics.record(operation, bucket, key, processingTime, exception);
+        return new S3KoraClientTelemetryContext() {
+            @Override
+            public void close(@Nullable S3Exception exception) {
+                this.close(-1, exception);
             }
-            if (logger != null) {
-                logger.logResponse(operation, bucket, key, processingTime, exception);
-            }
-            if (span != null) {
-                span.close(exception);
+
+            @Override
+            public void close(long transferredBytes, @Nullable S3Exception exception) {
+                var end = System.nanoTime();
+                var processingTime = end - start;
+                if (metrics != null) {
+                    metrics.record(operation, bucket, key, processingTime, exception);
+                    if (transferredBytes >= 0 && exception == null) {
+                        metrics.recordTransfer(operation, bucket, transferredBytes, processingTime);
+                    }
+                }
+                if (logger != null) {
+                    logger.logResponse(operation, bucket, key, processingTime, exception);
+                }
+                if (span != null) {
+                    span.close(exception);
+                }
             }
         };
     }
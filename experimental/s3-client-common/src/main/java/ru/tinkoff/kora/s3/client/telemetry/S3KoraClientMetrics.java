@@ -10,4 +10,14 @@ public interface S3KoraClientMetrics {
                 @Nullable String key,
                 long processingTimeNanos,
                 @Nullable S3Exception exception);
+
+    /**
+     * Called for successful operations transferring object bodies, like parallel download
+     */
+    default void recordTransfer(String operation,
+                                String bucket,
+                                long transferredBytes,
+                                long processingTimeNanos) {
+
+    }
 }
@@ -12,6 +12,13 @@ public interface S3KoraClientTelemetry {
         }
 
         void close(@Nullable S3Exception exception);
+
+        /**
+         * @param transferredBytes number of bytes downloaded or uploaded by operation
+         */
+        default void close(long transferredBytes, @Nullable S3Exception exception) {
+            close(exception);
+        }
     }
 
     S3KoraClientTelemetryContext get(String operation,
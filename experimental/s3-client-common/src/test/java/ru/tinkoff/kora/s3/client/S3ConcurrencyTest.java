@@ -0,0 +1,293 @@
+package ru.tinkoff.kora.s3.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.tinkoff.kora.s3.client.model.S3Body;
+import ru.tinkoff.kora.s3.client.model.S3Object;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3ConcurrencyTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void mapBoundedKeepsConcurrencyBound() {
+        var launched = new ArrayList<CompletableFuture<Integer>>();
+        var items = IntStream.range(0, 10).boxed().toList();
+
+        var result = S3Concurrency.mapBounded(items, 3, item -> {
+            var future = new CompletableFuture<Integer>();
+            launched.add(future);
+            return future;
+        });
+
+        assertThat(launched).hasSize(3);
+        launched.get(1).complete(1);
+        assertThat(launched).hasSize(4);
+        launched.get(0).complete(0);
+        launched.get(2).complete(2);
+        assertThat(launched).hasSize(6);
+        assertThat(result).isNotDone();
+    }
+
+    @Test
+    void mapBoundedResultsAreInOrderOfItems() {
+        var launched = new ArrayList<CompletableFuture<Integer>>();
+        var items = IntStream.range(0, 5).boxed().toList();
+
+        var result = S3Concurrency.mapBounded(items, 5, item -> {
+            var future = new CompletableFuture<Integer>();
+            launched.add(future);
+            return future;
+        });
+        for (int i = launched.size() - 1; i >= 0; i--) {
+            launched.get(i).complete(i * 10);
+        }
+
+        assertThat(result.join()).containsExactly(0, 10, 20, 30, 40);
+    }
+
+    @Test
+    void mapBoundedWithSynchronousOperationsDoesNotOverflowStack() {
+        var items = IntStream.range(0, 100_000).boxed().toList();
+
+        var result = S3Concurrency.mapBounded(items, 4, CompletableFuture::completedFuture);
+
+        assertThat(result.join()).hasSize(100_000).startsWith(0, 1, 2);
+    }
+
+    @Test
+    void mapBoundedFailsOnFirstErrorAndStopsLaunching() {
+        var launched = new ArrayList<CompletableFuture<Integer>>();
+        var items = IntStream.range(0, 10).boxed().toList();
+
+        var result = S3Concurrency.mapBounded(items, 2, item -> {
+            var future = new CompletableFuture<Integer>();
+            launched.add(future);
+            return future;
+        });
+        var error = new IllegalStateException("test");
+        launched.get(0).completeExceptionally(error);
+        launched.get(1).complete(1);
+
+        assertThat(launched).hasSize(2);
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCause(error);
+    }
+
+    @Test
+    void mapBoundedFailsWhenOperationThrows() {
+        var error = new IllegalStateException("test");
+
+        var result = S3Concurrency.<Integer, Integer>mapBounded(List.of(1, 2, 3), 1, item -> {
+            throw error;
+        });
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCause(error);
+    }
+
+    @Test
+    void mapBoundedStopsLaunchingWhenCancelled() {
+        var launched = new ArrayList<CompletableFuture<Integer>>();
+        var items = IntStream.range(0, 10).boxed().toList();
+
+        var result = S3Concurrency.mapBounded(items, 2, item -> {
+            var future = new CompletableFuture<Integer>();
+            launched.add(future);
+            return future;
+        });
+        result.cancel(false);
+        launched.get(0).complete(0);
+        launched.get(1).complete(1);
+
+        assertThat(launched).hasSize(2);
+        assertThat(result).isCancelled();
+    }
+
+    @Test
+    void downloadRangesWritesRangesInPlace() throws Exception {
+        var content = new byte[10_000];
+        new Random(42).nextBytes(content);
+        var requests = new ArrayList<Runnable>();
+        var file = this.dir.resolve("object");
+
+        CompletableFuture<Long> result;
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            result = S3Concurrency.downloadRanges(content.length, 1000, 4, channel, (offset, length) -> {
+                var future = new CompletableFuture<S3Object>();
+                requests.add(() -> future.complete(object(chunks(content, (int) offset, (int) length, 300))));
+                return future;
+            });
+            // ranges are completed in reverse order of requests
+            while (!result.isDone()) {
+                var pending = new ArrayList<>(requests);
+                requests.clear();
+                Collections.reverse(pending);
+                pending.forEach(Runnable::run);
+            }
+            assertThat(result.join()).isEqualTo(content.length);
+        }
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(content);
+    }
+
+    @Test
+    void downloadRangesKeepsConcurrencyBound() throws Exception {
+        var inFlight = new AtomicInteger();
+        var requests = new ArrayList<CompletableFuture<S3Object>>();
+
+        try (var channel = FileChannel.open(this.dir.resolve("object"), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            var result = S3Concurrency.downloadRanges(10_000, 1000, 3, channel, (offset, length) -> {
+                inFlight.incrementAndGet();
+                var future = new CompletableFuture<S3Object>();
+                requests.add(future);
+                return future;
+            });
+
+            assertThat(inFlight).hasValue(3);
+            requests.get(0).complete(object(chunks(new byte[1000], 0, 1000, 1000)));
+            assertThat(inFlight).hasValue(4);
+            assertThat(result).isNotDone();
+        }
+    }
+
+    @Test
+    void downloadRangesFailsWhenRangeIsShort() throws Exception {
+        try (var channel = FileChannel.open(this.dir.resolve("object"), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            var result = S3Concurrency.downloadRanges(2000, 1000, 2, channel, (offset, length) -> CompletableFuture.completedFuture(object(chunks(new byte[500], 0, 500, 500))));
+
+            assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(S3Exception.class);
+        }
+    }
+
+    @Test
+    void downloadRangesFailsWhenRangeRequestFails() throws Exception {
+        var error = new S3Exception("test", "InternalError", "test");
+        var requested = new AtomicInteger();
+
+        try (var channel = FileChannel.open(this.dir.resolve("object"), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            var result = S3Concurrency.downloadRanges(10_000, 1000, 1, channel, (offset, length) -> {
+                requested.incrementAndGet();
+                return CompletableFuture.failedFuture(error);
+            });
+
+            assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCause(error);
+            assertThat(requested).hasValue(1);
+        }
+    }
+
+    @Test
+    void downloadRangesCancelsBodiesInFlightWhenCancelled() throws Exception {
+        var publisher = new TestPublisher();
+        var requested = new AtomicInteger();
+
+        try (var channel = FileChannel.open(this.dir.resolve("object"), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            var result = S3Concurrency.downloadRanges(2000, 1000, 1, channel, (offset, length) -> {
+                requested.incrementAndGet();
+                return CompletableFuture.completedFuture(object(S3Body.ofPublisher(publisher, length)));
+            });
+            publisher.emit(ByteBuffer.allocate(100));
+            result.cancel(false);
+            publisher.emit(ByteBuffer.allocate(100));
+
+            assertThat(publisher.cancelled).isTrue();
+            assertThat(requested).hasValue(1);
+            assertThat(channel.size()).isEqualTo(100);
+            assertThatThrownBy(result::join).isInstanceOf(CancellationException.class);
+        }
+    }
+
+    private static S3Body chunks(byte[] content, int offset, int length, int chunkSize) {
+        var buffers = new ArrayList<ByteBuffer>();
+        for (int i = offset; i < offset + length; i += chunkSize) {
+            buffers.add(ByteBuffer.wrap(content, i, Math.min(chunkSize, offset + length - i)).slice());
+        }
+        return S3Body.ofPublisher(subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            private int next = 0;
+            private boolean done = false;
+
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n && !this.done; i++) {
+                    if (this.next < buffers.size()) {
+                        subscriber.onNext(buffers.get(this.next++));
+                    } else {
+                        this.done = true;
+                        subscriber.onComplete();
+                    }
+                }
+            }
+
+            @Override
+            public void cancel() {
+                this.done = true;
+            }
+        }), length);
+    }
+
+    private static S3Object object(S3Body body) {
+        return new S3Object() {
+            @Override
+            public String key() {
+                return "test";
+            }
+
+            @Override
+            public Instant modified() {
+                return Instant.EPOCH;
+            }
+
+            @Override
+            public long size() {
+                return body.size();
+            }
+
+            @Override
+            public S3Body body() {
+                return body;
+            }
+        };
+    }
+
+    private static final class TestPublisher implements Flow.Publisher<ByteBuffer>, Flow.Subscription {
+        private Flow.Subscriber<? super ByteBuffer> subscriber;
+        private boolean cancelled;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        void emit(ByteBuffer buffer) {
+            this.subscriber.onNext(buffer);
+        }
+
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+    }
+}
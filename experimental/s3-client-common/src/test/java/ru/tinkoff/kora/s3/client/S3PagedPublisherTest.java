@@ -0,0 +1,203 @@
+package ru.tinkoff.kora.s3.client;
+
+import jakarta.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3PagedPublisherTest {
+
+    private final List<String> tokens = new ArrayList<>();
+    private final List<CompletableFuture<S3PagedPublisher.Page<Integer>>> fetches = new ArrayList<>();
+    private final S3PagedPublisher<Integer> publisher = new S3PagedPublisher<>(token -> {
+        var future = new CompletableFuture<S3PagedPublisher.Page<Integer>>();
+        this.tokens.add(token);
+        this.fetches.add(future);
+        return future;
+    });
+
+    @Test
+    void pagesAreFetchedOnDemandWithOnePagePrefetched() {
+        var subscriber = this.subscribe();
+        assertThat(this.fetches).isEmpty();
+
+        subscriber.subscription.request(1);
+        assertThat(this.tokens).containsExactly((String) null);
+
+        this.fetches.get(0).complete(new S3PagedPublisher.Page<>(List.of(1, 2), "t1"));
+        assertThat(subscriber.items).containsExactly(1);
+        // next page is fetched while current one is consumed
+        assertThat(this.tokens).containsExactly(null, "t1");
+
+        this.fetches.get(1).complete(new S3PagedPublisher.Page<>(List.of(3, 4), "t2"));
+        assertThat(subscriber.items).containsExactly(1);
+        // current and prefetched pages are buffered, so nothing else is fetched
+        assertThat(this.fetches).hasSize(S3PagedPublisher.MAX_BUFFERED_PAGES);
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).containsExactly(1, 2);
+        // first page is consumed, so third one can be fetched
+        assertThat(this.tokens).containsExactly(null, "t1", "t2");
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4);
+        assertThat(this.fetches).hasSize(3);
+        assertThat(subscriber.completed).isFalse();
+
+        this.fetches.get(2).complete(new S3PagedPublisher.Page<>(List.of(5), null));
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).containsExactly(1, 2, 3, 4, 5);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(this.fetches).hasSize(3);
+    }
+
+    @Test
+    void unboundedDemandEmitsAllPagesAndCompletesAfterLastPage() {
+        var subscriber = this.subscribe();
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        this.fetches.get(0).complete(new S3PagedPublisher.Page<>(List.of(1, 2), "t1"));
+        this.fetches.get(1).complete(new S3PagedPublisher.Page<>(List.of(), "t2"));
+        this.fetches.get(2).complete(new S3PagedPublisher.Page<>(List.of(3), null));
+
+        assertThat(this.tokens).containsExactly(null, "t1", "t2");
+        assertThat(subscriber.items).containsExactly(1, 2, 3);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    void emptyListingCompletes() {
+        var subscriber = this.subscribe();
+
+        subscriber.subscription.request(1);
+        this.fetches.get(0).complete(new S3PagedPublisher.Page<>(List.of(), null));
+
+        assertThat(subscriber.items).isEmpty();
+        assertThat(subscriber.completed).isTrue();
+        assertThat(this.fetches).hasSize(1);
+    }
+
+    @Test
+    void nonPositiveRequestSignalsError() {
+        var subscriber = this.subscribe();
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(subscriber.completed).isFalse();
+        assertThat(this.fetches).isEmpty();
+    }
+
+    @Test
+    void nonPositiveRequestDropsBufferedItems() {
+        var subscriber = this.subscribe();
+        subscriber.subscription.request(1);
+        this.fetches.get(0).complete(new S3PagedPublisher.Page<>(List.of(1, 2), "t1"));
+
+        subscriber.subscription.request(-1);
+
+        assertThat(subscriber.items).containsExactly(1);
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cancelStopsFetching() {
+        var subscriber = this.subscribe();
+        subscriber.subscription.request(1);
+
+        subscriber.subscription.cancel();
+        this.fetches.get(0).complete(new S3PagedPublisher.Page<>(List.of(1, 2), "t1"));
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items).isEmpty();
+        assertThat(subscriber.completed).isFalse();
+        assertThat(subscriber.error).isNull();
+        assertThat(this.fetches).hasSize(1);
+    }
+
+    @Test
+    void cancelDuringConsumptionStopsPrefetch() {
+        var subscriber = this.subscribe();
+        subscriber.subscription.request(1);
+        this.fetches.get(0).complete(new S3PagedPublisher.Page<>(List.of(1, 2), "t1"));
+
+        subscriber.subscription.cancel();
+        this.fetches.get(1).complete(new S3PagedPublisher.Page<>(List.of(3), "t2"));
+        subscriber.subscription.request(10);
+
+        assertThat(subscriber.items).containsExactly(1);
+        assertThat(this.fetches).hasSize(2);
+    }
+
+    @Test
+    void fetchFailureIsPropagatedAfterBufferedItems() {
+        var subscriber = this.subscribe();
+        var error = new IllegalStateException("test");
+        subscriber.subscription.request(1);
+        this.fetches.get(0).complete(new S3PagedPublisher.Page<>(List.of(1, 2), "t1"));
+
+        this.fetches.get(1).completeExceptionally(error);
+        assertThat(subscriber.error).isNull();
+
+        subscriber.subscription.request(5);
+        assertThat(subscriber.items).containsExactly(1, 2);
+        assertThat(subscriber.error).isSameAs(error);
+        assertThat(this.fetches).hasSize(2);
+    }
+
+    @Test
+    void fetcherExceptionIsPropagated() {
+        var error = new IllegalStateException("test");
+        var subscriber = new RecordingSubscriber();
+        new S3PagedPublisher<Integer>(token -> {
+            throw error;
+        }).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.error).isSameAs(error);
+    }
+
+    private RecordingSubscriber subscribe() {
+        var subscriber = new RecordingSubscriber();
+        this.publisher.subscribe(subscriber);
+        return subscriber;
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<Integer> {
+        private final List<Integer> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        @Nullable
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            this.items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
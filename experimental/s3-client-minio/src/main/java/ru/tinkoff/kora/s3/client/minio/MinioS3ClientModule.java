@@ -103,6 +103,6 @@ public interface MinioS3ClientModule extends S3ClientModule {
                                                      S3Config s3Config,
                                                      S3KoraClientTelemetryFactory telemetryFactory) {
         var telemetry = telemetryFactory.get(s3Config.telemetry(), MinioAsyncClient.class);
-        return new MinioS3KoraAsyncClient(minioAsyncClient, minioS3ClientConfig, telemetry);
+        return new MinioS3KoraAsyncClient(minioAsyncClient, minioS3ClientConfig, telemetry, s3Config);
     }
 }
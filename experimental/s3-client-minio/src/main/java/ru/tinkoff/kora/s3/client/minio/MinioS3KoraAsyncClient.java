@@ -8,18 +8,23 @@ import io.minio.messages.Item;
 import jakarta.annotation.Nullable;
 import org.jetbrains.annotations.ApiStatus;
 import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.s3.client.S3Concurrency;
+import ru.tinkoff.kora.s3.client.S3Config;
 import ru.tinkoff.kora.s3.client.S3DeleteException;
 import ru.tinkoff.kora.s3.client.S3Exception;
 import ru.tinkoff.kora.s3.client.S3KoraAsyncClient;
 import ru.tinkoff.kora.s3.client.S3NotFoundException;
+import ru.tinkoff.kora.s3.client.S3PagedPublisher;
 import ru.tinkoff.kora.s3.client.model.*;
 import ru.tinkoff.kora.s3.client.telemetry.S3KoraClientTelemetry;
 
 import java.io.ByteArrayInputStream;
+import java.nio.channels.FileChannel;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.function.Supplier;
 
 @ApiStatus.Experimental
@@ -28,13 +33,16 @@ public class MinioS3KoraAsyncClient implements S3KoraAsyncClient {
     private final MinioAsyncClient minioClient;
     private final MinioS3ClientConfig minioS3ClientConfig;
     private final S3KoraClientTelemetry telemetry;
+    private final S3Config s3Config;
 
     public MinioS3KoraAsyncClient(MinioAsyncClient minioClient,
                                   MinioS3ClientConfig minioS3ClientConfig,
-                                  S3KoraClientTelemetry telemetry) {
+                                  S3KoraClientTelemetry telemetry,
+                                  S3Config s3Config) {
         this.minioClient = minioClient;
         this.minioS3ClientConfig = minioS3ClientConfig;
         this.telemetry = telemetry;
+        this.s3Config = s3Config;
     }
 
     private CompletionStage<S3Object> getInternal(String bucket, String key) {
@@ -55,6 +63,51 @@ public class MinioS3KoraAsyncClient implements S3KoraAsyncClient {
             () -> telemetry.get("GetObject", bucket, key, null));
     }
 
+    private CompletionStage<S3Object> getRangeInternal(String bucket, String key, long offset, long length) {
+        try {
+            return minioClient.getObject(GetObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(key)
+                    .offset(offset)
+                    .length(length)
+                    .build())
+                .thenApply(MinioS3Object::new);
+        } catch (Exception e) {
+            return handleExceptionStage(e);
+        }
+    }
+
+    @Override
+    public CompletionStage<S3Object> get(String bucket, String key, long offset, long length) {
+        return wrapWithTelemetry(getRangeInternal(bucket, key, offset, length),
+            () -> telemetry.get("GetObjectRange", bucket, key, length));
+    }
+
+    @Override
+    public CompletionStage<Long> download(String bucket, String key, FileChannel target) {
+        var ctx = Context.current();
+        try {
+            var fork = ctx.fork();
+            fork.inject();
+
+            var context = telemetry.get("DownloadObject", bucket, key, null);
+            var download = s3Config.download();
+            return getMetaInternal(bucket, key)
+                .thenCompose(meta -> S3Concurrency.downloadRanges(meta.size(), download.partSize().toBytes(), download.concurrency(), target,
+                    (offset, length) -> getRangeInternal(bucket, key, offset, length)))
+                .exceptionallyCompose(MinioS3KoraAsyncClient::handleExceptionStage)
+                .whenComplete((r, e) -> {
+                    if (e != null) {
+                        context.close(handleException(e));
+                    } else {
+                        context.close(r, null);
+                    }
+                });
+        } finally {
+            ctx.inject();
+        }
+    }
+
     private CompletionStage<S3ObjectMeta> getMetaInternal(String bucket, String key) {
         try {
             return minioClient.statObject(StatObjectArgs.builder()
@@ -75,14 +128,7 @@ public class MinioS3KoraAsyncClient implements S3KoraAsyncClient {
 
     @Override
     public CompletionStage<List<S3Object>> get(String bucket, Collection<String> keys) {
-        var futures = keys.stream()
-            .map(k -> getInternal(bucket, k).toCompletableFuture())
-            .toArray(CompletableFuture[]::new);
-
-        var operation = CompletableFuture.allOf(futures)
-            .thenApply(_v -> Arrays.stream(futures)
-                .map(f -> ((S3Object) f.join()))
-                .toList())
+        var operation = S3Concurrency.mapBounded(keys, s3Config.bulkConcurrency(), k -> getInternal(bucket, k))
             .exceptionallyCompose(MinioS3KoraAsyncClient::handleExceptionStage);
 
         return wrapWithTelemetry(operation,
@@ -91,14 +137,7 @@ public class MinioS3KoraAsyncClient implements S3KoraAsyncClient {
 
     @Override
     public CompletionStage<List<S3ObjectMeta>> getMeta(String bucket, Collection<String> keys) {
-        var futures = keys.stream()
-            .map(k -> getMetaInternal(bucket, k).toCompletableFuture())
-            .toArray(CompletableFuture[]::new);
-
-        var operation = CompletableFuture.allOf(futures)
-            .thenApply(_v -> Arrays.stream(futures)
-                .map(f -> ((S3ObjectMeta) f.join()))
-                .toList())
+        var operation = S3Concurrency.mapBounded(keys, s3Config.bulkConcurrency(), k -> getMetaInternal(bucket, k))
             .exceptionallyCompose(MinioS3KoraAsyncClient::handleExceptionStage);
 
         return wrapWithTelemetry(operation,
@@ -117,19 +156,8 @@ public class MinioS3KoraAsyncClient implements S3KoraAsyncClient {
                 try {
                     context.inject();
 
-                    var futures = metaList.metas().stream()
-                        .map(meta -> getInternal(bucket, meta.key()).toCompletableFuture())
-                        .toArray(CompletableFuture[]::new);
-
-                    return CompletableFuture.allOf(futures)
-                        .thenApply(_v -> {
-                            final List<S3Object> objects = new ArrayList<>(futures.length);
-                            for (var future : futures) {
-                                objects.add(((S3Object) future.join()));
-                            }
-
-                            return new MinioS3ObjectList(metaList, objects);
-                        });
+                    return S3Concurrency.mapBounded(metaList.metas(), s3Config.bulkConcurrency(), meta -> getInternal(bucket, meta.key()))
+                        .thenApply(objects -> new MinioS3ObjectList(metaList, objects));
                 } finally {
                     Context.clear();
                 }
@@ -170,32 +198,64 @@ public class MinioS3KoraAsyncClient implements S3KoraAsyncClient {
             () -> telemetry.get("ListObjectMetas", bucket, prefix, null));
     }
 
+    @Override
+    public Flow.Publisher<S3ObjectMeta> listMetaPages(String bucket, @Nullable String prefix, @Nullable String delimiter, int pageSize) {
+        var context = Context.current().fork();
+        return new S3PagedPublisher<>(token -> {
+            var ctx = Context.current();
+            try {
+                context.inject();
+                return wrapWithTelemetry(fork -> listMetaPage(bucket, prefix, delimiter, pageSize, token, fork),
+                    () -> telemetry.get("ListObjectMetas", bucket, prefix, null));
+            } finally {
+                ctx.inject();
+            }
+        });
+    }
+
+    private CompletionStage<S3PagedPublisher.Page<S3ObjectMeta>> listMetaPage(String bucket, @Nullable String prefix, @Nullable String delimiter, int pageSize, @Nullable String startAfter, Context context) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                context.inject();
+
+                // iterable fetches pages lazily, so iterating no more than maxKeys items makes single request
+                var response = minioClient.listObjects(ListObjectsArgs.builder()
+                    .bucket(bucket)
+                    .prefix(prefix)
+                    .maxKeys(pageSize)
+                    .delimiter(delimiter)
+                    .startAfter(startAfter)
+                    .build());
+
+                final List<S3ObjectMeta> metas = new ArrayList<>(pageSize);
+                String nextToken = null;
+                var iterator = response.iterator();
+                while (metas.size() < pageSize && iterator.hasNext()) {
+                    Item item = iterator.next().get();
+                    metas.add(new MinioS3ObjectMeta(item));
+                    // common prefix should be skipped entirely on next page, not only its own key
+                    nextToken = item.isDir() ? item.objectName() + Character.MAX_VALUE : item.objectName();
+                }
+
+                return new S3PagedPublisher.Page<>(metas, metas.size() < pageSize ? null : nextToken);
+            } catch (Exception e) {
+                throw handleException(e);
+            } finally {
+                Context.clear();
+            }
+        });
+    }
+
     @Override
     public CompletionStage<List<S3ObjectList>> list(String bucket, Collection<String> prefixes, @Nullable String delimiter, int limitPerPrefix) {
-        return wrapWithTelemetry(fork -> {
-            var futures = prefixes.stream()
-                .map(p -> listInternal(bucket, p, delimiter, limitPerPrefix, fork).toCompletableFuture())
-                .toArray(CompletableFuture[]::new);
-
-            return CompletableFuture.allOf(futures)
-                .thenApply(_v -> Arrays.stream(futures)
-                    .map(f -> ((S3ObjectList) f.join()))
-                    .toList());
-        }, () -> telemetry.get("ListMultiObjects", bucket, null, null));
+        return wrapWithTelemetry(fork -> S3Concurrency.mapBounded(prefixes, s3Config.bulkConcurrency(), p -> listInternal(bucket, p, delimiter, limitPerPrefix, fork)),
+            () -> telemetry.get("ListMultiObjects", bucket, null, null));
     }
 
     @Override
     public CompletionStage<List<S3ObjectMetaList>> listMeta(String bucket, Collection<String> prefixes, @Nullable String delimiter, int limitPerPrefix) {
-        return wrapWithTelemetry(fork -> {
-            var futures = prefixes.stream()
-                .map(p -> listMetaInternal(bucket, p, delimiter, limitPerPrefix, fork).toCompletableFuture())
-                .toArray(CompletableFuture[]::new);
-
-            return CompletableFuture.allOf(futures)
-                .thenApply(_v -> Arrays.stream(futures)
-                    .map(f -> ((S3ObjectMetaList) f.join()))
-                    .toList());
-        }, () -> telemetry.get("ListMultiObjectMetas", bucket, null, null));
+        return wrapWithTelemetry(fork -> S3Concurrency.mapBounded(prefixes, s3Config.bulkConcurrency(), p -> listMetaInternal(bucket, p, delimiter, limitPerPrefix, fork)),
+            () -> telemetry.get("ListMultiObjectMetas", bucket, null, null));
     }
 
     @Override
@@ -0,0 +1,108 @@
+package ru.tinkoff.kora.s3.client.minio;
+
+import io.minio.ListObjectsArgs;
+import io.minio.MinioAsyncClient;
+import io.minio.Result;
+import io.minio.messages.Item;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import ru.tinkoff.kora.s3.client.S3Config;
+import ru.tinkoff.kora.s3.client.model.S3ObjectMeta;
+import ru.tinkoff.kora.s3.client.telemetry.S3KoraClientTelemetry;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class MinioS3KoraAsyncClientTest {
+
+    private final MinioAsyncClient minio = mock(MinioAsyncClient.class);
+    private final MinioS3KoraAsyncClient client = new MinioS3KoraAsyncClient(minio, mock(MinioS3ClientConfig.class), telemetry(), mock(S3Config.class));
+
+    @Test
+    void listMetaPagesContinuesAfterLastKey() throws Exception {
+        // listing is lazy, so items after page size are never fetched
+        var first = List.of(result(item("a", false)), result(item("b", false)), new Result<Item>(new IllegalStateException("not fetched")));
+        var second = List.of(result(item("c", false)));
+        when(this.minio.listObjects(any(ListObjectsArgs.class))).thenReturn(first, second);
+
+        var keys = collect(this.client.listMetaPages("bucket", "prefix", null, 2));
+
+        assertThat(keys).containsExactly("a", "b", "c");
+        var requests = ArgumentCaptor.forClass(ListObjectsArgs.class);
+        verify(this.minio, times(2)).listObjects(requests.capture());
+        assertThat(requests.getAllValues()).extracting(ListObjectsArgs::startAfter).containsExactly(null, "b");
+        assertThat(requests.getAllValues()).allSatisfy(rq -> {
+            assertThat(rq.bucket()).isEqualTo("bucket");
+            assertThat(rq.prefix()).isEqualTo("prefix");
+            assertThat(rq.maxKeys()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void listMetaPagesSkipsWholeCommonPrefix() throws Exception {
+        var first = List.of(result(item("a", false)), result(item("dir/", true)));
+        when(this.minio.listObjects(any(ListObjectsArgs.class))).thenReturn(first, List.of());
+
+        var keys = collect(this.client.listMetaPages("bucket", "prefix", "/", 2));
+
+        assertThat(keys).containsExactly("a", "dir/");
+        var requests = ArgumentCaptor.forClass(ListObjectsArgs.class);
+        verify(this.minio, times(2)).listObjects(requests.capture());
+        assertThat(requests.getAllValues().get(1).startAfter()).isEqualTo("dir/" + Character.MAX_VALUE);
+        assertThat(requests.getAllValues().get(1).delimiter()).isEqualTo("/");
+    }
+
+    private static List<String> collect(Flow.Publisher<S3ObjectMeta> publisher) throws Exception {
+        var result = new CompletableFuture<List<String>>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            private final List<String> keys = new ArrayList<>();
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(S3ObjectMeta item) {
+                this.keys.add(item.key());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(this.keys);
+            }
+        });
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private static Result<Item> result(Item item) {
+        return new Result<>(item);
+    }
+
+    private static Item item(String key, boolean dir) {
+        var item = mock(Item.class);
+        when(item.objectName()).thenReturn(key);
+        when(item.isDir()).thenReturn(dir);
+        when(item.lastModified()).thenReturn(ZonedDateTime.now());
+        when(item.size()).thenReturn(1L);
+        return item;
+    }
+
+    private static S3KoraClientTelemetry telemetry() {
+        var telemetry = mock(S3KoraClientTelemetry.class);
+        when(telemetry.get(any(), any(), any(), any())).thenReturn(mock(S3KoraClientTelemetry.S3KoraClientTelemetryContext.class));
+        return telemetry;
+    }
+}
@@ -4,11 +4,13 @@ import io.grpc.ChannelCredentials;
 import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
 import io.grpc.ServiceDescriptor;
+import io.grpc.netty.NettyChannelBuilder;
 import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.tinkoff.grpc.client.config.GrpcClientConfig;
 import ru.tinkoff.grpc.client.config.GrpcClientConfigInterceptor;
+import ru.tinkoff.grpc.client.telemetry.GrpcClientTelemetry;
 import ru.tinkoff.grpc.client.telemetry.GrpcClientTelemetryFactory;
 import ru.tinkoff.grpc.client.telemetry.GrpcClientTelemetryInterceptor;
 import ru.tinkoff.kora.application.graph.All;
@@ -16,9 +18,15 @@ import ru.tinkoff.kora.application.graph.Lifecycle;
 import ru.tinkoff.kora.application.graph.Wrapped;
 import ru.tinkoff.kora.common.util.TimeUtils;
 
+import java.math.BigDecimal;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 public final class ManagedChannelLifecycle implements Lifecycle, Wrapped<ManagedChannel> {
 
@@ -52,6 +60,30 @@ public final class ManagedChannelLifecycle implements Lifecycle, Wrapped<Managed
         var started = System.nanoTime();
 
         var uri = URI.create(this.config.url());
+        var telemetry = telemetryFactory.get(serviceDefinition, config.telemetry(), uri);
+        var serviceConfig = this.serviceConfig();
+        var poolSize = Math.max(1, this.config.poolSize());
+        if (poolSize == 1) {
+            this.channel = this.buildChannel(uri, telemetry, serviceConfig);
+        } else {
+            var channels = new ArrayList<ManagedChannel>(poolSize);
+            for (int i = 0; i < poolSize; i++) {
+                channels.add(this.buildChannel(uri, telemetry, serviceConfig));
+            }
+            var pool = new ManagedChannelPool(channels, this.config.loadBalancingPolicy() == GrpcClientConfig.LoadBalancingPolicy.LEAST_REQUEST);
+            if (telemetry != null) {
+                for (int i = 0; i < poolSize; i++) {
+                    var index = i;
+                    telemetry.registerSubchannel(index, pool.channel(index), () -> pool.activeCalls(index));
+                }
+            }
+            this.channel = pool;
+        }
+
+        logger.info("GrpcManagedChannel '{}' started in {}", this.config.url(), TimeUtils.tookForLogging(started));
+    }
+
+    private ManagedChannel buildChannel(URI uri, @Nullable GrpcClientTelemetry telemetry, @Nullable Map<String, ?> serviceConfig) {
         var host = uri.getHost();
         var port = uri.getPort();
         var scheme = uri.getScheme();
@@ -72,18 +104,73 @@ public final class ManagedChannelLifecycle implements Lifecycle, Wrapped<Managed
             builder.usePlaintext();
         }
 
+        switch (this.config.loadBalancingPolicy()) {
+            case PICK_FIRST -> builder.defaultLoadBalancingPolicy("pick_first");
+            case ROUND_ROBIN, LEAST_REQUEST -> builder.defaultLoadBalancingPolicy("round_robin");
+        }
+        if (this.config.keepAliveTime() != null) {
+            builder.keepAliveTime(this.config.keepAliveTime().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (this.config.keepAliveTimeout() != null) {
+            builder.keepAliveTimeout(this.config.keepAliveTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        builder.keepAliveWithoutCalls(this.config.keepAliveWithoutCalls());
+        if (this.config.flowControlWindow() != null && builder instanceof NettyChannelBuilder nettyBuilder) {
+            nettyBuilder.flowControlWindow(this.config.flowControlWindow());
+        }
+        if (serviceConfig != null) {
+            builder.defaultServiceConfig(serviceConfig);
+            builder.enableRetry();
+        }
+
         var interceptors = new ArrayList<ClientInterceptor>(2);
         interceptors.addAll(this.interceptors);
 
-        var telemetry = telemetryFactory.get(serviceDefinition, config.telemetry(), uri);
         if (telemetry != null) {
             interceptors.add(new GrpcClientTelemetryInterceptor(telemetry));
         }
         interceptors.add(new GrpcClientConfigInterceptor(this.config));
         builder.intercept(interceptors);
 
-        this.channel = builder.build();
-        logger.info("GrpcManagedChannel '{}' started in {}", this.config.url(), TimeUtils.tookForLogging(started));
+        return builder.build();
+    }
+
+    /**
+     * @see <a href="https://github.com/grpc/grpc/blob/master/doc/service_config.md">Service config</a>
+     */
+    @Nullable
+    private Map<String, ?> serviceConfig() {
+        var retry = this.config.retry();
+        var hedging = this.config.hedging();
+        if (retry == null && hedging == null) {
+            return null;
+        }
+        if (retry != null && hedging != null) {
+            throw new IllegalArgumentException("Only one of retry and hedging can be configured for grpc client '" + this.serviceDefinition.getName() + "'");
+        }
+
+        var methodConfig = new LinkedHashMap<String, Object>();
+        methodConfig.put("name", List.of(Map.of("service", this.serviceDefinition.getName())));
+        if (retry != null) {
+            methodConfig.put("retryPolicy", Map.of(
+                "maxAttempts", (double) retry.maxAttempts(),
+                "initialBackoff", durationString(retry.initialBackoff()),
+                "maxBackoff", durationString(retry.maxBackoff()),
+                "backoffMultiplier", retry.backoffMultiplier(),
+                "retryableStatusCodes", List.copyOf(retry.retryableStatusCodes())
+            ));
+        } else {
+            methodConfig.put("hedgingPolicy", Map.of(
+                "maxAttempts", (double) hedging.maxAttempts(),
+                "hedgingDelay", durationString(hedging.hedgingDelay()),
+                "nonFatalStatusCodes", List.copyOf(hedging.nonFatalStatusCodes())
+            ));
+        }
+        return Map.of("methodConfig", List.of(methodConfig));
+    }
+
+    private static String durationString(Duration duration) {
+        return BigDecimal.valueOf(duration.toNanos(), 9).stripTrailingZeros().toPlainString() + "s";
     }
 
     @Override
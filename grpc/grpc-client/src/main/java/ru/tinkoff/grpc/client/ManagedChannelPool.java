@@ -0,0 +1,199 @@
+package ru.tinkoff.grpc.client;
+
+import io.grpc.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Spreads calls over several channels, each of them holding its own HTTP/2 connections,
+ * so client is not limited by max concurrent streams of single connection.
+ */
+final class ManagedChannelPool extends ManagedChannel {
+
+    private final List<ManagedChannel> channels;
+    private final AtomicIntegerArray activeCalls;
+    private final boolean leastRequest;
+    private final AtomicInteger next = new AtomicInteger(0);
+
+    ManagedChannelPool(List<ManagedChannel> channels, boolean leastRequest) {
+        this.channels = List.copyOf(channels);
+        this.activeCalls = new AtomicIntegerArray(channels.size());
+        this.leastRequest = leastRequest;
+    }
+
+    int size() {
+        return this.channels.size();
+    }
+
+    ManagedChannel channel(int index) {
+        return this.channels.get(index);
+    }
+
+    int activeCalls(int index) {
+        return this.activeCalls.get(index);
+    }
+
+    private int pick() {
+        var size = this.channels.size();
+        if (size == 1) {
+            return 0;
+        }
+        if (!this.leastRequest) {
+            return Math.floorMod(this.next.getAndIncrement(), size);
+        }
+
+        // power of two choices, same as grpc least_request policy with default choice count
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(size);
+        var second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        return this.activeCalls.get(first) <= this.activeCalls.get(second) ? first : second;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+        var index = this.pick();
+        return new CountingClientCall<>(this.channels.get(index).newCall(methodDescriptor, callOptions), index);
+    }
+
+    @Override
+    public String authority() {
+        return this.channels.get(0).authority();
+    }
+
+    @Override
+    public ManagedChannel shutdown() {
+        for (var channel : this.channels) {
+            channel.shutdown();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        for (var channel : this.channels) {
+            if (!channel.isShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        for (var channel : this.channels) {
+            if (!channel.isTerminated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ManagedChannel shutdownNow() {
+        for (var channel : this.channels) {
+            channel.shutdownNow();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        var deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (var channel : this.channels) {
+            var left = deadline - System.nanoTime();
+            if (!channel.awaitTermination(Math.max(left, 0), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ConnectivityState getState(boolean requestConnection) {
+        var result = ConnectivityState.SHUTDOWN;
+        for (var channel : this.channels) {
+            var state = channel.getState(requestConnection);
+            if (state == ConnectivityState.READY) {
+                return state;
+            }
+            if (state.ordinal() < result.ordinal()) {
+                result = state;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+        if (this.getState(false) != source) {
+            callback.run();
+            return;
+        }
+        // pool state is aggregated, so every channel is watched until aggregated state differs from source
+        var notified = new AtomicBoolean(false);
+        for (var channel : this.channels) {
+            this.watchState(channel, channel.getState(false), source, callback, notified);
+        }
+    }
+
+    private void watchState(ManagedChannel channel, ConnectivityState channelState, ConnectivityState source, Runnable callback, AtomicBoolean notified) {
+        channel.notifyWhenStateChanged(channelState, () -> {
+            if (notified.get()) {
+                return;
+            }
+            if (this.getState(false) == source) {
+                this.watchState(channel, channel.getState(false), source, callback, notified);
+            } else if (notified.compareAndSet(false, true)) {
+                callback.run();
+            }
+        });
+    }
+
+    @Override
+    public void resetConnectBackoff() {
+        for (var channel : this.channels) {
+            channel.resetConnectBackoff();
+        }
+    }
+
+    @Override
+    public void enterIdle() {
+        for (var channel : this.channels) {
+            channel.enterIdle();
+        }
+    }
+
+    private final class CountingClientCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+        private final int index;
+
+        private CountingClientCall(ClientCall<ReqT, RespT> delegate, int index) {
+            super(delegate);
+            this.index = index;
+        }
+
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+            activeCalls.incrementAndGet(this.index);
+            try {
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        activeCalls.decrementAndGet(index);
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            } catch (RuntimeException e) {
+                activeCalls.decrementAndGet(this.index);
+                throw e;
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
 import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 @ConfigValueExtractor
@@ -17,6 +18,98 @@ public interface GrpcClientConfig {
 
     TelemetryConfig telemetry();
 
+    /**
+     * Number of independent channels (HTTP/2 connections) calls are spread over
+     */
+    default int poolSize() {
+        return 1;
+    }
+
+    default LoadBalancingPolicy loadBalancingPolicy() {
+        return LoadBalancingPolicy.PICK_FIRST;
+    }
+
+    @Nullable
+    Duration keepAliveTime();
+
+    @Nullable
+    Duration keepAliveTimeout();
+
+    default boolean keepAliveWithoutCalls() {
+        return false;
+    }
+
+    /**
+     * Fixed HTTP/2 flow control window in bytes, disables automatic window tuning when set
+     */
+    @Nullable
+    Integer flowControlWindow();
+
+    @Nullable
+    RetryConfig retry();
+
+    @Nullable
+    HedgingConfig hedging();
+
+    enum LoadBalancingPolicy {
+        /**
+         * Every channel sticks to the first resolved address, pool channels are picked in turn
+         */
+        PICK_FIRST,
+        /**
+         * Every channel balances over all resolved addresses, pool channels are picked in turn
+         */
+        ROUND_ROBIN,
+        /**
+         * Every channel balances over all resolved addresses, pool channel with fewer active calls of two random ones is picked
+         */
+        LEAST_REQUEST
+    }
+
+    /**
+     * @see <a href="https://github.com/grpc/proposal/blob/master/A6-client-retries.md#retry-policy">Retry policy</a>
+     */
+    @ConfigValueExtractor
+    interface RetryConfig {
+        default int maxAttempts() {
+            return 3;
+        }
+
+        default Duration initialBackoff() {
+            return Duration.ofMillis(100);
+        }
+
+        default Duration maxBackoff() {
+            return Duration.ofSeconds(1);
+        }
+
+        default double backoffMultiplier() {
+            return 2.0;
+        }
+
+        default List<String> retryableStatusCodes() {
+            return List.of("UNAVAILABLE");
+        }
+    }
+
+    /**
+     * @see <a href="https://github.com/grpc/proposal/blob/master/A6-client-retries.md#hedging-policy">Hedging policy</a>
+     */
+    @ConfigValueExtractor
+    interface HedgingConfig {
+        default int maxAttempts() {
+            return 2;
+        }
+
+        default Duration hedgingDelay() {
+            return Duration.ofMillis(50);
+        }
+
+        default List<String> nonFatalStatusCodes() {
+            return List.of("UNAVAILABLE");
+        }
+    }
+
     static GrpcClientConfig defaultConfig(Config config, ru.tinkoff.kora.config.common.extractor.ConfigValueExtractor<GrpcClientConfig> extractor, String serviceName) {
         var packageEnding = serviceName.lastIndexOf('.');
         var serviceSimpleName = (packageEnding == -1)
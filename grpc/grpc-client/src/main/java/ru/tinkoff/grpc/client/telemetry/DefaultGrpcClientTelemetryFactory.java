@@ -6,6 +6,7 @@ import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
 import java.net.URI;
+import java.util.function.IntSupplier;
 
 public final class DefaultGrpcClientTelemetryFactory implements GrpcClientTelemetryFactory {
     @Nullable
@@ -60,6 +61,13 @@ public final class DefaultGrpcClientTelemetryFactory implements GrpcClientTeleme
 
             return new DefaultGrpcClientTelemetryCtx<>(ctx, startTime, method, metrics, logger, span);
         }
+
+        @Override
+        public void registerSubchannel(int index, ManagedChannel channel, IntSupplier activeCalls) {
+            if (this.metrics != null) {
+                this.metrics.registerSubchannel(index, channel, activeCalls);
+            }
+        }
     }
 
     private static final class DefaultGrpcClientTelemetryCtx<ReqT, RespT> implements GrpcClientTelemetry.GrpcClientTelemetryCtx<ReqT, RespT> {
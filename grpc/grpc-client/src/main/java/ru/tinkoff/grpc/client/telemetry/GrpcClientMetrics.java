@@ -1,9 +1,12 @@
 package ru.tinkoff.grpc.client.telemetry;
 
+import io.grpc.ManagedChannel;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.Status;
 
+import java.util.function.IntSupplier;
+
 public interface GrpcClientMetrics {
     <RespT, ReqT> void recordEnd(MethodDescriptor<ReqT, RespT> method, long startTime, Exception e);
 
@@ -12,4 +15,13 @@ public interface GrpcClientMetrics {
     <RespT, ReqT> void recordSendMessage(MethodDescriptor<ReqT, RespT> method, ReqT message);
 
     <RespT, ReqT> void recordReceiveMessage(MethodDescriptor<ReqT, RespT> method, RespT message);
+
+    /**
+     * Called once for every channel of the client channel pool
+     *
+     * @param index       channel index in pool
+     * @param channel     pooled channel
+     * @param activeCalls currently active calls on the channel
+     */
+    default void registerSubchannel(int index, ManagedChannel channel, IntSupplier activeCalls) {}
 }
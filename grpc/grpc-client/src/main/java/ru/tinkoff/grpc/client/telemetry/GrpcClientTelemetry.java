@@ -1,14 +1,19 @@
 package ru.tinkoff.grpc.client.telemetry;
 
 import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.Status;
 import ru.tinkoff.kora.common.Context;
 
+import java.util.function.IntSupplier;
+
 public interface GrpcClientTelemetry {
     <ReqT, RespT> GrpcClientTelemetryCtx<ReqT, RespT> get(Context ctx, MethodDescriptor<ReqT, RespT> method, ClientCall<ReqT, RespT> call, Metadata headers);
 
+    default void registerSubchannel(int index, ManagedChannel channel, IntSupplier activeCalls) {}
+
     interface GrpcClientTelemetryCtx<ReqT, RespT> {
 
         void close(Status status, Metadata trailers);
@@ -0,0 +1,198 @@
+package ru.tinkoff.grpc.client;
+
+import io.grpc.*;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ManagedChannelPoolTest {
+
+    private static final MethodDescriptor<InputStream, InputStream> METHOD = MethodDescriptor.<InputStream, InputStream>newBuilder()
+        .setType(MethodDescriptor.MethodType.UNARY)
+        .setFullMethodName("test/method")
+        .setRequestMarshaller(new StreamMarshaller())
+        .setResponseMarshaller(new StreamMarshaller())
+        .build();
+
+    @Test
+    void roundRobinPicksChannelsInOrder() {
+        var channels = channels(3);
+        var pool = new ManagedChannelPool(channels, false);
+
+        for (int i = 0; i < 6; i++) {
+            pool.newCall(METHOD, CallOptions.DEFAULT);
+        }
+
+        for (var channel : channels) {
+            verify(channel, times(2)).newCall(METHOD, CallOptions.DEFAULT);
+        }
+    }
+
+    @Test
+    void leastRequestPicksLessLoadedChannel() {
+        var channels = channels(2);
+        var pool = new ManagedChannelPool(channels, true);
+
+        var first = pool.newCall(METHOD, CallOptions.DEFAULT);
+        first.start(new ClientCall.Listener<>() {}, new Metadata());
+        var busy = pool.activeCalls(0) == 1 ? 0 : 1;
+        assertThat(pool.activeCalls(busy)).isEqualTo(1);
+        assertThat(pool.activeCalls(1 - busy)).isZero();
+
+        // with two channels both of them are compared every time
+        for (int i = 0; i < 10; i++) {
+            pool.newCall(METHOD, CallOptions.DEFAULT);
+        }
+        verify(channels.get(1 - busy), times(10)).newCall(METHOD, CallOptions.DEFAULT);
+    }
+
+    @Test
+    void activeCallsAreReleasedOnClose() {
+        var channels = channels(1);
+        var pool = new ManagedChannelPool(channels, true);
+
+        var call = pool.newCall(METHOD, CallOptions.DEFAULT);
+        call.start(new ClientCall.Listener<>() {}, new Metadata());
+        assertThat(pool.activeCalls(0)).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ClientCall.Listener<InputStream>> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+        var delegate = channels.get(0).newCall(METHOD, CallOptions.DEFAULT);
+        verify(delegate).start(listener.capture(), any());
+        listener.getValue().onClose(Status.OK, new Metadata());
+
+        assertThat(pool.activeCalls(0)).isZero();
+    }
+
+    @Test
+    void activeCallsAreReleasedWhenStartFails() {
+        var channel = mock(ManagedChannel.class);
+        @SuppressWarnings("unchecked")
+        ClientCall<InputStream, InputStream> call = mock(ClientCall.class);
+        doThrow(new IllegalStateException("test")).when(call).start(any(), any());
+        when(channel.<InputStream, InputStream>newCall(any(), any())).thenReturn(call);
+        var pool = new ManagedChannelPool(List.of(channel), false);
+
+        var pooledCall = pool.newCall(METHOD, CallOptions.DEFAULT);
+
+        assertThatThrownBy(() -> pooledCall.start(new ClientCall.Listener<>() {}, new Metadata())).isInstanceOf(IllegalStateException.class);
+        assertThat(pool.activeCalls(0)).isZero();
+    }
+
+    @Test
+    void stateIsReadyWhenAnyChannelIsReady() {
+        var channels = channels(2);
+        when(channels.get(0).getState(false)).thenReturn(ConnectivityState.TRANSIENT_FAILURE);
+        when(channels.get(1).getState(false)).thenReturn(ConnectivityState.READY);
+        var pool = new ManagedChannelPool(channels, false);
+
+        assertThat(pool.getState(false)).isEqualTo(ConnectivityState.READY);
+    }
+
+    @Test
+    void stateChangeIsNotifiedOnceWhenAggregatedStateChanges() {
+        var channels = channels(2);
+        when(channels.get(0).getState(false)).thenReturn(ConnectivityState.IDLE);
+        when(channels.get(1).getState(false)).thenReturn(ConnectivityState.IDLE);
+        var pool = new ManagedChannelPool(channels, false);
+        var callback = mock(Runnable.class);
+
+        pool.notifyWhenStateChanged(ConnectivityState.IDLE, callback);
+        var first = watcher(channels.get(0), ConnectivityState.IDLE);
+        var second = watcher(channels.get(1), ConnectivityState.IDLE);
+        verify(callback, never()).run();
+
+        when(channels.get(0).getState(false)).thenReturn(ConnectivityState.CONNECTING);
+        first.run();
+        verify(callback, times(1)).run();
+
+        when(channels.get(1).getState(false)).thenReturn(ConnectivityState.CONNECTING);
+        second.run();
+        verify(callback, times(1)).run();
+    }
+
+    @Test
+    void channelStateChangeIsWatchedAgainWhenAggregatedStateIsSame() {
+        var channels = channels(2);
+        when(channels.get(0).getState(false)).thenReturn(ConnectivityState.READY);
+        when(channels.get(1).getState(false)).thenReturn(ConnectivityState.IDLE);
+        var pool = new ManagedChannelPool(channels, false);
+        var callback = mock(Runnable.class);
+
+        pool.notifyWhenStateChanged(ConnectivityState.READY, callback);
+        when(channels.get(1).getState(false)).thenReturn(ConnectivityState.CONNECTING);
+        watcher(channels.get(1), ConnectivityState.IDLE).run();
+        verify(callback, never()).run();
+
+        when(channels.get(0).getState(false)).thenReturn(ConnectivityState.TRANSIENT_FAILURE);
+        watcher(channels.get(1), ConnectivityState.CONNECTING).run();
+        verify(callback, times(1)).run();
+    }
+
+    @Test
+    void stateChangeIsNotifiedImmediatelyWhenStateDiffersFromSource() {
+        var channels = channels(2);
+        when(channels.get(0).getState(false)).thenReturn(ConnectivityState.READY);
+        when(channels.get(1).getState(false)).thenReturn(ConnectivityState.IDLE);
+        var pool = new ManagedChannelPool(channels, false);
+        var callback = mock(Runnable.class);
+
+        pool.notifyWhenStateChanged(ConnectivityState.IDLE, callback);
+
+        verify(callback, times(1)).run();
+        for (var channel : channels) {
+            verify(channel, never()).notifyWhenStateChanged(any(), any());
+        }
+    }
+
+    @Test
+    void shutdownIsPropagatedToEveryChannel() {
+        var channels = channels(2);
+        var pool = new ManagedChannelPool(channels, false);
+
+        pool.shutdown();
+
+        for (var channel : channels) {
+            verify(channel).shutdown();
+        }
+    }
+
+    private static Runnable watcher(ManagedChannel channel, ConnectivityState state) {
+        var captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(channel).notifyWhenStateChanged(eq(state), captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ManagedChannel> channels(int size) {
+        var channels = new ArrayList<ManagedChannel>(size);
+        for (int i = 0; i < size; i++) {
+            var channel = mock(ManagedChannel.class);
+            ClientCall<InputStream, InputStream> call = mock(ClientCall.class);
+            when(channel.<InputStream, InputStream>newCall(any(), any())).thenReturn(call);
+            channels.add(channel);
+        }
+        return channels;
+    }
+
+    private static final class StreamMarshaller implements MethodDescriptor.Marshaller<InputStream> {
+        @Override
+        public InputStream stream(InputStream value) {
+            return value;
+        }
+
+        @Override
+        public InputStream parse(InputStream stream) {
+            return stream;
+        }
+    }
+}
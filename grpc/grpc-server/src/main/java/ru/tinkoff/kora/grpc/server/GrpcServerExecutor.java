@@ -0,0 +1,80 @@
+package ru.tinkoff.kora.grpc.server;
+
+import io.grpc.netty.NettyServerBuilder;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.tinkoff.kora.application.graph.Lifecycle;
+import ru.tinkoff.kora.application.graph.ValueOf;
+import ru.tinkoff.kora.application.graph.internal.loom.VirtualThreadExecutorHolder;
+import ru.tinkoff.kora.grpc.server.config.GrpcServerConfig;
+import ru.tinkoff.kora.grpc.server.telemetry.GrpcServerTelemetry;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public final class GrpcServerExecutor implements Lifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServerExecutor.class);
+
+    private final GrpcServerConfig.ExecutorConfig config;
+    private final ValueOf<GrpcServerTelemetry> telemetry;
+    @Nullable
+    private volatile ExecutorService pool;
+
+    public GrpcServerExecutor(GrpcServerConfig.ExecutorConfig config, ValueOf<GrpcServerTelemetry> telemetry) {
+        this.config = config;
+        this.telemetry = telemetry;
+    }
+
+    @Override
+    public void init() {
+        if (this.config.mode() == GrpcServerConfig.ExecutorMode.FIXED) {
+            this.pool = new ThreadPoolExecutor(this.config.threads(), this.config.threads(), 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new DefaultThreadFactory("grpc-server-executor"));
+        } else if (this.config.mode() == GrpcServerConfig.ExecutorMode.VIRTUAL && VirtualThreadExecutorHolder.status() != VirtualThreadExecutorHolder.VirtualThreadStatus.ENABLED) {
+            throw new IllegalStateException("gRPC Server executor mode is VIRTUAL, but virtual threads are " + VirtualThreadExecutorHolder.status());
+        }
+    }
+
+    @Override
+    public void release() {
+        var pool = this.pool;
+        this.pool = null;
+        if (pool != null) {
+            pool.shutdown();
+            try {
+                if (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+                    logger.warn("gRPC Server executor failed to terminate in 5 seconds");
+                    pool.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                pool.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public void configure(NettyServerBuilder builder) {
+        switch (this.config.mode()) {
+            case DEFAULT -> {}
+            case DIRECT -> builder.directExecutor();
+            case VIRTUAL -> builder.executor(new MeasuredExecutor(VirtualThreadExecutorHolder.executor(), this.telemetry));
+            case FIXED -> builder.executor(new MeasuredExecutor(this.pool, this.telemetry));
+        }
+    }
+
+    private record MeasuredExecutor(Executor delegate, ValueOf<GrpcServerTelemetry> telemetry) implements Executor {
+        @Override
+        public void execute(Runnable command) {
+            var submitted = System.nanoTime();
+            this.delegate.execute(() -> {
+                this.telemetry.get().recordExecutorQueueTime(System.nanoTime() - submitted);
+                command.run();
+            });
+        }
+    }
+}
@@ -23,6 +23,7 @@ import ru.tinkoff.kora.netty.common.NettyChannelFactory;
 import ru.tinkoff.kora.netty.common.NettyCommonModule;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public interface GrpcServerModule extends NettyCommonModule {
 
@@ -46,6 +47,10 @@ public interface GrpcServerModule extends NettyCommonModule {
         return new Slf4jGrpcServerLogger();
     }
 
+    default GrpcServerExecutor grpcServerExecutor(GrpcServerConfig config, ValueOf<GrpcServerTelemetry> telemetry) {
+        return new GrpcServerExecutor(config.executor(), telemetry);
+    }
+
     default NettyServerBuilder grpcNettyServerBuilder(
         ValueOf<GrpcServerConfig> config,
         List<DynamicBindableService> services,
@@ -53,7 +58,8 @@ public interface GrpcServerModule extends NettyCommonModule {
         @Tag(WorkerLoopGroup.class) EventLoopGroup eventLoop,
         @Tag(BossLoopGroup.class) EventLoopGroup bossEventLoop,
         NettyChannelFactory nettyChannelFactory,
-        ValueOf<GrpcServerTelemetry> telemetry) {
+        ValueOf<GrpcServerTelemetry> telemetry,
+        GrpcServerExecutor executor) {
 
         GrpcServerConfig grpcServerConfig = config.get();
 
@@ -63,6 +69,24 @@ public interface GrpcServerModule extends NettyCommonModule {
             .workerEventLoopGroup(eventLoop)
             .channelFactory(nettyChannelFactory.getServerFactory());
 
+        executor.configure(builder);
+        if (grpcServerConfig.flowControlWindow() != null) {
+            builder.flowControlWindow(grpcServerConfig.flowControlWindow());
+        }
+        if (grpcServerConfig.maxConcurrentCallsPerConnection() != null) {
+            builder.maxConcurrentCallsPerConnection(grpcServerConfig.maxConcurrentCallsPerConnection());
+        }
+        if (grpcServerConfig.keepAliveTime() != null) {
+            builder.keepAliveTime(grpcServerConfig.keepAliveTime().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (grpcServerConfig.keepAliveTimeout() != null) {
+            builder.keepAliveTimeout(grpcServerConfig.keepAliveTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (grpcServerConfig.permitKeepAliveTime() != null) {
+            builder.permitKeepAliveTime(grpcServerConfig.permitKeepAliveTime().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        builder.permitKeepAliveWithoutCalls(grpcServerConfig.permitKeepAliveWithoutCalls());
+
         if (grpcServerConfig.reflectionEnabled() && isClassPresent("io.grpc.protobuf.services.ProtoReflectionService")) {
             builder.addService(ProtoReflectionService.newInstance());
         }
@@ -1,5 +1,6 @@
 package ru.tinkoff.kora.grpc.server.config;
 
+import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.common.util.Size;
 import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
 import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
@@ -26,4 +27,65 @@ public interface GrpcServerConfig {
     }
 
     TelemetryConfig telemetry();
+
+    ExecutorConfig executor();
+
+    /**
+     * Fixed HTTP/2 flow control window in bytes, disables automatic window tuning when set
+     */
+    @Nullable
+    Integer flowControlWindow();
+
+    @Nullable
+    Integer maxConcurrentCallsPerConnection();
+
+    @Nullable
+    Duration keepAliveTime();
+
+    @Nullable
+    Duration keepAliveTimeout();
+
+    /**
+     * Most aggressive keepalive time clients are permitted to configure
+     */
+    @Nullable
+    Duration permitKeepAliveTime();
+
+    default boolean permitKeepAliveWithoutCalls() {
+        return false;
+    }
+
+    @ConfigValueExtractor
+    interface ExecutorConfig {
+
+        default ExecutorMode mode() {
+            return ExecutorMode.DEFAULT;
+        }
+
+        /**
+         * Thread count for {@link ExecutorMode#FIXED} mode
+         */
+        default int threads() {
+            return Runtime.getRuntime().availableProcessors() * 2;
+        }
+    }
+
+    enum ExecutorMode {
+        /**
+         * Handlers run on gRPC shared cached thread pool
+         */
+        DEFAULT,
+        /**
+         * Handlers run on new virtual thread each, requires JDK with virtual threads
+         */
+        VIRTUAL,
+        /**
+         * Handlers run on fixed size thread pool
+         */
+        FIXED,
+        /**
+         * Handlers run directly on event loop threads, handlers must never block
+         */
+        DIRECT
+    }
 }
@@ -58,6 +58,13 @@ public final class DefaultGrpcServerTelemetry implements GrpcServerTelemetry {
         return new DefaultGrpcServerTelemetryContext(start, serviceName, methodName, m, logger, span);
     }
 
+    @Override
+    public void recordExecutorQueueTime(long queueTimeNanos) {
+        if (this.metrics != null) {
+            this.metrics.recordExecutorQueueTime(this.config.metrics(), queueTimeNanos);
+        }
+    }
+
     private String service(ServerCall<?, ?> call) {
         var fullMethodName = call.getMethodDescriptor().getFullMethodName();
         int slashIndex = fullMethodName.lastIndexOf('/');
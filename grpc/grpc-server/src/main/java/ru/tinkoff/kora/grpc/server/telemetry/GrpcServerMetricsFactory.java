@@ -6,4 +6,6 @@ import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
 public interface GrpcServerMetricsFactory {
     GrpcServerMetrics get(TelemetryConfig.MetricsConfig config, ServerCall<?, ?> call, Metadata headers, String serviceName, String methodName);
+
+    default void recordExecutorQueueTime(TelemetryConfig.MetricsConfig config, long queueTimeNanos) {}
 }
@@ -8,6 +8,11 @@ import jakarta.annotation.Nullable;
 public interface GrpcServerTelemetry {
     GrpcServerTelemetryContext createContext(ServerCall<?, ?> call, Metadata headers);
 
+    /**
+     * @param queueTimeNanos time handler task spent waiting in server executor before start
+     */
+    default void recordExecutorQueueTime(long queueTimeNanos) {}
+
     interface GrpcServerTelemetryContext {
         void close(@Nullable Status status, @Nullable Throwable exception);
 
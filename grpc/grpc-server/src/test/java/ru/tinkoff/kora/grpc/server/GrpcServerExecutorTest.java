@@ -0,0 +1,157 @@
+package ru.tinkoff.kora.grpc.server;
+
+import io.grpc.netty.NettyServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import ru.tinkoff.kora.application.graph.ValueOf;
+import ru.tinkoff.kora.application.graph.internal.loom.VirtualThreadExecutorHolder;
+import ru.tinkoff.kora.grpc.server.config.GrpcServerConfig;
+import ru.tinkoff.kora.grpc.server.telemetry.GrpcServerTelemetry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class GrpcServerExecutorTest {
+
+    private final GrpcServerTelemetry telemetry = mock(GrpcServerTelemetry.class);
+    private final NettyServerBuilder builder = mock(NettyServerBuilder.class);
+    private GrpcServerExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (this.executor != null) {
+            this.executor.release();
+        }
+    }
+
+    @Test
+    void defaultModeKeepsGrpcExecutor() {
+        this.start(GrpcServerConfig.ExecutorMode.DEFAULT);
+
+        verifyNoInteractions(this.builder);
+    }
+
+    @Test
+    void directModeUsesDirectExecutor() {
+        this.start(GrpcServerConfig.ExecutorMode.DIRECT);
+
+        verify(this.builder).directExecutor();
+        verify(this.builder, never()).executor(any());
+    }
+
+    @Test
+    void fixedModeRunsHandlersOnPoolAndRecordsQueueTime() throws Exception {
+        this.start(GrpcServerConfig.ExecutorMode.FIXED);
+        var executor = this.captureExecutor();
+        var thread = new CompletableFuture<Thread>();
+
+        executor.execute(() -> thread.complete(Thread.currentThread()));
+
+        assertThat(thread.get(5, TimeUnit.SECONDS).getName()).startsWith("grpc-server-executor");
+        verify(this.telemetry, timeout(5000)).recordExecutorQueueTime(longThat(t -> t >= 0));
+    }
+
+    @Test
+    void fixedModeQueueTimeIncludesWaitForBusyThread() throws Exception {
+        this.start(GrpcServerConfig.ExecutorMode.FIXED, 1);
+        var executor = this.captureExecutor();
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(2);
+
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            done.countDown();
+        });
+        executor.execute(done::countDown);
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(this.telemetry).recordExecutorQueueTime(longThat(t -> t >= TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    void fixedModeRejectsTasksAfterRelease() {
+        this.start(GrpcServerConfig.ExecutorMode.FIXED);
+        var executor = this.captureExecutor();
+        this.executor.release();
+        this.executor = null;
+
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+        verify(this.telemetry, never()).recordExecutorQueueTime(anyLong());
+    }
+
+    @Test
+    void virtualModeRunsHandlersOnVirtualThreads() throws Exception {
+        if (VirtualThreadExecutorHolder.status() != VirtualThreadExecutorHolder.VirtualThreadStatus.ENABLED) {
+            var executor = new GrpcServerExecutor(config(GrpcServerConfig.ExecutorMode.VIRTUAL, 1), this.telemetryValue());
+            assertThatThrownBy(executor::init).isInstanceOf(IllegalStateException.class);
+            return;
+        }
+        this.start(GrpcServerConfig.ExecutorMode.VIRTUAL);
+        var executor = this.captureExecutor();
+        var thread = new CompletableFuture<Thread>();
+
+        executor.execute(() -> thread.complete(Thread.currentThread()));
+
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread.get(5, TimeUnit.SECONDS))).isEqualTo(true);
+        verify(this.telemetry, timeout(5000)).recordExecutorQueueTime(longThat(t -> t >= 0));
+    }
+
+    private void start(GrpcServerConfig.ExecutorMode mode) {
+        this.start(mode, 2);
+    }
+
+    private void start(GrpcServerConfig.ExecutorMode mode, int threads) {
+        this.executor = new GrpcServerExecutor(config(mode, threads), this.telemetryValue());
+        this.executor.init();
+        this.executor.configure(this.builder);
+    }
+
+    private Executor captureExecutor() {
+        var captor = ArgumentCaptor.forClass(Executor.class);
+        verify(this.builder).executor(captor.capture());
+        verify(this.builder, never()).directExecutor();
+        return captor.getValue();
+    }
+
+    private ValueOf<GrpcServerTelemetry> telemetryValue() {
+        return new ValueOf<>() {
+            @Override
+            public GrpcServerTelemetry get() {
+                return telemetry;
+            }
+
+            @Override
+            public void refresh() {
+
+            }
+        };
+    }
+
+    private static GrpcServerConfig.ExecutorConfig config(GrpcServerConfig.ExecutorMode mode, int threads) {
+        return new GrpcServerConfig.ExecutorConfig() {
+            @Override
+            public GrpcServerConfig.ExecutorMode mode() {
+                return mode;
+            }
+
+            @Override
+            public int threads() {
+                return threads;
+            }
+        };
+    }
+}
@@ -0,0 +1,163 @@
+package ru.tinkoff.kora.grpc.server;
+
+import io.grpc.netty.NettyServerBuilder;
+import io.netty.channel.EventLoopGroup;
+import jakarta.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import ru.tinkoff.kora.application.graph.ValueOf;
+import ru.tinkoff.kora.grpc.server.config.GrpcServerConfig;
+import ru.tinkoff.kora.grpc.server.telemetry.GrpcServerTelemetry;
+import ru.tinkoff.kora.netty.common.NettyChannelFactory;
+import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+class GrpcServerModuleTest {
+
+    private final GrpcServerModule module = new GrpcServerModule() {};
+    private final NettyServerBuilder builder = mock(NettyServerBuilder.class, Answers.RETURNS_SELF);
+
+    @Test
+    void configOptionsAreAppliedToBuilder() {
+        var config = new TestConfig(GrpcServerConfig.ExecutorMode.DIRECT) {
+            @Override
+            public Integer flowControlWindow() {
+                return 1024 * 1024;
+            }
+
+            @Override
+            public Integer maxConcurrentCallsPerConnection() {
+                return 100;
+            }
+
+            @Override
+            public Duration keepAliveTime() {
+                return Duration.ofSeconds(30);
+            }
+
+            @Override
+            public Duration keepAliveTimeout() {
+                return Duration.ofSeconds(5);
+            }
+
+            @Override
+            public Duration permitKeepAliveTime() {
+                return Duration.ofSeconds(10);
+            }
+
+            @Override
+            public boolean permitKeepAliveWithoutCalls() {
+                return true;
+            }
+        };
+
+        this.build(config);
+
+        verify(this.builder).directExecutor();
+        verify(this.builder).flowControlWindow(1024 * 1024);
+        verify(this.builder).maxConcurrentCallsPerConnection(100);
+        verify(this.builder).keepAliveTime(Duration.ofSeconds(30).toNanos(), TimeUnit.NANOSECONDS);
+        verify(this.builder).keepAliveTimeout(Duration.ofSeconds(5).toNanos(), TimeUnit.NANOSECONDS);
+        verify(this.builder).permitKeepAliveTime(Duration.ofSeconds(10).toNanos(), TimeUnit.NANOSECONDS);
+        verify(this.builder).permitKeepAliveWithoutCalls(true);
+    }
+
+    @Test
+    void unsetConfigOptionsKeepBuilderDefaults() {
+        this.build(new TestConfig(GrpcServerConfig.ExecutorMode.DEFAULT));
+
+        verify(this.builder, never()).directExecutor();
+        verify(this.builder, never()).executor(any());
+        verify(this.builder, never()).flowControlWindow(anyInt());
+        verify(this.builder, never()).maxConcurrentCallsPerConnection(anyInt());
+        verify(this.builder, never()).keepAliveTime(anyLong(), any());
+        verify(this.builder, never()).keepAliveTimeout(anyLong(), any());
+        verify(this.builder, never()).permitKeepAliveTime(anyLong(), any());
+        verify(this.builder).permitKeepAliveWithoutCalls(false);
+    }
+
+    private void build(GrpcServerConfig config) {
+        var executor = new GrpcServerExecutor(config.executor(), value(mock(GrpcServerTelemetry.class)));
+        executor.init();
+        try (var forPort = mockStatic(NettyServerBuilder.class)) {
+            forPort.when(() -> NettyServerBuilder.forPort(config.port())).thenReturn(this.builder);
+
+            this.module.grpcNettyServerBuilder(value(config), List.of(), List.of(), mock(EventLoopGroup.class), mock(EventLoopGroup.class),
+                mock(NettyChannelFactory.class), value(mock(GrpcServerTelemetry.class)), executor);
+        } finally {
+            executor.release();
+        }
+    }
+
+    private static class TestConfig implements GrpcServerConfig {
+        private final ExecutorMode mode;
+
+        private TestConfig(ExecutorMode mode) {
+            this.mode = mode;
+        }
+
+        @Override
+        public TelemetryConfig telemetry() {
+            return mock(TelemetryConfig.class);
+        }
+
+        @Override
+        public ExecutorConfig executor() {
+            return new ExecutorConfig() {
+                @Override
+                public ExecutorMode mode() {
+                    return mode;
+                }
+            };
+        }
+
+        @Nullable
+        @Override
+        public Integer flowControlWindow() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public Integer maxConcurrentCallsPerConnection() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public Duration keepAliveTime() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public Duration keepAliveTimeout() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public Duration permitKeepAliveTime() {
+            return null;
+        }
+    }
+
+    private static <T> ValueOf<T> value(T value) {
+        return new ValueOf<>() {
+            @Override
+            public T get() {
+                return value;
+            }
+
+            @Override
+            public void refresh() {
+
+            }
+        };
+    }
+}
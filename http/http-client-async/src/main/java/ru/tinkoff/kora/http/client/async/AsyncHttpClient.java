@@ -9,16 +9,26 @@ import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.http.client.common.*;
 import ru.tinkoff.kora.http.client.common.request.HttpClientRequest;
 import ru.tinkoff.kora.http.client.common.response.HttpClientResponse;
+import ru.tinkoff.kora.http.client.common.telemetry.HttpClientPoolMetrics;
 import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
 
 import java.io.IOException;
 import java.util.concurrent.*;
 
 public class AsyncHttpClient implements HttpClient, Lifecycle {
+    private static final String POOL_NAME = "async";
+
     private final org.asynchttpclient.AsyncHttpClient client;
+    @Nullable
+    private final HttpClientPoolMetrics poolMetrics;
 
     public AsyncHttpClient(org.asynchttpclient.AsyncHttpClient client) {
+        this(client, null);
+    }
+
+    public AsyncHttpClient(org.asynchttpclient.AsyncHttpClient client, @Nullable HttpClientPoolMetrics poolMetrics) {
         this.client = client;
+        this.poolMetrics = poolMetrics;
     }
 
     @Override
@@ -72,7 +82,7 @@ public class AsyncHttpClient implements HttpClient, Lifecycle {
         }
 
         var future = new CompletableFuture<HttpClientResponse>();
-        var response = this.client.executeRequest(requestBuilder, new MonoSinkStreamAsyncHandler(context, future));
+        var response = this.client.executeRequest(requestBuilder, new MonoSinkStreamAsyncHandler(context, future, this.poolMetrics, POOL_NAME, request.uri().getHost()));
 
         return future.whenComplete((rs, error) -> {
             if (error instanceof CancellationException) {
@@ -101,10 +111,38 @@ public class AsyncHttpClient implements HttpClient, Lifecycle {
 
     @Override
     public void init() {
+        var poolMetrics = this.poolMetrics;
+        if (poolMetrics != null) {
+            poolMetrics.registerPool(POOL_NAME, new PoolState(this.client));
+        }
     }
 
     @Override
     public void release() throws IOException {
         this.client.close();
     }
+
+    private record PoolState(org.asynchttpclient.AsyncHttpClient client) implements HttpClientPoolMetrics.PoolState {
+        @Override
+        public int activeConnections() {
+            return (int) this.client.getClientStats().getTotalActiveConnectionCount();
+        }
+
+        @Override
+        public int idleConnections() {
+            return (int) this.client.getClientStats().getTotalIdleConnectionCount();
+        }
+
+        @Override
+        public int pendingAcquires() {
+            // AsyncHttpClient doesn't expose requests waiting for free channel
+            return 0;
+        }
+
+        @Override
+        public int activeConnections(String host) {
+            var stats = this.client.getClientStats().getStatsPerHost().get(host);
+            return stats == null ? 0 : (int) stats.getHostActiveConnectionCount();
+        }
+    }
 }
@@ -2,10 +2,44 @@ package ru.tinkoff.kora.http.client.async;
 
 import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
 
+import java.time.Duration;
+
 @ConfigValueExtractor
 public interface AsyncHttpClientConfig {
 
     default boolean followRedirects() {
         return true;
     }
+
+    /**
+     * Max number of connections to all hosts, unlimited if negative
+     */
+    default int maxConnections() {
+        return -1;
+    }
+
+    /**
+     * Max number of connections to single host, unlimited if negative
+     */
+    default int maxConnectionsPerHost() {
+        return -1;
+    }
+
+    default boolean keepAlive() {
+        return true;
+    }
+
+    /**
+     * Time idle connection is kept in pool
+     */
+    default Duration pooledConnectionIdleTimeout() {
+        return Duration.ofSeconds(60);
+    }
+
+    /**
+     * Time request waits for free connection when connection limit is reached, request fails immediately if zero
+     */
+    default Duration acquireFreeChannelTimeout() {
+        return Duration.ZERO;
+    }
 }
@@ -1,6 +1,7 @@
 package ru.tinkoff.kora.http.client.async;
 
 import io.netty.channel.EventLoopGroup;
+import jakarta.annotation.Nullable;
 import org.asynchttpclient.DefaultAsyncHttpClientConfig;
 import org.asynchttpclient.Dsl;
 import org.asynchttpclient.channel.ChannelPool;
@@ -11,6 +12,7 @@ import ru.tinkoff.kora.config.common.Config;
 import ru.tinkoff.kora.config.common.extractor.ConfigValueExtractor;
 import ru.tinkoff.kora.http.client.common.HttpClientConfig;
 import ru.tinkoff.kora.http.client.common.HttpClientModule;
+import ru.tinkoff.kora.http.client.common.telemetry.HttpClientPoolMetrics;
 import ru.tinkoff.kora.netty.common.NettyCommonModule;
 
 public interface AsyncHttpClientModule extends NettyCommonModule, HttpClientModule {
@@ -23,6 +25,11 @@ public interface AsyncHttpClientModule extends NettyCommonModule, HttpClientModu
         DefaultAsyncHttpClientConfig.Builder builder = Dsl.config()
             .setEventLoopGroup(eventLoopGroup)
             .setFollowRedirect(asyncConfig.followRedirects())
+            .setMaxConnections(asyncConfig.maxConnections())
+            .setMaxConnectionsPerHost(asyncConfig.maxConnectionsPerHost())
+            .setKeepAlive(asyncConfig.keepAlive())
+            .setPooledConnectionIdleTimeout((int) asyncConfig.pooledConnectionIdleTimeout().toMillis())
+            .setAcquireFreeChannelTimeout((int) asyncConfig.acquireFreeChannelTimeout().toMillis())
             .setConnectTimeout((int) config.connectTimeout().toMillis())
             .setReadTimeout((int) config.readTimeout().toMillis());
 
@@ -52,7 +59,7 @@ public interface AsyncHttpClientModule extends NettyCommonModule, HttpClientModu
         return Dsl.asyncHttpClient(config);
     }
 
-    default AsyncHttpClient asyncHttpClient(org.asynchttpclient.AsyncHttpClient client) {
-        return new AsyncHttpClient(client);
+    default AsyncHttpClient asyncHttpClient(org.asynchttpclient.AsyncHttpClient client, @Nullable HttpClientPoolMetrics poolMetrics) {
+        return new AsyncHttpClient(client, poolMetrics);
     }
 }
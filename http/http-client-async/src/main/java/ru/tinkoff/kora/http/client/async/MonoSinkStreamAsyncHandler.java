@@ -1,14 +1,17 @@
 package ru.tinkoff.kora.http.client.async;
 
+import jakarta.annotation.Nullable;
 import org.asynchttpclient.AsyncHandler;
 import org.asynchttpclient.HttpResponseBodyPart;
 import org.asynchttpclient.HttpResponseStatus;
+import org.asynchttpclient.netty.request.NettyRequest;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.http.client.async.response.EmptyAsyncHttpClientResponse;
 import ru.tinkoff.kora.http.client.async.response.QueuePublisher;
 import ru.tinkoff.kora.http.client.async.response.SingleBufferAsyncHttpClientResponse;
 import ru.tinkoff.kora.http.client.async.response.StreamingAsyncHttpClientResponse;
 import ru.tinkoff.kora.http.client.common.response.HttpClientResponse;
+import ru.tinkoff.kora.http.client.common.telemetry.HttpClientPoolMetrics;
 
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
@@ -18,13 +21,31 @@ class MonoSinkStreamAsyncHandler implements AsyncHandler<Object> {
     private final CompletableFuture<HttpClientResponse> future;
     private final AtomicReference<RequestPhase> phase = new AtomicReference<>(RequestPhase.REQUESTED);
     private final Context context;
+    @Nullable
+    private final HttpClientPoolMetrics poolMetrics;
+    private final String pool;
+    private final String host;
+    private final long started = System.nanoTime();
+    private volatile boolean connectionAcquired = false;
     private HttpResponseStatus responseStatus;
     private io.netty.handler.codec.http.HttpHeaders headers;
     private QueuePublisher<ByteBuffer> publisher;
 
-    public MonoSinkStreamAsyncHandler(Context context, CompletableFuture<HttpClientResponse> future) {
+    public MonoSinkStreamAsyncHandler(Context context, CompletableFuture<HttpClientResponse> future, @Nullable HttpClientPoolMetrics poolMetrics, String pool, String host) {
         this.future = future;
         this.context = context;
+        this.poolMetrics = poolMetrics;
+        this.pool = pool;
+        this.host = host;
+    }
+
+    @Override
+    public void onRequestSend(NettyRequest request) {
+        // called for pooled and for new connection once it's connected, redirects and retries are not recorded
+        if (this.poolMetrics != null && !this.connectionAcquired) {
+            this.connectionAcquired = true;
+            this.poolMetrics.recordAcquire(this.pool, this.host, System.nanoTime() - this.started, null);
+        }
     }
 
     @Override
@@ -82,6 +103,10 @@ class MonoSinkStreamAsyncHandler implements AsyncHandler<Object> {
 
     @Override
     public void onThrowable(Throwable t) {
+        if (this.poolMetrics != null && !this.connectionAcquired) {
+            this.connectionAcquired = true;
+            this.poolMetrics.recordAcquire(this.pool, this.host, System.nanoTime() - this.started, t);
+        }
         if (this.phase.compareAndSet(RequestPhase.REQUESTED, RequestPhase.ERROR)) {
             var oldContext = Context.current();
             try {
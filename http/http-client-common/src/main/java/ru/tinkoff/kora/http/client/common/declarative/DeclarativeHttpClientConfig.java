@@ -2,6 +2,7 @@ package ru.tinkoff.kora.http.client.common.declarative;
 
 import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.http.client.common.HttpClient;
+import ru.tinkoff.kora.http.client.common.interceptor.DecompressionHttpClientInterceptor;
 import ru.tinkoff.kora.http.client.common.interceptor.TelemetryInterceptor;
 import ru.tinkoff.kora.http.client.common.telemetry.HttpClientTelemetryConfig;
 import ru.tinkoff.kora.http.client.common.telemetry.HttpClientTelemetryFactory;
@@ -18,8 +19,17 @@ public interface DeclarativeHttpClientConfig {
     @Nullable
     Duration requestTimeout();
 
+    /**
+     * Request compressed responses and decompress them transparently with {@link DecompressionHttpClientInterceptor}
+     */
+    default boolean decompression() {
+        return false;
+    }
+
     default DeclarativeHttpClientOperationData apply(HttpClient root, Class<?> clientClass, String operationName, HttpClientOperationConfig operationConfig, HttpClientTelemetryFactory telemetryFactory, String operationPath) {
-        var builder = root;
+        var builder = this.decompression()
+            ? root.with(new DecompressionHttpClientInterceptor())
+            : root;
         var url = this.url() + operationPath;
         var requestTimeout = (this.requestTimeout() == null)
             ? null
@@ -117,6 +117,30 @@ public final class HttpClientOperationTelemetryConfig implements HttpClientTelem
             }
             return this.client.pathTemplate();
         }
+
+        @Override
+        public int maxBodySize() {
+            if (this.operation.maxBodySize() != $HttpClientLoggerConfig_ConfigValueExtractor.DEFAULTS.maxBodySize()) {
+                return this.operation.maxBodySize();
+            }
+            return this.client.maxBodySize();
+        }
+
+        @Override
+        public double bodySampleRate() {
+            if (this.operation.bodySampleRate() != $HttpClientLoggerConfig_ConfigValueExtractor.DEFAULTS.bodySampleRate()) {
+                return this.operation.bodySampleRate();
+            }
+            return this.client.bodySampleRate();
+        }
+
+        @Override
+        public Set<String> bodyContentTypes() {
+            if (!this.operation.bodyContentTypes().equals($HttpClientLoggerConfig_ConfigValueExtractor.DEFAULTS.bodyContentTypes())) {
+                return this.operation.bodyContentTypes();
+            }
+            return this.client.bodyContentTypes();
+        }
     }
 
     private static class OperationMetricConfig implements MetricsConfig {
@@ -0,0 +1,94 @@
+package ru.tinkoff.kora.http.client.common.interceptor;
+
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.http.client.common.response.HttpClientResponse;
+import ru.tinkoff.kora.http.common.body.HttpBodyInput;
+import ru.tinkoff.kora.http.common.header.HttpHeaders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+final class DecompressedHttpClientResponse implements HttpClientResponse {
+    private final HttpClientResponse delegate;
+    private final HttpHeaders headers;
+    private final Body body;
+
+    DecompressedHttpClientResponse(HttpClientResponse delegate, boolean gzip) {
+        this.delegate = delegate;
+        this.headers = delegate.headers().toMutable()
+            .remove("content-encoding")
+            .remove("content-length");
+        this.body = new Body(delegate.body(), gzip);
+    }
+
+    @Override
+    public int code() {
+        return this.delegate.code();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return this.headers;
+    }
+
+    @Override
+    public HttpBodyInput body() {
+        return this.body;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.delegate.close();
+    }
+
+    @Override
+    public String toString() {
+        return "HttpClientResponse{code=" + code() +
+               ", bodyLength=-1" +
+               ", bodyType=" + this.body.contentType() +
+               '}';
+    }
+
+    private record Body(HttpBodyInput delegate, boolean gzip) implements HttpBodyInput {
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.delegate.subscribe(new InflatingSubscriber(subscriber, this.gzip));
+        }
+
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Nullable
+        @Override
+        public String contentType() {
+            return this.delegate.contentType();
+        }
+
+        @Override
+        public InputStream asInputStream() {
+            var is = this.delegate.asInputStream();
+            if (is == null) {
+                return HttpBodyInput.super.asInputStream();
+            }
+            try {
+                return this.gzip
+                    ? new GZIPInputStream(is, 8192)
+                    : new InflaterInputStream(is);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.delegate.close();
+        }
+    }
+}
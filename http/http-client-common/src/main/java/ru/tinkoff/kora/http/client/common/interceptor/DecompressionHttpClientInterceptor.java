@@ -0,0 +1,39 @@
+package ru.tinkoff.kora.http.client.common.interceptor;
+
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.http.client.common.request.HttpClientRequest;
+import ru.tinkoff.kora.http.client.common.response.HttpClientResponse;
+
+import java.util.Locale;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Requests compressed response with Accept-Encoding when request has no such header
+ * and transparently decompresses gzip and deflate encoded response bodies while they are streamed.
+ * When request already has Accept-Encoding, caller negotiates encoding itself and response is returned as is.
+ * <p>
+ * Interceptor is registered for every operation of declarative http client with {@code decompression} enabled in its config.
+ */
+public final class DecompressionHttpClientInterceptor implements HttpClientInterceptor {
+
+    @Override
+    public CompletionStage<HttpClientResponse> processRequest(Context ctx, InterceptChain chain, HttpClientRequest request) throws Exception {
+        if (request.headers().has("accept-encoding")) {
+            return chain.process(ctx, request);
+        }
+        request = request.toBuilder().header("accept-encoding", "gzip, deflate").build();
+        return chain.process(ctx, request).thenApply(DecompressionHttpClientInterceptor::decompress);
+    }
+
+    private static HttpClientResponse decompress(HttpClientResponse response) {
+        var encoding = response.headers().getFirst("content-encoding");
+        if (encoding == null) {
+            return response;
+        }
+        return switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+            case "gzip", "x-gzip" -> new DecompressedHttpClientResponse(response, true);
+            case "deflate" -> new DecompressedHttpClientResponse(response, false);
+            default -> response;
+        };
+    }
+}
@@ -0,0 +1,329 @@
+package ru.tinkoff.kora.http.client.common.interceptor;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Inflates compressed body chunks as they arrive, next compressed chunk is requested only when inflated output of previous one is emitted
+ */
+final class InflatingSubscriber implements Flow.Subscriber<ByteBuffer>, Flow.Subscription {
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final AtomicLongFieldUpdater<InflatingSubscriber> DEMAND = AtomicLongFieldUpdater.newUpdater(InflatingSubscriber.class, "demand");
+    private volatile long demand = 0;
+
+    private static final AtomicIntegerFieldUpdater<InflatingSubscriber> WIP = AtomicIntegerFieldUpdater.newUpdater(InflatingSubscriber.class, "wip");
+    private volatile int wip = 0;
+
+    private final Flow.Subscriber<? super ByteBuffer> subscriber;
+    private final Inflater inflater;
+    private final GzipHeader gzipHeader;
+    private final GzipTrailer gzipTrailer;
+    private volatile Flow.Subscription subscription;
+    private volatile ByteBuffer input;
+    private volatile boolean done = false;
+    private volatile boolean cancelled = false;
+    private volatile Throwable error;
+    private volatile Throwable requestError;
+
+    // accessed only from drain loop
+    private final ArrayDeque<ByteBuffer> output = new ArrayDeque<>();
+    private boolean requested;
+    private boolean terminated;
+    private boolean started;
+
+    InflatingSubscriber(Flow.Subscriber<? super ByteBuffer> subscriber, boolean gzip) {
+        this.subscriber = subscriber;
+        this.inflater = new Inflater(gzip);
+        this.gzipHeader = gzip ? new GzipHeader() : null;
+        this.gzipTrailer = gzip ? new GzipTrailer() : null;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        this.subscriber.onSubscribe(this);
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            // error is signalled from drain loop, so it is never concurrent with onNext
+            this.requestError = new IllegalArgumentException("Requested demand must be positive, got " + n);
+            this.subscription.cancel();
+            this.drain();
+            return;
+        }
+        DEMAND.getAndUpdate(this, d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+        this.drain();
+    }
+
+    @Override
+    public void cancel() {
+        this.cancelled = true;
+        this.subscription.cancel();
+        this.drain();
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+        this.input = item;
+        this.drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        this.error = throwable;
+        this.done = true;
+        this.drain();
+    }
+
+    @Override
+    public void onComplete() {
+        this.done = true;
+        this.drain();
+    }
+
+    private void drain() {
+        if (WIP.getAndIncrement(this) != 0) {
+            return;
+        }
+        var missed = 1;
+        while (true) {
+            if (this.terminated) {
+                return;
+            }
+            if (this.cancelled) {
+                this.terminate();
+                return;
+            }
+            var requestError = this.requestError;
+            if (requestError != null) {
+                this.terminate();
+                this.subscriber.onError(requestError);
+                return;
+            }
+            var input = this.input;
+            if (input != null && this.output.isEmpty()) {
+                this.input = null;
+                this.requested = false;
+                try {
+                    this.inflate(input);
+                } catch (DataFormatException | RuntimeException e) {
+                    this.subscription.cancel();
+                    this.terminate();
+                    this.subscriber.onError(e);
+                    return;
+                }
+            }
+
+            var demand = this.demand;
+            var emitted = 0L;
+            while (emitted < demand && !this.output.isEmpty()) {
+                this.subscriber.onNext(this.output.poll());
+                emitted++;
+            }
+            if (emitted > 0) {
+                demand = DEMAND.addAndGet(this, -emitted);
+            }
+
+            if (this.output.isEmpty() && this.input == null) {
+                if (this.done) {
+                    var error = this.error;
+                    // empty body is allowed, e.g. in HEAD and 204 responses
+                    var finished = this.inflater.finished() && (this.gzipTrailer == null || this.gzipTrailer.verified) || !this.started;
+                    this.terminate();
+                    if (error != null) {
+                        this.subscriber.onError(error);
+                    } else if (!finished) {
+                        this.subscriber.onError(new DataFormatException("Unexpected end of compressed stream"));
+                    } else {
+                        this.subscriber.onComplete();
+                    }
+                    return;
+                }
+                // after end of compressed stream only trailer left, so it is requested regardless of demand to reach completion
+                if (!this.requested && (demand > 0 || this.inflater.finished())) {
+                    this.requested = true;
+                    this.subscription.request(1);
+                }
+            }
+            missed = WIP.addAndGet(this, -missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void inflate(ByteBuffer input) throws DataFormatException {
+        if (input.hasRemaining()) {
+            this.started = true;
+        }
+        if (this.gzipHeader != null && !this.gzipHeader.consume(input)) {
+            return;
+        }
+        if (!this.inflater.finished() && input.hasRemaining()) {
+            this.inflater.setInput(input);
+            while (!this.inflater.finished()) {
+                var chunk = ByteBuffer.allocate(CHUNK_SIZE);
+                var inflated = this.inflater.inflate(chunk);
+                if (inflated > 0) {
+                    chunk.flip();
+                    if (this.gzipTrailer != null) {
+                        this.gzipTrailer.update(chunk);
+                    }
+                    this.output.add(chunk);
+                } else if (this.inflater.needsDictionary()) {
+                    throw new DataFormatException("Preset dictionary is not supported");
+                } else {
+                    break;
+                }
+            }
+        }
+        // inflater advances input position only up to the end of compressed data, rest of input is trailer
+        if (this.inflater.finished() && this.gzipTrailer != null) {
+            this.gzipTrailer.consume(input);
+        }
+    }
+
+    private void terminate() {
+        this.terminated = true;
+        this.output.clear();
+        this.input = null;
+        this.inflater.end();
+    }
+
+    /**
+     * RFC 1952 member header parser, consumes header bytes split across any number of chunks
+     */
+    private static final class GzipHeader {
+        private static final int FHCRC = 2;
+        private static final int FEXTRA = 4;
+        private static final int FNAME = 8;
+        private static final int FCOMMENT = 16;
+
+        private static final int FIXED = 0;
+        private static final int EXTRA_LENGTH = 1;
+        private static final int EXTRA = 2;
+        private static final int NAME = 3;
+        private static final int COMMENT = 4;
+        private static final int HEADER_CRC = 5;
+        private static final int DONE = 6;
+
+        private int state = FIXED;
+        private int read = 0;
+        private int flags = 0;
+        private int extraLength = 0;
+
+        /**
+         * @return true when whole header is consumed
+         */
+        boolean consume(ByteBuffer buffer) throws DataFormatException {
+            while (this.state != DONE && buffer.hasRemaining()) {
+                var b = buffer.get() & 0xFF;
+                switch (this.state) {
+                    case FIXED -> {
+                        if (this.read == 0 && b != 0x1F || this.read == 1 && b != 0x8B) {
+                            throw new DataFormatException("Not in GZIP format");
+                        }
+                        if (this.read == 2 && b != 8) {
+                            throw new DataFormatException("Unsupported compression method " + b);
+                        }
+                        if (this.read == 3) {
+                            this.flags = b;
+                        }
+                        if (++this.read == 10) {
+                            this.read = 0;
+                            this.state = this.next(FIXED);
+                        }
+                    }
+                    case EXTRA_LENGTH -> {
+                        this.extraLength |= b << (8 * this.read);
+                        if (++this.read == 2) {
+                            this.read = 0;
+                            this.state = this.extraLength > 0 ? EXTRA : this.next(EXTRA);
+                        }
+                    }
+                    case EXTRA -> {
+                        if (--this.extraLength == 0) {
+                            this.state = this.next(EXTRA);
+                        }
+                    }
+                    case NAME, COMMENT -> {
+                        if (b == 0) {
+                            this.state = this.next(this.state);
+                        }
+                    }
+                    case HEADER_CRC -> {
+                        if (++this.read == 2) {
+                            this.state = DONE;
+                        }
+                    }
+                    default -> throw new IllegalStateException();
+                }
+            }
+            return this.state == DONE;
+        }
+
+        private int next(int after) {
+            if (after < EXTRA_LENGTH && (this.flags & FEXTRA) != 0) {
+                return EXTRA_LENGTH;
+            }
+            if (after < NAME && (this.flags & FNAME) != 0) {
+                return NAME;
+            }
+            if (after < COMMENT && (this.flags & FCOMMENT) != 0) {
+                return COMMENT;
+            }
+            if (after < HEADER_CRC && (this.flags & FHCRC) != 0) {
+                return HEADER_CRC;
+            }
+            return DONE;
+        }
+    }
+
+    /**
+     * RFC 1952 member trailer, CRC32 and ISIZE of inflated data are checked when trailer is consumed
+     */
+    private static final class GzipTrailer {
+        private final CRC32 crc = new CRC32();
+        private final byte[] trailer = new byte[8];
+        private long size = 0;
+        private int read = 0;
+        private boolean verified = false;
+
+        void update(ByteBuffer inflated) {
+            this.crc.update(inflated.duplicate());
+            this.size += inflated.remaining();
+        }
+
+        void consume(ByteBuffer buffer) throws DataFormatException {
+            while (this.read < this.trailer.length && buffer.hasRemaining()) {
+                this.trailer[this.read++] = buffer.get();
+            }
+            if (this.read < this.trailer.length || this.verified) {
+                return;
+            }
+            if (this.int32(0) != this.crc.getValue()) {
+                throw new DataFormatException("Corrupt GZIP trailer: CRC32 mismatch");
+            }
+            if (this.int32(4) != (this.size & 0xFFFFFFFFL)) {
+                throw new DataFormatException("Corrupt GZIP trailer: ISIZE mismatch");
+            }
+            this.verified = true;
+        }
+
+        private long int32(int offset) {
+            return (this.trailer[offset] & 0xFFL)
+                | (this.trailer[offset + 1] & 0xFFL) << 8
+                | (this.trailer[offset + 2] & 0xFFL) << 16
+                | (this.trailer[offset + 3] & 0xFFL) << 24;
+        }
+    }
+}
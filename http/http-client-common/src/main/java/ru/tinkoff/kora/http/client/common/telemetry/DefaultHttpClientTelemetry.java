@@ -13,10 +13,12 @@ import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 
 public final class DefaultHttpClientTelemetry implements HttpClientTelemetry {
@@ -26,11 +28,25 @@ public final class DefaultHttpClientTelemetry implements HttpClientTelemetry {
     private final HttpClientMetrics metrics;
     @Nullable
     private final HttpClientLogger logger;
+    private final int maxBodySize;
+    private final double bodySampleRate;
+    private final Set<String> bodyContentTypes;
 
     public DefaultHttpClientTelemetry(@Nullable HttpClientTracer tracing, @Nullable HttpClientMetrics metrics, @Nullable HttpClientLogger logger) {
+        this(tracing, metrics, logger, $HttpClientLoggerConfig_ConfigValueExtractor.DEFAULTS);
+    }
+
+    public DefaultHttpClientTelemetry(@Nullable HttpClientTracer tracing, @Nullable HttpClientMetrics metrics, @Nullable HttpClientLogger logger, HttpClientLoggerConfig loggerConfig) {
         this.tracing = tracing;
         this.metrics = metrics;
         this.logger = logger;
+        this.maxBodySize = Math.max(loggerConfig.maxBodySize(), 0);
+        this.bodySampleRate = loggerConfig.bodySampleRate();
+        var bodyContentTypes = new HashSet<String>();
+        for (var contentType : loggerConfig.bodyContentTypes()) {
+            bodyContentTypes.add(contentType.trim().toLowerCase(Locale.ROOT));
+        }
+        this.bodyContentTypes = Set.copyOf(bodyContentTypes);
     }
 
     @Override
@@ -75,6 +91,7 @@ public final class DefaultHttpClientTelemetry implements HttpClientTelemetry {
         }
 
         var isRequestLog = logger != null && logger.logRequest();
+        var isBodyLog = logger != null && (logger.logRequestBody() || logger.logResponseBody()) && this.sampleBody();
         final boolean isAnyLog = logger != null && (logger.logRequest() || logger.logResponse());
         var method = request.method();
         var path = (isAnyLog)
@@ -96,16 +113,20 @@ public final class DefaultHttpClientTelemetry implements HttpClientTelemetry {
             final String queryParams = request.uri().getRawQuery();
             if (!logger.logRequestHeaders()) {
                 logger.logRequest(authority, request.method(), path, pathTemplate, resolvedUri, queryParams, null, null);
-            } else if (!logger.logRequestBody()) {
+            } else if (!logger.logRequestBody() || !isBodyLog) {
                 logger.logRequest(authority, request.method(), path, pathTemplate, resolvedUri, queryParams, headers, null);
             } else {
-                var requestBodyCharset = this.detectCharset(request.body().contentType());
+                var requestBodyCharset = this.bodyCharset(request.body().contentType());
                 if (requestBodyCharset == null) {
                     this.logger.logRequest(authority, request.method(), path, pathTemplate, resolvedUri, queryParams, headers, null);
                 } else {
-                    var requestBody = this.wrapRequestBody(ctx, request.body(), buffers -> {
-                        var bodyString = byteBufListToBodyString(buffers, requestBodyCharset);
-                        this.logger.logRequest(authority, method, path, pathTemplate, resolvedUri, queryParams, headers, bodyString);
+                    var requestBody = this.wrapRequestBody(ctx, request.body(), capture -> {
+                        try {
+                            var bodyString = capture.toString(requestBodyCharset);
+                            this.logger.logRequest(authority, method, path, pathTemplate, resolvedUri, queryParams, headers, bodyString);
+                        } finally {
+                            capture.release();
+                        }
                     });
                     request = request.toBuilder()
                         .body(requestBody)
@@ -113,35 +134,31 @@ public final class DefaultHttpClientTelemetry implements HttpClientTelemetry {
                 }
             }
         }
-        return new DefaultHttpClientTelemetryContextImpl(ctx, request, data, createSpanResult, metrics, logger);
+        return new DefaultHttpClientTelemetryContextImpl(ctx, request, data, createSpanResult, metrics, logger, isBodyLog);
     }
 
-    private static String byteBufListToBodyString(@Nullable List<ByteBuffer> l, @Nullable Charset charset) {
-        if (l == null || l.isEmpty() || charset == null) {
-            return null;
-        }
-        var sbl = 0;
-        for (var byteBuffer : l) {
-            sbl += byteBuffer.remaining();
+    private boolean sampleBody() {
+        if (this.bodySampleRate >= 1.0) {
+            return true;
         }
-        var sb = new StringBuilder(sbl);
-        for (var byteBuffer : l) {
-            var cb = charset.decode(byteBuffer);
-            sb.append(cb);
+        if (this.bodySampleRate <= 0.0) {
+            return false;
         }
-        return sb.toString();
+        return ThreadLocalRandom.current().nextDouble() < this.bodySampleRate;
     }
 
-    private HttpBodyOutput wrapRequestBody(Context ctx, HttpBodyOutput body, Consumer<List<ByteBuffer>> onComplete) {
+    private HttpBodyOutput wrapRequestBody(Context ctx, HttpBodyOutput body, Consumer<HttpBodyCapture> onComplete) {
         var full = body.getFullContentIfAvailable();
         if (full != null) {
             try {
-                onComplete.accept(List.of(full.slice()));
+                var capture = new HttpBodyCapture(this.maxBodySize);
+                capture.write(full);
+                onComplete.accept(capture);
             } catch (Exception ignore) {
             }
             return HttpBody.of(body.contentType(), full);
         }
-        var bodyChunks = new ArrayList<ByteBuffer>();
+        var capture = new HttpBodyCapture(this.maxBodySize);
         var publisher = (Flow.Publisher<ByteBuffer>) subscriber -> body.subscribe(new Flow.Subscriber<ByteBuffer>() {
             @Override
             public void onSubscribe(Flow.Subscription subscription) {
@@ -150,27 +167,48 @@ public final class DefaultHttpClientTelemetry implements HttpClientTelemetry {
 
             @Override
             public void onNext(ByteBuffer item) {
-                var copy = ByteBuffer.allocate(item.remaining());
-                copy.put(item.slice());
-                copy.rewind();
-                bodyChunks.add(copy);
+                capture.write(item);
                 subscriber.onNext(item);
             }
 
             @Override
             public void onError(Throwable throwable) {
+                capture.release();
                 subscriber.onError(throwable);
             }
 
             @Override
             public void onComplete() {
-                onComplete.accept(bodyChunks);
+                onComplete.accept(capture);
                 subscriber.onComplete();
             }
         });
         return HttpBodyOutput.of(body.contentType(), body.contentLength(), publisher);
     }
 
+    /**
+     * @return charset to decode logged body with or null if body of such content type should not be logged
+     */
+    @Nullable
+    private Charset bodyCharset(@Nullable String contentType) {
+        if (this.bodyContentTypes.isEmpty()) {
+            return this.detectCharset(contentType);
+        }
+        if (contentType == null) {
+            return null;
+        }
+        var separator = contentType.indexOf(';');
+        var mimeType = (separator < 0 ? contentType : contentType.substring(0, separator)).trim().toLowerCase(Locale.ROOT);
+        if (!this.bodyContentTypes.contains(mimeType)) {
+            var slash = mimeType.indexOf('/');
+            if (slash < 0 || !this.bodyContentTypes.contains(mimeType.substring(0, slash) + "/*")) {
+                return null;
+            }
+        }
+        var charset = this.detectCharset(contentType);
+        return charset == null ? StandardCharsets.UTF_8 : charset;
+    }
+
     @Nullable
     private Charset detectCharset(String contentType) {
         if (contentType == null) {
@@ -197,14 +235,20 @@ public final class DefaultHttpClientTelemetry implements HttpClientTelemetry {
         private final HttpClientTracer.HttpClientSpan span;
         private final HttpClientMetrics metrics;
         private final HttpClientLogger logger;
+        private final boolean isBodyLog;
 
-        public DefaultHttpClientTelemetryContextImpl(Context ctx, HttpClientRequest request, TelemetryContextData data, HttpClientTracer.HttpClientSpan span, HttpClientMetrics metrics, HttpClientLogger logger) {
+        public DefaultHttpClientTelemetryContextImpl(Context ctx, HttpClientRequest request, TelemetryContextData data, HttpClientTracer.HttpClientSpan span, HttpClientMetrics metrics, HttpClientLogger logger, boolean isBodyLog) {
             this.ctx = ctx;
             this.request = request;
             this.data = data;
             this.span = span;
             this.metrics = metrics;
             this.logger = logger;
+            this.isBodyLog = isBodyLog;
+        }
+
+        HttpBodyCapture newBodyCapture() {
+            return new HttpBodyCapture(maxBodySize);
         }
 
         @Override
@@ -219,12 +263,18 @@ public final class DefaultHttpClientTelemetry implements HttpClientTelemetry {
                 return null;
             }
 
+            var isResponseBodyLog = this.isBodyLog && logger != null && logger.logResponseBody();
             var full = response.body().getFullContentIfAvailable();
             if (full != null) {
-                this.onClose(response.code(), response.headers(), response.body().contentType(), List.of(full));
+                HttpBodyCapture capture = null;
+                if (isResponseBodyLog && bodyCharset(response.body().contentType()) != null) {
+                    capture = this.newBodyCapture();
+                    capture.write(full);
+                }
+                this.onClose(response.code(), response.headers(), response.body().contentType(), capture);
                 return response;
             }
-            var responseBodyCharset = logger == null || !logger.logResponseBody() ? null : detectCharset(response.body().contentType());
+            var responseBodyCharset = isResponseBodyLog ? bodyCharset(response.body().contentType()) : null;
             if (responseBodyCharset != null) {
                 var body = new DefaultHttpClientTelemetryCollectingResponseBodyWrapper(response, this);
                 return new DefaultHttpClientTelemetryResponseWrapper(response, body);
@@ -253,8 +303,17 @@ public final class DefaultHttpClientTelemetry implements HttpClientTelemetry {
             }
         }
 
-        public void onClose(int code, @Nullable HttpHeaders headers, @Nullable String contentType, @Nullable List<ByteBuffer> body) {
-            var responseBodyCharset = logger == null || !logger.logResponseBody() ? null : detectCharset(contentType);
+        public void onClose(int code, @Nullable HttpHeaders headers, @Nullable String contentType, @Nullable HttpBodyCapture body) {
+            try {
+                this.doClose(code, headers, body == null ? null : bodyCharset(contentType), body);
+            } finally {
+                if (body != null) {
+                    body.release();
+                }
+            }
+        }
+
+        private void doClose(int code, @Nullable HttpHeaders headers, @Nullable Charset responseBodyCharset, @Nullable HttpBodyCapture body) {
             var resultCode = HttpResultCode.fromStatusCode(code);
             if (span != null) {
                 span.close(code, resultCode, headers, null);
@@ -265,7 +324,7 @@ public final class DefaultHttpClientTelemetry implements HttpClientTelemetry {
                 metrics.record(code, resultCode, data.scheme(), data.host(), data.method(), data.pathTemplate(), headersResp, processingTime, null);
             }
             if (logger != null && logger.logResponse()) {
-                var bodyString = logger.logResponseBody() ? byteBufListToBodyString(body, responseBodyCharset) : null;
+                var bodyString = logger.logResponseBody() && body != null && responseBodyCharset != null ? body.toString(responseBodyCharset) : null;
                 var ctx = Context.current();
                 try {
                     this.ctx.inject();
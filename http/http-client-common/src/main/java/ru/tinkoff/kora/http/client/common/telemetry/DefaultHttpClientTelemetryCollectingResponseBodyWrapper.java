@@ -7,9 +7,6 @@ import ru.tinkoff.kora.http.common.body.HttpBodyInput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -69,7 +66,7 @@ public final class DefaultHttpClientTelemetryCollectingResponseBodyWrapper exten
             }
         } else {
             if (compareAndSet(false, true)) {
-                this.response.body().subscribe(new DrainSubscriber(this.response, this.telemetryContext));
+                this.response.body().subscribe(new DrainSubscriber(this.response, this.telemetryContext, this.telemetryContext.newBodyCapture()));
             }
         }
     }
@@ -77,7 +74,7 @@ public final class DefaultHttpClientTelemetryCollectingResponseBodyWrapper exten
     private class ByteBufferSubscriber implements Flow.Subscriber<ByteBuffer>, Flow.Subscription {
         private final Flow.Subscriber<? super ByteBuffer> subscriber;
         private final HttpClientResponse response;
-        private final List<ByteBuffer> body = Collections.synchronizedList(new ArrayList<>());
+        private final HttpBodyCapture body = telemetryContext.newBodyCapture();
         private Flow.Subscription subscription;
 
         public ByteBufferSubscriber(HttpClientResponse response, Flow.Subscriber<? super ByteBuffer> subscriber) {
@@ -92,16 +89,14 @@ public final class DefaultHttpClientTelemetryCollectingResponseBodyWrapper exten
 
         @Override
         public void onNext(ByteBuffer item) {
-            var copy = ByteBuffer.allocate(item.remaining());
-            copy.put(item.slice());
-            copy.rewind();
-            body.add(copy);
+            body.write(item);
             subscriber.onNext(item);
         }
 
         @Override
         public void onError(Throwable throwable) {
             try {
+                body.release();
                 telemetryContext.onClose(throwable);
             } finally {
                 subscriber.onError(throwable);
@@ -131,11 +126,12 @@ public final class DefaultHttpClientTelemetryCollectingResponseBodyWrapper exten
     private static class DrainSubscriber implements Flow.Subscriber<ByteBuffer> {
         private final HttpClientResponse response;
         private final DefaultHttpClientTelemetry.DefaultHttpClientTelemetryContextImpl telemetryContext;
-        private final List<ByteBuffer> body = Collections.synchronizedList(new ArrayList<>());
+        private final HttpBodyCapture body;
 
-        public DrainSubscriber(HttpClientResponse response, DefaultHttpClientTelemetry.DefaultHttpClientTelemetryContextImpl telemetryContext) {
+        public DrainSubscriber(HttpClientResponse response, DefaultHttpClientTelemetry.DefaultHttpClientTelemetryContextImpl telemetryContext, HttpBodyCapture body) {
             this.response = response;
             this.telemetryContext = telemetryContext;
+            this.body = body;
         }
 
         @Override
@@ -145,14 +141,12 @@ public final class DefaultHttpClientTelemetryCollectingResponseBodyWrapper exten
 
         @Override
         public void onNext(ByteBuffer item) {
-            var copy = ByteBuffer.allocate(item.remaining());
-            copy.put(item.slice());
-            copy.rewind();
-            body.add(copy);
+            body.write(item);
         }
 
         @Override
         public void onError(Throwable throwable) {
+            body.release();
             telemetryContext.onClose(throwable);
         }
 
@@ -166,13 +160,14 @@ public final class DefaultHttpClientTelemetryCollectingResponseBodyWrapper exten
         private final InputStream is;
         private final DefaultHttpClientTelemetry.DefaultHttpClientTelemetryContextImpl telemetryContext;
         private final HttpClientResponse response;
-        private final List<ByteBuffer> body = new ArrayList<>();
+        private final HttpBodyCapture body;
         private boolean closed = false;
 
         public WrappedInputStream(DefaultHttpClientTelemetry.DefaultHttpClientTelemetryContextImpl telemetryContext, HttpClientResponse response, InputStream inputStream) {
             this.is = inputStream;
             this.telemetryContext = telemetryContext;
             this.response = response;
+            this.body = telemetryContext.newBodyCapture();
         }
 
         @Override
@@ -194,14 +189,13 @@ public final class DefaultHttpClientTelemetryCollectingResponseBodyWrapper exten
                     telemetryContext.onClose(response.code(), response.headers(), response.body().contentType(), body);
                 }
                 if (read > 0) {
-                    var buf = ByteBuffer.allocate(read);
-                    buf.put(b, off, read);
-                    body.add(buf);
+                    body.write(b, off, read);
                 }
                 return read;
             } catch (IOException e) {
                 try {
                     closed = true;
+                    body.release();
                     telemetryContext.onClose(e);
                 } catch (Throwable t) {
                     e.addSuppressed(t);
@@ -216,14 +210,14 @@ public final class DefaultHttpClientTelemetryCollectingResponseBodyWrapper exten
                 if (!closed) {
                     closed = true;
                     try {
+                        var buf = new byte[1024];
                         while (true) {
-                            var buf = new byte[1024];
                             var read = this.is.read(buf);
                             if (read < 0) {
                                 break;
                             }
                             if (read > 0) {
-                                this.body.add(ByteBuffer.wrap(buf, 0, read));
+                                this.body.write(buf, 0, read);
                             }
                         }
                     } finally {
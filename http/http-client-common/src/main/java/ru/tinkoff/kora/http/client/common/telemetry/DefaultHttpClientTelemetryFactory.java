@@ -27,8 +27,11 @@ public final class DefaultHttpClientTelemetryFactory implements HttpClientTeleme
         if (tracing == null && metrics == null && logger == null) {
             return null;
         }
+        var loggerConfig = config.logging() instanceof HttpClientLoggerConfig c
+            ? c
+            : $HttpClientLoggerConfig_ConfigValueExtractor.DEFAULTS;
         return new DefaultHttpClientTelemetry(
-            tracing, metrics, logger
+            tracing, metrics, logger, loggerConfig
         );
     }
 }
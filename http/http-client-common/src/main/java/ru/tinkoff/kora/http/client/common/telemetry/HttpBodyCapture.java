@@ -0,0 +1,114 @@
+package ru.tinkoff.kora.http.client.common.telemetry;
+
+import jakarta.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Captures body prefix of at most limit bytes for logging into pooled chunks, body is decoded only when it is logged
+ */
+public final class HttpBodyCapture {
+    private static final int CHUNK_SIZE = 4096;
+    private static final int MAX_POOLED_CHUNKS = 1024;
+    private static final ConcurrentLinkedQueue<byte[]> POOL = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger POOLED = new AtomicInteger(0);
+
+    private final int limit;
+    private final ArrayList<byte[]> chunks = new ArrayList<>(2);
+    private int captured = 0;
+    private long total = 0;
+
+    public HttpBodyCapture(int limit) {
+        this.limit = limit;
+    }
+
+    public synchronized void write(ByteBuffer buffer) {
+        var remaining = buffer.remaining();
+        var position = buffer.position();
+        var toCopy = Math.min(remaining, this.limit - this.captured);
+        this.total += remaining;
+        while (toCopy > 0) {
+            var chunk = this.currentChunk();
+            var offset = this.captured % CHUNK_SIZE;
+            var len = Math.min(toCopy, CHUNK_SIZE - offset);
+            buffer.get(position, chunk, offset, len);
+            position += len;
+            toCopy -= len;
+            this.captured += len;
+        }
+    }
+
+    public synchronized void write(byte[] bytes, int off, int length) {
+        var toCopy = Math.min(length, this.limit - this.captured);
+        this.total += length;
+        while (toCopy > 0) {
+            var chunk = this.currentChunk();
+            var offset = this.captured % CHUNK_SIZE;
+            var len = Math.min(toCopy, CHUNK_SIZE - offset);
+            System.arraycopy(bytes, off, chunk, offset, len);
+            off += len;
+            toCopy -= len;
+            this.captured += len;
+        }
+    }
+
+    private byte[] currentChunk() {
+        if (this.captured < this.chunks.size() * CHUNK_SIZE) {
+            return this.chunks.get(this.chunks.size() - 1);
+        }
+        var chunk = POOL.poll();
+        if (chunk == null) {
+            chunk = new byte[CHUNK_SIZE];
+        } else {
+            POOLED.decrementAndGet();
+        }
+        this.chunks.add(chunk);
+        return chunk;
+    }
+
+    /**
+     * @return captured prefix decoded with charset and truncation note if body was longer than limit or null if body was empty
+     */
+    @Nullable
+    public synchronized String toString(Charset charset) {
+        if (this.total == 0) {
+            return null;
+        }
+        final String body;
+        if (this.chunks.size() == 1) {
+            body = new String(this.chunks.get(0), 0, this.captured, charset);
+        } else {
+            var bytes = new byte[this.captured];
+            for (int i = 0, pos = 0; pos < this.captured; i++) {
+                var len = Math.min(CHUNK_SIZE, this.captured - pos);
+                System.arraycopy(this.chunks.get(i), 0, bytes, pos, len);
+                pos += len;
+            }
+            body = new String(bytes, charset);
+        }
+        if (this.total > this.captured) {
+            return body + "...(truncated, " + this.total + " bytes total)";
+        }
+        return body;
+    }
+
+    /**
+     * Returns captured chunks to the pool, capture should not be used after release
+     */
+    public synchronized void release() {
+        for (var chunk : this.chunks) {
+            if (POOLED.incrementAndGet() <= MAX_POOLED_CHUNKS) {
+                POOL.offer(chunk);
+            } else {
+                POOLED.decrementAndGet();
+            }
+        }
+        this.chunks.clear();
+        this.captured = 0;
+        this.total = 0;
+    }
+}
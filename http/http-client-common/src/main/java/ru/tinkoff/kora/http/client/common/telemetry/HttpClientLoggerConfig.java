@@ -24,4 +24,25 @@ public interface HttpClientLoggerConfig extends TelemetryConfig.LogConfig {
 
     @Nullable
     Boolean pathTemplate();
+
+    /**
+     * Max number of request and response body bytes captured for logging, longer bodies are logged truncated
+     */
+    default int maxBodySize() {
+        return 64 * 1024;
+    }
+
+    /**
+     * Share of requests from 0.0 to 1.0 which bodies are captured when body logging is enabled
+     */
+    default double bodySampleRate() {
+        return 1.0;
+    }
+
+    /**
+     * Mime types which bodies are logged, like application/json or text/*, any textual body is logged if empty
+     */
+    default Set<String> bodyContentTypes() {
+        return Collections.emptySet();
+    }
 }
@@ -0,0 +1,36 @@
+package ru.tinkoff.kora.http.client.common.telemetry;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Connection pool metrics of HTTP client implementation, pool is shared by all HTTP clients of application
+ * so it is reported separately from {@link HttpClientMetrics}
+ */
+public interface HttpClientPoolMetrics {
+
+    /**
+     * Called once when client implementation is started, state is polled for pool gauges
+     *
+     * @param pool name of client implementation, like okhttp or async
+     */
+    void registerPool(String pool, PoolState state);
+
+    /**
+     * @param acquireTimeNanos time from request start till connection is acquired from pool or established
+     * @param error            error if connection was not acquired, like when pending acquire limit is exceeded
+     */
+    void recordAcquire(String pool, String host, long acquireTimeNanos, @Nullable Throwable error);
+
+    interface PoolState {
+        int activeConnections();
+
+        int idleConnections();
+
+        /**
+         * @return number of requests waiting for connection, 0 if pool doesn't queue requests
+         */
+        int pendingAcquires();
+
+        int activeConnections(String host);
+    }
+}
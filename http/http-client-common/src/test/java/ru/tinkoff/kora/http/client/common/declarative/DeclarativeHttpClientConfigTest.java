@@ -0,0 +1,75 @@
+package ru.tinkoff.kora.http.client.common.declarative;
+
+import jakarta.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import ru.tinkoff.kora.http.client.common.HttpClient;
+import ru.tinkoff.kora.http.client.common.request.HttpClientRequest;
+import ru.tinkoff.kora.http.client.common.response.HttpClientResponse;
+import ru.tinkoff.kora.http.common.header.HttpHeaders;
+import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DeclarativeHttpClientConfigTest {
+
+    private final HttpClientResponse response = new HttpClientResponse.Default(200, HttpHeaders.of("content-encoding", "gzip"), null, () -> {});
+    private final CompletableFuture<HttpClientRequest> sent = new CompletableFuture<>();
+    private final HttpClient root = request -> {
+        this.sent.complete(request);
+        return CompletableFuture.completedFuture(this.response);
+    };
+
+    @Test
+    void responseIsNotDecompressedByDefault() {
+        var operation = this.apply(new TestConfig() {});
+
+        var rs = operation.client().execute(HttpClientRequest.get(operation.url()).build()).toCompletableFuture().join();
+
+        assertThat(this.sent.join().headers().has("accept-encoding")).isFalse();
+        assertThat(rs).isSameAs(this.response);
+    }
+
+    @Test
+    void responseIsDecompressedWhenEnabled() {
+        var operation = this.apply(new TestConfig() {
+            @Override
+            public boolean decompression() {
+                return true;
+            }
+        });
+
+        var rs = operation.client().execute(HttpClientRequest.get(operation.url()).build()).toCompletableFuture().join();
+
+        assertThat(this.sent.join().headers().getFirst("accept-encoding")).isEqualTo("gzip, deflate");
+        assertThat(rs).isNotSameAs(this.response);
+        assertThat(rs.headers().getFirst("content-encoding")).isNull();
+    }
+
+    private DeclarativeHttpClientOperationData apply(DeclarativeHttpClientConfig config) {
+        var operationConfig = mock(HttpClientOperationConfig.class, Answers.RETURNS_DEEP_STUBS);
+        return config.apply(this.root, DeclarativeHttpClientConfigTest.class, "test", operationConfig, (telemetryConfig, clientName) -> null, "/test");
+    }
+
+    private interface TestConfig extends DeclarativeHttpClientConfig {
+        @Override
+        default String url() {
+            return "http://localhost";
+        }
+
+        @Override
+        default TelemetryConfig telemetry() {
+            return mock(TelemetryConfig.class, Answers.RETURNS_DEEP_STUBS);
+        }
+
+        @Nullable
+        @Override
+        default Duration requestTimeout() {
+            return null;
+        }
+    }
+}
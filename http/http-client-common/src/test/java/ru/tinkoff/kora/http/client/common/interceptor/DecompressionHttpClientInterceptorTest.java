@@ -0,0 +1,196 @@
+package ru.tinkoff.kora.http.client.common.interceptor;
+
+import org.junit.jupiter.api.Test;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.http.client.common.request.HttpClientRequest;
+import ru.tinkoff.kora.http.client.common.response.HttpClientResponse;
+import ru.tinkoff.kora.http.common.body.StreamingHttpBodyInput;
+import ru.tinkoff.kora.http.common.header.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.zip.DataFormatException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecompressionHttpClientInterceptorTest {
+
+    private final byte[] content = content();
+
+    @Test
+    void testGzipSplitIntoSmallChunks() throws Exception {
+        var rs = this.execute("gzip", gzip(this.content), 7);
+
+        assertNull(rs.headers().getFirst("content-encoding"));
+        assertEquals(-1, rs.body().contentLength());
+        assertArrayEquals(this.content, rs.body().asArrayStage().toCompletableFuture().join());
+    }
+
+    @Test
+    void testDeflate() throws Exception {
+        var rs = this.execute("deflate", deflate(this.content), 1024);
+
+        assertArrayEquals(this.content, rs.body().asArrayStage().toCompletableFuture().join());
+    }
+
+    @Test
+    void testGzipInputStream() throws Exception {
+        var rs = this.execute("gzip", gzip(this.content), 1024);
+
+        try (var is = rs.body().asInputStream()) {
+            assertArrayEquals(this.content, is.readAllBytes());
+        }
+    }
+
+    @Test
+    void testEmptyBody() throws Exception {
+        var rs = this.execute("gzip", new byte[0], 1024);
+
+        assertEquals(0, rs.body().asArrayStage().toCompletableFuture().join().length);
+    }
+
+    @Test
+    void testGzipCorruptedCrc() throws Exception {
+        var compressed = gzip(this.content);
+        compressed[compressed.length - 8] ^= 1;
+        var rs = this.execute("gzip", compressed, 7);
+
+        var e = assertThrows(CompletionException.class, () -> rs.body().asArrayStage().toCompletableFuture().join());
+        assertInstanceOf(DataFormatException.class, e.getCause());
+    }
+
+    @Test
+    void testGzipCorruptedSize() throws Exception {
+        var compressed = gzip(this.content);
+        compressed[compressed.length - 1] ^= 1;
+        var rs = this.execute("gzip", compressed, 1024);
+
+        var e = assertThrows(CompletionException.class, () -> rs.body().asArrayStage().toCompletableFuture().join());
+        assertInstanceOf(DataFormatException.class, e.getCause());
+    }
+
+    @Test
+    void testGzipTruncatedTrailer() throws Exception {
+        var compressed = gzip(this.content);
+        var rs = this.execute("gzip", Arrays.copyOf(compressed, compressed.length - 3), 7);
+
+        var e = assertThrows(CompletionException.class, () -> rs.body().asArrayStage().toCompletableFuture().join());
+        assertInstanceOf(DataFormatException.class, e.getCause());
+    }
+
+    @Test
+    void testNonPositiveRequestFailsSubscriber() throws Exception {
+        var rs = this.execute("gzip", gzip(this.content), 7);
+        var error = new CompletableFuture<Throwable>();
+        var items = new ArrayList<ByteBuffer>();
+
+        rs.body().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(0);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                items.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.complete(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                error.complete(null);
+            }
+        });
+
+        assertInstanceOf(IllegalArgumentException.class, error.join());
+        assertEquals(0, items.size());
+    }
+
+    @Test
+    void testResponseIsNotDecompressedWhenCallerNegotiatesEncoding() throws Exception {
+        var response = new HttpClientResponse.Default(200, HttpHeaders.of("content-encoding", "gzip"), null, () -> {});
+        var request = HttpClientRequest.get("http://localhost/test").header("accept-encoding", "gzip").build();
+
+        var rs = new DecompressionHttpClientInterceptor()
+            .processRequest(Context.clear(), (ctx, r) -> CompletableFuture.completedFuture(response), request)
+            .toCompletableFuture()
+            .join();
+
+        assertSame(response, rs);
+    }
+
+    @Test
+    void testAcceptEncodingAdded() throws Exception {
+        var interceptor = new DecompressionHttpClientInterceptor();
+        var request = HttpClientRequest.get("http://localhost/test").build();
+        var sent = new CompletableFuture<HttpClientRequest>();
+
+        interceptor.processRequest(Context.clear(), (ctx, r) -> {
+            sent.complete(r);
+            return CompletableFuture.completedFuture(new HttpClientResponse.Default(200, HttpHeaders.of(), null, () -> {}));
+        }, request).toCompletableFuture().join();
+
+        assertEquals("gzip, deflate", sent.join().headers().getFirst("accept-encoding"));
+        assertFalse(request.headers().has("accept-encoding"));
+    }
+
+    private HttpClientResponse execute(String encoding, byte[] compressed, int chunkSize) throws Exception {
+        var chunks = new ArrayList<ByteBuffer>();
+        for (int i = 0; i < compressed.length; i += chunkSize) {
+            chunks.add(ByteBuffer.wrap(compressed, i, Math.min(chunkSize, compressed.length - i)).slice());
+        }
+        var body = new StreamingHttpBodyInput("application/octet-stream", compressed.length, JdkFlowAdapter.publisherToFlowPublisher(Flux.fromIterable(chunks)));
+        var response = new HttpClientResponse.Default(200, HttpHeaders.of("content-encoding", encoding, "content-length", String.valueOf(compressed.length)), body, () -> {});
+
+        return new DecompressionHttpClientInterceptor()
+            .processRequest(Context.clear(), (ctx, r) -> CompletableFuture.completedFuture(response), HttpClientRequest.get("http://localhost/test").build())
+            .toCompletableFuture()
+            .join();
+    }
+
+    private static byte[] content() {
+        var random = new Random(42);
+        var sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append("{\"id\":").append(random.nextInt(100)).append(",\"name\":\"item").append(i).append("\"},");
+        }
+        return sb.toString().getBytes();
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        var baos = new ByteArrayOutputStream();
+        try (var os = new GZIPOutputStream(baos)) {
+            os.write(data);
+        }
+        return baos.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        var baos = new ByteArrayOutputStream();
+        try (var os = new DeflaterOutputStream(baos)) {
+            os.write(data);
+        }
+        return baos.toByteArray();
+    }
+}
@@ -1,5 +1,6 @@
 package ru.tinkoff.kora.http.client.common.telemetry;
 
+import jakarta.annotation.Nullable;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -127,4 +128,76 @@ class DefaultHttpClientTelemetryTest {
         }
         Mockito.verify(logger).logResponse(any(), eq(HttpResultCode.SUCCESS), anyString(), anyString(), anyString(), anyString(), anyLong(), any(), eq("test"), any());
     }
+
+    @Test
+    void testLoggingWithTruncatedStreamingBody() throws IOException {
+        var logger = Mockito.mock(HttpClientLogger.class);
+        Mockito.when(logger.logResponse()).thenReturn(true);
+        Mockito.when(logger.logResponseBody()).thenReturn(true);
+        var telemetry = new DefaultHttpClientTelemetry(null, null, logger, loggerConfig(2, 1.0));
+        var rq = Mockito.mock(HttpClientRequest.class);
+        Mockito.when(rq.uri()).thenReturn(URI.create("http://localhost:8080/"));
+        Mockito.when(rq.uriTemplate()).thenReturn("/");
+        Mockito.when(rq.method()).thenReturn("POST");
+
+        try (var rs = Mockito.mock(HttpClientResponse.class)) {
+            Mockito.when(rs.body()).thenReturn(new StreamingHttpBodyInput("text/plain", 4, FlowUtils.one(Context.clear(), ByteBuffer.wrap("test".getBytes(StandardCharsets.UTF_8)))));
+            Mockito.when(rs.code()).thenReturn(200);
+            var ctx = telemetry.get(Context.clear(), rq);
+
+            try (var wrappedRs = ctx.close(rs, null)) {
+                Assertions.assertThat(wrappedRs.body().asArrayStage().toCompletableFuture().join()).isEqualTo("test".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        Mockito.verify(logger).logResponse(any(), eq(HttpResultCode.SUCCESS), anyString(), anyString(), anyString(), anyString(), anyLong(), any(), eq("te...(truncated, 4 bytes total)"), any());
+    }
+
+    @Test
+    void testLoggingWithoutSampledBody() throws IOException {
+        var logger = Mockito.mock(HttpClientLogger.class);
+        Mockito.when(logger.logResponse()).thenReturn(true);
+        Mockito.when(logger.logResponseBody()).thenReturn(true);
+        var telemetry = new DefaultHttpClientTelemetry(null, null, logger, loggerConfig(1024, 0.0));
+        var rq = Mockito.mock(HttpClientRequest.class);
+        Mockito.when(rq.uri()).thenReturn(URI.create("http://localhost:8080/"));
+        Mockito.when(rq.uriTemplate()).thenReturn("/");
+        Mockito.when(rq.method()).thenReturn("POST");
+
+        try (var rs = Mockito.mock(HttpClientResponse.class)) {
+            Mockito.when(rs.body()).thenReturn(HttpBody.plaintext("test"));
+            Mockito.when(rs.code()).thenReturn(200);
+            var ctx = telemetry.get(Context.clear(), rq);
+
+            try (var wrappedRs = ctx.close(rs, null)) {
+                Assertions.assertThat(wrappedRs).isSameAs(rs);
+            }
+        }
+        Mockito.verify(logger).logResponse(any(), eq(HttpResultCode.SUCCESS), anyString(), anyString(), anyString(), anyString(), anyLong(), any(), isNull(), any());
+    }
+
+    private static HttpClientLoggerConfig loggerConfig(int maxBodySize, double bodySampleRate) {
+        return new HttpClientLoggerConfig() {
+            @Nullable
+            @Override
+            public Boolean enabled() {
+                return true;
+            }
+
+            @Nullable
+            @Override
+            public Boolean pathTemplate() {
+                return null;
+            }
+
+            @Override
+            public int maxBodySize() {
+                return maxBodySize;
+            }
+
+            @Override
+            public double bodySampleRate() {
+                return bodySampleRate;
+            }
+        };
+    }
 }
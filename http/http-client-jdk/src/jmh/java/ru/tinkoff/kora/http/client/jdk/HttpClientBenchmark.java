@@ -0,0 +1,132 @@
+package ru.tinkoff.kora.http.client.jdk;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.kora.application.graph.Lifecycle;
+import ru.tinkoff.kora.http.client.async.AsyncHttpClient;
+import ru.tinkoff.kora.http.client.async.AsyncHttpClientConfig;
+import ru.tinkoff.kora.http.client.async.AsyncHttpClientModule;
+import ru.tinkoff.kora.http.client.common.HttpClient;
+import ru.tinkoff.kora.http.client.common.HttpClientConfig;
+import ru.tinkoff.kora.http.client.common.request.HttpClientRequest;
+import ru.tinkoff.kora.http.client.ok.OkHttpClient;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput of http client implementations downloading response body of given size from local server
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5, iterations = 5)
+@Warmup(time = 5, iterations = 3)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Fork(1)
+public class HttpClientBenchmark {
+    @Param({"jdk", "ok", "async"})
+    public String client;
+
+    @Param({"1024", "1048576"})
+    public int bodySize;
+
+    private HttpServer server;
+    private Object lifecycle;
+    private HttpClient httpClient;
+    private HttpClientRequest request;
+
+    @Setup
+    public void setup() throws Exception {
+        var body = new byte[this.bodySize];
+        new Random(1337).nextBytes(body);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        this.server.setExecutor(Executors.newFixedThreadPool(8));
+        this.server.createContext("/body", exchange -> {
+            exchange.sendResponseHeaders(200, body.length);
+            try (var os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        this.server.start();
+
+        var config = new HttpClientConfig() {
+            @Override
+            public HttpClientProxyConfig proxy() {
+                return null;
+            }
+        };
+        this.httpClient = switch (this.client) {
+            case "jdk" -> {
+                var wrapper = new JdkHttpClientWrapper(new JdkHttpClientConfig() {}, config);
+                wrapper.init();
+                this.lifecycle = wrapper;
+                yield new JdkHttpClient(wrapper.value());
+            }
+            case "ok" -> new OkHttpClient(new okhttp3.OkHttpClient.Builder()
+                .connectTimeout(config.connectTimeout())
+                .readTimeout(config.readTimeout())
+                .build());
+            case "async" -> {
+                var module = new AsyncHttpClientModule() {};
+                var asyncClient = new AsyncHttpClient(module.nettyAsyncHttpClient(module.nettyClientConfig(null, new AsyncHttpClientConfig() {}, config)));
+                asyncClient.init();
+                this.lifecycle = asyncClient;
+                yield asyncClient;
+            }
+            default -> throw new IllegalArgumentException(this.client);
+        };
+        this.request = HttpClientRequest.get("http://localhost:" + this.server.getAddress().getPort() + "/body").build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (this.lifecycle instanceof Lifecycle l) {
+            l.release();
+        }
+        this.server.stop(0);
+    }
+
+    @Benchmark
+    public byte[] fullBody() throws Exception {
+        try (var rs = this.httpClient.execute(this.request).toCompletableFuture().get()) {
+            return rs.body().asArrayStage().toCompletableFuture().get();
+        }
+    }
+
+    @Benchmark
+    public long streamBody() throws Exception {
+        try (var rs = this.httpClient.execute(this.request).toCompletableFuture().get()) {
+            var result = new CompletableFuture<Long>();
+            rs.body().subscribe(new Flow.Subscriber<>() {
+                private long length = 0;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer item) {
+                    this.length += item.remaining();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    result.complete(this.length);
+                }
+            });
+            return result.get();
+        }
+    }
+}
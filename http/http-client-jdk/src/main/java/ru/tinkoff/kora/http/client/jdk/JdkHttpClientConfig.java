@@ -11,11 +11,40 @@ public interface JdkHttpClientConfig {
         return true;
     }
 
+    /**
+     * Executor used by JDK client for dependent tasks and response body delivery
+     */
+    default ExecutorMode executorMode() {
+        return ExecutorMode.FIXED;
+    }
+
+    /**
+     * Number of threads for {@link ExecutorMode#FIXED} executor
+     */
     default int threads() {
         return Runtime.getRuntime().availableProcessors() * 2;
     }
 
+    /**
+     * HTTP_2 is negotiated with ALPN over TLS and with h2c upgrade over plain text, client falls back to HTTP_1_1 if server doesn't support it.
+     * Streams to the same server are multiplexed over single connection.
+     */
     default HttpClient.Version httpVersion() {
         return HttpClient.Version.HTTP_1_1;
     }
+
+    enum ExecutorMode {
+        /**
+         * Executor with fixed number of platform threads
+         */
+        FIXED,
+        /**
+         * Executor creating virtual thread per task, requires virtual threads to be enabled
+         */
+        VIRTUAL,
+        /**
+         * JDK client default cached thread pool
+         */
+        DEFAULT
+    }
 }
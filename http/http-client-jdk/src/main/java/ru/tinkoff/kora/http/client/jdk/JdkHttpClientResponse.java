@@ -12,8 +12,6 @@ import java.net.http.HttpResponse;
 import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
@@ -64,7 +62,7 @@ public class JdkHttpClientResponse implements HttpClientResponse {
         private final java.net.http.HttpHeaders headers;
         private volatile HttpResponseInputStream is;
         private volatile long contentLength = -2;
-        private volatile String contentType;
+        private volatile String contentType = EMPTY;
 
         public BodyPublisher(HttpResponse<Flow.Publisher<List<ByteBuffer>>> response) {
             this.publisher = response.body();
@@ -94,7 +92,7 @@ public class JdkHttpClientResponse implements HttpClientResponse {
         public String contentType() {
             var contentType = this.contentType;
             if (Objects.equals(contentType, EMPTY)) {
-                this.contentType = contentType = headers.firstValue("content-length").orElse(null);
+                this.contentType = contentType = headers.firstValue("content-type").orElse(null);
             }
             return contentType;
         }
@@ -122,7 +120,11 @@ public class JdkHttpClientResponse implements HttpClientResponse {
         }
     }
 
-    private static class ListSubscriber implements Flow.Subscriber<List<ByteBuffer>> {
+    /**
+     * Flattens JDK response body chunks without copying: buffers of each list are handed to subscriber as is
+     * and next list is requested from JDK only when current one is fully emitted.
+     */
+    private static final class ListSubscriber implements Flow.Subscriber<List<ByteBuffer>>, Flow.Subscription {
         private static final AtomicLongFieldUpdater<ListSubscriber> DEMAND = AtomicLongFieldUpdater.newUpdater(ListSubscriber.class, "demand");
         private volatile long demand = 0;
 
@@ -130,110 +132,132 @@ public class JdkHttpClientResponse implements HttpClientResponse {
         private volatile int wip = 0;
 
         private final Flow.Subscriber<? super ByteBuffer> subscriber;
-        private final BlockingQueue<ByteBuffer> buffer;
         private volatile Flow.Subscription subscription;
-        private volatile boolean completed = false;
+        private volatile List<ByteBuffer> next;
+        private volatile boolean done = false;
+        private volatile boolean cancelled = false;
+        private volatile Throwable error;
+        private volatile Throwable requestError;
+
+        // accessed only from drain loop
+        private List<ByteBuffer> current;
+        private int index;
+        private boolean requested;
 
         public ListSubscriber(Flow.Subscriber<? super ByteBuffer> subscriber) {
             this.subscriber = subscriber;
-            buffer = new ArrayBlockingQueue<>(16);
         }
 
         @Override
         public void onSubscribe(Flow.Subscription subscription) {
-            var s = new Flow.Subscription() {
-                @Override
-                public void request(long n) {
-                    synchronized (subscriber) {
-                        DEMAND.getAndAdd(ListSubscriber.this, n);
-                        if (WIP.compareAndSet(ListSubscriber.this, 0, 1)) {
-                            ListSubscriber.this.drain();
-                        }
-                    }
-                }
-
-                @Override
-                public void cancel() {
-                    subscription.cancel();
-                }
-            };
             this.subscription = subscription;
-            this.subscriber.onSubscribe(s);
+            this.subscriber.onSubscribe(this);
         }
 
         @Override
-        public void onNext(List<ByteBuffer> item) {
-            if (WIP.compareAndSet(this, 0, 1)) {
-                for (var byteBuffer : item) {
-                    if (this.buffer.isEmpty()) {
-                        // short path
-                        var oldDemand = DEMAND.getAndDecrement(this);
-                        if (oldDemand > 0) {
-                            this.subscriber.onNext(byteBuffer);
-                        } else {
-                            DEMAND.incrementAndGet(this);
-                            var bb = ByteBuffer.allocate(byteBuffer.remaining());
-                            bb.put(byteBuffer);
-                            bb.rewind();
-                            this.buffer.add(bb);
-                        }
-                    } else {
-                        var bb = ByteBuffer.allocate(byteBuffer.remaining());
-                        bb.put(byteBuffer);
-                        bb.rewind();
-                        this.buffer.add(bb);
-                    }
-                }
+        public void request(long n) {
+            if (n <= 0) {
+                // rule 3.9: error is signalled to subscriber, upstream is cancelled
+                this.requestError = new IllegalArgumentException("Requested demand must be positive, got " + n);
+                this.subscription.cancel();
                 this.drain();
-            } else {
-                for (var byteBuffer : item) {
-                    var bb = ByteBuffer.allocate(byteBuffer.remaining());
-                    bb.put(byteBuffer);
-                    bb.rewind();
-                    this.buffer.add(bb);
-                }
-                if (WIP.compareAndSet(this, 0, 1)) {
-                    this.drain();
-                }
+                return;
             }
+            DEMAND.getAndUpdate(this, d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.subscription.cancel();
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            this.next = item;
+            this.drain();
         }
 
         @Override
         public void onError(Throwable throwable) {
-            subscriber.onError(throwable);
+            this.error = throwable;
+            this.done = true;
+            this.drain();
         }
 
         @Override
         public void onComplete() {
-            completed = true;
-            if (WIP.compareAndSet(this, 0, 1)) {
-                this.drain();
-            }
+            this.done = true;
+            this.drain();
         }
 
         private void drain() {
+            if (WIP.getAndIncrement(this) != 0) {
+                return;
+            }
+            var missed = 1;
             while (true) {
-                var item = buffer.peek();
-                if (item == null) {
-                    if (completed) {
-                        this.subscriber.onComplete();
-                    } else {
-                        this.subscription.request(1);
-                        item = buffer.peek();
-                    }
+                var requestError = this.requestError;
+                if (requestError != null) {
+                    this.current = null;
+                    this.next = null;
+                    this.subscriber.onError(requestError);
+                    return;
                 }
-                if (item == null) {
-                    WIP.set(this, 0);
+                if (this.cancelled) {
+                    this.current = null;
+                    this.next = null;
                     return;
                 }
-                var oldDemand = DEMAND.getAndDecrement(this);
-                if (oldDemand <= 0) {
-                    DEMAND.incrementAndGet(this);
-                    WIP.set(this, 0);
+                var demand = this.demand;
+                var emitted = 0L;
+                while (emitted < demand) {
+                    if (this.current == null) {
+                        var next = this.next;
+                        if (next == null) {
+                            break;
+                        }
+                        this.next = null;
+                        this.requested = false;
+                        this.current = next;
+                        this.index = 0;
+                    }
+                    if (this.index >= this.current.size()) {
+                        this.current = null;
+                        continue;
+                    }
+                    var buffer = this.current.get(this.index++);
+                    if (buffer.hasRemaining()) {
+                        this.subscriber.onNext(buffer);
+                        emitted++;
+                    }
+                }
+                if (this.current != null && this.index >= this.current.size()) {
+                    this.current = null;
+                }
+                if (emitted > 0) {
+                    demand = DEMAND.addAndGet(this, -emitted);
+                }
+                if (this.current == null) {
+                    if (this.done && this.next == null) {
+                        var error = this.error;
+                        if (error != null) {
+                            this.subscriber.onError(error);
+                        } else {
+                            this.subscriber.onComplete();
+                        }
+                        return;
+                    }
+                    if (!this.requested && this.next == null && demand > 0) {
+                        this.requested = true;
+                        this.subscription.request(1);
+                    }
+                }
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0) {
                     return;
                 }
-                buffer.remove();
-                subscriber.onNext(item);
             }
         }
     }
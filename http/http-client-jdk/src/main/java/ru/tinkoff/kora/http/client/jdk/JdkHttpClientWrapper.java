@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.tinkoff.kora.application.graph.Lifecycle;
 import ru.tinkoff.kora.application.graph.Wrapped;
+import ru.tinkoff.kora.application.graph.internal.loom.VirtualThreadExecutorHolder;
 import ru.tinkoff.kora.common.util.TimeUtils;
 import ru.tinkoff.kora.http.client.common.HttpClientConfig;
 
@@ -33,11 +34,8 @@ public class JdkHttpClientWrapper implements Lifecycle, Wrapped<HttpClient> {
         logger.debug("JdkHttpClient starting...");
         var started = System.nanoTime();
 
-        var executorThreads = this.config.threads();
-        this.executor = Executors.newFixedThreadPool(executorThreads);
         var builder = HttpClient.newBuilder()
             .version(this.config.httpVersion())
-            .executor(this.executor)
             .connectTimeout(this.baseConfig.connectTimeout())
             .followRedirects(this.config.followRedirects() ? HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER);
         var proxyConfig = this.baseConfig.proxy();
@@ -58,6 +56,19 @@ public class JdkHttpClientWrapper implements Lifecycle, Wrapped<HttpClient> {
                 });
             }
         }
+        switch (this.config.executorMode()) {
+            case FIXED -> {
+                this.executor = Executors.newFixedThreadPool(this.config.threads());
+                builder.executor(this.executor);
+            }
+            case VIRTUAL -> {
+                if (VirtualThreadExecutorHolder.status() != VirtualThreadExecutorHolder.VirtualThreadStatus.ENABLED) {
+                    throw new IllegalStateException("JdkHttpClient executor mode is VIRTUAL, but virtual threads are " + VirtualThreadExecutorHolder.status());
+                }
+                builder.executor(VirtualThreadExecutorHolder.executor());
+            }
+            case DEFAULT -> {}
+        }
         this.client = builder.build();
         logger.info("JdkHttpClient started in {}", TimeUtils.tookForLogging(started));
     }
@@ -70,7 +81,9 @@ public class JdkHttpClientWrapper implements Lifecycle, Wrapped<HttpClient> {
         this.client = null;
         var e = this.executor;
         this.executor = null;
-        e.shutdown();
+        if (e != null) {
+            e.shutdown();
+        }
 
         logger.info("JdkHttpClient stopped in {}", TimeUtils.tookForLogging(started));
     }
@@ -0,0 +1,150 @@
+package ru.tinkoff.kora.http.client.jdk;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JdkHttpClientResponseTest {
+
+    @Test
+    void buffersAreEmittedAccordingToDemand() {
+        var upstream = new TestPublisher();
+        var downstream = new TestSubscriber();
+        response(upstream).body().subscribe(downstream);
+
+        downstream.subscription.request(2);
+        assertThat(upstream.requested).isEqualTo(1);
+        upstream.subscriber.onNext(List.of(buffer("a"), buffer("b"), buffer("c")));
+        assertThat(downstream.items).containsExactly("a", "b");
+
+        downstream.subscription.request(1);
+        assertThat(downstream.items).containsExactly("a", "b", "c");
+        // next list is requested only when there is demand for it
+        assertThat(upstream.requested).isEqualTo(1);
+
+        downstream.subscription.request(1);
+        assertThat(upstream.requested).isEqualTo(2);
+        upstream.subscriber.onNext(List.of(buffer("d")));
+        assertThat(downstream.items).containsExactly("a", "b", "c", "d");
+        assertThat(downstream.completed).isFalse();
+    }
+
+    @Test
+    void nonPositiveDemandIsSignalledAsError() {
+        var upstream = new TestPublisher();
+        var downstream = new TestSubscriber();
+        response(upstream).body().subscribe(downstream);
+
+        downstream.subscription.request(0);
+
+        assertThat(downstream.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(upstream.cancelled).isTrue();
+        assertThat(downstream.completed).isFalse();
+    }
+
+    @Test
+    void completionIsSignalledAfterLastBuffer() {
+        var upstream = new TestPublisher();
+        var downstream = new TestSubscriber();
+        response(upstream).body().subscribe(downstream);
+
+        downstream.subscription.request(1);
+        upstream.subscriber.onNext(List.of(buffer("a"), ByteBuffer.allocate(0), buffer("b")));
+        upstream.subscriber.onComplete();
+        assertThat(downstream.items).containsExactly("a");
+        assertThat(downstream.completed).isFalse();
+
+        downstream.subscription.request(1);
+        assertThat(downstream.items).containsExactly("a", "b");
+        assertThat(downstream.completed).isTrue();
+        assertThat(downstream.error).isNull();
+    }
+
+    @Test
+    void upstreamErrorIsSignalledAfterEmittedBuffers() {
+        var upstream = new TestPublisher();
+        var downstream = new TestSubscriber();
+        response(upstream).body().subscribe(downstream);
+
+        downstream.subscription.request(Long.MAX_VALUE);
+        upstream.subscriber.onNext(List.of(buffer("a")));
+        var error = new RuntimeException("test");
+        upstream.subscriber.onError(error);
+
+        assertThat(downstream.items).containsExactly("a");
+        assertThat(downstream.error).isSameAs(error);
+        assertThat(downstream.completed).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JdkHttpClientResponse response(TestPublisher publisher) {
+        HttpResponse<Flow.Publisher<List<ByteBuffer>>> response = mock(HttpResponse.class);
+        when(response.body()).thenReturn(publisher);
+        when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+        return new JdkHttpClientResponse(response);
+    }
+
+    private static ByteBuffer buffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class TestPublisher implements Flow.Publisher<List<ByteBuffer>>, Flow.Subscription {
+        private Flow.Subscriber<? super List<ByteBuffer>> subscriber;
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super List<ByteBuffer>> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            this.requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<ByteBuffer> {
+        private final List<String> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            this.items.add(StandardCharsets.UTF_8.decode(item).toString());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -16,13 +16,22 @@ import java.util.concurrent.CompletionStage;
 
 public final class OkHttpClient implements HttpClient {
     private final okhttp3.OkHttpClient client;
+    @Nullable
+    private final OkHttpConnectionLimiter limiter;
 
     public OkHttpClient(okhttp3.OkHttpClient client) {
+        this(client, null);
+    }
+
+    public OkHttpClient(okhttp3.OkHttpClient client, @Nullable OkHttpConnectionLimiter limiter) {
         this.client = client;
+        // permits are released by limiter's event listener, so limiter can't be used with client built without it
+        this.limiter = limiter != null && client.eventListenerFactory() == limiter ? limiter : null;
     }
 
     @Override
     public CompletionStage<HttpClientResponse> execute(HttpClientRequest request) {
+        OkHttpConnectionLimiter.Permit permit = null;
         try {
             var b = new Request.Builder();
             b.method(request.method(), toRequestBody(request))
@@ -32,6 +41,10 @@ public final class OkHttpClient implements HttpClient {
                     b.addHeader(header.getKey(), headerValue);
                 }
             }
+            if (this.limiter != null) {
+                permit = this.limiter.acquire(request.uri().getHost());
+                b.tag(OkHttpConnectionLimiter.Permit.class, permit);
+            }
             var okHttpRequest = b.build();
             var okHttpClient = this.client;
             if (request.requestTimeout() != null) {
@@ -41,18 +54,27 @@ public final class OkHttpClient implements HttpClient {
             var rs = call.execute();
             return CompletableFuture.completedFuture(new OkHttpResponse(rs));
         } catch (java.io.InterruptedIOException t) {
+            releasePermit(permit);
             if ("timeout".equals(t.getMessage())) {
                 return CompletableFuture.failedFuture(new HttpClientTimeoutException(t));
             } else {
                 return CompletableFuture.failedFuture(new HttpClientConnectionException(t));
             }
         } catch (IOException t) {
+            releasePermit(permit);
             return CompletableFuture.failedFuture(new HttpClientConnectionException(t));
         } catch (Throwable t) {
+            releasePermit(permit);
             return CompletableFuture.failedFuture(t);
         }
     }
 
+    private static void releasePermit(@Nullable OkHttpConnectionLimiter.Permit permit) {
+        if (permit != null) {
+            permit.release();
+        }
+    }
+
     @Nullable
     private RequestBody toRequestBody(HttpClientRequest request) throws IOException {
         var body = request.body();
@@ -1,7 +1,10 @@
 package ru.tinkoff.kora.http.client.ok;
 
+import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
 
+import java.time.Duration;
+
 @ConfigValueExtractor
 public interface OkHttpClientConfig {
 
@@ -13,6 +16,32 @@ public interface OkHttpClientConfig {
         return HttpVersion.HTTP_1_1;
     }
 
+    /**
+     * Max number of idle connections kept in pool for all hosts
+     */
+    default int maxIdleConnections() {
+        return 5;
+    }
+
+    /**
+     * Time idle connection is kept in pool
+     */
+    default Duration keepAliveDuration() {
+        return Duration.ofMinutes(5);
+    }
+
+    /**
+     * Max number of concurrent requests to single host, requests over limit wait for connect timeout till one of them completes, unlimited if not set
+     */
+    @Nullable
+    Integer maxConnectionsPerHost();
+
+    /**
+     * Max number of requests to single host waiting when {@link #maxConnectionsPerHost()} is reached, requests over limit fail immediately, unlimited if not set
+     */
+    @Nullable
+    Integer maxPendingAcquires();
+
     enum HttpVersion {
         HTTP_1_1,
         HTTP_2,
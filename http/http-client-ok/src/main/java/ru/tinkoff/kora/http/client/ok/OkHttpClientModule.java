@@ -1,24 +1,30 @@
 package ru.tinkoff.kora.http.client.ok;
 
+import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.application.graph.All;
 import ru.tinkoff.kora.common.DefaultComponent;
 import ru.tinkoff.kora.config.common.Config;
 import ru.tinkoff.kora.config.common.extractor.ConfigValueExtractor;
 import ru.tinkoff.kora.http.client.common.HttpClientConfig;
 import ru.tinkoff.kora.http.client.common.HttpClientModule;
+import ru.tinkoff.kora.http.client.common.telemetry.HttpClientPoolMetrics;
 
 public interface OkHttpClientModule extends HttpClientModule {
 
-    default OkHttpClient okHttpClient(okhttp3.OkHttpClient client) {
-        return new OkHttpClient(client);
+    default OkHttpClient okHttpClient(okhttp3.OkHttpClient client, OkHttpConnectionLimiter limiter) {
+        return new OkHttpClient(client, limiter);
     }
 
     default OkHttpClientConfig okHttpClientConfig(Config config, ConfigValueExtractor<OkHttpClientConfig> extractor) {
         return extractor.extract(config.get("httpClient.ok"));
     }
 
+    default OkHttpConnectionLimiter okHttpConnectionLimiter(OkHttpClientConfig config, HttpClientConfig baseConfig, @Nullable HttpClientPoolMetrics metrics) {
+        return new OkHttpConnectionLimiter(config.maxConnectionsPerHost(), config.maxPendingAcquires(), baseConfig.connectTimeout(), metrics);
+    }
+
     @DefaultComponent
-    default OkHttpClientWrapper okHttpClientWrapper(OkHttpClientConfig config, HttpClientConfig baseConfig, All<OkHttpConfigurer> configurers) {
-        return new OkHttpClientWrapper(config, baseConfig, configurers);
+    default OkHttpClientWrapper okHttpClientWrapper(OkHttpClientConfig config, HttpClientConfig baseConfig, All<OkHttpConfigurer> configurers, OkHttpConnectionLimiter limiter) {
+        return new OkHttpClientWrapper(config, baseConfig, configurers, limiter);
     }
 }
@@ -1,5 +1,7 @@
 package ru.tinkoff.kora.http.client.ok;
 
+import jakarta.annotation.Nullable;
+import okhttp3.ConnectionPool;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import org.slf4j.Logger;
@@ -11,6 +13,7 @@ import ru.tinkoff.kora.common.util.TimeUtils;
 import ru.tinkoff.kora.http.client.common.HttpClientConfig;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public final class OkHttpClientWrapper implements Lifecycle, Wrapped<OkHttpClient> {
 
@@ -19,12 +22,19 @@ public final class OkHttpClientWrapper implements Lifecycle, Wrapped<OkHttpClien
     private final OkHttpClientConfig config;
     private final HttpClientConfig baseConfig;
     private final All<OkHttpConfigurer> configurers;
+    @Nullable
+    private final OkHttpConnectionLimiter limiter;
     private volatile OkHttpClient client;
 
     public OkHttpClientWrapper(OkHttpClientConfig config, HttpClientConfig baseConfig, All<OkHttpConfigurer> configurers) {
+        this(config, baseConfig, configurers, null);
+    }
+
+    public OkHttpClientWrapper(OkHttpClientConfig config, HttpClientConfig baseConfig, All<OkHttpConfigurer> configurers, @Nullable OkHttpConnectionLimiter limiter) {
         this.config = config;
         this.baseConfig = baseConfig;
         this.configurers = configurers;
+        this.limiter = limiter;
     }
 
     @Override
@@ -35,7 +45,11 @@ public final class OkHttpClientWrapper implements Lifecycle, Wrapped<OkHttpClien
         var builder = new OkHttpClient.Builder()
             .connectTimeout(this.baseConfig.connectTimeout())
             .readTimeout(this.baseConfig.readTimeout())
-            .followRedirects(this.config.followRedirects());
+            .followRedirects(this.config.followRedirects())
+            .connectionPool(new ConnectionPool(this.config.maxIdleConnections(), this.config.keepAliveDuration().toMillis(), TimeUnit.MILLISECONDS));
+        if (this.limiter != null) {
+            builder.eventListenerFactory(this.limiter);
+        }
 
         var protocols = getProtocols(this.config.httpVersion());
         builder.protocols(protocols);
@@ -56,6 +70,9 @@ public final class OkHttpClientWrapper implements Lifecycle, Wrapped<OkHttpClien
             builder = configurer.configure(builder);
         }
         this.client = builder.build();
+        if (this.limiter != null) {
+            this.limiter.register(this.client);
+        }
 
         logger.info("OkHttpClient started in {}", TimeUtils.tookForLogging(started));
     }
@@ -0,0 +1,198 @@
+package ru.tinkoff.kora.http.client.ok;
+
+import jakarta.annotation.Nullable;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.EventListener;
+import ru.tinkoff.kora.http.client.common.HttpClientConnectionException;
+import ru.tinkoff.kora.http.client.common.telemetry.HttpClientPoolMetrics;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits concurrent requests per host and records connection acquire time.
+ * OkHttp limits requests per host only for asynchronous calls in its dispatcher, so synchronous calls are limited with semaphore here.
+ * Limiter should be installed as {@link okhttp3.OkHttpClient.Builder#eventListenerFactory(EventListener.Factory)} to release permits when call is finished.
+ */
+public final class OkHttpConnectionLimiter implements EventListener.Factory {
+    private static final String POOL_NAME = "okhttp";
+
+    @Nullable
+    private final Integer maxConnectionsPerHost;
+    @Nullable
+    private final Integer maxPendingAcquires;
+    private final Duration acquireTimeout;
+    @Nullable
+    private final HttpClientPoolMetrics metrics;
+    private final ConcurrentHashMap<String, HostState> hosts = new ConcurrentHashMap<>();
+
+    public OkHttpConnectionLimiter(@Nullable Integer maxConnectionsPerHost, @Nullable Integer maxPendingAcquires, Duration acquireTimeout, @Nullable HttpClientPoolMetrics metrics) {
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.maxPendingAcquires = maxPendingAcquires;
+        this.acquireTimeout = acquireTimeout;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Waits for free slot to host, should be called in thread executing request
+     */
+    public Permit acquire(String host) throws HttpClientConnectionException {
+        var started = System.nanoTime();
+        var state = this.hosts.computeIfAbsent(host, HostState::new);
+        if (state.semaphore != null && !state.semaphore.tryAcquire()) {
+            var pending = state.pending.incrementAndGet();
+            try {
+                if (this.maxPendingAcquires != null && pending > this.maxPendingAcquires) {
+                    throw this.acquireFailed(state, started, new IOException("Too many requests waiting for connection to " + host + ": " + pending));
+                }
+                if (!state.semaphore.tryAcquire(this.acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw this.acquireFailed(state, started, new IOException("Connection to " + host + " was not acquired in " + this.acquireTimeout));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw this.acquireFailed(state, started, e);
+            } finally {
+                state.pending.decrementAndGet();
+            }
+        }
+        state.active.incrementAndGet();
+        return new Permit(state, started);
+    }
+
+    private HttpClientConnectionException acquireFailed(HostState state, long started, Exception error) {
+        var metrics = this.metrics;
+        if (metrics != null) {
+            metrics.recordAcquire(POOL_NAME, state.host, System.nanoTime() - started, error);
+        }
+        return new HttpClientConnectionException(error);
+    }
+
+    /**
+     * Registers pool gauges of built client
+     */
+    public void register(okhttp3.OkHttpClient client) {
+        var metrics = this.metrics;
+        if (metrics != null) {
+            metrics.registerPool(POOL_NAME, new State(client.connectionPool()));
+        }
+    }
+
+    @Override
+    public EventListener create(Call call) {
+        var permit = call.request().tag(Permit.class);
+        if (permit == null) {
+            return EventListener.NONE;
+        }
+        return new PermitListener(permit);
+    }
+
+    public final class Permit extends AtomicBoolean {
+        private final HostState state;
+        private final long started;
+        private volatile boolean acquireRecorded = false;
+
+        private Permit(HostState state, long started) {
+            this.state = state;
+            this.started = started;
+        }
+
+        private void acquired() {
+            if (this.acquireRecorded) {
+                return;
+            }
+            this.acquireRecorded = true;
+            var metrics = OkHttpConnectionLimiter.this.metrics;
+            if (metrics != null) {
+                metrics.recordAcquire(POOL_NAME, this.state.host, System.nanoTime() - this.started, null);
+            }
+        }
+
+        /**
+         * Releases slot to host, can be called multiple times
+         */
+        public void release() {
+            if (this.compareAndSet(false, true)) {
+                this.state.active.decrementAndGet();
+                if (this.state.semaphore != null) {
+                    this.state.semaphore.release();
+                }
+            }
+        }
+    }
+
+    private static final class PermitListener extends EventListener {
+        private final Permit permit;
+
+        private PermitListener(Permit permit) {
+            this.permit = permit;
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            this.permit.acquired();
+        }
+
+        @Override
+        public void callEnd(Call call) {
+            this.permit.release();
+        }
+
+        @Override
+        public void callFailed(Call call, IOException ioe) {
+            this.permit.release();
+        }
+    }
+
+    private final class HostState {
+        private final String host;
+        @Nullable
+        private final Semaphore semaphore;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private HostState(String host) {
+            this.host = host;
+            this.semaphore = maxConnectionsPerHost == null ? null : new Semaphore(maxConnectionsPerHost);
+        }
+    }
+
+    private final class State implements HttpClientPoolMetrics.PoolState {
+        private final ConnectionPool pool;
+
+        private State(ConnectionPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public int activeConnections() {
+            return Math.max(0, this.pool.connectionCount() - this.pool.idleConnectionCount());
+        }
+
+        @Override
+        public int idleConnections() {
+            return this.pool.idleConnectionCount();
+        }
+
+        @Override
+        public int pendingAcquires() {
+            var result = 0;
+            for (var state : hosts.values()) {
+                result += state.pending.get();
+            }
+            return result;
+        }
+
+        @Override
+        public int activeConnections(String host) {
+            var state = hosts.get(host);
+            return state == null ? 0 : state.active.get();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package ru.tinkoff.kora.http.client.ok;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import ru.tinkoff.kora.http.client.common.HttpClientConnectionException;
+import ru.tinkoff.kora.http.client.common.telemetry.HttpClientPoolMetrics;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+class OkHttpConnectionLimiterTest {
+    @Test
+    void testPendingLimitFailsFast() throws Exception {
+        var metrics = Mockito.mock(HttpClientPoolMetrics.class);
+        var limiter = new OkHttpConnectionLimiter(1, 0, Duration.ofSeconds(10), metrics);
+
+        var permit = limiter.acquire("localhost");
+        var started = System.nanoTime();
+        assertThatThrownBy(() -> limiter.acquire("localhost"))
+            .isInstanceOf(HttpClientConnectionException.class);
+        assertThat(System.nanoTime() - started).isLessThan(Duration.ofSeconds(1).toNanos());
+        Mockito.verify(metrics).recordAcquire(eq("okhttp"), eq("localhost"), anyLong(), any(Throwable.class));
+
+        // other hosts are limited separately
+        limiter.acquire("example.com").release();
+
+        permit.release();
+        permit.release();
+        limiter.acquire("localhost").release();
+    }
+
+    @Test
+    void testAcquireTimeout() throws Exception {
+        var limiter = new OkHttpConnectionLimiter(1, null, Duration.ofMillis(50), null);
+
+        limiter.acquire("localhost");
+        assertThatThrownBy(() -> limiter.acquire("localhost"))
+            .isInstanceOf(HttpClientConnectionException.class);
+    }
+}
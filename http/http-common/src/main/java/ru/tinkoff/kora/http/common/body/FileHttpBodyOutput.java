@@ -0,0 +1,238 @@
+package ru.tinkoff.kora.http.common.body;
+
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.time.Instant;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <b>Русский</b>: Тело HTTP ответа из региона файла, HTTP сервер может отправить его без копирования через sendfile
+ * или через отображение файла в память и поддерживает для него запросы с заголовком Range
+ * <hr>
+ * <b>English</b>: HTTP response body backed by file region, HTTP server may send it without copying with sendfile
+ * or with memory mapped file and supports Range requests for it
+ * <br>
+ * <br>
+ * Пример / Example:
+ * <pre>
+ * {@code
+ * HttpBodyOutput.file("application/pdf", Path.of("report.pdf"))
+ * }
+ * </pre>
+ */
+public final class FileHttpBodyOutput extends AtomicBoolean implements HttpBodyOutput {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @Nullable
+    private final String contentType;
+    private final FileChannel channel;
+    private final long position;
+    private final long count;
+    @Nullable
+    private final Instant lastModified;
+    private final boolean mapped;
+
+    public FileHttpBodyOutput(@Nullable String contentType, FileChannel channel, long position, long count, @Nullable Instant lastModified, boolean mapped) {
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException("Invalid file region: position=" + position + ", count=" + count);
+        }
+        this.contentType = contentType;
+        this.channel = channel;
+        this.position = position;
+        this.count = count;
+        this.lastModified = lastModified;
+        this.mapped = mapped;
+    }
+
+    public FileChannel channel() {
+        return this.channel;
+    }
+
+    /**
+     * @return <b>Русский</b>: Позиция начала тела в файле
+     * <hr>
+     * <b>English</b>: Position of body start in file
+     */
+    public long position() {
+        return this.position;
+    }
+
+    @Override
+    public long contentLength() {
+        return this.count;
+    }
+
+    @Nullable
+    @Override
+    public String contentType() {
+        return this.contentType;
+    }
+
+    /**
+     * @return <b>Русский</b>: Время изменения файла, используется для проверки заголовка If-Range
+     * <hr>
+     * <b>English</b>: File modification time, used for If-Range header validation
+     */
+    @Nullable
+    public Instant lastModified() {
+        return this.lastModified;
+    }
+
+    /**
+     * @return <b>Русский</b>: Отправлять ли файл через отображение в память вместо sendfile
+     * <hr>
+     * <b>English</b>: Whether file should be sent with memory mapping instead of sendfile
+     */
+    public boolean mapped() {
+        return this.mapped;
+    }
+
+    /**
+     * <b>Русский</b>: Помечает тело как потребленное, после этого за закрытие канала отвечает вызывающий
+     * <hr>
+     * <b>English</b>: Marks body as consumed, caller becomes responsible for closing channel
+     *
+     * @return <i>false</i> if body was already consumed
+     */
+    public boolean acquire() {
+        return this.compareAndSet(false, true);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        if (this.acquire()) {
+            subscriber.onSubscribe(new FileSubscription(subscriber));
+        } else {
+            throw new IllegalStateException("Body was already subscribed");
+        }
+    }
+
+    @Override
+    public void write(OutputStream os) throws IOException {
+        if (!this.acquire()) {
+            throw new IllegalStateException("Body was already subscribed");
+        }
+        try (var channel = this.channel) {
+            var target = Channels.newChannel(os);
+            var position = this.position;
+            var end = this.position + this.count;
+            while (position < end) {
+                var transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0 && position >= channel.size()) {
+                    throw new IOException("File was truncated while being sent");
+                }
+                position += transferred;
+            }
+            os.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.set(true);
+        this.channel.close();
+    }
+
+    private final class FileSubscription extends AtomicLong implements Flow.Subscription {
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private long offset = position;
+        private volatile boolean done;
+
+        private FileSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.finish(new IllegalArgumentException("Requested " + n + " items, positive number expected"));
+                return;
+            }
+            long current;
+            long updated;
+            do {
+                current = this.get();
+                updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!this.compareAndSet(current, updated));
+            if (current != 0) {
+                // drain loop is already running in other thread or up the stack
+                return;
+            }
+            this.drain(updated);
+        }
+
+        private void drain(long requested) {
+            var end = position + count;
+            while (true) {
+                var emitted = 0L;
+                while (emitted < requested) {
+                    if (this.done) {
+                        return;
+                    }
+                    if (this.offset >= end) {
+                        this.finish(null);
+                        return;
+                    }
+                    var buffer = ByteBuffer.allocate((int) Math.min(CHUNK_SIZE, end - this.offset));
+                    try {
+                        while (buffer.hasRemaining()) {
+                            if (channel.read(buffer, this.offset + buffer.position()) < 0) {
+                                throw new IOException("File was truncated while being sent");
+                            }
+                        }
+                    } catch (IOException e) {
+                        this.finish(e);
+                        return;
+                    }
+                    this.offset += buffer.flip().remaining();
+                    this.subscriber.onNext(buffer);
+                    emitted++;
+                }
+                if (requested == Long.MAX_VALUE) {
+                    continue;
+                }
+                requested = this.addAndGet(-emitted);
+                if (requested == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void finish(@Nullable Throwable error) {
+            if (this.done) {
+                return;
+            }
+            this.done = true;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                if (error != null) {
+                    error.addSuppressed(e);
+                }
+            }
+            if (error == null) {
+                this.subscriber.onComplete();
+            } else {
+                this.subscriber.onError(error);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!this.done) {
+                this.done = true;
+                try {
+                    channel.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }
+    }
+}
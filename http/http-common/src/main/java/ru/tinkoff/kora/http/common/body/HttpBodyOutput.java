@@ -8,6 +8,10 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.http.HttpRequest;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Flow;
@@ -55,6 +59,39 @@ public interface HttpBodyOutput extends HttpBody, Flow.Publisher<ByteBuffer> {
         return new StreamingHttpBodyOutput("application/octet-stream", length, content);
     }
 
+    /**
+     * <b>Русский</b>: Тело из файла, которое HTTP сервер отправляет через sendfile без копирования в память приложения
+     * <hr>
+     * <b>English</b>: Body from file that HTTP server sends with sendfile without copying through application memory
+     */
+    static FileHttpBodyOutput file(@Nullable String contentType, Path path) throws IOException {
+        return file(contentType, path, false);
+    }
+
+    static FileHttpBodyOutput file(@Nullable String contentType, FileChannel channel, long position, long count) {
+        return new FileHttpBodyOutput(contentType, channel, position, count, null, false);
+    }
+
+    /**
+     * <b>Русский</b>: Тело из файла, которое HTTP сервер отправляет через отображение файла в память
+     * <hr>
+     * <b>English</b>: Body from file that HTTP server sends through memory mapped file
+     */
+    static FileHttpBodyOutput mapped(@Nullable String contentType, Path path) throws IOException {
+        return file(contentType, path, true);
+    }
+
+    private static FileHttpBodyOutput file(@Nullable String contentType, Path path, boolean mapped) throws IOException {
+        var channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            var lastModified = Files.getLastModifiedTime(path).toInstant();
+            return new FileHttpBodyOutput(contentType, channel, 0, channel.size(), lastModified, mapped);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
     long contentLength();
 
     @Nullable
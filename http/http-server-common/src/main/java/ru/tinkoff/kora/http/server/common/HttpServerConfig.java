@@ -1,9 +1,12 @@
 package ru.tinkoff.kora.http.server.common;
 
+import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
 import ru.tinkoff.kora.http.server.common.telemetry.HttpServerTelemetryConfig;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.zip.Deflater;
 
 @ConfigValueExtractor
 public interface HttpServerConfig {
@@ -45,4 +48,74 @@ public interface HttpServerConfig {
     }
 
     HttpServerTelemetryConfig telemetry();
+
+    CompressionConfig compression();
+
+    Http2Config http2();
+
+    /**
+     * Public API response compression negotiated with Accept-Encoding and request body decompression by Content-Encoding
+     */
+    @ConfigValueExtractor
+    interface CompressionConfig {
+        default boolean enabled() {
+            return false;
+        }
+
+        /**
+         * Responses with smaller Content-Length are sent as is, responses with unknown length are always compressed
+         */
+        default int minSize() {
+            return 1024;
+        }
+
+        default List<String> mimeTypes() {
+            return List.of(
+                "application/json",
+                "application/xml",
+                "application/javascript",
+                "text/html",
+                "text/plain",
+                "text/css",
+                "text/xml",
+                "text/csv"
+            );
+        }
+
+        default int level() {
+            return Deflater.DEFAULT_COMPRESSION;
+        }
+
+        default boolean requestDecompression() {
+            return true;
+        }
+    }
+
+    /**
+     * Public API HTTP/2: cleartext h2c upgrade and prior knowledge connections are accepted on public port along with HTTP/1.1
+     */
+    @ConfigValueExtractor
+    interface Http2Config {
+        default boolean enabled() {
+            return false;
+        }
+
+        /**
+         * SETTINGS_MAX_CONCURRENT_STREAMS advertised to client, unlimited if not set
+         */
+        @Nullable
+        Integer maxConcurrentStreams();
+
+        /**
+         * SETTINGS_INITIAL_WINDOW_SIZE advertised to client: stream flow control window in bytes, 65535 by protocol default
+         */
+        @Nullable
+        Integer initialWindowSize();
+
+        /**
+         * SETTINGS_MAX_FRAME_SIZE advertised to client, 16384 by protocol default
+         */
+        @Nullable
+        Integer maxFrameSize();
+    }
 }
@@ -34,7 +34,7 @@ public class PublicApiHandler {
     );
     private static final HttpServerRequestHandler.HandlerFunction NOT_FOUND_HANDLER = (ctx, request) -> NOT_FOUND_RESPONSE;
 
-    private final Map<String, PathTemplateMatcher<HttpServerRequestHandler>> pathTemplateMatcher;
+    private final Map<String, PathTemplateMatcher<Route>> pathTemplateMatcher;
     private final PathTemplateMatcher<List<String>> allMethodMatchers;
     private final AtomicReference<RequestHandler> requestHandler = new AtomicReference<>();
     private final HttpServerTelemetry telemetry;
@@ -46,7 +46,7 @@ public class PublicApiHandler {
         for (var h : handlers) {
             var route = h.routeTemplate();
             var methodMatchers = this.pathTemplateMatcher.computeIfAbsent(h.method(), k -> new PathTemplateMatcher<>());
-            var oldValue = methodMatchers.add(route, h);
+            var oldValue = methodMatchers.add(route, new Route(h, this.telemetry.route(h.method(), route)));
             if (oldValue != null) {
                 throw new IllegalStateException("Cannot add path template %s, matcher already contains an equivalent pattern %s".formatted(route, oldValue.getKey().templateString()));
             }
@@ -57,7 +57,7 @@ public class PublicApiHandler {
                     } else {
                         route = route + '/';
                     }
-                    oldValue = methodMatchers.add(route, h);
+                    oldValue = methodMatchers.add(route, new Route(h, this.telemetry.route(h.method(), route)));
                     if (oldValue != null) {
                         throw new IllegalStateException("Cannot add path template %s, matcher already contains an equivalent pattern %s".formatted(route, oldValue.getKey().templateString()));
                     }
@@ -80,6 +80,7 @@ public class PublicApiHandler {
         final HttpServerRequestHandler.HandlerFunction handlerFunction;
         final Map<String, String> templateParameters;
         final @Nullable String routeTemplate;
+        final @Nullable HttpServerTelemetry.RouteTelemetry routeTelemetry;
 
         var methodMatchers = this.pathTemplateMatcher.get(publicApiRequest.method());
         var pathTemplateMatch = methodMatchers == null ? null : methodMatchers.match(publicApiRequest.path());
@@ -95,14 +96,18 @@ public class PublicApiHandler {
                 routeTemplate = null;
                 templateParameters = Map.of();
             }
+            routeTelemetry = null;
         } else {
             templateParameters = pathTemplateMatch.parameters();
             routeTemplate = pathTemplateMatch.matchedTemplate();
-            handlerFunction = pathTemplateMatch.value()::handle;
+            handlerFunction = pathTemplateMatch.value().handler()::handle;
+            routeTelemetry = pathTemplateMatch.value().telemetry();
         }
 
         var request = new LazyRequest(publicApiRequest, templateParameters, routeTemplate);
-        var tctx = this.telemetry.get(publicApiRequest, routeTemplate);
+        var tctx = routeTelemetry != null
+            ? routeTelemetry.get(publicApiRequest)
+            : this.telemetry.get(publicApiRequest, routeTemplate);
 
         try {
             var future = this.requestHandler.get().apply(context, request, handlerFunction);
@@ -115,6 +120,8 @@ public class PublicApiHandler {
     }
 
 
+    private record Route(HttpServerRequestHandler handler, @Nullable HttpServerTelemetry.RouteTelemetry telemetry) {}
+
     private interface RequestHandler {
         CompletionStage<HttpServerResponse> apply(Context context, HttpServerRequest request, HttpServerRequestHandler.HandlerFunction lastHandlerInChain) throws Exception;
     }
@@ -15,6 +15,13 @@ public interface PublicApiRequest {
 
     String scheme();
 
+    /**
+     * @return protocol version as in network.protocol.version semantic convention: 1.0, 1.1, 2
+     */
+    default String protocolVersion() {
+        return "1.1";
+    }
+
     HttpHeaders headers();
 
     Map<String, ? extends Collection<String>> queryParams();
@@ -19,8 +19,26 @@ public final class DefaultHttpServerTelemetry implements HttpServerTelemetry {
         this.tracer = tracer;
     }
 
+    @Nullable
+    @Override
+    public RouteTelemetry route(String method, String routeTemplate) {
+        var metrics = this.metrics;
+        if (metrics == null) {
+            return null;
+        }
+        var routeMetrics = metrics.route(method, routeTemplate);
+        if (routeMetrics == null) {
+            return null;
+        }
+        return request -> this.get(request, routeTemplate, routeMetrics);
+    }
+
     @Override
     public HttpServerTelemetryContext get(PublicApiRequest request, @Nullable String routeTemplate) {
+        return this.get(request, routeTemplate, null);
+    }
+
+    private HttpServerTelemetryContext get(PublicApiRequest request, @Nullable String routeTemplate, @Nullable HttpServerMetrics.RouteMetrics routeMetrics) {
         var metrics = this.metrics;
         var logger = this.logger;
         var tracer = this.tracer;
@@ -32,7 +50,9 @@ public final class DefaultHttpServerTelemetry implements HttpServerTelemetry {
         var method = request.method();
         var scheme = request.scheme();
         var host = request.hostName();
-        if (metrics != null) {
+        if (routeMetrics != null) {
+            routeMetrics.requestStarted(host, scheme);
+        } else if (metrics != null) {
             var pathTemplate = routeTemplate != null ? routeTemplate : UNMATCHED_ROUTE_TEMPLATE;
             metrics.requestStarted(method, pathTemplate, host, scheme);
         }
@@ -54,9 +74,11 @@ public final class DefaultHttpServerTelemetry implements HttpServerTelemetry {
         return (statusCode, resultCode, httpHeaders, exception) -> {
             var end = System.nanoTime();
             var processingTime = end - start;
-            if (metrics != null) {
+            if (routeMetrics != null) {
+                routeMetrics.requestFinished(statusCode, resultCode, scheme, host, request.protocolVersion(), httpHeaders, processingTime, exception);
+            } else if (metrics != null) {
                 var pathTemplate = routeTemplate != null ? routeTemplate : UNMATCHED_ROUTE_TEMPLATE;
-                metrics.requestFinished(statusCode, resultCode, scheme, host, method, pathTemplate, httpHeaders, processingTime, exception);
+                metrics.requestFinished(statusCode, resultCode, scheme, host, method, pathTemplate, request.protocolVersion(), httpHeaders, processingTime, exception);
             }
 
             if (routeTemplate != null) {
@@ -45,4 +45,45 @@ public interface HttpServerMetrics {
             requestFinished(method, pathTemplate, host, scheme, statusCode, processingTimeNanos, exception);
         }
     }
+
+    /**
+     * @param protocolVersion HTTP protocol version of request: 1.0, 1.1 or 2
+     */
+    default void requestFinished(int statusCode,
+                                 HttpResultCode resultCode,
+                                 String scheme,
+                                 String host,
+                                 String method,
+                                 String pathTemplate,
+                                 String protocolVersion,
+                                 HttpHeaders headers,
+                                 long processingTimeNanos,
+                                 @Nullable Throwable exception) {
+        requestFinished(statusCode, resultCode, scheme, host, method, pathTemplate, headers, processingTimeNanos, exception);
+    }
+
+    /**
+     * Resolves meters of route once when route is registered, methods of returned object are called
+     * instead of {@link #requestStarted} and {@link #requestFinished} for requests matched to route
+     *
+     * @return null if implementation doesn't resolve meters per route
+     */
+    @Nullable
+    default RouteMetrics route(String method, String pathTemplate) {
+        return null;
+    }
+
+    interface RouteMetrics {
+
+        void requestStarted(String host, String scheme);
+
+        void requestFinished(int statusCode,
+                             HttpResultCode resultCode,
+                             String scheme,
+                             String host,
+                             String protocolVersion,
+                             HttpHeaders headers,
+                             long processingTimeNanos,
+                             @Nullable Throwable exception);
+    }
 }
@@ -14,4 +14,18 @@ public interface HttpServerTelemetry {
     }
 
     HttpServerTelemetryContext get(PublicApiRequest request, @Nullable String routeTemplate);
+
+    /**
+     * Resolves telemetry of route once when route is registered
+     *
+     * @return null if {@link #get(PublicApiRequest, String)} should be used for route
+     */
+    @Nullable
+    default RouteTelemetry route(String method, String routeTemplate) {
+        return null;
+    }
+
+    interface RouteTelemetry {
+        HttpServerTelemetryContext get(PublicApiRequest request);
+    }
 }
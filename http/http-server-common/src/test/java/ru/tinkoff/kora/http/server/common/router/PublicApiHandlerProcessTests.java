@@ -10,6 +10,8 @@ import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.http.common.body.HttpBody;
 import ru.tinkoff.kora.http.common.body.HttpBodyInput;
 import ru.tinkoff.kora.http.common.header.HttpHeaders;
+import ru.tinkoff.kora.http.server.common.$HttpServerConfig_CompressionConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.http.server.common.$HttpServerConfig_Http2Config_ConfigValueExtractor;
 import ru.tinkoff.kora.http.server.common.$HttpServerConfig_ConfigValueExtractor.HttpServerConfig_Impl;
 import ru.tinkoff.kora.http.server.common.HttpServerConfig;
 import ru.tinkoff.kora.http.server.common.HttpServerResponse;
@@ -170,7 +172,9 @@ class PublicApiHandlerProcessTests {
                 new $HttpServerLoggerConfig_ConfigValueExtractor.HttpServerLoggerConfig_Defaults(),
                 new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
                 new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null)
-            )
+            ),
+            new $HttpServerConfig_CompressionConfig_ConfigValueExtractor.CompressionConfig_Defaults(),
+            new $HttpServerConfig_Http2Config_ConfigValueExtractor.Http2Config_Defaults()
         );
     }
 
@@ -3,6 +3,8 @@ package ru.tinkoff.kora.http.server.common.router;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import ru.tinkoff.kora.http.server.common.$HttpServerConfig_CompressionConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.http.server.common.$HttpServerConfig_Http2Config_ConfigValueExtractor;
 import ru.tinkoff.kora.http.server.common.$HttpServerConfig_ConfigValueExtractor;
 import ru.tinkoff.kora.http.server.common.HttpServerConfig;
 import ru.tinkoff.kora.http.server.common.HttpServerResponse;
@@ -161,7 +163,9 @@ class PublicApiHandlerTest {
                 new $HttpServerLoggerConfig_ConfigValueExtractor.HttpServerLoggerConfig_Impl(true, true, Collections.emptySet(), Collections.emptySet(), "***", false),
                 new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
                 new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(true, TelemetryConfig.MetricsConfig.DEFAULT_SLO)
-            ));
+            ),
+            new $HttpServerConfig_CompressionConfig_ConfigValueExtractor.CompressionConfig_Defaults(),
+            new $HttpServerConfig_Http2Config_ConfigValueExtractor.Http2Config_Defaults());
     }
 
     private HttpServerRequestHandler handler(String method, String route) {
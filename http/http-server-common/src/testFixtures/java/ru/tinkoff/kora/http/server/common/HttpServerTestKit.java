@@ -4,6 +4,7 @@ import jakarta.annotation.Nullable;
 import okhttp3.ConnectionPool;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okio.BufferedSink;
@@ -61,10 +62,13 @@ import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -554,6 +558,115 @@ public abstract class HttpServerTestKit {
         verifyResponse("GET", "/", 200, HttpResultCode.SUCCESS, "localhost", "http", ArgumentMatchers::isNull, anyLong());
     }
 
+    @Test
+    void testFileResponseBody() throws IOException {
+        var data = new byte[1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(data);
+        var file = Files.createTempFile("kora-http-server", ".bin");
+        try {
+            Files.write(file, data);
+            var mapped = new boolean[]{false};
+            var handler = handler(GET, "/", request -> Mono.fromCallable(() -> HttpServerResponse.of(200, mapped[0]
+                ? HttpBodyOutput.mapped("application/octet-stream", file)
+                : HttpBodyOutput.file("application/octet-stream", file))));
+
+            this.startServer(handler);
+
+            for (var m : new boolean[]{false, true}) {
+                mapped[0] = m;
+                try (var response = client.newCall(request("/").get().build()).execute()) {
+                    assertThat(response.code()).isEqualTo(200);
+                    assertThat(response.header("accept-ranges")).isEqualTo("bytes");
+                    assertThat(response.body().bytes()).isEqualTo(data);
+                }
+                try (var response = client.newCall(request("/").get().header("Range", "bytes=100-1123").build()).execute()) {
+                    assertThat(response.code()).isEqualTo(206);
+                    assertThat(response.header("content-range")).isEqualTo("bytes 100-1123/" + data.length);
+                    assertThat(response.body().bytes()).isEqualTo(Arrays.copyOfRange(data, 100, 1124));
+                }
+                try (var response = client.newCall(request("/").get().header("Range", "bytes=-10").build()).execute()) {
+                    assertThat(response.code()).isEqualTo(206);
+                    assertThat(response.body().bytes()).isEqualTo(Arrays.copyOfRange(data, data.length - 10, data.length));
+                }
+                try (var response = client.newCall(request("/").get().header("Range", "bytes=" + data.length + "-").build()).execute()) {
+                    assertThat(response.code()).isEqualTo(416);
+                    assertThat(response.header("content-range")).isEqualTo("bytes */" + data.length);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testHttp2PriorKnowledge() throws IOException {
+        var handler = handler(GET, "/", request -> Mono.just(HttpServerResponse.of(200, HttpBody.plaintext("hello world"))));
+        var http2 = new $HttpServerConfig_Http2Config_ConfigValueExtractor.Http2Config_Impl(true, 16, null, null);
+        var h2Client = client.newBuilder().protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE)).build();
+
+        this.startServer(false, http2, List.of(), handler);
+
+        try (var response = h2Client.newCall(request("/").get().build()).execute()) {
+            assertThat(response.protocol()).isEqualTo(Protocol.H2_PRIOR_KNOWLEDGE);
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().string()).isEqualTo("hello world");
+        }
+        verify(metrics, timeout(100).times(1)).requestFinished(eq(200), eq(HttpResultCode.SUCCESS), eq("http"), eq("localhost"), eq(GET), eq("/"), eq("2"), Mockito.any(), Mockito.anyLong(), eq(null));
+        // HTTP/1.1 is still served on the same port
+        try (var response = client.newCall(request("/").get().build()).execute()) {
+            assertThat(response.protocol()).isEqualTo(Protocol.HTTP_1_1);
+            assertThat(response.code()).isEqualTo(200);
+        }
+        verify(metrics, timeout(100).times(1)).requestFinished(eq(200), eq(HttpResultCode.SUCCESS), eq("http"), eq("localhost"), eq(GET), eq("/"), eq("1.1"), Mockito.any(), Mockito.anyLong(), eq(null));
+    }
+
+    @Test
+    void testHttp2IsDisabledByDefault() {
+        var handler = handler(GET, "/", request -> Mono.just(HttpServerResponse.of(200, HttpBody.plaintext("hello world"))));
+        var h2Client = client.newBuilder().protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE)).build();
+
+        this.startServer(handler);
+
+        assertThatThrownBy(() -> h2Client.newCall(request("/").get().build()).execute().close()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void testLargeMappedFileResponseBody() throws IOException {
+        var size = 3L * 1024 * 1024 * 1024;
+        var head = new byte[]{1, 2, 3, 4};
+        var tail = new byte[]{5, 6, 7, 8};
+        var file = Files.createTempFile("kora-http-server", ".bin");
+        try {
+            // sparse file, so region larger than single mapping does not take disk space
+            try (var raf = new RandomAccessFile(file.toFile(), "rw")) {
+                raf.setLength(size);
+                raf.seek(1);
+                raf.write(head);
+                raf.seek(size - tail.length);
+                raf.write(tail);
+            }
+            Function<HttpServerRequest, Mono<HttpServerResponse>> mapped = request -> Mono.fromCallable(() -> HttpServerResponse.of(200, HttpBodyOutput.mapped("application/octet-stream", file)));
+
+            this.startServer(handler(GET, "/", mapped), handler("HEAD", "/", mapped));
+
+            try (var response = client.newCall(request("/").head().build()).execute()) {
+                assertThat(response.code()).isEqualTo(200);
+                assertThat(response.header("content-length")).isEqualTo(String.valueOf(size));
+            }
+            try (var response = client.newCall(request("/").get().header("Range", "bytes=1-").build()).execute()) {
+                assertThat(response.code()).isEqualTo(206);
+                assertThat(response.header("content-length")).isEqualTo(String.valueOf(size - 1));
+                assertThat(response.body().byteStream().readNBytes(head.length)).isEqualTo(head);
+            }
+            try (var response = client.newCall(request("/").get().header("Range", "bytes=-" + tail.length).build()).execute()) {
+                assertThat(response.code()).isEqualTo(206);
+                assertThat(response.body().bytes()).isEqualTo(tail);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     @Test
     void serverWithBigRequest() throws IOException {
         var data = new byte[10 * 1024 * 1024];
@@ -672,7 +785,7 @@ public abstract class HttpServerTestKit {
         verify(logger, never()).logStart(any(), any(), any(), any(), any());
         verify(logger, never()).logEnd(anyInt(), any(), any(), any(), any(), anyLong().getAsLong(), any(), any(), any());
         verify(metrics, times(1)).requestStarted(eq(GET), eq("UNKNOWN_ROUTE"), eq("localhost"), eq("http"));
-        verify(metrics, timeout(100).times(1)).requestFinished(eq(404), eq(HttpResultCode.CLIENT_ERROR), eq("http"), eq("localhost"), eq(GET), eq("UNKNOWN_ROUTE"), Mockito.any(), Mockito.anyLong(), eq(null));
+        verify(metrics, timeout(100).times(1)).requestFinished(eq(404), eq(HttpResultCode.CLIENT_ERROR), eq("http"), eq("localhost"), eq(GET), eq("UNKNOWN_ROUTE"), eq("1.1"), Mockito.any(), Mockito.anyLong(), eq(null));
     }
 
     @Test
@@ -1049,7 +1162,7 @@ public abstract class HttpServerTestKit {
         verify(metrics, mode).requestStarted(eq(method), eq(route), eq(host), eq(scheme));
         verify(logger, mode).logStart(eq(method), eq(route), eq(route), any(), any());
         verify(logger, mode).logEnd(eq(code), eq(resultCode), eq(method), eq(route), eq(route), duration.getAsLong(), any(), any(), throwable.get());
-        verify(metrics, mode).requestFinished(eq(code), eq(resultCode), eq(scheme), eq(host), eq(method), eq(route), any(), Mockito.anyLong(), throwable.get());
+        verify(metrics, mode).requestFinished(eq(code), eq(resultCode), eq(scheme), eq(host), eq(method), eq(route), eq("1.1"), any(), Mockito.anyLong(), throwable.get());
     }
 
 
@@ -1124,6 +1237,10 @@ public abstract class HttpServerTestKit {
     }
 
     protected void startServer(boolean ignoreTrailingSlash, List<HttpServerInterceptor> interceptors, HttpServerRequestHandler... handlers) {
+        startServer(ignoreTrailingSlash, new $HttpServerConfig_Http2Config_ConfigValueExtractor.Http2Config_Defaults(), interceptors, handlers);
+    }
+
+    protected void startServer(boolean ignoreTrailingSlash, HttpServerConfig.Http2Config http2, List<HttpServerInterceptor> interceptors, HttpServerRequestHandler... handlers) {
         var config = new HttpServerConfig_Impl(
             0,
             0,
@@ -1138,7 +1255,9 @@ public abstract class HttpServerTestKit {
                 new $HttpServerLoggerConfig_ConfigValueExtractor.HttpServerLoggerConfig_Impl(true, true, Collections.emptySet(), Collections.emptySet(), "***", false),
                 new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
                 new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(true, TelemetryConfig.MetricsConfig.DEFAULT_SLO)
-            )
+            ),
+            new $HttpServerConfig_CompressionConfig_ConfigValueExtractor.CompressionConfig_Defaults(),
+            http2
         );
         var publicApiHandler = new PublicApiHandler(List.of(handlers), interceptors, new DefaultHttpServerTelemetryFactory(this.loggerFactory, this.metricsFactory, null), config);
         this.httpServer = this.httpServer(valueOf(config), publicApiHandler);
@@ -0,0 +1,99 @@
+package ru.tinkoff.kora.http.server.undertow;
+
+import io.undertow.conduits.GzipStreamSourceConduit;
+import io.undertow.conduits.InflatingStreamSourceConduit;
+import io.undertow.predicate.Predicate;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.encoding.ContentEncodingRepository;
+import io.undertow.server.handlers.encoding.DeflateEncodingProvider;
+import io.undertow.server.handlers.encoding.EncodingHandler;
+import io.undertow.server.handlers.encoding.GzipEncodingProvider;
+import io.undertow.server.handlers.encoding.RequestEncodingHandler;
+import io.undertow.util.Headers;
+import ru.tinkoff.kora.http.server.common.HttpServerConfig;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Response compression negotiated by Accept-Encoding and request decompression by Content-Encoding.
+ * Encoding conduits wrap response channel, so both full and chunked streaming bodies are compressed on the fly,
+ * Deflater instances are pooled by Undertow encoding providers.
+ */
+final class UndertowCompression {
+
+    private UndertowCompression() {}
+
+    static HttpHandler wrap(HttpHandler handler, HttpServerConfig.CompressionConfig config) {
+        if (!config.enabled()) {
+            return handler;
+        }
+
+        var predicate = new CompressiblePredicate(config.minSize(), config.mimeTypes());
+        var repository = new ContentEncodingRepository()
+            .addEncodingHandler("gzip", new GzipEncodingProvider(config.level()), 100, predicate)
+            .addEncodingHandler("deflate", new DeflateEncodingProvider(config.level()), 50, predicate);
+        HttpHandler result = new EncodingHandler(handler, repository);
+
+        if (config.requestDecompression()) {
+            var next = result;
+            var decoding = new RequestEncodingHandler(exchange -> {
+                // decoded body length is unknown, so Content-Length of encoded body should not be exposed to request handlers
+                if (!exchange.getRequestHeaders().contains(Headers.CONTENT_ENCODING)) {
+                    exchange.getRequestHeaders().remove(Headers.CONTENT_LENGTH);
+                }
+                next.handleRequest(exchange);
+            })
+                .addEncoding("gzip", GzipStreamSourceConduit.WRAPPER)
+                .addEncoding("deflate", InflatingStreamSourceConduit.WRAPPER);
+            result = exchange -> {
+                if (exchange.getRequestHeaders().contains(Headers.CONTENT_ENCODING)) {
+                    decoding.handleRequest(exchange);
+                } else {
+                    next.handleRequest(exchange);
+                }
+            };
+        }
+        return result;
+    }
+
+    private static final class CompressiblePredicate implements Predicate {
+        private final long minSize;
+        private final Set<String> mimeTypes;
+
+        private CompressiblePredicate(long minSize, List<String> mimeTypes) {
+            this.minSize = minSize;
+            var set = new HashSet<String>();
+            for (var mimeType : mimeTypes) {
+                set.add(mimeType.trim().toLowerCase(Locale.ROOT));
+            }
+            this.mimeTypes = Set.copyOf(set);
+        }
+
+        @Override
+        public boolean resolve(HttpServerExchange exchange) {
+            var headers = exchange.getResponseHeaders();
+            if (headers.contains(Headers.CONTENT_ENCODING)) {
+                return false;
+            }
+            // byte ranges are offsets in identity encoded representation
+            if (headers.contains(Headers.CONTENT_RANGE)) {
+                return false;
+            }
+            var contentLength = headers.getFirst(Headers.CONTENT_LENGTH);
+            if (contentLength != null && Long.parseLong(contentLength) < this.minSize) {
+                return false;
+            }
+            var contentType = headers.getFirst(Headers.CONTENT_TYPE);
+            if (contentType == null) {
+                return false;
+            }
+            var separator = contentType.indexOf(';');
+            var mimeType = (separator < 0 ? contentType : contentType.substring(0, separator)).trim().toLowerCase(Locale.ROOT);
+            return this.mimeTypes.contains(mimeType);
+        }
+    }
+}
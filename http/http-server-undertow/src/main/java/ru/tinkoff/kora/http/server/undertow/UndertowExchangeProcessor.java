@@ -4,16 +4,22 @@ import io.undertow.io.IoCallback;
 import io.undertow.io.Sender;
 import io.undertow.server.DirectByteBufferDeallocator;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.ByteRange;
 import io.undertow.util.HeaderMap;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import io.undertow.util.StatusCodes;
 import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xnio.ChannelListener;
 import org.xnio.IoUtils;
+import org.xnio.channels.StreamSinkChannel;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.common.util.flow.LazySingleSubscription;
 import ru.tinkoff.kora.common.util.flow.SingleSubscription;
+import ru.tinkoff.kora.http.common.body.FileHttpBodyOutput;
 import ru.tinkoff.kora.http.common.body.HttpBodyOutput;
 import ru.tinkoff.kora.http.common.header.HttpHeaders;
 import ru.tinkoff.kora.http.server.common.HttpServer;
@@ -25,7 +31,9 @@ import ru.tinkoff.kora.http.server.undertow.request.UndertowPublicApiRequest;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.Date;
 import java.util.Objects;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Flow;
@@ -139,6 +147,10 @@ public class UndertowExchangeProcessor implements Runnable {
         if (contentType != null) {
             exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, contentType);
         }
+        if (body instanceof FileHttpBodyOutput file) {
+            this.sendFileBody(response, httpResponse, file, error);
+            return;
+        }
         var full = body.getFullContentIfAvailable();
         if (full != null) {
             this.sendFullBody(response, httpResponse, full, error);
@@ -198,6 +210,127 @@ public class UndertowExchangeProcessor implements Runnable {
     }
 
 
+    private void sendFileBody(PublicApiResponse response, HttpServerResponse httpResponse, FileHttpBodyOutput body, @Nullable Throwable error) {
+        var exchange = this.exchange;
+        var headers = httpResponse.headers();
+        if (!body.acquire()) {
+            var e = new IllegalStateException("Body was already subscribed");
+            exchange.setStatusCode(500);
+            exchange.setResponseContentLength(0);
+            exchange.endExchange();
+            response.closeBodyError(500, e);
+            return;
+        }
+        var position = body.position();
+        var length = body.contentLength();
+        if (exchange.getStatusCode() == StatusCodes.OK) {
+            exchange.getResponseHeaders().put(Headers.ACCEPT_RANGES, "bytes");
+            var rangeHeader = exchange.getRequestHeaders().getFirst(Headers.RANGE);
+            var method = exchange.getRequestMethod();
+            if (rangeHeader != null && (method.equals(Methods.GET) || method.equals(Methods.HEAD))) {
+                var range = ByteRange.parse(rangeHeader);
+                if (range != null && range.getRanges() == 1) {
+                    var lastModified = body.lastModified() == null ? null : Date.from(body.lastModified());
+                    var result = range.getResponseResult(length, exchange.getRequestHeaders().getFirst(Headers.IF_RANGE), lastModified, null);
+                    if (result != null) {
+                        exchange.setStatusCode(result.getStatusCode());
+                        exchange.getResponseHeaders().put(Headers.CONTENT_RANGE, result.getContentRange());
+                        if (result.getStatusCode() == StatusCodes.REQUEST_RANGE_NOT_SATISFIABLE) {
+                            IoUtils.safeClose(body.channel());
+                            this.sendFullBody(response, httpResponse, null, error);
+                            return;
+                        }
+                        position += result.getStart();
+                        length = result.getEnd() - result.getStart() + 1;
+                    }
+                }
+            }
+        }
+
+        // single mapping can't be larger than Integer.MAX_VALUE, larger regions are transferred from channel instead
+        if (body.mapped() && length <= Integer.MAX_VALUE) {
+            final ByteBuffer mapped;
+            try (var channel = body.channel()) {
+                // mapping stays valid after channel is closed
+                mapped = length == 0 ? null : channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            } catch (IOException | RuntimeException e) {
+                exchange.setStatusCode(500);
+                exchange.getResponseHeaders().remove(Headers.CONTENT_RANGE);
+                exchange.setResponseContentLength(0);
+                exchange.endExchange();
+                response.closeBodyError(500, e);
+                return;
+            }
+            this.sendFullBody(response, httpResponse, mapped, error);
+            return;
+        }
+
+        exchange.setResponseContentLength(length);
+        new FileTransfer(exchange, response, headers, error, body.channel(), position, position + length).transfer(exchange.getResponseChannel());
+    }
+
+    /**
+     * Sends file region with {@link StreamSinkChannel#transferFrom(FileChannel, long, long)}, which is sendfile for plain connections
+     */
+    private static final class FileTransfer implements ChannelListener<StreamSinkChannel> {
+        private final HttpServerExchange exchange;
+        private final PublicApiResponse response;
+        private final HttpHeaders headers;
+        @Nullable
+        private final Throwable error;
+        private final FileChannel file;
+        private final long end;
+        private long position;
+
+        private FileTransfer(HttpServerExchange exchange, PublicApiResponse response, HttpHeaders headers, @Nullable Throwable error, FileChannel file, long position, long end) {
+            this.exchange = exchange;
+            this.response = response;
+            this.headers = headers;
+            this.error = error;
+            this.file = file;
+            this.position = position;
+            this.end = end;
+        }
+
+        @Override
+        public void handleEvent(StreamSinkChannel channel) {
+            this.transfer(channel);
+        }
+
+        private void transfer(StreamSinkChannel channel) {
+            try {
+                while (this.position < this.end) {
+                    var transferred = channel.transferFrom(this.file, this.position, this.end - this.position);
+                    if (transferred > 0) {
+                        this.position += transferred;
+                    } else if (this.position >= this.file.size()) {
+                        throw new IOException("File was truncated while being sent");
+                    } else {
+                        channel.getWriteSetter().set(this);
+                        channel.resumeWrites();
+                        return;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                channel.suspendWrites();
+                channel.getWriteSetter().set(null);
+                IoUtils.safeClose(this.file);
+                IoUtils.safeClose(this.exchange.getConnection());
+                this.exchange.endExchange();
+                this.response.closeConnectionError(this.exchange.getStatusCode(), this.error == null ? e : this.error);
+                return;
+            }
+            channel.suspendWrites();
+            channel.getWriteSetter().set(null);
+            IoUtils.safeClose(this.file);
+            this.exchange.addExchangeCompleteListener((e, nextListener) -> {
+                this.response.closeSendResponseSuccess(e.getStatusCode(), this.headers, this.error);
+                nextListener.proceed();
+            });
+            this.exchange.endExchange();
+        }
+    }
+
     private void sendFullBody(PublicApiResponse response, HttpServerResponse httpResponse, @Nullable ByteBuffer body, @Nullable Throwable error) {
         var exchange = this.exchange;
         var headers = httpResponse.headers();
@@ -1,6 +1,7 @@
 package ru.tinkoff.kora.http.server.undertow;
 
 import io.undertow.Undertow;
+import io.undertow.UndertowOptions;
 import io.undertow.connector.ByteBufferPool;
 import io.undertow.server.handlers.GracefulShutdownHandler;
 import jakarta.annotation.Nullable;
@@ -77,11 +78,26 @@ public class UndertowHttpServer implements HttpServer, ReadinessProbe {
     }
 
     private Undertow createServer() {
-        return Undertow.builder()
-            .addHttpListener(this.config.get().publicApiHttpPort(), "0.0.0.0", this.gracefulShutdown)
+        var config = this.config.get();
+        var builder = Undertow.builder()
+            .addHttpListener(config.publicApiHttpPort(), "0.0.0.0", UndertowCompression.wrap(this.gracefulShutdown, config.compression()))
             .setWorker(this.xnioWorker)
-            .setByteBufferPool(this.byteBufferPool)
-            .build();
+            .setByteBufferPool(this.byteBufferPool);
+        var http2 = config.http2();
+        if (http2.enabled()) {
+            // enables h2c upgrade and prior knowledge on http listener and ALPN negotiation on https listener
+            builder.setServerOption(UndertowOptions.ENABLE_HTTP2, true);
+            if (http2.maxConcurrentStreams() != null) {
+                builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS, http2.maxConcurrentStreams());
+            }
+            if (http2.initialWindowSize() != null) {
+                builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_INITIAL_WINDOW_SIZE, http2.initialWindowSize());
+            }
+            if (http2.maxFrameSize() != null) {
+                builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_FRAME_SIZE, http2.maxFrameSize());
+            }
+        }
+        return builder.build();
     }
 
     @Override
@@ -3,6 +3,7 @@ package ru.tinkoff.kora.http.server.undertow.request;
 import io.undertow.server.Connectors;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.Headers;
+import io.undertow.util.Protocols;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.http.common.body.HttpBody;
 import ru.tinkoff.kora.http.common.body.HttpBodyInput;
@@ -50,6 +51,20 @@ public class UndertowPublicApiRequest implements PublicApiRequest {
         return this.exchange.getRequestScheme();
     }
 
+    @Override
+    public String protocolVersion() {
+        var protocol = this.exchange.getProtocol();
+        if (protocol.equals(Protocols.HTTP_1_1)) {
+            return "1.1";
+        } else if (protocol.equals(Protocols.HTTP_2_0)) {
+            return "2";
+        } else if (protocol.equals(Protocols.HTTP_1_0)) {
+            return "1.0";
+        } else {
+            return protocol.toString();
+        }
+    }
+
     @Override
     public HttpHeaders headers() {
         return this.headers;
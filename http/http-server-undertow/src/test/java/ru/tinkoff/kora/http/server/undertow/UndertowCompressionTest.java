@@ -0,0 +1,127 @@
+package ru.tinkoff.kora.http.server.undertow;
+
+import io.undertow.Undertow;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.handlers.BlockingHandler;
+import io.undertow.util.Headers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.http.server.common.HttpServerConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UndertowCompressionTest {
+
+    private static final byte[] LARGE = "{\"value\":\"test\"}".repeat(1000).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SMALL = "{\"value\":\"test\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Undertow server;
+
+    @AfterEach
+    void tearDown() {
+        if (this.server != null) {
+            this.server.stop();
+        }
+    }
+
+    @Test
+    void responseIsCompressedWhenAccepted() throws Exception {
+        var uri = this.start(echo("application/json"));
+
+        var rs = this.client.send(HttpRequest.newBuilder(uri).header("accept-encoding", "gzip").POST(HttpRequest.BodyPublishers.ofByteArray(LARGE)).build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(rs.headers().firstValue("content-encoding")).hasValue("gzip");
+        assertThat(gunzip(rs.body())).isEqualTo(LARGE);
+    }
+
+    @Test
+    void responseIsNotCompressedWithoutAcceptEncoding() throws Exception {
+        var uri = this.start(echo("application/json"));
+
+        var rs = this.client.send(HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofByteArray(LARGE)).build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(rs.headers().firstValue("content-encoding")).isEmpty();
+        assertThat(rs.body()).isEqualTo(LARGE);
+    }
+
+    @Test
+    void smallResponseIsNotCompressed() throws Exception {
+        var uri = this.start(echo("application/json"));
+
+        var rs = this.client.send(HttpRequest.newBuilder(uri).header("accept-encoding", "gzip").POST(HttpRequest.BodyPublishers.ofByteArray(SMALL)).build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(rs.headers().firstValue("content-encoding")).isEmpty();
+        assertThat(rs.body()).isEqualTo(SMALL);
+    }
+
+    @Test
+    void responseWithNotCompressibleTypeIsNotCompressed() throws Exception {
+        var uri = this.start(echo("application/octet-stream"));
+
+        var rs = this.client.send(HttpRequest.newBuilder(uri).header("accept-encoding", "gzip").POST(HttpRequest.BodyPublishers.ofByteArray(LARGE)).build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(rs.headers().firstValue("content-encoding")).isEmpty();
+        assertThat(rs.body()).isEqualTo(LARGE);
+    }
+
+    @Test
+    void requestIsDecompressed() throws Exception {
+        var uri = this.start(echo("application/json"));
+
+        var rs = this.client.send(HttpRequest.newBuilder(uri).header("content-encoding", "gzip").POST(HttpRequest.BodyPublishers.ofByteArray(gzip(LARGE))).build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(rs.statusCode()).isEqualTo(200);
+        assertThat(rs.body()).isEqualTo(LARGE);
+    }
+
+    private URI start(HttpHandler handler) {
+        var config = new HttpServerConfig.CompressionConfig() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+        };
+        this.server = Undertow.builder()
+            .addHttpListener(0, "localhost", UndertowCompression.wrap(handler, config))
+            .build();
+        this.server.start();
+        var address = (InetSocketAddress) this.server.getListenerInfo().get(0).getAddress();
+        return URI.create("http://localhost:" + address.getPort() + "/");
+    }
+
+    private static HttpHandler echo(String contentType) {
+        return new BlockingHandler(exchange -> {
+            var body = exchange.getInputStream().readAllBytes();
+            exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, contentType);
+            exchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, body.length);
+            exchange.getOutputStream().write(body);
+        });
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        var baos = new ByteArrayOutputStream();
+        try (var os = new GZIPOutputStream(baos)) {
+            os.write(data);
+        }
+        return baos.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] data) throws IOException {
+        try (var is = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return is.readAllBytes();
+        }
+    }
+}
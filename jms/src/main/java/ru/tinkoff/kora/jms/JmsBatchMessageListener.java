@@ -0,0 +1,14 @@
+package ru.tinkoff.kora.jms;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+import java.util.List;
+
+/**
+ * Listener receiving messages collected according to {@link JmsListenerContainerConfig#batchSize()} and {@link JmsListenerContainerConfig#batchTimeout()},
+ * session is committed after listener returns and rolled back if it throws
+ */
+public interface JmsBatchMessageListener {
+    void onMessages(Session session, List<Message> messages) throws JMSException;
+}
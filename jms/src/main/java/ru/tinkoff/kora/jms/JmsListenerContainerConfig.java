@@ -3,11 +3,38 @@ package ru.tinkoff.kora.jms;
 import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
 import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
+import java.time.Duration;
+
 @ConfigValueExtractor
 public interface JmsListenerContainerConfig {
     String queueName();
 
     int threads();
 
+    /**
+     * Max time single receive call waits for message
+     */
+    default Duration pollTimeout() {
+        return Duration.ofSeconds(1);
+    }
+
+    /**
+     * Messages received in single transaction, session is committed when batch is full or {@link #batchTimeout()} passed since first message of batch
+     */
+    default int batchSize() {
+        return 1;
+    }
+
+    default Duration batchTimeout() {
+        return Duration.ofMillis(100);
+    }
+
+    /**
+     * Run consumers on virtual threads instead of fixed thread pool, requires virtual threads to be available
+     */
+    default boolean virtualThreads() {
+        return false;
+    }
+
     TelemetryConfig telemetry();
 }
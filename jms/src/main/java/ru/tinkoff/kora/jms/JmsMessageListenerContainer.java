@@ -3,7 +3,9 @@ package ru.tinkoff.kora.jms;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.application.graph.Lifecycle;
+import ru.tinkoff.kora.application.graph.internal.loom.VirtualThreadExecutorHolder;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.common.util.TimeUtils;
 import ru.tinkoff.kora.jms.telemetry.JmsConsumerTelemetry;
@@ -12,7 +14,11 @@ import ru.tinkoff.kora.logging.common.arg.StructuredArgument;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSException;
+import javax.jms.Message;
 import javax.jms.Session;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -27,16 +33,32 @@ public class JmsMessageListenerContainer implements Lifecycle {
     private static final ConcurrentHashMap<String, AtomicInteger> threadCounters = new ConcurrentHashMap<>();
     private final ConnectionFactory connectionFactory;
     private final JmsListenerContainerConfig config;
+    @Nullable
     private final JmsMessageListener messageListener;
+    @Nullable
+    private final JmsBatchMessageListener batchMessageListener;
     private final Logger log;
     private final JmsConsumerTelemetry telemetry;
     private final AtomicBoolean isStarted = new AtomicBoolean(false);
+    private final Set<Thread> consumerThreads = ConcurrentHashMap.newKeySet();
     private volatile ExecutorService executorService;
 
     public JmsMessageListenerContainer(ConnectionFactory connectionFactory, JmsListenerContainerConfig config, JmsMessageListener messageListener, JmsConsumerTelemetryFactory telemetryFactory) {
+        this(connectionFactory, config, messageListener, null, telemetryFactory);
+    }
+
+    /**
+     * Batch listener container is created with factory method, constructor overload would make lambda listeners ambiguous
+     */
+    public static JmsMessageListenerContainer batch(ConnectionFactory connectionFactory, JmsListenerContainerConfig config, JmsBatchMessageListener messageListener, JmsConsumerTelemetryFactory telemetryFactory) {
+        return new JmsMessageListenerContainer(connectionFactory, config, null, messageListener, telemetryFactory);
+    }
+
+    private JmsMessageListenerContainer(ConnectionFactory connectionFactory, JmsListenerContainerConfig config, @Nullable JmsMessageListener messageListener, @Nullable JmsBatchMessageListener batchMessageListener, JmsConsumerTelemetryFactory telemetryFactory) {
         this.connectionFactory = connectionFactory;
         this.config = config;
         this.messageListener = messageListener;
+        this.batchMessageListener = batchMessageListener;
         this.log = LoggerFactory.getLogger(JmsMessageListenerContainer.class);
         this.telemetry = telemetryFactory.get(config.telemetry(), config.queueName());
     }
@@ -51,9 +73,19 @@ public class JmsMessageListenerContainer implements Lifecycle {
             logger.debug("JmsMessageListener starting...");
             var started = System.nanoTime();
 
-            this.executorService = Executors.newFixedThreadPool(this.config.threads());
-            for (int i = 0; i < this.config.threads(); i++) {
-                this.executorService.submit(this::connectLoop);
+            if (this.config.virtualThreads()) {
+                var executor = VirtualThreadExecutorHolder.executor();
+                if (executor == null) {
+                    throw new IllegalStateException("JmsMessageListener configured to use virtual threads, but virtual threads are " + VirtualThreadExecutorHolder.status());
+                }
+                for (int i = 0; i < this.config.threads(); i++) {
+                    executor.execute(this::connectLoop);
+                }
+            } else {
+                this.executorService = Executors.newFixedThreadPool(this.config.threads());
+                for (int i = 0; i < this.config.threads(); i++) {
+                    this.executorService.submit(this::connectLoop);
+                }
             }
 
             logger.info("JmsMessageListener started in {}", TimeUtils.tookForLogging(started));
@@ -70,11 +102,28 @@ public class JmsMessageListenerContainer implements Lifecycle {
             logger.debug("JmsMessageListener stopping...");
             var started = System.nanoTime();
 
-            this.executorService.shutdownNow();
-            try {
-                this.executorService.awaitTermination(10, TimeUnit.SECONDS);
-                this.executorService = null;
-            } catch (InterruptedException ignore) {
+            var executorService = this.executorService;
+            if (executorService != null) {
+                executorService.shutdownNow();
+                try {
+                    executorService.awaitTermination(10, TimeUnit.SECONDS);
+                    this.executorService = null;
+                } catch (InterruptedException ignore) {
+                }
+            } else {
+                var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                for (var thread : this.consumerThreads) {
+                    thread.interrupt();
+                }
+                try {
+                    for (var thread : this.consumerThreads) {
+                        var remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                        if (remaining > 0) {
+                            thread.join(remaining);
+                        }
+                    }
+                } catch (InterruptedException ignore) {
+                }
             }
 
             logger.info("JmsMessageListener stopped in {}", TimeUtils.tookForLogging(started));
@@ -84,6 +133,15 @@ public class JmsMessageListenerContainer implements Lifecycle {
     private void connectLoop() {
         var counter = threadCounters.computeIfAbsent(this.config.queueName(), s -> new AtomicInteger());
         Thread.currentThread().setName("jms-" + this.config.queueName() + "-" + counter.getAndIncrement());
+        this.consumerThreads.add(Thread.currentThread());
+        try {
+            this.connectLoop0();
+        } finally {
+            this.consumerThreads.remove(Thread.currentThread());
+        }
+    }
+
+    private void connectLoop0() {
         log.info("listening...");
         while (this.isStarted.get()) {
             try {
@@ -114,51 +172,128 @@ public class JmsMessageListenerContainer implements Lifecycle {
 
     private void pollLoop(Session session) throws JMSException {
         var queue = session.createQueue(this.config.queueName());
+        var batchSize = Math.max(this.config.batchSize(), 1);
+        var batchTimeout = this.config.batchTimeout().toNanos();
+        // receive(0) waits forever
+        var pollTimeout = Math.max(this.config.pollTimeout().toMillis(), 1);
+        var batch = new Batch(batchSize);
         try (var consumer = session.createConsumer(queue, null)) {
             while (this.isStarted.get()) {
                 try {
-                    var message = consumer.receiveNoWait();
-                    long lastSuccessfullReceive = System.nanoTime();
+                    var timeout = batch.isEmpty()
+                        ? pollTimeout
+                        : Math.max(TimeUnit.NANOSECONDS.toMillis(batch.started + batchTimeout - System.nanoTime()), 1);
+                    var message = consumer.receive(timeout);
                     if (message == null) {
                         log.trace("No message was received");
-                        Thread.sleep(1000);
-                        session.commit();
+                        if (!batch.isEmpty() && System.nanoTime() - batch.started >= batchTimeout) {
+                            this.commit(session, batch);
+                        }
                         continue;
                     }
-                    var telemetryCtx = this.telemetry.get(message);
-                    try {
-                        if (log.isDebugEnabled()) {
-                            var body = JmsUtils.text(message);
-                            var headers = JmsUtils.dumpHeaders(message).toString();
-                            log.debug(StructuredArgument.marker("jmsInputMessage", (gen) -> {
-                                gen.writeStartObject();
-                                gen.writeStringField("headers", headers);
-                                gen.writeStringField("body", body);
-                                gen.writeEndObject();
-                            }), "JmsListener.message");
-                        }
-                        this.messageListener.onMessage(session, message);
-                        session.commit();
-                        telemetryCtx.close(null);
-                    } catch (Exception e) {
-                        telemetryCtx.close(e);
-                        throw e;
-                    } finally {
-                        Context.clear();
-                        MDC.clear();
+                    this.receive(session, message, batch);
+                    if (batch.size() >= batchSize || System.nanoTime() - batch.started >= batchTimeout) {
+                        this.commit(session, batch);
                     }
-                } catch (InterruptedException e) {
-                    log.trace("Jms thread interrupted");
                 } catch (JMSException e) {
-                    session.rollback();
+                    batch.rollback(session, e);
                     throw e;
                 } catch (Exception e) {
                     log.debug("Exception caught while processing message", e);
-                    session.rollback();
+                    batch.rollback(session, e);
+                }
+            }
+            if (!batch.isEmpty()) {
+                try {
+                    this.commit(session, batch);
+                } catch (Exception e) {
+                    log.debug("Exception caught while processing message", e);
+                    batch.rollback(session, e);
                 }
             }
             log.trace("Poll loop end");
         }
     }
 
+    private void receive(Session session, Message message, Batch batch) throws Exception {
+        try {
+            var telemetryCtx = this.telemetry.get(message);
+            batch.add(message, telemetryCtx);
+            if (log.isDebugEnabled()) {
+                var body = JmsUtils.text(message);
+                var headers = JmsUtils.dumpHeaders(message).toString();
+                log.debug(StructuredArgument.marker("jmsInputMessage", (gen) -> {
+                    gen.writeStartObject();
+                    gen.writeStringField("headers", headers);
+                    gen.writeStringField("body", body);
+                    gen.writeEndObject();
+                }), "JmsListener.message");
+            }
+            if (this.messageListener != null) {
+                this.messageListener.onMessage(session, message);
+            }
+        } finally {
+            Context.clear();
+            MDC.clear();
+        }
+    }
+
+    private void commit(Session session, Batch batch) throws JMSException {
+        try {
+            if (this.batchMessageListener != null) {
+                this.batchMessageListener.onMessages(session, List.copyOf(batch.messages));
+            }
+        } finally {
+            Context.clear();
+            MDC.clear();
+        }
+        session.commit();
+        batch.complete(null);
+    }
+
+    /**
+     * Messages received since last commit, messages already processed by single message listener are received again after rollback too
+     */
+    private static final class Batch {
+        private final ArrayList<Message> messages;
+        private final ArrayList<JmsConsumerTelemetry.JmsConsumerTelemetryContext> telemetry;
+        private long started;
+
+        private Batch(int size) {
+            this.messages = new ArrayList<>(size);
+            this.telemetry = new ArrayList<>(size);
+        }
+
+        private boolean isEmpty() {
+            return this.messages.isEmpty();
+        }
+
+        private int size() {
+            return this.messages.size();
+        }
+
+        private void add(Message message, JmsConsumerTelemetry.JmsConsumerTelemetryContext telemetryCtx) {
+            if (this.messages.isEmpty()) {
+                this.started = System.nanoTime();
+            }
+            this.messages.add(message);
+            this.telemetry.add(telemetryCtx);
+        }
+
+        private void rollback(Session session, Exception e) throws JMSException {
+            try {
+                session.rollback();
+            } finally {
+                this.complete(e);
+            }
+        }
+
+        private void complete(@Nullable Exception e) {
+            for (var telemetryCtx : this.telemetry) {
+                telemetryCtx.close(e);
+            }
+            this.messages.clear();
+            this.telemetry.clear();
+        }
+    }
 }
@@ -16,4 +16,8 @@ public class JmsMessageListenerContainerFactory {
     public JmsMessageListenerContainer build(JmsListenerContainerConfig config, JmsMessageListener messageListener) {
         return new JmsMessageListenerContainer(this.jmsConnectionFactory, config, messageListener, this.telemetry);
     }
+
+    public JmsMessageListenerContainer buildBatch(JmsListenerContainerConfig config, JmsBatchMessageListener messageListener) {
+        return JmsMessageListenerContainer.batch(this.jmsConnectionFactory, config, messageListener, this.telemetry);
+    }
 }
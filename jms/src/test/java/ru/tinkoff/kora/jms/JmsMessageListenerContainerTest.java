@@ -0,0 +1,162 @@
+package ru.tinkoff.kora.jms;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.jms.telemetry.JmsConsumerTelemetry;
+import ru.tinkoff.kora.jms.telemetry.JmsConsumerTelemetryFactory;
+import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
+
+import javax.jms.*;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class JmsMessageListenerContainerTest {
+
+    private final LinkedBlockingQueue<Message> queue = new LinkedBlockingQueue<>();
+    private final Session session = mock(Session.class);
+    private final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+    private final JmsConsumerTelemetry.JmsConsumerTelemetryContext telemetryContext = mock(JmsConsumerTelemetry.JmsConsumerTelemetryContext.class);
+    private final JmsConsumerTelemetryFactory telemetryFactory = mock(JmsConsumerTelemetryFactory.class);
+    private JmsMessageListenerContainer container;
+
+    @BeforeEach
+    void setUp() throws JMSException {
+        var connection = mock(Connection.class);
+        var consumer = mock(MessageConsumer.class);
+        when(this.connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(this.session);
+        when(this.session.createConsumer(any(), isNull())).thenReturn(consumer);
+        when(consumer.receive(anyLong())).thenAnswer(invocation -> {
+            try {
+                return this.queue.poll(invocation.<Long>getArgument(0), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        });
+        var telemetry = mock(JmsConsumerTelemetry.class);
+        when(telemetry.get(any())).thenReturn(this.telemetryContext);
+        when(this.telemetryFactory.get(any(), anyString())).thenReturn(telemetry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.container != null) {
+            this.container.release();
+        }
+    }
+
+    @Test
+    void lambdaListenersAreNotAmbiguous() {
+        var factory = new JmsMessageListenerContainerFactory(this.connectionFactory, this.telemetryFactory);
+
+        assertThat(factory.build(config(1, Duration.ofMillis(100)), (session, message) -> {})).isNotNull();
+        assertThat(factory.buildBatch(config(1, Duration.ofMillis(100)), (session, messages) -> {})).isNotNull();
+    }
+
+    @Test
+    void everyMessageIsCommittedWithSingleListener() throws JMSException {
+        var received = new CopyOnWriteArrayList<Message>();
+        this.container = new JmsMessageListenerContainer(this.connectionFactory, config(1, Duration.ofMillis(100)), (session, message) -> received.add(message), this.telemetryFactory);
+        var first = mock(TextMessage.class);
+        var second = mock(TextMessage.class);
+
+        this.container.init();
+        this.queue.add(first);
+        this.queue.add(second);
+
+        verify(this.session, timeout(5000).times(2)).commit();
+        assertThat(received).containsExactly(first, second);
+        verify(this.telemetryContext, timeout(5000).times(2)).close(null);
+    }
+
+    @Test
+    void fullBatchIsCommittedOnce() throws JMSException {
+        var batches = new CopyOnWriteArrayList<List<Message>>();
+        this.container = JmsMessageListenerContainer.batch(this.connectionFactory, config(3, Duration.ofSeconds(10)), (session, messages) -> batches.add(messages), this.telemetryFactory);
+        var messages = List.<Message>of(mock(TextMessage.class), mock(TextMessage.class), mock(TextMessage.class));
+
+        this.container.init();
+        this.queue.addAll(messages);
+
+        verify(this.session, timeout(5000)).commit();
+        assertThat(batches).containsExactly(messages);
+        verify(this.telemetryContext, timeout(5000).times(3)).close(null);
+    }
+
+    @Test
+    void incompleteBatchIsCommittedAfterTimeout() throws JMSException {
+        var batches = new CopyOnWriteArrayList<List<Message>>();
+        this.container = JmsMessageListenerContainer.batch(this.connectionFactory, config(10, Duration.ofMillis(200)), (session, messages) -> batches.add(messages), this.telemetryFactory);
+        var messages = List.<Message>of(mock(TextMessage.class), mock(TextMessage.class));
+
+        this.container.init();
+        this.queue.addAll(messages);
+
+        verify(this.session, timeout(5000)).commit();
+        assertThat(batches).containsExactly(messages);
+    }
+
+    @Test
+    void batchIsRolledBackWhenListenerFails() throws JMSException {
+        var error = new IllegalStateException("test");
+        this.container = JmsMessageListenerContainer.batch(this.connectionFactory, config(2, Duration.ofSeconds(10)), (session, messages) -> {
+            throw error;
+        }, this.telemetryFactory);
+
+        this.container.init();
+        this.queue.add(mock(TextMessage.class));
+        this.queue.add(mock(TextMessage.class));
+
+        verify(this.session, timeout(5000)).rollback();
+        verify(this.session, never()).commit();
+        verify(this.telemetryContext, timeout(5000).times(2)).close(error);
+    }
+
+    private static JmsListenerContainerConfig config(int batchSize, Duration batchTimeout) {
+        return new JmsListenerContainerConfig() {
+            @Override
+            public String queueName() {
+                return "test-queue";
+            }
+
+            @Override
+            public int threads() {
+                return 1;
+            }
+
+            @Override
+            public Duration pollTimeout() {
+                return Duration.ofMillis(50);
+            }
+
+            @Override
+            public int batchSize() {
+                return batchSize;
+            }
+
+            @Override
+            public Duration batchTimeout() {
+                return batchTimeout;
+            }
+
+            @Override
+            public TelemetryConfig telemetry() {
+                return mock(TelemetryConfig.class);
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package ru.tinkoff.kora.json.annotation.processor;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.kora.json.annotation.processor.dto.*;
+import ru.tinkoff.kora.json.common.JsonReader;
+import ru.tinkoff.kora.json.common.ListJsonReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading stream of polymorphic events with discriminator written first, as Kora writers do, and written last, as other producers may do
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5, iterations = 5)
+@Warmup(time = 5, iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class SealedInterfaceBenchmark {
+    private static final int EVENTS = 100;
+
+    private JsonReader<List<PolymorphicEvent>> reader;
+    private byte[] discriminatorFirstJson;
+    private byte[] discriminatorLastJson;
+
+    @Setup
+    public void setup() {
+        this.reader = new ListJsonReader<>(new $PolymorphicEvent_JsonReader(
+            new $PolymorphicEvent_Created_JsonReader(),
+            new $PolymorphicEvent_Updated_JsonReader(),
+            new $PolymorphicEvent_Deleted_JsonReader()
+        ));
+        var random = new Random(1337);
+        var first = new StringBuilder("[");
+        var last = new StringBuilder("[");
+        for (int i = 0; i < EVENTS; i++) {
+            if (i > 0) {
+                first.append(',');
+                last.append(',');
+            }
+            var id = "\"id\":\"" + Integer.toHexString(random.nextInt()) + "\",\"timestamp\":" + random.nextLong(Long.MAX_VALUE);
+            var body = switch (random.nextInt(3)) {
+                case 0 -> new String[]{"Created", id + ",\"name\":\"event-" + i + "\",\"version\":" + random.nextInt(100)};
+                case 1 -> new String[]{"Updated", id + ",\"field\":\"name\",\"oldValue\":\"event-" + (i - 1) + "\",\"newValue\":\"event-" + i + "\""};
+                default -> new String[]{"Deleted", id + ",\"soft\":" + random.nextBoolean()};
+            };
+            first.append("{\"type\":\"").append(body[0]).append("\",").append(body[1]).append('}');
+            last.append('{').append(body[1]).append(",\"type\":\"").append(body[0]).append("\"}");
+        }
+        this.discriminatorFirstJson = first.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        this.discriminatorLastJson = last.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<PolymorphicEvent> discriminatorFirst() throws IOException {
+        return this.reader.read(this.discriminatorFirstJson);
+    }
+
+    @Benchmark
+    public List<PolymorphicEvent> discriminatorLast() throws IOException {
+        return this.reader.read(this.discriminatorLastJson);
+    }
+}
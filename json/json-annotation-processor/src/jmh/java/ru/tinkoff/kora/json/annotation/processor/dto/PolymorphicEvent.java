@@ -0,0 +1,14 @@
+package ru.tinkoff.kora.json.annotation.processor.dto;
+
+import ru.tinkoff.kora.json.common.annotation.Json;
+import ru.tinkoff.kora.json.common.annotation.JsonDiscriminatorField;
+
+@Json
+@JsonDiscriminatorField("type")
+public sealed interface PolymorphicEvent {
+    record Created(String id, long timestamp, String name, int version) implements PolymorphicEvent {}
+
+    record Updated(String id, long timestamp, String field, String oldValue, String newValue) implements PolymorphicEvent {}
+
+    record Deleted(String id, long timestamp, boolean soft) implements PolymorphicEvent {}
+}
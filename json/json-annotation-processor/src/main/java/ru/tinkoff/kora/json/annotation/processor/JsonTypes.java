@@ -14,6 +14,7 @@ public class JsonTypes {
     public static final ClassName jsonNullable = ClassName.get("ru.tinkoff.kora.json.common", "JsonNullable");
     public static final ClassName jsonReader = ClassName.get("ru.tinkoff.kora.json.common", "JsonReader");
     public static final ClassName jsonWriter = ClassName.get("ru.tinkoff.kora.json.common", "JsonWriter");
+    public static final ClassName jsonSizeEstimates = ClassName.get("ru.tinkoff.kora.json.common.util", "JsonSizeEstimates");
 
     public static final ClassName enumJsonReader = ClassName.get("ru.tinkoff.kora.json.common", "EnumJsonReader");
     public static final ClassName enumJsonWriter = ClassName.get("ru.tinkoff.kora.json.common", "EnumJsonWriter");
@@ -56,11 +56,13 @@ public class SealedInterfaceReaderGenerator {
             .returns(ClassName.get(jsonElement))
             .addAnnotation(Override.class)
             .addAnnotation(Nullable.class);
-        method.addCode("var bufferingParser = new $T(__parser);\n", JsonTypes.bufferingJsonParser);
-        method.addCode("var discriminator = $T.readStringDiscriminator(bufferingParser, $S);\n", JsonTypes.discriminatorHelper, discriminatorField);
-        method.addCode("if (discriminator == null) throw new $T(__parser, $S);\n", JsonTypes.jsonParseException, "Discriminator required, but not provided");
-        method.addCode("var bufferedParser = $T.createFlattened(false, bufferingParser.reset(), __parser);\n", JsonTypes.jsonParserSequence);
-        method.addCode("bufferedParser.nextToken();\n");
+        typeBuilder.addField(FieldSpec.builder(JsonTypes.serializedString, "DISCRIMINATOR_FIELD", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer(CodeBlock.of("new $T($S)", JsonTypes.serializedString, discriminatorField))
+            .build());
+        method.addCode("var discriminated = $T.readDiscriminatedObject(__parser, DISCRIMINATOR_FIELD);\n", JsonTypes.discriminatorHelper);
+        method.addCode("if (discriminated == null) throw new $T(__parser, $S);\n", JsonTypes.jsonParseException, "Discriminator required, but not provided");
+        method.addCode("var discriminator = discriminated.discriminator();\n");
+        method.addCode("var bufferedParser = discriminated.parser();\n");
         method.addCode("return switch(discriminator) {$>\n");
         for (var elem : permittedSubclasses) {
             var readerName = getReaderFieldName(elem);
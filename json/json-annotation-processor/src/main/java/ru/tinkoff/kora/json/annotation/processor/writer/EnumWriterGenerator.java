@@ -42,6 +42,14 @@ public class EnumWriterGenerator {
             .addCode("this.delegate.write(_gen, _object);\n")
             .build()
         );
+        typeBuilder.addMethod(MethodSpec.methodBuilder("estimatedSize")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addParameter(ParameterSpec.builder(typeName, "_object").addAnnotation(Nullable.class).build())
+            .addAnnotation(Override.class)
+            .returns(int.class)
+            .addCode("return this.delegate.estimatedSize(_object);\n")
+            .build()
+        );
         return typeBuilder.build();
     }
 
@@ -15,8 +15,12 @@ import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Types;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 public class JsonWriterGenerator {
+    private static final String DISCRIMINATOR_FIELD_NAME = "_discriminator_optimized_field_name";
+    private static final String DISCRIMINATOR_VALUE = "_discriminator_optimized_value";
+
     private final Types types;
 
     public JsonWriterGenerator(ProcessingEnvironment processingEnvironment) {
@@ -53,23 +57,70 @@ public class JsonWriterGenerator {
         method.addCode("if (_object == null) {$>\n_gen.writeNull();\nreturn;$<\n}\n");
         method.addStatement("_gen.writeStartObject(_object)");
 
+        // braces
+        var constantSize = 2;
         var discriminatorField = JsonUtils.discriminatorField(types, meta.typeElement());
         if (discriminatorField != null) {
             if (meta.fields().stream().noneMatch(f -> f.jsonName().equals(discriminatorField))) {
-                var discriminatorFieldValues = JsonUtils.discriminatorValue(meta.typeElement());
-                method.addCode("_gen.writeFieldName($S);\n", discriminatorField);
-                method.addStatement("_gen.writeString($S)", discriminatorFieldValues.get(0));
+                var discriminatorFieldValue = JsonUtils.discriminatorValue(meta.typeElement()).get(0);
+                typeBuilder.addField(FieldSpec.builder(JsonTypes.serializedString, DISCRIMINATOR_FIELD_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer(CodeBlock.of("new $T($S)", JsonTypes.serializedString, discriminatorField))
+                    .build());
+                typeBuilder.addField(FieldSpec.builder(JsonTypes.serializedString, DISCRIMINATOR_VALUE, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer(CodeBlock.of("new $T($S)", JsonTypes.serializedString, discriminatorFieldValue))
+                    .build());
+                method.addCode("_gen.writeFieldName($L);\n", DISCRIMINATOR_FIELD_NAME);
+                method.addStatement("_gen.writeString($L)", DISCRIMINATOR_VALUE);
+                constantSize += utf8Length(discriminatorField) + 4 + utf8Length(discriminatorFieldValue) + 2;
             }
         }
         for (var field : meta.fields()) {
             this.addWriteParam(method, field);
+            constantSize += utf8Length(field.jsonName()) + 4;
         }
         method.addStatement("_gen.writeEndObject()");
 
         typeBuilder.addMethod(method.build());
+        typeBuilder.addMethod(this.estimatedSizeMethod(meta, constantSize));
         return typeBuilder.build();
     }
 
+    private MethodSpec estimatedSizeMethod(JsonClassWriterMeta meta, int constantSize) {
+        var method = MethodSpec.methodBuilder("estimatedSize")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addParameter(ParameterSpec.builder(TypeName.get(meta.typeMirror()), "_object").addAnnotation(Nullable.class).build())
+            .addAnnotation(Override.class)
+            .returns(int.class);
+        method.addCode("if (_object == null) {$>\nreturn $T.NULL;$<\n}\n", JsonTypes.jsonSizeEstimates);
+        method.addComment("braces, field names and separators");
+        method.addStatement("var _size = $L", constantSize);
+        for (var field : meta.fields()) {
+            var value = field.writerTypeMeta().isJsonNullable()
+                ? CodeBlock.of("_object.$L.value()", field.accessor())
+                : CodeBlock.of("_object.$L", field.accessor());
+            if (field.writerTypeMeta().isJsonNullable()) {
+                method.beginControlFlow("if (_object.$L.isDefined() && !_object.$L.isNull())", field.accessor(), field.accessor());
+            }
+            if (field.writer() == null && field.writerTypeMeta() instanceof WriterFieldType.KnownWriterFieldType typeMeta) {
+                method.addStatement("_size += $L", this.estimateKnownType(typeMeta.knownType(), value));
+            } else {
+                method.addStatement("_size = $T.sum(_size, $L.estimatedSize($L))", JsonTypes.jsonSizeEstimates, this.writerFieldName(field), value);
+                method.addCode("if (_size < 0) {$>\nreturn -1;$<\n}\n");
+            }
+            if (field.writerTypeMeta().isJsonNullable()) {
+                method.nextControlFlow("else");
+                method.addStatement("_size += $T.NULL", JsonTypes.jsonSizeEstimates);
+                method.endControlFlow();
+            }
+        }
+        method.addStatement("return _size");
+        return method.build();
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
 
     private void addWriters(TypeSpec.Builder typeBuilder, JsonClassWriterMeta classMeta) {
         var constructor = MethodSpec.constructorBuilder()
@@ -182,6 +233,31 @@ public class JsonWriterGenerator {
         return "_" + field.field().getSimpleName().toString() + "_optimized_field_name";
     }
 
+    private CodeBlock estimateKnownType(KnownType.KnownTypesEnum knownType, CodeBlock value) {
+        return switch (knownType) {
+            case STRING -> CodeBlock.of("$T.string($L)", JsonTypes.jsonSizeEstimates, value);
+            case BINARY -> CodeBlock.of("$T.binary($L)", JsonTypes.jsonSizeEstimates, value);
+            case BOOLEAN_PRIMITIVE -> CodeBlock.of("$T.BOOLEAN", JsonTypes.jsonSizeEstimates);
+            case SHORT_PRIMITIVE -> CodeBlock.of("$T.SHORT", JsonTypes.jsonSizeEstimates);
+            case INTEGER_PRIMITIVE -> CodeBlock.of("$T.INT", JsonTypes.jsonSizeEstimates);
+            case LONG_PRIMITIVE -> CodeBlock.of("$T.LONG", JsonTypes.jsonSizeEstimates);
+            case FLOAT_PRIMITIVE -> CodeBlock.of("$T.FLOAT", JsonTypes.jsonSizeEstimates);
+            case DOUBLE_PRIMITIVE -> CodeBlock.of("$T.DOUBLE", JsonTypes.jsonSizeEstimates);
+            case BOOLEAN_OBJECT -> estimateNullable(value, "BOOLEAN");
+            case SHORT_OBJECT -> estimateNullable(value, "SHORT");
+            case INTEGER_OBJECT -> estimateNullable(value, "INT");
+            case LONG_OBJECT -> estimateNullable(value, "LONG");
+            case FLOAT_OBJECT -> estimateNullable(value, "FLOAT");
+            case DOUBLE_OBJECT -> estimateNullable(value, "DOUBLE");
+            case BIG_INTEGER, BIG_DECIMAL -> estimateNullable(value, "BIG_NUMBER");
+            case UUID -> estimateNullable(value, "UUID");
+        };
+    }
+
+    private static CodeBlock estimateNullable(CodeBlock value, String estimate) {
+        return CodeBlock.of("($L == null ? $T.NULL : $T.$L)", value, JsonTypes.jsonSizeEstimates, JsonTypes.jsonSizeEstimates, estimate);
+    }
+
     private CodeBlock writeKnownType(KnownType.KnownTypesEnum knownType, CodeBlock value) {
         return switch (knownType) {
             case STRING -> CodeBlock.of("_gen.writeString($L);\n", value);
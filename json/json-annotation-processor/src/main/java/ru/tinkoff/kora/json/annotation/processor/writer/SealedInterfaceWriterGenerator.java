@@ -62,6 +62,24 @@ public class SealedInterfaceWriterGenerator {
             .addStatement("throw new $T($S)", IllegalStateException.class, "Unsupported class")
             .endControlFlow();
         typeBuilder.addMethod(method.build());
+
+        var estimatedSize = MethodSpec.methodBuilder("estimatedSize")
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addParameter(ParameterSpec.builder(TypeName.get(jsonElement.asType()), "_object").addAnnotation(Nullable.class).build())
+            .addAnnotation(Override.class)
+            .returns(int.class);
+        estimatedSize.beginControlFlow("if (_object == null)")
+            .addStatement("return $T.NULL", JsonTypes.jsonSizeEstimates);
+        for (var elem : jsonElements) {
+            var writerName = getWriterFieldName(elem);
+            var elemErasure = types.erasure(elem.asType());
+            estimatedSize.nextControlFlow("else if (_object instanceof $T _o)", elemErasure)
+                .addStatement("return $L.estimatedSize(_o)", writerName);
+        }
+        estimatedSize.nextControlFlow("else")
+            .addStatement("return -1")
+            .endControlFlow();
+        typeBuilder.addMethod(estimatedSize.build());
         return typeBuilder.build();
     }
 
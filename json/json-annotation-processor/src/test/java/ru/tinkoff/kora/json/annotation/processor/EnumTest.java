@@ -7,6 +7,7 @@ import ru.tinkoff.kora.json.common.JsonReader;
 import ru.tinkoff.kora.json.common.JsonWriter;
 import ru.tinkoff.kora.kora.app.annotation.processor.KoraAppProcessor;
 
+import java.io.IOException;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +32,25 @@ public class EnumTest extends AbstractJsonAnnotationProcessorTest {
         mapper.verify(enumConstant("TestEnum", "VALUE2"), "\"VALUE2\"");
     }
 
+    @Test
+    public void testEnumEstimatedSize() throws IOException {
+        compile("""
+            @Json
+            public enum TestEnum {
+              VALUE1, LONGER_VALUE2
+            }
+            """);
+
+        compileResult.assertSuccess();
+
+        // values are prewritten, so estimate is exact even if value writer can't estimate size
+        var writer = writer("TestEnum", stringWriter);
+        for (var value : List.of(enumConstant("TestEnum", "VALUE1"), enumConstant("TestEnum", "LONGER_VALUE2"))) {
+            assertThat(writer.estimatedSize(value)).isEqualTo(writer.toByteArray(value).length);
+        }
+        assertThat(writer.estimatedSize(null)).isEqualTo(4);
+    }
+
     @Test
     public void testEnumWithCustomJsonValue() {
         compile("""
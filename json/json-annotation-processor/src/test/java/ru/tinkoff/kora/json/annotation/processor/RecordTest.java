@@ -3,6 +3,7 @@ package ru.tinkoff.kora.json.annotation.processor;
 import org.junit.jupiter.api.Test;
 import ru.tinkoff.kora.kora.app.annotation.processor.KoraAppProcessor;
 
+import java.io.IOException;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +24,22 @@ public class RecordTest extends AbstractJsonAnnotationProcessorTest {
     }
 
 
+    @Test
+    public void testRecordEstimatedSize() throws IOException {
+        compile("""
+            @Json
+            public record TestRecord(int value, String name, @Nullable Long id, @Nullable java.util.UUID uuid) {
+            }
+            """);
+
+        compileResult.assertSuccess();
+
+        var writer = writer("TestRecord");
+        var object = newObject("TestRecord", 42, "name", null, java.util.UUID.randomUUID());
+        assertThat(writer.estimatedSize(object)).isGreaterThanOrEqualTo(writer.toByteArray(object).length);
+        assertThat(writer.estimatedSize(null)).isEqualTo(4);
+    }
+
     @Test
     public void testReaderFromExtension() {
         compile(List.of(new KoraAppProcessor()), """
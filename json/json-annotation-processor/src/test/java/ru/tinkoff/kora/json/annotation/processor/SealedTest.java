@@ -41,6 +41,31 @@ public class SealedTest extends AbstractJsonAnnotationProcessorTest {
         assertThat(m.read(json2.getBytes(StandardCharsets.UTF_8))).isEqualTo(o2);
     }
 
+    @Test
+    public void testSealedInterfaceEstimatedSize() throws IOException {
+        compile("""
+            @Json
+            @JsonDiscriminatorField("@type")
+            public sealed interface TestInterface {
+                @Json
+                record Impl1(String value) implements TestInterface{}
+                @Json
+                record Impl2(int value) implements TestInterface{}
+            }
+            """);
+        var o1 = newObject("TestInterface$Impl1", "test");
+        var o2 = newObject("TestInterface$Impl2", 42);
+
+        var w1 = writer("TestInterface_Impl1");
+        var w2 = writer("TestInterface_Impl2");
+        var w = writer("TestInterface", w1, w2);
+
+        // discriminator is written by subtype writer, so sealed writer estimate is the one of subtype
+        assertThat(w.estimatedSize(o1)).isEqualTo(w1.estimatedSize(o1)).isGreaterThanOrEqualTo(w.toByteArray(o1).length);
+        assertThat(w.estimatedSize(o2)).isEqualTo(w2.estimatedSize(o2)).isGreaterThanOrEqualTo(w.toByteArray(o2).length);
+        assertThat(w.estimatedSize(null)).isEqualTo(4);
+    }
+
     @Test
     public void testSealedInterfaceWithField() throws IOException {
         compile("""
@@ -2,6 +2,7 @@ package ru.tinkoff.kora.json.common;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.json.common.util.JsonSizeEstimates;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -32,4 +33,12 @@ public final class EnumJsonWriter<T extends Enum<T>, V> implements JsonWriter<T>
         }
         gen.writeRawValue(this.values[object.ordinal()]);
     }
+
+    @Override
+    public int estimatedSize(@Nullable T object) {
+        if (object == null) {
+            return JsonSizeEstimates.NULL;
+        }
+        return this.values[object.ordinal()].value.length;
+    }
 }
@@ -2,9 +2,13 @@ package ru.tinkoff.kora.json.common;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
+import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.common.DefaultComponent;
+import ru.tinkoff.kora.json.common.util.JsonSizeEstimates;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.*;
@@ -54,11 +58,19 @@ public interface JsonCommonModule {
     }
 
     default JsonWriter<Integer> integerJsonWriter() {
-        return (gen, object) -> {
-            if (object == null) {
-                gen.writeNull();
-            } else {
-                gen.writeNumber(object);
+        return new JsonWriter<>() {
+            @Override
+            public void write(JsonGenerator gen, @Nullable Integer object) throws IOException {
+                if (object == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(object);
+                }
+            }
+
+            @Override
+            public int estimatedSize(@Nullable Integer object) {
+                return object == null ? JsonSizeEstimates.NULL : JsonSizeEstimates.INT;
             }
         };
     }
@@ -401,11 +413,19 @@ public interface JsonCommonModule {
     }
 
     default JsonWriter<Long> longJsonWriter() {
-        return (gen, object) -> {
-            if (object == null) {
-                gen.writeNull();
-            } else {
-                gen.writeNumber(object);
+        return new JsonWriter<>() {
+            @Override
+            public void write(JsonGenerator gen, @Nullable Long object) throws IOException {
+                if (object == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(object);
+                }
+            }
+
+            @Override
+            public int estimatedSize(@Nullable Long object) {
+                return object == null ? JsonSizeEstimates.NULL : JsonSizeEstimates.LONG;
             }
         };
     }
@@ -419,11 +439,19 @@ public interface JsonCommonModule {
     }
 
     default JsonWriter<Double> doubleJsonWriter() {
-        return (gen, object) -> {
-            if (object == null) {
-                gen.writeNull();
-            } else {
-                gen.writeNumber(object);
+        return new JsonWriter<>() {
+            @Override
+            public void write(JsonGenerator gen, @Nullable Double object) throws IOException {
+                if (object == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(object);
+                }
+            }
+
+            @Override
+            public int estimatedSize(@Nullable Double object) {
+                return object == null ? JsonSizeEstimates.NULL : JsonSizeEstimates.DOUBLE;
             }
         };
     }
@@ -437,11 +465,19 @@ public interface JsonCommonModule {
     }
 
     default JsonWriter<String> stringJsonWriter() {
-        return (gen, object) -> {
-            if (object == null) {
-                gen.writeNull();
-            } else {
-                gen.writeString(object);
+        return new JsonWriter<>() {
+            @Override
+            public void write(JsonGenerator gen, @Nullable String object) throws IOException {
+                if (object == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeString(object);
+                }
+            }
+
+            @Override
+            public int estimatedSize(@Nullable String object) {
+                return JsonSizeEstimates.string(object);
             }
         };
     }
@@ -455,11 +491,19 @@ public interface JsonCommonModule {
     }
 
     default JsonWriter<Boolean> booleanJsonWriter() {
-        return (gen, object) -> {
-            if (object == null) {
-                gen.writeNull();
-            } else {
-                gen.writeBoolean(object);
+        return new JsonWriter<>() {
+            @Override
+            public void write(JsonGenerator gen, @Nullable Boolean object) throws IOException {
+                if (object == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeBoolean(object);
+                }
+            }
+
+            @Override
+            public int estimatedSize(@Nullable Boolean object) {
+                return object == null ? JsonSizeEstimates.NULL : JsonSizeEstimates.BOOLEAN;
             }
         };
     }
@@ -474,11 +518,19 @@ public interface JsonCommonModule {
     }
 
     default JsonWriter<BigDecimal> bigDecimalJsonWriter() {
-        return (gen, bigDecimal) -> {
-            if (bigDecimal == null) {
-                gen.writeNull();
-            } else {
-                gen.writeNumber(bigDecimal);
+        return new JsonWriter<>() {
+            @Override
+            public void write(JsonGenerator gen, @Nullable BigDecimal bigDecimal) throws IOException {
+                if (bigDecimal == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(bigDecimal);
+                }
+            }
+
+            @Override
+            public int estimatedSize(@Nullable BigDecimal bigDecimal) {
+                return bigDecimal == null ? JsonSizeEstimates.NULL : JsonSizeEstimates.BIG_NUMBER;
             }
         };
     }
@@ -493,11 +545,19 @@ public interface JsonCommonModule {
 
 
     default JsonWriter<BigInteger> bigIntegerJsonWriter() {
-        return (gen, bigDecimal) -> {
-            if (bigDecimal == null) {
-                gen.writeNull();
-            } else {
-                gen.writeNumber(bigDecimal);
+        return new JsonWriter<>() {
+            @Override
+            public void write(JsonGenerator gen, @Nullable BigInteger bigInteger) throws IOException {
+                if (bigInteger == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(bigInteger);
+                }
+            }
+
+            @Override
+            public int estimatedSize(@Nullable BigInteger bigInteger) {
+                return bigInteger == null ? JsonSizeEstimates.NULL : JsonSizeEstimates.BIG_NUMBER;
             }
         };
     }
@@ -24,8 +24,21 @@ public interface JsonWriter<T> {
      */
     void write(JsonGenerator generator, @Nullable T object) throws IOException;
 
+    /**
+     * @param object to estimate serialized size of
+     * @return estimated size of object serialized to JSON in bytes or -1 if writer can't estimate it
+     * @see ru.tinkoff.kora.json.common.util.JsonSizeEstimates
+     */
+    default int estimatedSize(@Nullable T object) {
+        return -1;
+    }
+
     default byte[] toByteArray(@Nullable T value) throws IOException {
-        var bb = new ByteArrayBuilder(JsonCommonModule.JSON_FACTORY._getBufferRecycler());
+        var estimatedSize = this.estimatedSize(value);
+        // recycled concat buffer is 2000 bytes, larger values get single block of estimated size instead of chain of growing blocks
+        var bb = estimatedSize > 2000
+            ? new ByteArrayBuilder(estimatedSize)
+            : new ByteArrayBuilder(JsonCommonModule.JSON_FACTORY._getBufferRecycler());
         try (var gen = JsonCommonModule.JSON_FACTORY.createGenerator(bb, JsonEncoding.UTF8)) {
             gen.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
             this.write(gen, value);
@@ -1,6 +1,7 @@
 package ru.tinkoff.kora.json.common;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import ru.tinkoff.kora.json.common.util.JsonSizeEstimates;
 
 import jakarta.annotation.Nullable;
 import java.io.IOException;
@@ -26,4 +27,20 @@ public class MapJsonWriter<T> implements JsonWriter<Map<String, T>> {
         }
         gen.writeEndObject();
     }
+
+    @Override
+    public int estimatedSize(@Nullable Map<String, T> object) {
+        if (object == null) {
+            return JsonSizeEstimates.NULL;
+        }
+        var size = 2;
+        for (var field : object.entrySet()) {
+            // quoted key with colon and separating comma
+            size = JsonSizeEstimates.sum(size + JsonSizeEstimates.string(field.getKey()) + 2, this.writer.estimatedSize(field.getValue()));
+            if (size < 0) {
+                return -1;
+            }
+        }
+        return size;
+    }
 }
@@ -1,6 +1,7 @@
 package ru.tinkoff.kora.json.common;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import ru.tinkoff.kora.json.common.util.JsonSizeEstimates;
 
 import jakarta.annotation.Nullable;
 import java.io.IOException;
@@ -16,6 +17,14 @@ public class RawJsonWriter implements JsonWriter<RawJson> {
         }
     }
 
+    @Override
+    public int estimatedSize(@Nullable RawJson object) {
+        if (object == null) {
+            return JsonSizeEstimates.NULL;
+        }
+        return object.value.length;
+    }
+
     @Override
     public byte[] toByteArray(@Nullable RawJson object) throws IOException {
         if (object == null) {
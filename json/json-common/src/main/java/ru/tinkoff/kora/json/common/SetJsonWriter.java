@@ -1,6 +1,7 @@
 package ru.tinkoff.kora.json.common;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import ru.tinkoff.kora.json.common.util.JsonSizeEstimates;
 
 import jakarta.annotation.Nullable;
 import java.io.IOException;
@@ -25,4 +26,20 @@ public class SetJsonWriter<T> implements JsonWriter<Set<T>> {
             gen.writeEndArray();
         }
     }
+
+    @Override
+    public int estimatedSize(@Nullable Set<T> object) {
+        if (object == null) {
+            return JsonSizeEstimates.NULL;
+        }
+        // brackets and commas
+        var size = object.isEmpty() ? 2 : object.size() + 1;
+        for (var element : object) {
+            size = JsonSizeEstimates.sum(size, this.writer.estimatedSize(element));
+            if (size < 0) {
+                return -1;
+            }
+        }
+        return size;
+    }
 }
@@ -3,6 +3,7 @@ package ru.tinkoff.kora.json.common;
 import com.fasterxml.jackson.core.*;
 
 import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.json.common.util.JsonSizeEstimates;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.UUID;
@@ -24,6 +25,11 @@ public class UuidJsonCodec implements JsonReader<UUID>, JsonWriter<UUID> {
         }
     }
 
+    @Override
+    public int estimatedSize(@Nullable UUID object) {
+        return object == null ? JsonSizeEstimates.NULL : JsonSizeEstimates.UUID;
+    }
+
     @Override
     public void write(JsonGenerator gen, @Nullable UUID object) throws IOException {
         if (object == null) {
@@ -1,13 +1,27 @@
 package ru.tinkoff.kora.json.common.util;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.ContentReference;
+import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.json.common.JsonCommonModule;
 
 import java.io.IOException;
+import java.util.List;
 
 public class DiscriminatorHelper {
+    private static final char[] START_OBJECT = new char[]{'{'};
+
+    /**
+     * @param discriminator value of discriminator field
+     * @param parser        parser positioned at START_OBJECT of the object discriminator was read from
+     */
+    public record DiscriminatedObject(String discriminator, JsonParser parser) {}
+
     @Nullable
     public static String readStringDiscriminator(BufferingJsonParser parser, String fieldName) throws IOException {
         var token = parser.currentToken();
@@ -24,4 +38,54 @@ public class DiscriminatorHelper {
         }
         return parser.getValueAsString();
     }
+
+    /**
+     * Reads string discriminator of object parser is positioned at.
+     * When discriminator is the first field of object only three tokens are buffered, otherwise object is buffered up to discriminator.
+     *
+     * @return null if object has no discriminator field
+     */
+    @Nullable
+    public static DiscriminatedObject readDiscriminatedObject(JsonParser parser, SerializedString fieldName) throws IOException {
+        assert parser.currentToken() == JsonToken.START_OBJECT;
+        final JsonParser objectParser;
+        final String discriminator;
+        if (parser.nextFieldName(fieldName)) {
+            if (parser.nextToken() != JsonToken.VALUE_STRING) {
+                throw new JsonParseException(parser, "Expecting VALUE_STRING token, got " + parser.currentToken());
+            }
+            discriminator = parser.getText();
+            var prefix = List.of(
+                new JsonSegment(JsonToken.START_OBJECT, START_OBJECT, false),
+                new JsonSegment(JsonToken.FIELD_NAME, fieldName.getValue().toCharArray(), false),
+                new JsonSegment(JsonToken.VALUE_STRING, discriminator.toCharArray(), false)
+            );
+            objectParser = JsonParserSequence.createFlattened(false, segmentParser(parser, prefix), parser);
+        } else {
+            if (parser.currentToken() == JsonToken.END_OBJECT) {
+                return null;
+            }
+            // parser is on the name of other field, object is buffered from it
+            var bufferingParser = new BufferingJsonParser(parser);
+            while (!bufferingParser.nextFieldName(fieldName)) {
+                if (bufferingParser.currentToken() == JsonToken.END_OBJECT) {
+                    return null;
+                }
+                bufferingParser.skipChildren();
+            }
+            if (bufferingParser.nextToken() != JsonToken.VALUE_STRING) {
+                throw new JsonParseException(parser, "Expecting VALUE_STRING token, got " + bufferingParser.currentToken());
+            }
+            discriminator = bufferingParser.getValueAsString();
+            var startObject = segmentParser(parser, List.of(new JsonSegment(JsonToken.START_OBJECT, START_OBJECT, false)));
+            objectParser = JsonParserSequence.createFlattened(false, startObject, JsonParserSequence.createFlattened(false, bufferingParser.reset(), parser));
+        }
+        objectParser.nextToken();
+        return new DiscriminatedObject(discriminator, objectParser);
+    }
+
+    private static JsonSegmentJsonParser segmentParser(JsonParser parser, List<JsonSegment> segments) {
+        var context = new IOContext(JsonCommonModule.JSON_FACTORY._getBufferRecycler(), ContentReference.rawReference(parser), false);
+        return new JsonSegmentJsonParser(context, parser.getFeatureMask(), segments);
+    }
 }
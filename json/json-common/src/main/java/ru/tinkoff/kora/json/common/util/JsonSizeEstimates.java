@@ -0,0 +1,40 @@
+package ru.tinkoff.kora.json.common.util;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Serialized size estimates of JSON values in bytes used by {@link ru.tinkoff.kora.json.common.JsonWriter#estimatedSize(Object)}.
+ * Numbers are estimated with their longest representation, strings with their length as if they had no escaped or multibyte characters.
+ */
+public final class JsonSizeEstimates {
+    public static final int NULL = 4;
+    public static final int BOOLEAN = 5;
+    public static final int SHORT = 6;
+    public static final int INT = 11;
+    public static final int LONG = 20;
+    public static final int FLOAT = 15;
+    public static final int DOUBLE = 24;
+    public static final int BIG_NUMBER = 32;
+    public static final int UUID = 38;
+
+    private JsonSizeEstimates() {}
+
+    public static int string(@Nullable CharSequence value) {
+        return value == null ? NULL : value.length() + 2;
+    }
+
+    public static int binary(@Nullable byte[] value) {
+        return value == null ? NULL : (value.length + 2) / 3 * 4 + 2;
+    }
+
+    /**
+     * @return sum of sizes or -1 if any of them is unknown
+     */
+    public static int sum(int size1, int size2) {
+        if (size1 < 0 || size2 < 0) {
+            return -1;
+        }
+        var sum = size1 + size2;
+        return sum < 0 ? Integer.MAX_VALUE : sum;
+    }
+}
@@ -0,0 +1,64 @@
+package ru.tinkoff.kora.json.common.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.core.io.ContentReference;
+import com.fasterxml.jackson.core.io.IOContext;
+import ru.tinkoff.kora.json.common.JsonCommonModule;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Tokenizes JSON received in chunks with Jackson non-blocking parser as chunks arrive, so input is never collected into single array.
+ * Chunk is consumed completely by {@link #feed(ByteBuffer)} and is not referenced after it returns, so its buffer can be reused.
+ * <p>
+ * Generated readers pull tokens from {@link JsonParser} and can't be suspended in the middle of the value,
+ * so tokens are buffered like in {@link BufferingJsonParser} and are read with {@link JsonSegmentJsonParser} when input is complete.
+ */
+public final class NonBlockingJsonSegmentCollector {
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private final ArrayList<JsonSegment> segments = new ArrayList<>();
+
+    public NonBlockingJsonSegmentCollector() throws IOException {
+        this.parser = JsonCommonModule.JSON_FACTORY.createNonBlockingByteBufferParser();
+        this.feeder = (ByteBufferFeeder) this.parser.getNonBlockingInputFeeder();
+    }
+
+    public void feed(ByteBuffer chunk) throws IOException {
+        if (!chunk.hasRemaining()) {
+            return;
+        }
+        this.feeder.feedInput(chunk);
+        this.collect();
+    }
+
+    /**
+     * @return parser over collected tokens, not positioned on first token yet
+     */
+    public JsonParser complete() throws IOException {
+        this.feeder.endOfInput();
+        this.collect();
+        this.parser.close();
+        var context = new IOContext(JsonCommonModule.JSON_FACTORY._getBufferRecycler(), ContentReference.rawReference(this.segments), false);
+        return new JsonSegmentJsonParser(context, this.parser.getFeatureMask(), this.segments);
+    }
+
+    private void collect() throws IOException {
+        JsonToken token;
+        // parser returns NOT_AVAILABLE only when fed chunk is consumed
+        while ((token = this.parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            var textCharacters = this.parser.getTextCharacters();
+            var textOffset = this.parser.getTextOffset();
+            var textLength = this.parser.getTextLength();
+            var data = textCharacters == null ? new char[0] : Arrays.copyOfRange(textCharacters, textOffset, textOffset + textLength);
+            // number text is exactly as in input, so sign is known without parsing number
+            var isNegative = token.isNumeric() && data.length > 0 && data[0] == '-';
+            this.segments.add(new JsonSegment(token, data, isNegative));
+        }
+    }
+}
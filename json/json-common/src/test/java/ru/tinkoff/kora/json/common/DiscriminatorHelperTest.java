@@ -0,0 +1,52 @@
+package ru.tinkoff.kora.json.common;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.json.common.util.DiscriminatorHelper;
+
+import java.io.IOException;
+
+public class DiscriminatorHelperTest {
+    private static final SerializedString TYPE = new SerializedString("@type");
+
+    @Test
+    void discriminatorFirst() throws IOException {
+        assertDiscriminated("""
+            {"@type":"first","value":{"nested":[1,-2.5,"str"]},"other":null}
+            """, "first");
+    }
+
+    @Test
+    void discriminatorNotFirst() throws IOException {
+        assertDiscriminated("""
+            {"value":{"nested":[1,-2.5,"str"]},"@type":"last","other":null}
+            """, "last");
+    }
+
+    @Test
+    void discriminatorMissing() throws IOException {
+        for (var json : new String[]{"{}", "{\"value\":{\"@type\":\"nested\"}}"}) {
+            try (var parser = JsonCommonModule.JSON_FACTORY.createParser(json)) {
+                parser.nextToken();
+                Assertions.assertThat(DiscriminatorHelper.readDiscriminatedObject(parser, TYPE)).isNull();
+            }
+        }
+    }
+
+    private static void assertDiscriminated(String json, String discriminator) throws IOException {
+        Object expected;
+        try (var parser = JsonCommonModule.JSON_FACTORY.createParser(json)) {
+            parser.nextToken();
+            expected = JsonObjectCodec.parse(parser);
+        }
+        try (var parser = JsonCommonModule.JSON_FACTORY.createParser(json)) {
+            parser.nextToken();
+            var discriminated = DiscriminatorHelper.readDiscriminatedObject(parser, TYPE);
+            Assertions.assertThat(discriminated).isNotNull();
+            Assertions.assertThat(discriminated.discriminator()).isEqualTo(discriminator);
+            Assertions.assertThat(JsonObjectCodec.parse(discriminated.parser())).isEqualTo(expected);
+            Assertions.assertThat(discriminated.parser().nextToken()).isNull();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ru.tinkoff.kora.json.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonWriterEstimatedSizeTest {
+    private final JsonCommonModule module = new JsonCommonModule() {};
+    private final JsonWriter<String> unknownSizeWriter = JsonGenerator::writeString;
+
+    enum TestEnum {
+        VALUE1, LONGER_VALUE2
+    }
+
+    @Test
+    void listEstimatedSize() throws IOException {
+        var writer = this.module.listJsonWriterFactory(this.module.stringJsonWriter());
+
+        assertEstimatedSizeIsExact(writer, List.of());
+        assertEstimatedSizeIsExact(writer, List.of("a"));
+        assertEstimatedSizeIsExact(writer, List.of("a", "bc", "def"));
+        assertThat(writer.estimatedSize(null)).isEqualTo(4);
+    }
+
+    @Test
+    void listOfUnknownSizeElementsIsUnknown() {
+        var writer = this.module.listJsonWriterFactory(this.unknownSizeWriter);
+
+        assertThat(writer.estimatedSize(List.of("a", "b"))).isEqualTo(-1);
+        assertThat(writer.estimatedSize(List.of())).isEqualTo(2);
+    }
+
+    @Test
+    void setEstimatedSize() throws IOException {
+        var writer = this.module.setJsonWriterFactory(this.module.integerJsonWriter());
+        var set = new LinkedHashSet<>(List.of(Integer.MIN_VALUE, 1));
+
+        assertEstimatedSizeIsExact(writer, Set.of());
+        // numbers are estimated with their longest representation
+        assertThat(writer.estimatedSize(set)).isGreaterThanOrEqualTo(writer.toByteArray(set).length);
+        assertThat(writer.estimatedSize(null)).isEqualTo(4);
+        assertThat(this.module.setJsonWriterFactory(this.unknownSizeWriter).estimatedSize(Set.of("a"))).isEqualTo(-1);
+    }
+
+    @Test
+    void mapEstimatedSize() throws IOException {
+        var writer = this.module.mapJsonWriterFactory(this.module.stringJsonWriter());
+        var map = new LinkedHashMap<String, String>();
+        map.put("k1", "v1");
+        map.put("key2", null);
+
+        assertEstimatedSizeIsExact(writer, Map.of());
+        // separating comma is counted for every field
+        assertThat(writer.estimatedSize(map)).isEqualTo(writer.toByteArray(map).length + 1);
+        assertThat(writer.estimatedSize(null)).isEqualTo(4);
+        assertThat(this.module.mapJsonWriterFactory(this.unknownSizeWriter).estimatedSize(Map.of("k", "v"))).isEqualTo(-1);
+    }
+
+    @Test
+    void enumEstimatedSize() throws IOException {
+        var writer = new EnumJsonWriter<>(TestEnum.values(), TestEnum::name, this.unknownSizeWriter);
+
+        // enum values are prewritten, so their size is known even if value writer can't estimate it
+        assertEstimatedSizeIsExact(writer, TestEnum.VALUE1);
+        assertEstimatedSizeIsExact(writer, TestEnum.LONGER_VALUE2);
+        assertThat(writer.estimatedSize(null)).isEqualTo(4);
+    }
+
+    private static <T> void assertEstimatedSizeIsExact(JsonWriter<T> writer, T value) throws IOException {
+        assertThat(writer.estimatedSize(value)).isEqualTo(writer.toByteArray(value).length);
+    }
+}
@@ -14,10 +14,18 @@ import java.nio.ByteBuffer;
 import java.util.concurrent.Flow;
 
 public final class JsonHttpBodyOutput<T> implements HttpBodyOutput {
+    /**
+     * Values estimated to fit that size are serialized when content length is requested, so they are sent with known length instead of chunks
+     */
+    private static final int MAX_PREWRITTEN_SIZE = 64 * 1024;
+
     private final JsonWriter<T> writer;
     private final Context context;
     @Nullable
     private final T value;
+    @Nullable
+    private volatile byte[] bytes;
+    private volatile boolean prewriteAttempted;
 
     public JsonHttpBodyOutput(JsonWriter<T> writer, Context context, @Nullable T value) {
         this.writer = writer;
@@ -27,7 +35,30 @@ public final class JsonHttpBodyOutput<T> implements HttpBodyOutput {
 
     @Override
     public long contentLength() {
-        return -1;
+        var bytes = this.prewrite();
+        return (bytes == null) ? -1 : bytes.length;
+    }
+
+    @Nullable
+    private byte[] prewrite() {
+        if (!this.prewriteAttempted) {
+            this.prewriteAttempted = true;
+            var estimatedSize = this.writer.estimatedSize(this.value);
+            if (estimatedSize >= 0 && estimatedSize <= MAX_PREWRITTEN_SIZE) {
+                // writer is called in the same context it gets when body is subscribed
+                var ctx = Context.current();
+                this.context.inject();
+                try {
+                    this.bytes = this.writer.toByteArray(this.value);
+                } catch (IOException | RuntimeException e) {
+                    // same error is thrown when body is written
+                    return null;
+                } finally {
+                    ctx.inject();
+                }
+            }
+        }
+        return this.bytes;
     }
 
     @Override
@@ -38,13 +69,18 @@ public final class JsonHttpBodyOutput<T> implements HttpBodyOutput {
     @Override
     public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
         subscriber.onSubscribe(new LazySingleSubscription<>(subscriber, context, () -> {
-            var resultBytes = this.writer.toByteArray(value);
-            return ByteBuffer.wrap(resultBytes);
+            var bytes = this.bytes;
+            return ByteBuffer.wrap((bytes != null) ? bytes : this.writer.toByteArray(value));
         }));
     }
 
     @Override
     public void write(OutputStream os) throws IOException {
+        var bytes = this.bytes;
+        if (bytes != null) {
+            os.write(bytes);
+            return;
+        }
         try (var gen = JsonModule.JSON_FACTORY.createGenerator(os, JsonEncoding.UTF8)) {
             this.writer.write(gen, this.value);
         }
@@ -1,15 +1,17 @@
 package ru.tinkoff.kora.json.module.http.server;
 
 import ru.tinkoff.kora.common.util.ByteBufferInputStream;
-import ru.tinkoff.kora.common.util.FlowUtils;
 import ru.tinkoff.kora.http.server.common.HttpServerRequest;
 import ru.tinkoff.kora.http.server.common.handler.HttpServerRequestMapper;
 import ru.tinkoff.kora.json.common.JsonReader;
+import ru.tinkoff.kora.json.common.util.NonBlockingJsonSegmentCollector;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 
 public final class JsonReaderAsyncHttpServerRequestMapper<T> implements HttpServerRequestMapper<CompletionStage<T>> {
     private final JsonReader<T> reader;
@@ -31,13 +33,67 @@ public final class JsonReaderAsyncHttpServerRequestMapper<T> implements HttpServ
                 }
             }
         }
-        return FlowUtils.toByteArrayFuture(request.body())
-            .thenApply(bytes -> {
-                try {
-                    return this.reader.read(bytes);
-                } catch (IOException e) {
-                    throw new CompletionException(e);
+        // chunks are tokenized by non-blocking parser as they arrive, one chunk is requested at a time
+        var subscriber = new JsonBodySubscriber<>(this.reader, new NonBlockingJsonSegmentCollector());
+        body.subscribe(subscriber);
+        return subscriber.future;
+    }
+
+    private static final class JsonBodySubscriber<T> implements Flow.Subscriber<ByteBuffer> {
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final JsonReader<T> reader;
+        private final NonBlockingJsonSegmentCollector collector;
+        private volatile Flow.Subscription subscription;
+
+        private JsonBodySubscriber(JsonReader<T> reader, NonBlockingJsonSegmentCollector collector) {
+            this.reader = reader;
+            this.collector = collector;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            this.future.whenComplete((value, error) -> {
+                if (error instanceof CancellationException) {
+                    subscription.cancel();
                 }
             });
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            if (this.future.isDone()) {
+                return;
+            }
+            try {
+                this.collector.feed(item);
+            } catch (Throwable e) {
+                this.subscription.cancel();
+                this.future.completeExceptionally(e);
+                return;
+            }
+            // chunk is consumed and its buffer is free to be reused, so next one is requested only now
+            this.subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.future.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (this.future.isDone()) {
+                return;
+            }
+            try {
+                var parser = this.collector.complete();
+                parser.nextToken();
+                this.future.complete(this.reader.read(parser));
+            } catch (Throwable e) {
+                this.future.completeExceptionally(e);
+            }
+        }
     }
 }
@@ -0,0 +1,159 @@
+package ru.tinkoff.kora.json.module.http;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.json.common.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonHttpBodyOutputTest {
+
+    @Test
+    void contentLengthIsLengthOfWrittenBytes() throws Exception {
+        var writer = new TestWriter(7);
+        var output = new JsonHttpBodyOutput<>(writer, Context.current(), "hello");
+
+        assertThat(output.contentLength()).isEqualTo(7);
+        var bytes = subscribe(output);
+
+        assertThat(bytes).asString(StandardCharsets.UTF_8).isEqualTo("\"hello\"");
+        assertThat(output.contentLength()).isEqualTo(bytes.length);
+        // value is serialized once, when content length is requested
+        assertThat(writer.writes).hasValue(1);
+    }
+
+    @Test
+    void writeReusesPrewrittenBytes() throws IOException {
+        var writer = new TestWriter(100);
+        var output = new JsonHttpBodyOutput<>(writer, Context.current(), "hello");
+
+        var contentLength = output.contentLength();
+        var os = new ByteArrayOutputStream();
+        output.write(os);
+
+        assertThat(os.toByteArray()).asString(StandardCharsets.UTF_8).isEqualTo("\"hello\"");
+        assertThat(contentLength).isEqualTo(os.size());
+        assertThat(writer.writes).hasValue(1);
+    }
+
+    @Test
+    void valueIsSerializedOnSubscribeWithoutContentLength() throws Exception {
+        var writer = new TestWriter(7);
+        var output = new JsonHttpBodyOutput<>(writer, Context.current(), "hello");
+
+        assertThat(subscribe(output)).asString(StandardCharsets.UTF_8).isEqualTo("\"hello\"");
+        assertThat(writer.writes).hasValue(1);
+    }
+
+    @Test
+    void largeValueIsStreamed() throws Exception {
+        var writer = new TestWriter(64 * 1024 + 1);
+        var output = new JsonHttpBodyOutput<>(writer, Context.current(), "hello");
+
+        assertThat(output.contentLength()).isEqualTo(-1);
+        assertThat(writer.writes).hasValue(0);
+
+        var os = new ByteArrayOutputStream();
+        output.write(os);
+        assertThat(os.toByteArray()).asString(StandardCharsets.UTF_8).isEqualTo("\"hello\"");
+        assertThat(subscribe(output)).asString(StandardCharsets.UTF_8).isEqualTo("\"hello\"");
+        assertThat(writer.writes).hasValue(2);
+    }
+
+    @Test
+    void valueOfUnknownSizeIsStreamed() throws Exception {
+        var writer = new TestWriter(-1);
+        var output = new JsonHttpBodyOutput<>(writer, Context.current(), "hello");
+
+        assertThat(output.contentLength()).isEqualTo(-1);
+        assertThat(writer.writes).hasValue(0);
+        assertThat(subscribe(output)).asString(StandardCharsets.UTF_8).isEqualTo("\"hello\"");
+        assertThat(writer.writes).hasValue(1);
+    }
+
+    @Test
+    void writerErrorIsThrownOnSubscribe() {
+        var writer = new TestWriter(7);
+        writer.error = new IllegalStateException("test");
+        var output = new JsonHttpBodyOutput<>(writer, Context.current(), "hello");
+
+        assertThat(output.contentLength()).isEqualTo(-1);
+        assertThat(writer.writes).hasValue(1);
+        // prewrite is not retried, but the value is serialized once more when body is subscribed
+        assertThat(output.contentLength()).isEqualTo(-1);
+        assertThat(writer.writes).hasValue(1);
+
+        assertThatThrownBy(() -> subscribe(output))
+            .isInstanceOf(ExecutionException.class)
+            .hasCause(writer.error);
+        assertThat(writer.writes).hasValue(2);
+    }
+
+    private static byte[] subscribe(JsonHttpBodyOutput<?> output) throws Exception {
+        var result = new CompletableFuture<byte[]>();
+        output.subscribe(new Flow.Subscriber<>() {
+            private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                var array = new byte[item.remaining()];
+                item.get(array);
+                this.bytes.writeBytes(array);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(this.bytes.toByteArray());
+            }
+        });
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private static final class TestWriter implements JsonWriter<String> {
+        private final int estimatedSize;
+        private final AtomicInteger writes = new AtomicInteger();
+        @Nullable
+        private RuntimeException error;
+
+        private TestWriter(int estimatedSize) {
+            this.estimatedSize = estimatedSize;
+        }
+
+        @Override
+        public void write(JsonGenerator generator, @Nullable String object) throws IOException {
+            this.writes.incrementAndGet();
+            if (this.error != null) {
+                throw this.error;
+            }
+            generator.writeString(object);
+        }
+
+        @Override
+        public int estimatedSize(@Nullable String object) {
+            return this.estimatedSize;
+        }
+    }
+}
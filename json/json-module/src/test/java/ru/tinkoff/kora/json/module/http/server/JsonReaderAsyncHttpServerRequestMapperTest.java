@@ -0,0 +1,186 @@
+package ru.tinkoff.kora.json.module.http.server;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.http.common.body.HttpBodyInput;
+import ru.tinkoff.kora.http.server.common.HttpServerRequest;
+import ru.tinkoff.kora.json.common.JsonCommonModule;
+import ru.tinkoff.kora.json.common.JsonReader;
+import ru.tinkoff.kora.json.common.ListJsonReader;
+import ru.tinkoff.kora.json.common.MapJsonReader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JsonReaderAsyncHttpServerRequestMapperTest {
+
+    private static final JsonCommonModule MODULE = new JsonCommonModule() {};
+
+    @Test
+    void multiChunkBodyIsReadWithOneChunkRequestedAtTime() throws Exception {
+        var body = new ChunkedBody();
+        var result = this.map(new MapJsonReader<>(new ListJsonReader<>(MODULE.integerJsonReader())), body);
+
+        assertThat(body.requested).isEqualTo(1);
+        body.send("{\"first\":[1,-2,");
+        assertThat(body.requested).isEqualTo(1);
+        body.send("3],\"second\":[-2147483648,2147483647]");
+        assertThat(body.requested).isEqualTo(1);
+        body.send("}");
+        assertThat(result).isNotDone();
+        body.complete();
+
+        assertThat(get(result)).isEqualTo(Map.of(
+            "first", List.of(1, -2, 3),
+            "second", List.of(Integer.MIN_VALUE, Integer.MAX_VALUE)
+        ));
+    }
+
+    @Test
+    void tokenSplitBetweenChunksIsRead() throws Exception {
+        var json = "{\"field\":\"value with \\\"escape\\\" and юникод\",\"other\":\"-12345\"}";
+        var bytes = json.getBytes(StandardCharsets.UTF_8);
+        var body = new ChunkedBody();
+        var result = this.map(new MapJsonReader<>(MODULE.stringJsonReader()), body);
+
+        // every byte is separate chunk, so every token and multibyte character is split
+        for (var b : bytes) {
+            body.send(new byte[]{b});
+        }
+        body.complete();
+
+        assertThat(get(result)).isEqualTo(Map.of("field", "value with \"escape\" and юникод", "other", "-12345"));
+    }
+
+    @Test
+    void chunkIsNotReferencedAfterItIsConsumed() throws Exception {
+        var body = new ChunkedBody();
+        var result = this.map(new ListJsonReader<>(MODULE.stringJsonReader()), body);
+        var buffer = ByteBuffer.allocateDirect(16);
+
+        for (var chunk : List.of("[\"ab", "cd\",\"e", "f\"]")) {
+            buffer.clear();
+            buffer.put(chunk.getBytes(StandardCharsets.UTF_8)).flip();
+            // same buffer is refilled with next chunk as soon as previous one is consumed
+            body.send(buffer);
+        }
+        body.complete();
+
+        assertThat(get(result)).containsExactly("abcd", "ef");
+    }
+
+    @Test
+    void malformedBodyFailsAndCancelsUpstream() {
+        var body = new ChunkedBody();
+        var result = this.map(new MapJsonReader<>(MODULE.stringJsonReader()), body);
+
+        body.send("{\"field\":}");
+
+        assertThat(body.cancelled).isTrue();
+        assertThatThrownBy(() -> get(result)).hasCauseInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    void upstreamErrorFailsResult() {
+        var body = new ChunkedBody();
+        var result = this.map(new MapJsonReader<>(MODULE.stringJsonReader()), body);
+        var error = new IOException("test");
+
+        body.send("{\"field\":");
+        body.subscriber.onError(error);
+
+        assertThatThrownBy(() -> get(result)).hasCause(error);
+    }
+
+    @Test
+    void resultCancellationCancelsUpstream() {
+        var body = new ChunkedBody();
+        var result = this.map(new MapJsonReader<>(MODULE.stringJsonReader()), body);
+
+        body.send("{\"field\":");
+        result.toCompletableFuture().cancel(true);
+
+        assertThat(body.cancelled).isTrue();
+    }
+
+    private <T> CompletionStage<T> map(JsonReader<T> reader, ChunkedBody body) {
+        var request = mock(HttpServerRequest.class);
+        when(request.body()).thenReturn(body);
+        try {
+            return new JsonReaderAsyncHttpServerRequestMapper<>(reader).apply(request);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T get(CompletionStage<T> stage) throws ExecutionException, InterruptedException, TimeoutException {
+        return stage.toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    private static final class ChunkedBody implements HttpBodyInput, Flow.Subscription {
+        private Flow.Subscriber<? super ByteBuffer> subscriber;
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            this.requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        void send(String chunk) {
+            this.send(chunk.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void send(byte[] chunk) {
+            this.send(ByteBuffer.wrap(chunk));
+        }
+
+        void send(ByteBuffer chunk) {
+            assertThat(this.requested).isPositive();
+            this.requested--;
+            this.subscriber.onNext(chunk);
+        }
+
+        void complete() {
+            this.subscriber.onComplete();
+        }
+
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public String contentType() {
+            return "application/json";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
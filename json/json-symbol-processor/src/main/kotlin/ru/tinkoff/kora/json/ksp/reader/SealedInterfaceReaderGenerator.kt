@@ -47,11 +47,15 @@ class SealedInterfaceReaderGenerator(private val resolver: Resolver, logger: KSP
             .addModifiers(KModifier.PUBLIC, KModifier.OVERRIDE)
             .addParameter("__parser", JsonTypes.jsonParser)
             .returns(typeName.copy(nullable = true))
-        function.addCode("val bufferingParser = %T(__parser)\n", JsonTypes.bufferingJsonParser)
-        function.addCode("val discriminator = %T.readStringDiscriminator(bufferingParser, %S)\n", JsonTypes.discriminatorHelper, discriminatorField);
-        function.addCode("if (discriminator == null) throw %T(__parser, %S)\n", JsonTypes.jsonParseException, "Discriminator required, but not provided");
-        function.addCode("val bufferedParser = %T.createFlattened(false, bufferingParser.reset(), __parser)\n", JsonTypes.jsonParserSequence)
-        function.addCode("bufferedParser.nextToken()\n")
+        typeBuilder.addProperty(
+            PropertySpec.builder("discriminatorField", JsonTypes.serializedString, KModifier.PRIVATE)
+                .initializer("%T(%S)", JsonTypes.serializedString, discriminatorField)
+                .build()
+        )
+        function.addCode("val discriminated = %T.readDiscriminatedObject(__parser, discriminatorField)\n", JsonTypes.discriminatorHelper)
+        function.addCode("if (discriminated == null) throw %T(__parser, %S)\n", JsonTypes.jsonParseException, "Discriminator required, but not provided")
+        function.addCode("val discriminator = discriminated.discriminator\n")
+        function.addCode("val bufferedParser = discriminated.parser\n")
         function.beginControlFlow("return when(discriminator) {")
         subclasses.forEach { elem ->
             val readerName = getReaderFieldName(elem)
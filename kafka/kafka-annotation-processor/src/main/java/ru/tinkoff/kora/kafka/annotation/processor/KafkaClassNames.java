@@ -33,6 +33,7 @@ public final class KafkaClassNames {
     public static final ClassName recordKeyDeserializationException = ClassName.get("ru.tinkoff.kora.kafka.common.exceptions", "RecordKeyDeserializationException");
     public static final ClassName recordValueDeserializationException = ClassName.get("ru.tinkoff.kora.kafka.common.exceptions", "RecordValueDeserializationException");
     public static final ClassName recordPublisherException = ClassName.get("ru.tinkoff.kora.kafka.common.exceptions", "KafkaPublishException");
+    public static final ClassName batchSender = ClassName.get("ru.tinkoff.kora.kafka.common.producer", "KafkaBatchSender");
 
 
     public static final ClassName recordHandler = ClassName.get("ru.tinkoff.kora.kafka.common.consumer.containers.handlers", "KafkaRecordHandler");
@@ -76,7 +76,7 @@ public class KafkaConsumerContainerGenerator {
         methodBuilder.endControlFlow();
         methodBuilder.addCode("return new $T<>(config, config.topics().get(0), keyDeserializer, valueDeserializer, telemetry, wrappedHandler);", kafkaAssignConsumerContainer);
         methodBuilder.addCode("$<\n} else {$>\n");
-        methodBuilder.addCode("return new $T<>(config, keyDeserializer, valueDeserializer, wrappedHandler, rebalanceListener);", kafkaSubscribeConsumerContainer);
+        methodBuilder.addCode("return new $T<>(config, keyDeserializer, valueDeserializer, telemetry, wrappedHandler, rebalanceListener);", kafkaSubscribeConsumerContainer);
         methodBuilder.addCode("$<\n}\n");
         return methodBuilder.build();
     }
@@ -274,6 +274,9 @@ final class KafkaPublisherGenerator {
     }
 
     private MethodSpec generatePublisherExecutableMethod(ExecutableElement publishMethod, KafkaPublisherUtils.PublisherData publishData, String topicVariable, String keyParserName, String valueParserName) {
+        if (publishData.recordsVar() != null) {
+            return generateBatchPublisherExecutableMethod(publishMethod, publishData, keyParserName, valueParserName);
+        }
         var methodBuilder = CommonUtils.overridingKeepAop(publishMethod);
         var b = CodeBlock.builder();
         if (publishData.recordVar() != null) {
@@ -352,6 +355,58 @@ final class KafkaPublisherGenerator {
         return methodBuilder.build();
     }
 
+    private MethodSpec generateBatchPublisherExecutableMethod(ExecutableElement publishMethod, KafkaPublisherUtils.PublisherData publishData, String keyParserName, String valueParserName) {
+        var methodBuilder = CommonUtils.overridingKeepAop(publishMethod);
+        var records = publishData.recordsVar();
+        var recordsType = (ParameterizedTypeName) TypeName.get(records.asType()).withoutAnnotations();
+        var byteRecord = ParameterizedTypeName.get(producerRecord, ArrayTypeName.of(TypeName.BYTE), ArrayTypeName.of(TypeName.BYTE));
+        var metadataList = ParameterizedTypeName.get(ClassName.get(List.class), recordMetadata);
+
+        var b = CodeBlock.builder();
+        if (recordsType.rawType.equals(ClassName.get(java.util.stream.Stream.class))) {
+            b.addStatement("var _source = $N.toList()", records.getSimpleName());
+        } else {
+            b.addStatement("var _source = $N", records.getSimpleName());
+        }
+        b.addStatement("var _records = new $T<$T>(_source.size())", ArrayList.class, byteRecord);
+        b.beginControlFlow("for (var _record : _source)");
+        b.addStatement("var _headers = _record.headers()");
+        b.addStatement("var _key = $N.serialize(_record.topic(), _headers, _record.key())", keyParserName);
+        b.addStatement("var _value = $N.serialize(_record.topic(), _headers, _record.value())", valueParserName);
+        b.addStatement("_records.add(new $T<>(_record.topic(), _record.partition(), _record.timestamp(), _key, _value, _headers))", producerRecord);
+        b.endControlFlow();
+        b.addStatement("var _future = $T.send(this.delegate, this.telemetry, _records)", batchSender);
+
+        var returnType = TypeName.get(publishMethod.getReturnType());
+        if (returnType instanceof ParameterizedTypeName ptn && (ptn.rawType.equals(ClassName.get(CompletionStage.class)) || ptn.rawType.equals(ClassName.get(CompletableFuture.class)) || ptn.rawType.equals(ClassName.get(Future.class)))) {
+            var resultType = ptn.typeArguments.get(0).withoutAnnotations();
+            if (resultType.equals(ClassName.get(Void.class))) {
+                b.addStatement("return _future.thenApply(_r -> null)");
+            } else if (resultType.equals(metadataList) || resultType instanceof WildcardTypeName) {
+                b.addStatement("return _future");
+            } else {
+                throw new ProcessingErrorException("Invalid publisher signature: batch publisher can return only future of Void or List<RecordMetadata>", publishMethod);
+            }
+        } else if (MethodUtils.isVoid(publishMethod) || returnType.withoutAnnotations().equals(metadataList)) {
+            b.add("try {$>\n");
+            if (!MethodUtils.isVoid(publishMethod)) {
+                b.add("return ");
+            }
+            b.add("_future.get();");
+            b.add("$<\n} catch (InterruptedException e) {$>\n");
+            b.add("throw new $T(e);", recordPublisherException);
+            b.add("$<\n} catch ($T e) {$>\n", ExecutionException.class);
+            b.add("if (e.getCause() instanceof RuntimeException re) throw re;\n");
+            b.add("if (e.getCause() != null) throw new $T(e.getCause());\n", recordPublisherException);
+            b.add("throw new $T(e);", recordPublisherException);
+            b.add("$<\n}\n");
+        } else {
+            throw new ProcessingErrorException("Invalid publisher signature: batch publisher can return only void, List<RecordMetadata> or future of them", publishMethod);
+        }
+        methodBuilder.addCode(b.build());
+        return methodBuilder.build();
+    }
+
     public void generateConfig(TypeElement producer, List<ExecutableElement> publishMethods) throws IOException {
         var record = new RecordClassBuilder(NameUtils.generatedType(producer, "TopicConfig"), KafkaPublisherAnnotationProcessor.class)
             .addModifier(Modifier.PUBLIC)
@@ -17,9 +17,24 @@ public final class KafkaPublisherUtils {
 
     private KafkaPublisherUtils() {}
 
-    public record PublisherData(@Nullable TypeName keyType, Set<String> keyTag, TypeName valueType, Set<String> valueTag, VariableElement keyVar, VariableElement valueVar, VariableElement headersVar, VariableElement recordVar, VariableElement callback) {}
+    public record PublisherData(@Nullable TypeName keyType, Set<String> keyTag, TypeName valueType, Set<String> valueTag, VariableElement keyVar, VariableElement valueVar, VariableElement headersVar, VariableElement recordVar, VariableElement callback, @Nullable VariableElement recordsVar) {}
 
     public static PublisherData parsePublisherType(ExecutableElement method) {
+        for (var parameter : method.getParameters()) {
+            if (KafkaUtils.isProducerRecordBatch(parameter.asType())) {
+                if (method.getParameters().size() != 1) {
+                    throw new ProcessingErrorException("Invalid publisher signature: List, Collection or Stream of records can't be combined with other parameters", parameter);
+                }
+                if (AnnotationUtils.isAnnotationPresent(method, KafkaClassNames.kafkaTopicAnnotation)) {
+                    throw new ProcessingErrorException("Invalid publisher signature: List, Collection or Stream of records can't be combined with @Topic annotation", parameter);
+                }
+                var recordType = (DeclaredType) ((DeclaredType) parameter.asType()).getTypeArguments().get(0);
+                var recordTypeName = (ParameterizedTypeName) TypeName.get(recordType).withoutAnnotations();
+                var keyTag = TagUtils.parseTagValue(recordType.getTypeArguments().get(0));
+                var valueTag = TagUtils.parseTagValue(recordType.getTypeArguments().get(1));
+                return new PublisherData(recordTypeName.typeArguments.get(0), keyTag, recordTypeName.typeArguments.get(1), valueTag, null, null, null, null, null, parameter);
+            }
+        }
         var key = (VariableElement) null;
         var value = (VariableElement) null;
         var headers = (VariableElement) null;
@@ -48,7 +63,7 @@ public final class KafkaPublisherUtils {
                     throw new ProcessingErrorException("Invalid publisher signature: Record parameter can't be combined with other parameters", parameter);
                 }
                 if (AnnotationUtils.isAnnotationPresent(method, KafkaClassNames.kafkaTopicAnnotation)) {
-                    throw new ProcessingErrorException("Invalid publisher signature: Record parameter can't be combined @Topic annotation", parameter);
+                    throw new ProcessingErrorException("Invalid publisher signature: Record parameter can't be combined with @Topic annotation", parameter);
                 }
                 record = parameter;
                 continue;
@@ -71,7 +86,7 @@ public final class KafkaPublisherUtils {
             var valueType = recordTypeName.typeArguments.get(1);
             var keyTag = TagUtils.parseTagValue(recordType.getTypeArguments().get(0));
             var valueTag = TagUtils.parseTagValue(recordType.getTypeArguments().get(1));
-            return new PublisherData(keyType, keyTag, valueType, valueTag, key, value, headers, record, producerCallback);
+            return new PublisherData(keyType, keyTag, valueType, valueTag, key, value, headers, record, producerCallback, null);
         }
         if (!AnnotationUtils.isAnnotationPresent(method, KafkaClassNames.kafkaTopicAnnotation)) {
             throw new ProcessingErrorException("Invalid publisher signature: key/value/headers signature requires @Topic annotation", method);
@@ -80,10 +95,10 @@ public final class KafkaPublisherUtils {
         var valueType = TypeName.get(value.asType()).withoutAnnotations();
         var valueTag = TagUtils.parseTagValue(value);
         if (key == null) {
-            return new PublisherData(null, Set.of(), valueType, valueTag, key, value, headers, record, producerCallback);
+            return new PublisherData(null, Set.of(), valueType, valueTag, key, value, headers, record, producerCallback, null);
         }
         var keyType = TypeName.get(key.asType()).withoutAnnotations();
         var keyTag = TagUtils.parseTagValue(key);
-        return new PublisherData(keyType, keyTag, valueType, valueTag, key, value, headers, record, producerCallback);
+        return new PublisherData(keyType, keyTag, valueType, valueTag, key, value, headers, record, producerCallback, null);
     }
 }
@@ -13,11 +13,13 @@ import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static ru.tinkoff.kora.annotation.processor.common.CommonUtils.capitalize;
 import static ru.tinkoff.kora.annotation.processor.common.CommonUtils.decapitalize;
@@ -75,6 +77,17 @@ public final class KafkaUtils {
         return tm instanceof DeclaredType dt && ClassName.get((TypeElement) dt.asElement()).equals(KafkaClassNames.producerRecord);
     }
 
+    /**
+     * @return true for List, Collection or Stream of ProducerRecord
+     */
+    public static boolean isProducerRecordBatch(TypeMirror tm) {
+        if (!(tm instanceof DeclaredType dt) || dt.getTypeArguments().size() != 1 || !isProducerRecord(dt.getTypeArguments().get(0))) {
+            return false;
+        }
+        var className = ClassName.get((TypeElement) dt.asElement());
+        return className.equals(ClassName.get(List.class)) || className.equals(ClassName.get(Collection.class)) || className.equals(ClassName.get(Stream.class));
+    }
+
     public static boolean isProducerCallback(TypeMirror tm) {
         return tm instanceof DeclaredType dt && ClassName.get((TypeElement) dt.asElement()).equals(KafkaClassNames.producerCallback);
     }
@@ -33,6 +33,7 @@ import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -59,29 +60,32 @@ public abstract class AbstractKafkaListenerAnnotationProcessorTest extends Abstr
 
     protected <K, V> ConsumerRecord<K, V> errorValue() {
         var errorDeser = Mockito.mock(Deserializer.class);
+        when(errorDeser.deserialize(any(), any(), any(ByteBuffer.class))).thenThrow(IllegalArgumentException.class);
         when(errorDeser.deserialize(any(), any(), any(byte[].class))).thenThrow(IllegalArgumentException.class);
         when(errorDeser.deserialize(any(), any())).thenThrow(IllegalArgumentException.class);
         Deserializer<K> deser = (topic, data) -> null;
 
-        return new ConsumerRecordWrapper<>(new ConsumerRecord<>("test", 1, 1, "test".getBytes(), "test".getBytes()), deser, errorDeser);
+        return new ConsumerRecordWrapper<>(new ConsumerRecord<>("test", 1, 1, ByteBuffer.wrap("test".getBytes()), ByteBuffer.wrap("test".getBytes())), deser, errorDeser);
     }
 
     protected <K, V> ConsumerRecord<K, V> errorValue(K key) {
         var errorDeser = Mockito.mock(Deserializer.class);
+        when(errorDeser.deserialize(any(), any(), any(ByteBuffer.class))).thenThrow(IllegalArgumentException.class);
         when(errorDeser.deserialize(any(), any(), any(byte[].class))).thenThrow(IllegalArgumentException.class);
         when(errorDeser.deserialize(any(), any())).thenThrow(IllegalArgumentException.class);
         Deserializer<K> deser = (topic, data) -> key;
 
-        return new ConsumerRecordWrapper<>(new ConsumerRecord<>("test", 1, 1, "test".getBytes(), "test".getBytes()), deser, errorDeser);
+        return new ConsumerRecordWrapper<>(new ConsumerRecord<>("test", 1, 1, ByteBuffer.wrap("test".getBytes()), ByteBuffer.wrap("test".getBytes())), deser, errorDeser);
     }
 
     protected <K, V> ConsumerRecord<K, V> errorKey(V value) {
         var errorDeser = Mockito.mock(Deserializer.class);
+        when(errorDeser.deserialize(any(), any(), any(ByteBuffer.class))).thenThrow(IllegalArgumentException.class);
         when(errorDeser.deserialize(any(), any(), any(byte[].class))).thenThrow(IllegalArgumentException.class);
         when(errorDeser.deserialize(any(), any())).thenThrow(IllegalArgumentException.class);
         Deserializer<V> deser = (topic, data) -> value;
 
-        return new ConsumerRecordWrapper<>(new ConsumerRecord<>("test", 1, 1, "test".getBytes(), "test".getBytes()), errorDeser, deser);
+        return new ConsumerRecordWrapper<>(new ConsumerRecord<>("test", 1, 1, ByteBuffer.wrap("test".getBytes()), ByteBuffer.wrap("test".getBytes())), errorDeser, deser);
     }
 
     @SuppressWarnings("unchecked")
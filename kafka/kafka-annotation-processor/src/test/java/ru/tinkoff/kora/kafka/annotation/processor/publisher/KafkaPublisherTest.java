@@ -45,6 +45,34 @@ public class KafkaPublisherTest extends AbstractAnnotationProcessorTest {
         clazz.getConstructor(KafkaProducerTelemetryFactory.class, TelemetryConfig.class, Properties.class, compileResult.loadClass("$TestProducer_TopicConfig"), Serializer.class);
     }
 
+    @Test
+    public void testPublisherWithRecordBatch() throws NoSuchMethodException {
+        this.compile(List.of(new KafkaPublisherAnnotationProcessor()), """
+            @KafkaPublisher("test")
+            public interface TestProducer {
+              java.util.concurrent.CompletionStage<Void> send(java.util.List<ProducerRecord<String, String>> records);
+            }
+            """);
+        this.compileResult.assertSuccess();
+        var clazz = this.compileResult.loadClass("$TestProducer_Impl");
+        assertThat(clazz).isNotNull();
+        clazz.getConstructor(KafkaProducerTelemetryFactory.class, TelemetryConfig.class, Properties.class, compileResult.loadClass("$TestProducer_TopicConfig"), Serializer.class);
+    }
+
+    @Test
+    public void testPublisherWithRecordBatchReturnMetadata() throws NoSuchMethodException {
+        this.compile(List.of(new KafkaPublisherAnnotationProcessor()), """
+            @KafkaPublisher("test")
+            public interface TestProducer {
+              java.util.List<RecordMetadata> send(java.util.Collection<ProducerRecord<String, String>> records);
+            }
+            """);
+        this.compileResult.assertSuccess();
+        var clazz = this.compileResult.loadClass("$TestProducer_Impl");
+        assertThat(clazz).isNotNull();
+        clazz.getConstructor(KafkaProducerTelemetryFactory.class, TelemetryConfig.class, Properties.class, compileResult.loadClass("$TestProducer_TopicConfig"), Serializer.class);
+    }
+
     @Test
     public void testPublisherWithDefault() throws NoSuchMethodException {
         this.compile(List.of(new KafkaPublisherAnnotationProcessor()), """
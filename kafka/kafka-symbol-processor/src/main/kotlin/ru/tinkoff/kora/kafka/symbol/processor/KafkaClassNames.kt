@@ -7,6 +7,7 @@ object KafkaClassNames {
     val consumerRecord = ClassName("org.apache.kafka.clients.consumer", "ConsumerRecord")
     val consumerRecords = ClassName("org.apache.kafka.clients.consumer", "ConsumerRecords")
     val producerRecord = ClassName("org.apache.kafka.clients.producer", "ProducerRecord");
+    val recordMetadata = ClassName("org.apache.kafka.clients.producer", "RecordMetadata")
     val deserializer = ClassName("org.apache.kafka.common.serialization", "Deserializer")
     val serializer = ClassName("org.apache.kafka.common.serialization", "Serializer")
     val commonClientConfigs = ClassName("org.apache.kafka.clients", "CommonClientConfigs")
@@ -29,6 +30,7 @@ object KafkaClassNames {
     val recordKeyDeserializationException = ClassName("ru.tinkoff.kora.kafka.common.exceptions", "RecordKeyDeserializationException")
     val recordValueDeserializationException = ClassName("ru.tinkoff.kora.kafka.common.exceptions", "RecordValueDeserializationException")
     val recordPublisherException = ClassName("ru.tinkoff.kora.kafka.common.exceptions", "KafkaPublishException")
+    val batchSender = ClassName("ru.tinkoff.kora.kafka.common.producer", "KafkaBatchSender")
     val recordSerializationException = ClassName("org.apache.kafka.common.errors", "SerializationException")
     val kafkaException = ClassName("org.apache.kafka.common", "KafkaException")
 
@@ -49,7 +49,7 @@ class KafkaContainerGenerator {
             addStatement("require(topics.size == 1)")
             addStatement("return %T(config, topics[0], keyDeserializer, valueDeserializer, telemetry, wrappedHandler)", KafkaClassNames.kafkaAssignConsumerContainer)
             nextControlFlow("else")
-            addStatement("return %T(config, keyDeserializer, valueDeserializer, wrappedHandler, rebalanceListener)", KafkaClassNames.kafkaSubscribeConsumerContainer)
+            addStatement("return %T(config, keyDeserializer, valueDeserializer, telemetry, wrappedHandler, rebalanceListener)", KafkaClassNames.kafkaSubscribeConsumerContainer)
         }
         return funBuilder.build()
     }
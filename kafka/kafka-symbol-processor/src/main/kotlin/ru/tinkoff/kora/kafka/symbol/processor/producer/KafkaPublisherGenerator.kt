@@ -310,6 +310,9 @@ class KafkaPublisherGenerator(val env: SymbolProcessorEnvironment, val resolver:
     private val resumeWithException = MemberName("kotlin.coroutines", "resumeWithException")
 
     private fun generatePublisherExecutableMethod(publishMethod: KSFunctionDeclaration, publishData: KafkaPublisherUtils.PublisherData, topicVariable: String, keyParserName: String?, valueParserName: String): FunSpec {
+        if (publishData.recordsVar != null) {
+            return generateBatchPublisherExecutableMethod(publishMethod, publishData, keyParserName!!, valueParserName)
+        }
         val b = publishMethod.overridingKeepAop(resolver)
         if (publishData.recordVar != null) {
             val record = publishData.recordVar.name?.asString().toString()
@@ -372,6 +375,51 @@ class KafkaPublisherGenerator(val env: SymbolProcessorEnvironment, val resolver:
         return b.build()
     }
 
+    private fun generateBatchPublisherExecutableMethod(publishMethod: KSFunctionDeclaration, publishData: KafkaPublisherUtils.PublisherData, keyParserName: String, valueParserName: String): FunSpec {
+        val b = publishMethod.overridingKeepAop(resolver)
+        val records = publishData.recordsVar!!.name?.asString().toString()
+        val metadataList = LIST.parameterizedBy(KafkaClassNames.recordMetadata)
+        b.addStatement("val _records = %T<%T>(%N.size)", ArrayList::class, producerRecord.parameterizedBy(BYTE_ARRAY, BYTE_ARRAY), records)
+        b.controlFlow("for (_record in %N)", records) {
+            addStatement("val _headers = _record.headers()")
+            addStatement("val _key = %N.serialize(_record.topic(), _headers, _record.key())", keyParserName)
+            addStatement("val _value = %N.serialize(_record.topic(), _headers, _record.value())", valueParserName)
+            addStatement("_records.add(%T(_record.topic(), _record.partition(), _record.timestamp(), _key, _value, _headers))", producerRecord)
+        }
+        b.addStatement("val _future = %T.send(this.delegate!!, this.telemetry!!, _records)", KafkaClassNames.batchSender)
+
+        val returnType = publishMethod.returnType!!.toTypeName()
+        if (publishMethod.isSuspend()) {
+            b.controlFlow("return %M { _cont ->", suspendCancellableCoroutine) {
+                controlFlow("_future.whenComplete { _meta, _ex ->") {
+                    controlFlow("if (_ex != null)") {
+                        addStatement("_cont.%M(_ex)", resumeWithException)
+                        nextControlFlow("else")
+                        if (returnType == UNIT) {
+                            addStatement("_cont.%M(%T)", resume, UNIT)
+                        } else {
+                            addStatement("_cont.%M(_meta)", resume)
+                        }
+                    }
+                }
+            }
+        } else if (publishMethod.isFuture()) {
+            val resultType = (returnType as ParameterizedTypeName).typeArguments[0]
+            if (resultType.copy(false) == metadataList || resultType == STAR) {
+                b.addStatement("return _future")
+            } else {
+                b.addStatement("return _future.thenApply { null }")
+            }
+        } else if (returnType == UNIT) {
+            b.addStatement("_future.get()")
+        } else if (returnType.copy(false) == metadataList) {
+            b.addStatement("return _future.get()")
+        } else {
+            throw ProcessingErrorException("Invalid publisher signature: batch publisher can return only Unit, List<RecordMetadata> or Future of them", publishMethod)
+        }
+        return b.build()
+    }
+
     fun generateConfig(producer: KSClassDeclaration, publishMethods: List<KSFunctionDeclaration>): ClassName? {
         val packageName = producer.packageName.asString()
         val b = TypeSpec.classBuilder(producer.generatedClassName("TopicConfig"))
@@ -2,7 +2,9 @@ package ru.tinkoff.kora.kafka.symbol.processor.utils
 
 import com.google.devtools.ksp.getDeclaredFunctions
 import com.google.devtools.ksp.symbol.*
+import com.squareup.kotlinpoet.COLLECTION
 import com.squareup.kotlinpoet.ClassName
+import com.squareup.kotlinpoet.LIST
 import com.squareup.kotlinpoet.ParameterizedTypeName
 import com.squareup.kotlinpoet.ParameterizedTypeName.Companion.parameterizedBy
 import com.squareup.kotlinpoet.TypeName
@@ -30,11 +32,27 @@ object KafkaPublisherUtils {
         val valueVar: KSValueParameter?,
         val headersVar: KSValueParameter?,
         val recordVar: KSValueParameter?,
-        val callback: KSValueParameter?
+        val callback: KSValueParameter?,
+        val recordsVar: KSValueParameter? = null
     )
 
 
     fun parsePublisherType(method: KSFunctionDeclaration): PublisherData {
+        for (parameter in method.parameters) {
+            if (parameter.type.toTypeName().isProducerRecordBatch()) {
+                if (method.parameters.size != 1) {
+                    throw ProcessingErrorException("Invalid publisher signature: List or Collection of records can't be combined with other parameters", parameter)
+                }
+                if (method.isAnnotationPresent(KafkaClassNames.kafkaTopicAnnotation)) {
+                    throw ProcessingErrorException("Invalid publisher signature: List or Collection of records can't be combined with @Topic annotation", parameter)
+                }
+                val recordType = parameter.type.resolve().arguments[0].type!!.resolve()
+                val recordTypeName = recordType.toTypeName().copy(false, listOf()) as ParameterizedTypeName
+                val keyTag = TagUtils.parseTagValue(recordType.arguments[0])
+                val valueTag = TagUtils.parseTagValue(recordType.arguments[1])
+                return PublisherData(recordTypeName.typeArguments[0], keyTag, recordTypeName.typeArguments[1], valueTag, null, null, null, null, null, parameter)
+            }
+        }
         var key = null as KSValueParameter?
         var value = null as KSValueParameter?
         var headers = null as KSValueParameter?
@@ -106,6 +124,9 @@ object KafkaPublisherUtils {
     private fun TypeName.isProducerCallback() = this == KafkaClassNames.producerCallback
     private fun TypeName.isHeaders() = this == KafkaClassNames.headers
     private fun TypeName.isProducerRecord() = this is ParameterizedTypeName && this.rawType == KafkaClassNames.producerRecord
+    private fun TypeName.isProducerRecordBatch() = this is ParameterizedTypeName
+        && (this.rawType == LIST || this.rawType == COLLECTION)
+        && this.typeArguments[0].copy(false).isProducerRecord()
 
 }
 
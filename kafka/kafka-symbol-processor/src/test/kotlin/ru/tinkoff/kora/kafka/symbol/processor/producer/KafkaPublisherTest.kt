@@ -41,6 +41,22 @@ class KafkaPublisherTest : AbstractSymbolProcessorTest() {
         clazz.getConstructor(KafkaProducerTelemetryFactory::class.java, TelemetryConfig::class.java, Properties::class.java, Serializer::class.java)
     }
 
+    @Test
+    fun testPublisherWithRecordBatch() {
+        compile0(
+            """
+            @KafkaPublisher("test")
+            interface TestProducer {
+              suspend fun send(records: List<ProducerRecord<String, String>>): List<RecordMetadata>
+            }
+            """.trimIndent()
+        )
+        compileResult.assertSuccess()
+        val clazz = loadClass("\$TestProducer_Impl")
+        assertThat(clazz).isNotNull()
+        clazz.getConstructor(KafkaProducerTelemetryFactory::class.java, TelemetryConfig::class.java, Properties::class.java, Serializer::class.java)
+    }
+
     @Test
     fun testPublisherWithRecordAndCallback() {
         compile0(
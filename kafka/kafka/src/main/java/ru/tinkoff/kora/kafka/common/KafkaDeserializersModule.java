@@ -3,6 +3,8 @@ package ru.tinkoff.kora.kafka.common;
 import org.apache.kafka.common.serialization.*;
 import org.apache.kafka.common.utils.Bytes;
 import ru.tinkoff.kora.common.DefaultComponent;
+import ru.tinkoff.kora.kafka.common.serialization.ByteBufferViewDeserializer;
+import ru.tinkoff.kora.kafka.common.serialization.Utf8StringDeserializer;
 
 import java.nio.ByteBuffer;
 import java.util.UUID;
@@ -13,7 +15,7 @@ import java.util.UUID;
 public interface KafkaDeserializersModule {
     @DefaultComponent
     default Deserializer<String> stringDeserializer() {
-        return new StringDeserializer();
+        return new Utf8StringDeserializer();
     }
 
     @DefaultComponent
@@ -33,7 +35,7 @@ public interface KafkaDeserializersModule {
 
     @DefaultComponent
     default Deserializer<ByteBuffer> byteBufferDeserializer() {
-        return new ByteBufferDeserializer();
+        return new ByteBufferViewDeserializer();
     }
 
     @DefaultComponent
@@ -1,6 +1,7 @@
 package ru.tinkoff.kora.kafka.common;
 
 import jakarta.annotation.Nonnull;
+import ru.tinkoff.kora.application.graph.internal.loom.VirtualThreadExecutorHolder;
 import ru.tinkoff.kora.kafka.common.consumer.KafkaListenerConfig;
 
 import java.util.concurrent.ThreadFactory;
@@ -22,6 +23,20 @@ public final class KafkaUtils {
         }
     }
 
+    /**
+     * @return factory of virtual threads if they are enabled with {@link KafkaListenerConfig#virtualThreads()}, platform threads otherwise
+     */
+    public static ThreadFactory consumerThreadFactory(KafkaListenerConfig config, String name) {
+        if (!config.virtualThreads()) {
+            return new NamedThreadFactory(name);
+        }
+        var factory = VirtualThreadExecutorHolder.threadFactory(NamedThreadFactory.CONSUMER_PREFIX + name);
+        if (factory == null) {
+            throw new IllegalStateException("Kafka Consumer '" + getConsumerPrefix(config) + "' configured to use virtual threads, but virtual threads are " + VirtualThreadExecutorHolder.status());
+        }
+        return factory;
+    }
+
     public static class NamedThreadFactory implements ThreadFactory {
         private static final String CONSUMER_PREFIX = "kafka-consumer-";
 
@@ -3,7 +3,7 @@ package ru.tinkoff.kora.kafka.common.consumer;
 import jakarta.annotation.Nullable;
 import ru.tinkoff.kora.common.util.Either;
 import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
-import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetryConfig;
 
 import java.time.Duration;
 import java.util.List;
@@ -53,7 +53,30 @@ public interface KafkaListenerConfig {
         return false;
     }
 
-    TelemetryConfig telemetry();
+    /**
+     * Time handler may process polled records before assigned partitions are paused. Consumer keeps polling paused partitions
+     * every {@link #pausedPollInterval()} until records are processed, so slow handler does not exceed max.poll.interval.ms and trigger rebalance.
+     * Records are handled on separate thread when set, zero disables pausing, see also {@link #virtualThreads()}.
+     * Rebalance may still happen during paused poll: when partitions of processed records are revoked, handler commits fail and records are fetched again
+     */
+    default Duration pauseThreshold() {
+        return Duration.ZERO;
+    }
+
+    default Duration pausedPollInterval() {
+        return Duration.ofSeconds(1);
+    }
+
+    /**
+     * Run poll loops and handlers on virtual threads, requires virtual threads to be available.
+     * Records of every polled partition are handled on their own virtual thread in order within partition, and poll thread waits until all of them are processed.
+     * Handler is called with records of single partition then, so records telemetry is reported and commit without offsets commits records per partition
+     */
+    default boolean virtualThreads() {
+        return false;
+    }
+
+    KafkaConsumerTelemetryConfig telemetry();
 
     default KafkaListenerConfig withDriverPropertiesOverrides(Map<String, Object> overrides) {
         var props = new Properties();
@@ -71,6 +94,9 @@ public interface KafkaListenerConfig {
             partitionRefreshInterval(),
             shutdownWait(),
             allowEmptyRecords(),
+            pauseThreshold(),
+            pausedPollInterval(),
+            virtualThreads(),
             telemetry()
         );
     }
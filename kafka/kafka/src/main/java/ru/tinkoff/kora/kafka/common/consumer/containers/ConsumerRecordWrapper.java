@@ -1,5 +1,6 @@
 package ru.tinkoff.kora.kafka.common.consumer.containers;
 
+import jakarta.annotation.Nullable;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.record.TimestampType;
@@ -7,18 +8,23 @@ import org.apache.kafka.common.serialization.Deserializer;
 import ru.tinkoff.kora.kafka.common.exceptions.RecordKeyDeserializationException;
 import ru.tinkoff.kora.kafka.common.exceptions.RecordValueDeserializationException;
 
+import java.nio.ByteBuffer;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Record with key and value deserialized on first access right from the fetched buffers,
+ * so handlers taking {@link ConsumerRecord} don't parse records they skip by headers or key.
+ */
 public final class ConsumerRecordWrapper<K, V> extends ConsumerRecord<K, V> {
-    private final ConsumerRecord<byte[], byte[]> realRecord;
+    private final ConsumerRecord<ByteBuffer, ByteBuffer> realRecord;
     private final Deserializer<K> keyDeserializer;
     private final Deserializer<V> valueDeserializer;
 
     private final AtomicReference<K> deserializedKey = new AtomicReference<>(null);
     private final AtomicReference<V> deserializedValue = new AtomicReference<>(null);
 
-    public ConsumerRecordWrapper(ConsumerRecord<byte[], byte[]> realRecord, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer) {
+    public ConsumerRecordWrapper(ConsumerRecord<ByteBuffer, ByteBuffer> realRecord, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer) {
         super(realRecord.topic(), realRecord.partition(), realRecord.offset(), null, null);
         this.realRecord = realRecord;
         this.keyDeserializer = keyDeserializer;
@@ -45,9 +51,9 @@ public final class ConsumerRecordWrapper<K, V> extends ConsumerRecord<K, V> {
         var value = deserializedKey.get();
         if (value == null) {
             try {
-                value = keyDeserializer.deserialize(realRecord.topic(), realRecord.headers(), realRecord.key());
+                value = keyDeserializer.deserialize(realRecord.topic(), realRecord.headers(), duplicate(realRecord.key()));
             } catch (Exception e) {
-                throw new RecordKeyDeserializationException(e, realRecord);
+                throw new RecordKeyDeserializationException(e, this.byteArrayRecord());
             }
             deserializedKey.set(value);
         }
@@ -59,9 +65,9 @@ public final class ConsumerRecordWrapper<K, V> extends ConsumerRecord<K, V> {
         var value = deserializedValue.get();
         if (value == null) {
             try {
-                value = valueDeserializer.deserialize(realRecord.topic(), realRecord.headers(), realRecord.value());
+                value = valueDeserializer.deserialize(realRecord.topic(), realRecord.headers(), duplicate(realRecord.value()));
             } catch (Exception e) {
-                throw new RecordValueDeserializationException(e, realRecord);
+                throw new RecordValueDeserializationException(e, this.byteArrayRecord());
             }
             deserializedValue.set(value);
         }
@@ -102,4 +108,25 @@ public final class ConsumerRecordWrapper<K, V> extends ConsumerRecord<K, V> {
     public String toString() {
         return realRecord.toString();
     }
+
+    // deserializer may move buffer position, so it gets own view of shared buffer
+    @Nullable
+    private static ByteBuffer duplicate(@Nullable ByteBuffer buffer) {
+        return buffer == null ? null : buffer.duplicate();
+    }
+
+    @Nullable
+    private static byte[] toArray(@Nullable ByteBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        }
+        var array = new byte[buffer.remaining()];
+        buffer.duplicate().get(array);
+        return array;
+    }
+
+    private ConsumerRecord<byte[], byte[]> byteArrayRecord() {
+        var r = this.realRecord;
+        return new ConsumerRecord<>(r.topic(), r.partition(), r.offset(), r.timestamp(), r.timestampType(), r.serializedKeySize(), r.serializedValueSize(), toArray(r.key()), toArray(r.value()), r.headers(), r.leaderEpoch());
+    }
 }
@@ -6,17 +6,18 @@ import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.Deserializer;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 
 final class ConsumerRecordsWrapper<K, V> extends ConsumerRecords<K, V> {
 
-    private final ConsumerRecords<byte[], byte[]> realRecords;
+    private final ConsumerRecords<ByteBuffer, ByteBuffer> realRecords;
     private final Deserializer<K> keyDeserializer;
     private final Deserializer<V> valueDeserializer;
 
-    private final Map<ConsumerRecord<byte[], byte[]>, ConsumerRecordWrapper<K, V>> records = new IdentityHashMap<>();
+    private final Map<ConsumerRecord<ByteBuffer, ByteBuffer>, ConsumerRecordWrapper<K, V>> records = new IdentityHashMap<>();
 
-    public ConsumerRecordsWrapper(ConsumerRecords<byte[], byte[]> realRecords, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer) {
+    public ConsumerRecordsWrapper(ConsumerRecords<ByteBuffer, ByteBuffer> realRecords, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer) {
         super(Map.of());
         this.realRecords = realRecords;
         this.keyDeserializer = keyDeserializer;
@@ -60,7 +61,7 @@ final class ConsumerRecordsWrapper<K, V> extends ConsumerRecords<K, V> {
         return realRecords.isEmpty();
     }
 
-    private ConsumerRecord<K, V> wrapRecord(ConsumerRecord<byte[], byte[]> record) {
+    private ConsumerRecord<K, V> wrapRecord(ConsumerRecord<ByteBuffer, ByteBuffer> record) {
         return records.computeIfAbsent(record, (r) -> new ConsumerRecordWrapper<>(r, keyDeserializer, valueDeserializer));
     }
 
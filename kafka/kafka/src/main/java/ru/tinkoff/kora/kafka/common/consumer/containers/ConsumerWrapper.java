@@ -4,17 +4,18 @@ import org.apache.kafka.clients.consumer.*;
 import org.apache.kafka.common.*;
 import org.apache.kafka.common.serialization.Deserializer;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.*;
 import java.util.regex.Pattern;
 
 public final class ConsumerWrapper<K, V> implements Consumer<K, V> {
 
-    private final Consumer<byte[], byte[]> realConsumer;
+    private final Consumer<ByteBuffer, ByteBuffer> realConsumer;
     private final Deserializer<K> keyDeserializer;
     private final Deserializer<V> valueDeserializer;
 
-    public ConsumerWrapper(Consumer<byte[], byte[]> realConsumer, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer) {
+    public ConsumerWrapper(Consumer<ByteBuffer, ByteBuffer> realConsumer, Deserializer<K> keyDeserializer, Deserializer<V> valueDeserializer) {
         this.realConsumer = realConsumer;
         this.keyDeserializer = keyDeserializer;
         this.valueDeserializer = valueDeserializer;
@@ -268,7 +269,7 @@ public final class ConsumerWrapper<K, V> implements Consumer<K, V> {
         realConsumer.wakeup();
     }
 
-    public Consumer<byte[], byte[]> unwrap() {
+    public Consumer<ByteBuffer, ByteBuffer> unwrap() {
         return realConsumer;
     }
 }
@@ -0,0 +1,25 @@
+package ru.tinkoff.kora.kafka.common.consumer.containers;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Passes slice of fetch response buffer as is, so record is deserialized only once from the original bytes
+ */
+final class FetchBufferDeserializer implements Deserializer<ByteBuffer> {
+    static final FetchBufferDeserializer INSTANCE = new FetchBufferDeserializer();
+
+    private FetchBufferDeserializer() {}
+
+    @Override
+    public ByteBuffer deserialize(String topic, byte[] data) {
+        return data == null ? null : ByteBuffer.wrap(data);
+    }
+
+    @Override
+    public ByteBuffer deserialize(String topic, Headers headers, ByteBuffer data) {
+        return data;
+    }
+}
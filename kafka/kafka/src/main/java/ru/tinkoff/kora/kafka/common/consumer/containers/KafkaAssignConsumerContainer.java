@@ -13,7 +13,6 @@ import ru.tinkoff.kora.application.graph.Lifecycle;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.common.util.TimeUtils;
 import ru.tinkoff.kora.kafka.common.KafkaUtils;
-import ru.tinkoff.kora.kafka.common.KafkaUtils.NamedThreadFactory;
 import ru.tinkoff.kora.kafka.common.consumer.KafkaListenerConfig;
 import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
 import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
@@ -41,6 +40,10 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
     private final long refreshInterval;
     private final String consumerPrefix;
     private volatile ExecutorService executorService;
+    @Nullable
+    private volatile ExecutorService handlerExecutorService;
+    @Nullable
+    private volatile PausingRecordsHandler<K, V> pausingHandler;
 
     private final BaseKafkaRecordsHandler<K, V> handler;
     private final Set<Consumer<K, V>> consumers = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
@@ -150,10 +153,19 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
                     logger.trace("Kafka Consumer '{}' polled '0' records", consumerPrefix);
                 }
 
-                handler.handle(records, consumer, false);
+                var pausingHandler = this.pausingHandler;
+                if (pausingHandler != null) {
+                    pausingHandler.handle(records, consumer, false);
+                } else {
+                    handler.handle(records, consumer, false);
+                }
+                var now = System.currentTimeMillis();
                 for (var partition : records.partitions()) {
                     var partitionRecords = records.records(partition);
                     var lastRecord = partitionRecords.get(partitionRecords.size() - 1);
+                    if (lastRecord.timestamp() >= 0) {
+                        this.telemetry.reportProcessingLatency(partition, now - lastRecord.timestamp());
+                    }
                     synchronized (this.offsets) {
                         this.offsets.set(partition.partition(), lastRecord.offset());
                         this.refreshLag(consumer);
@@ -230,7 +242,7 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
     @Nullable
     private Consumer<K, V> initializeConsumer() {
         try {
-            var realConsumer = new KafkaConsumer<>(this.config.driverProperties(), new ByteArrayDeserializer(), new ByteArrayDeserializer());
+            var realConsumer = new KafkaConsumer<>(this.config.driverProperties(), FetchBufferDeserializer.INSTANCE, FetchBufferDeserializer.INSTANCE);
             return new ConsumerWrapper<>(realConsumer, keyDeserializer, valueDeserializer);
         } catch (Exception e) {
             logger.error("Kafka Consumer '{}' initialization failed", consumerPrefix, e);
@@ -251,7 +263,12 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
                 logger.debug("Kafka Consumer '{}' starting...", consumerPrefix);
                 final long started = TimeUtils.started();
 
-                executorService = Executors.newFixedThreadPool(threads, new NamedThreadFactory(this.topic));
+                if (config.pauseThreshold().compareTo(Duration.ZERO) > 0 || config.virtualThreads()) {
+                    var handlerExecutorService = Executors.newCachedThreadPool(KafkaUtils.consumerThreadFactory(config, this.topic + "-handler-"));
+                    this.handlerExecutorService = handlerExecutorService;
+                    this.pausingHandler = new PausingRecordsHandler<>(handler, handlerExecutorService, config.pauseThreshold(), config.pausedPollInterval(), config.virtualThreads(), consumerPrefix);
+                }
+                executorService = Executors.newFixedThreadPool(threads, KafkaUtils.consumerThreadFactory(config, this.topic));
                 for (int i = 0; i < threads; i++) {
                     var number = i;
                     executorService.execute(() -> {
@@ -290,6 +307,13 @@ public final class KafkaAssignConsumerContainer<K, V> implements Lifecycle {
                     logger.warn("Kafka Consumer '{}' failed completing graceful shutdown in {}", consumerPrefix, config.shutdownWait());
                 }
             }
+            var handlerExecutorService = this.handlerExecutorService;
+            if (handlerExecutorService != null) {
+                // poll loops wait for handlers before exit, so handlers are done unless shutdown timed out
+                shutdownExecutorService(handlerExecutorService, config.shutdownWait());
+                this.handlerExecutorService = null;
+                this.pausingHandler = null;
+            }
 
             logger.info("Kafka Consumer '{}' stopped in {}", consumerPrefix, TimeUtils.tookForLogging(started));
         }
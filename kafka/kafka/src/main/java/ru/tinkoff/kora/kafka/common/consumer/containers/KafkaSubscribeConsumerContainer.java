@@ -5,10 +5,10 @@ import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
-import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,10 +16,10 @@ import ru.tinkoff.kora.application.graph.Lifecycle;
 import ru.tinkoff.kora.common.Context;
 import ru.tinkoff.kora.common.util.TimeUtils;
 import ru.tinkoff.kora.kafka.common.KafkaUtils;
-import ru.tinkoff.kora.kafka.common.KafkaUtils.NamedThreadFactory;
 import ru.tinkoff.kora.kafka.common.consumer.ConsumerAwareRebalanceListener;
 import ru.tinkoff.kora.kafka.common.consumer.KafkaListenerConfig;
 import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
 
 import java.time.Duration;
 import java.util.*;
@@ -38,6 +38,10 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
     private final Deserializer<K> keyDeserializer;
     private final Deserializer<V> valueDeserializer;
     private volatile ExecutorService executorService;
+    @Nullable
+    private volatile ExecutorService handlerExecutorService;
+    @Nullable
+    private volatile PausingRecordsHandler<K, V> pausingHandler;
 
     private final BaseKafkaRecordsHandler<K, V> handler;
     private final Set<Consumer<K, V>> consumers = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
@@ -46,6 +50,8 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
     private final KafkaListenerConfig config;
     private final String consumerPrefix;
     private final boolean commitAllowed;
+    @Nullable
+    private final KafkaConsumerTelemetry<K, V> telemetry;
 
     public KafkaSubscribeConsumerContainer(
         KafkaListenerConfig config,
@@ -62,11 +68,26 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
         Deserializer<V> valueDeserializer,
         BaseKafkaRecordsHandler<K, V> handler,
         @Nullable ConsumerAwareRebalanceListener rebalanceListener
+    ) {
+        this(config, keyDeserializer, valueDeserializer, null, handler, rebalanceListener);
+    }
+
+    /**
+     * @param telemetry used to report partition lag and processing latency, records telemetry is reported by handler
+     */
+    public KafkaSubscribeConsumerContainer(
+        KafkaListenerConfig config,
+        Deserializer<K> keyDeserializer,
+        Deserializer<V> valueDeserializer,
+        @Nullable KafkaConsumerTelemetry<K, V> telemetry,
+        BaseKafkaRecordsHandler<K, V> handler,
+        @Nullable ConsumerAwareRebalanceListener rebalanceListener
     ) {
         if (config.driverProperties().get(CommonClientConfigs.GROUP_ID_CONFIG) == null) {
             throw new IllegalArgumentException("Group id is required for subscribe container");
         }
         this.handler = handler;
+        this.telemetry = telemetry;
         this.rebalanceListener = rebalanceListener;
         this.backoffTimeout = new AtomicLong(config.backoffTimeout().toMillis());
         this.consumerPrefix = KafkaUtils.getConsumerPrefix(config);
@@ -115,7 +136,13 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
                         logger.trace("Kafka Consumer '{}' polled '0' records", consumerPrefix);
                     }
 
-                    handler.handle(records, consumer, this.commitAllowed);
+                    var pausingHandler = this.pausingHandler;
+                    if (pausingHandler != null) {
+                        pausingHandler.handle(records, consumer, this.commitAllowed);
+                    } else {
+                        handler.handle(records, consumer, this.commitAllowed);
+                    }
+                    this.reportPartitions(consumer, records);
                     backoffTimeout.set(config.backoffTimeout().toMillis());
                 } catch (WakeupException ignore) {
                 } catch (Exception e) {
@@ -139,13 +166,40 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
         }
     }
 
+    private void reportPartitions(Consumer<K, V> consumer, ConsumerRecords<K, V> records) {
+        var telemetry = this.telemetry;
+        if (telemetry == null) {
+            return;
+        }
+        var now = System.currentTimeMillis();
+        for (var partition : records.partitions()) {
+            var partitionRecords = records.records(partition);
+            var timestamp = partitionRecords.get(partitionRecords.size() - 1).timestamp();
+            if (timestamp >= 0) {
+                telemetry.reportProcessingLatency(partition, now - timestamp);
+            }
+        }
+        // lag is known from last fetch response, no request is made
+        for (var partition : consumer.assignment()) {
+            var lag = consumer.currentLag(partition);
+            if (lag.isPresent()) {
+                telemetry.reportLag(partition, lag.getAsLong());
+            }
+        }
+    }
+
     @Override
     public void init() {
         if (config.threads() > 0 && this.isActive.compareAndSet(false, true)) {
             logger.debug("Kafka Consumer '{}' starting...", consumerPrefix);
             final long started = TimeUtils.started();
 
-            executorService = Executors.newFixedThreadPool(config.threads(), new NamedThreadFactory(consumerPrefix));
+            if (config.pauseThreshold().compareTo(Duration.ZERO) > 0 || config.virtualThreads()) {
+                var handlerExecutorService = Executors.newCachedThreadPool(KafkaUtils.consumerThreadFactory(config, consumerPrefix + "-handler-"));
+                this.handlerExecutorService = handlerExecutorService;
+                this.pausingHandler = new PausingRecordsHandler<>(handler, handlerExecutorService, config.pauseThreshold(), config.pausedPollInterval(), config.virtualThreads(), consumerPrefix);
+            }
+            executorService = Executors.newFixedThreadPool(config.threads(), KafkaUtils.consumerThreadFactory(config, consumerPrefix));
             for (int i = 0; i < config.threads(); i++) {
                 executorService.execute(() -> {
                     while (isActive.get()) {
@@ -174,6 +228,13 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
                     logger.warn("Kafka Consumer '{}' failed completing graceful shutdown in {}", consumerPrefix, config.shutdownWait());
                 }
             }
+            var handlerExecutorService = this.handlerExecutorService;
+            if (handlerExecutorService != null) {
+                // poll loops wait for handlers before exit, so handlers are done unless shutdown timed out
+                shutdownExecutorService(handlerExecutorService, config.shutdownWait());
+                this.handlerExecutorService = null;
+                this.pausingHandler = null;
+            }
 
             logger.info("Kafka Consumer '{}' stopped in {}", consumerPrefix, TimeUtils.tookForLogging(started));
         }
@@ -215,60 +276,69 @@ public final class KafkaSubscribeConsumerContainer<K, V> implements Lifecycle {
     }
 
     private Consumer<K, V> buildConsumer() {
-        var consumer = new KafkaConsumer<>(this.config.driverProperties(), new ByteArrayDeserializer(), new ByteArrayDeserializer());
+        var realConsumer = new KafkaConsumer<>(this.config.driverProperties(), FetchBufferDeserializer.INSTANCE, FetchBufferDeserializer.INSTANCE);
+        var consumer = new ConsumerWrapper<>(realConsumer, keyDeserializer, valueDeserializer);
         try {
+            var listener = this.consumerRebalanceListener(realConsumer, consumer);
             if (config.topicsPattern() != null) {
-                if (rebalanceListener != null) {
-                    consumer.subscribe(config.topicsPattern(), new ConsumerRebalanceListener() {
-                        @Override
-                        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsRevoked(consumer, partitions);
-                        }
-
-                        @Override
-                        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsAssigned(consumer, partitions);
-                        }
-
-                        @Override
-                        public void onPartitionsLost(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsLost(consumer, partitions);
-                        }
-                    });
+                if (listener != null) {
+                    consumer.subscribe(config.topicsPattern(), listener);
                 } else {
                     consumer.subscribe(config.topicsPattern());
                 }
             } else if (config.topics() != null) {
-                if (rebalanceListener != null) {
-                    consumer.subscribe(config.topics(), new ConsumerRebalanceListener() {
-                        @Override
-                        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsRevoked(consumer, partitions);
-                        }
-
-                        @Override
-                        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsAssigned(consumer, partitions);
-                        }
-
-                        @Override
-                        public void onPartitionsLost(Collection<TopicPartition> partitions) {
-                            rebalanceListener.onPartitionsLost(consumer, partitions);
-                        }
-                    });
+                if (listener != null) {
+                    consumer.subscribe(config.topics(), listener);
                 } else {
                     consumer.subscribe(config.topics());
                 }
             }
         } catch (Exception e) {
             try {
-                consumer.close();
+                realConsumer.close();
             } catch (Exception suppressed) {
                 e.addSuppressed(suppressed);
             }
             throw e;
         }
 
-        return new ConsumerWrapper<>(consumer, keyDeserializer, valueDeserializer);
+        return consumer;
+    }
+
+    @Nullable
+    private ConsumerRebalanceListener consumerRebalanceListener(Consumer<?, ?> realConsumer, Consumer<K, V> consumer) {
+        var rebalanceListener = this.rebalanceListener;
+        var pausingHandler = this.pausingHandler;
+        if (rebalanceListener == null && pausingHandler == null) {
+            return null;
+        }
+        return new ConsumerRebalanceListener() {
+            @Override
+            public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                if (pausingHandler != null) {
+                    pausingHandler.onPartitionsRevoked(consumer, partitions);
+                }
+                if (rebalanceListener != null) {
+                    rebalanceListener.onPartitionsRevoked(realConsumer, partitions);
+                }
+            }
+
+            @Override
+            public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                if (rebalanceListener != null) {
+                    rebalanceListener.onPartitionsAssigned(realConsumer, partitions);
+                }
+            }
+
+            @Override
+            public void onPartitionsLost(Collection<TopicPartition> partitions) {
+                if (pausingHandler != null) {
+                    pausingHandler.onPartitionsRevoked(consumer, partitions);
+                }
+                if (rebalanceListener != null) {
+                    rebalanceListener.onPartitionsLost(realConsumer, partitions);
+                }
+            }
+        };
     }
 }
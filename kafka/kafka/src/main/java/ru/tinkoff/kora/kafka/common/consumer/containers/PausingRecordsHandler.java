@@ -0,0 +1,303 @@
+package ru.tinkoff.kora.kafka.common.consumer.containers;
+
+import jakarta.annotation.Nullable;
+import org.apache.kafka.clients.consumer.CommitFailedException;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.requests.OffsetFetchResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Handles polled records on executor thread, so poll thread is free to keep consumer alive while handler is slow.
+ * When records are not processed in pause threshold, assigned partitions are paused and polled every paused poll interval:
+ * paused poll returns no records, but it counts as poll for max.poll.interval.ms and consumer is not removed from group.
+ * Partitions are resumed when records are processed. Zero pause threshold disables pausing.
+ * <p>
+ * When records are handled per partition, records of every partition are passed to handler on their own executor thread
+ * and are processed in order within partition. Commit without offsets commits only records of that partition,
+ * because consumer position also includes records of other partitions that are still processed.
+ * <p>
+ * Consumer is not thread safe, so handler gets consumer which calls are serialized with calls of poll thread.
+ * Context and MDC of poll thread are passed to handler thread.
+ * <p>
+ * Paused poll still takes part in rebalance, e.g. when group members change. Revoke callback can't wait for handler:
+ * it is called inside poll, and handler needs consumer to commit. So when partitions of processed records are revoked or lost,
+ * records fail as a whole: handler commits are rejected with {@link CommitFailedException}, records of partitions that are still assigned
+ * are sought back and fetched again, revoked partitions are fetched from committed offset by their new owner.
+ * Records are processed at least once, records handled before revocation may be processed again.
+ */
+final class PausingRecordsHandler<K, V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PausingRecordsHandler.class);
+
+    private final BaseKafkaRecordsHandler<K, V> handler;
+    private final Executor executor;
+    private final Duration pauseThreshold;
+    private final Duration pausedPollInterval;
+    private final boolean perPartition;
+    private final String consumerPrefix;
+    private final Map<Consumer<K, V>, InFlightRecords> pausedRecords = new ConcurrentHashMap<>();
+
+    PausingRecordsHandler(BaseKafkaRecordsHandler<K, V> handler, Executor executor, Duration pauseThreshold, Duration pausedPollInterval, boolean perPartition, String consumerPrefix) {
+        this.handler = handler;
+        this.executor = executor;
+        this.pauseThreshold = pauseThreshold;
+        this.pausedPollInterval = pausedPollInterval;
+        this.perPartition = perPartition;
+        this.consumerPrefix = consumerPrefix;
+    }
+
+    /**
+     * Should be called by rebalance listener of poll consumer
+     */
+    void onPartitionsRevoked(Consumer<K, V> consumer, Collection<TopicPartition> partitions) {
+        var inFlight = this.pausedRecords.get(consumer);
+        if (inFlight != null) {
+            inFlight.revoke(partitions);
+        }
+    }
+
+    void handle(ConsumerRecords<K, V> records, Consumer<K, V> consumer, boolean commitAllowed) {
+        var lock = new ReentrantLock();
+        var inFlight = new InFlightRecords(records.partitions());
+        final CompletableFuture<Void> future;
+        if (this.perPartition && records.partitions().size() > 1) {
+            var futures = new CompletableFuture<?>[records.partitions().size()];
+            var i = 0;
+            for (var partition : records.partitions()) {
+                var partitionRecords = records.records(partition);
+                var last = partitionRecords.get(partitionRecords.size() - 1);
+                var offsets = Map.of(partition, new OffsetAndMetadata(last.offset() + 1, last.leaderEpoch(), OffsetFetchResponse.NO_METADATA));
+                futures[i++] = this.execute(new ConsumerRecords<>(Map.of(partition, partitionRecords)), lockingConsumer(consumer, lock, inFlight, offsets), commitAllowed);
+            }
+            future = CompletableFuture.allOf(futures);
+        } else {
+            future = this.execute(records, lockingConsumer(consumer, lock, inFlight, null), commitAllowed);
+        }
+
+        if (this.pauseThreshold.compareTo(Duration.ZERO) > 0 && !await(future, this.pauseThreshold)) {
+            this.pollPaused(consumer, lock, future, inFlight);
+        }
+
+        Throwable error = null;
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            error = e.getCause();
+        } catch (InterruptedException e) {
+            throw new InterruptException(e);
+        }
+        if (inFlight.isRevoked() && !(error instanceof Error)) {
+            this.fetchAgain(records, consumer, inFlight, error);
+        } else if (error instanceof RuntimeException re) {
+            throw re;
+        } else if (error instanceof Error e) {
+            throw e;
+        } else if (error != null) {
+            throw new IllegalStateException(error);
+        }
+    }
+
+    private CompletableFuture<Void> execute(ConsumerRecords<K, V> records, Consumer<K, V> handlerConsumer, boolean commitAllowed) {
+        var future = new CompletableFuture<Void>();
+        var context = Context.current().fork();
+        var mdc = MDC.getCopyOfContextMap();
+        this.executor.execute(() -> {
+            context.inject();
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                this.handler.handle(records, handlerConsumer, commitAllowed);
+                future.complete(null);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                Context.clear();
+                MDC.clear();
+            }
+        });
+        return future;
+    }
+
+    private void fetchAgain(ConsumerRecords<K, V> records, Consumer<K, V> consumer, InFlightRecords inFlight, @Nullable Throwable error) {
+        var assignment = consumer.assignment();
+        for (var partition : records.partitions()) {
+            // partitions revoked and assigned back start from committed offset
+            if (assignment.contains(partition) && !inFlight.revoked.contains(partition)) {
+                consumer.seek(partition, records.records(partition).get(0).offset());
+            }
+        }
+        logger.warn("Kafka Consumer '{}' partitions {} were revoked while records were processed, records are not committed and will be fetched again",
+            this.consumerPrefix, inFlight.revoked, error);
+    }
+
+    private void pollPaused(Consumer<K, V> consumer, Lock lock, CompletableFuture<Void> future, InFlightRecords inFlight) {
+        logger.debug("Kafka Consumer '{}' records are not processed in {}, pausing partitions", this.consumerPrefix, this.pauseThreshold);
+        var paused = new HashSet<TopicPartition>();
+        this.pausedRecords.put(consumer, inFlight);
+        try {
+            do {
+                lock.lock();
+                try {
+                    pauseAssigned(consumer, paused);
+                    var records = consumer.poll(Duration.ZERO);
+                    if (!records.isEmpty()) {
+                        // partitions assigned by rebalance during poll were not paused, their records will be fetched again after resume
+                        for (var partition : records.partitions()) {
+                            consumer.seek(partition, records.records(partition).get(0).offset());
+                        }
+                        pauseAssigned(consumer, paused);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            } while (!await(future, this.pausedPollInterval));
+        } catch (RuntimeException e) {
+            // handler still uses consumer, it should not be closed until records are processed
+            try {
+                future.get();
+            } catch (ExecutionException ignore) {
+                // poll error is reported instead
+            } catch (InterruptedException ie) {
+                e.addSuppressed(ie);
+                Thread.currentThread().interrupt();
+            }
+            throw e;
+        } finally {
+            this.pausedRecords.remove(consumer);
+            lock.lock();
+            try {
+                paused.retainAll(consumer.assignment());
+                consumer.resume(paused);
+            } finally {
+                lock.unlock();
+            }
+            logger.debug("Kafka Consumer '{}' records are processed, resumed partitions", this.consumerPrefix);
+        }
+    }
+
+    private static void pauseAssigned(Consumer<?, ?> consumer, Set<TopicPartition> paused) {
+        var assignment = consumer.assignment();
+        if (!paused.containsAll(assignment)) {
+            consumer.pause(assignment);
+            paused.addAll(assignment);
+        }
+    }
+
+    private static boolean await(CompletableFuture<?> future, Duration timeout) {
+        try {
+            future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (InterruptedException e) {
+            throw new InterruptException(e);
+        }
+    }
+
+    /**
+     * @param offsets offsets committed instead of consumer position when handler commits without offsets, null to commit position
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Consumer<K, V> lockingConsumer(Consumer<K, V> consumer, Lock lock, InFlightRecords inFlight, @Nullable Map<TopicPartition, OffsetAndMetadata> offsets) {
+        return (Consumer<K, V>) Proxy.newProxyInstance(Consumer.class.getClassLoader(), new Class<?>[]{Consumer.class}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> consumer.toString();
+                };
+            }
+            // wakeup is the only thread safe method
+            var locked = !method.getName().equals("wakeup");
+            if (locked) {
+                lock.lock();
+            }
+            try {
+                if (method.getName().startsWith("commit") && inFlight.isRevoked()) {
+                    throw new CommitFailedException("Partitions " + inFlight.revoked + " were revoked while records were processed, offsets are not committed");
+                }
+                if (offsets != null && isPositionCommit(method)) {
+                    commit(consumer, method, args, offsets);
+                    return null;
+                }
+                return method.invoke(consumer, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if (locked) {
+                    lock.unlock();
+                }
+            }
+        });
+    }
+
+    private static boolean isPositionCommit(Method method) {
+        var name = method.getName();
+        if (!name.equals("commitSync") && !name.equals("commitAsync")) {
+            return false;
+        }
+        var parameters = method.getParameterTypes();
+        return parameters.length == 0 || parameters[0] != Map.class;
+    }
+
+    private static void commit(Consumer<?, ?> consumer, Method method, @Nullable Object[] args, Map<TopicPartition, OffsetAndMetadata> offsets) {
+        var arg = (args == null || args.length == 0) ? null : args[0];
+        if (method.getName().equals("commitAsync")) {
+            consumer.commitAsync(offsets, (OffsetCommitCallback) arg);
+        } else if (arg instanceof Duration timeout) {
+            consumer.commitSync(offsets, timeout);
+        } else {
+            consumer.commitSync(offsets);
+        }
+    }
+
+    private static final class InFlightRecords {
+        private final Set<TopicPartition> partitions;
+        private final Set<TopicPartition> revoked = ConcurrentHashMap.newKeySet();
+
+        private InFlightRecords(Set<TopicPartition> partitions) {
+            this.partitions = partitions;
+        }
+
+        private void revoke(Collection<TopicPartition> partitions) {
+            for (var partition : partitions) {
+                if (this.partitions.contains(partition)) {
+                    this.revoked.add(partition);
+                }
+            }
+        }
+
+        private boolean isRevoked() {
+            return !this.revoked.isEmpty();
+        }
+    }
+}
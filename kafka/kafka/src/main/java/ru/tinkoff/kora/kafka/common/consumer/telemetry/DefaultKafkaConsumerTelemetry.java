@@ -5,6 +5,12 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.TopicPartition;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
 public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemetry<K, V> {
     @Nullable
     private final KafkaConsumerLogger<K, V> logger;
@@ -13,10 +19,19 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
     @Nullable
     private final KafkaConsumerMetrics metrics;
 
+    private final KafkaConsumerTelemetryConfig.Granularity granularity;
+    private final double recordSampleRate;
+
     public DefaultKafkaConsumerTelemetry(@Nullable KafkaConsumerLogger<K, V> logger, @Nullable KafkaConsumerTracer tracing, @Nullable KafkaConsumerMetrics metrics) {
+        this(logger, tracing, metrics, KafkaConsumerTelemetryConfig.Granularity.RECORD, 0.0);
+    }
+
+    public DefaultKafkaConsumerTelemetry(@Nullable KafkaConsumerLogger<K, V> logger, @Nullable KafkaConsumerTracer tracing, @Nullable KafkaConsumerMetrics metrics, KafkaConsumerTelemetryConfig.Granularity granularity, double recordSampleRate) {
         this.logger = logger;
         this.tracing = tracing;
         this.metrics = metrics;
+        this.granularity = granularity;
+        this.recordSampleRate = recordSampleRate;
     }
 
     @Override
@@ -26,6 +41,9 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
         if (this.logger != null) this.logger.logRecords(records);
         var span = this.tracing == null ? null : this.tracing.get(records);
 
+        if (this.granularity != KafkaConsumerTelemetryConfig.Granularity.RECORD) {
+            return new AggregatingKafkaConsumerRecordsTelemetryContext<>(records, this.logger, this.metrics, span, start, this.granularity, this.recordSampleRate);
+        }
         return new DefaultKafkaConsumerRecordsTelemetryContext<>(
             records,
             this.logger,
@@ -42,6 +60,13 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
         }
     }
 
+    @Override
+    public void reportProcessingLatency(TopicPartition partition, long latency) {
+        if (this.metrics != null) {
+            this.metrics.reportProcessingLatency(partition, latency);
+        }
+    }
+
     private static final class DefaultKafkaConsumerRecordsTelemetryContext<K, V> implements KafkaConsumerRecordsTelemetryContext<K, V> {
         private final ConsumerRecords<K, V> records;
         @Nullable
@@ -103,4 +128,139 @@ public class DefaultKafkaConsumerTelemetry<K, V> implements KafkaConsumerTelemet
             if (this.logger != null) this.logger.logRecordProcessed(this.record, ex);
         }
     }
+
+    /**
+     * Single threaded context without per record log entries and metrics observations:
+     * durations of processed records are collected per partition and reported once when context is closed.
+     * <p>
+     * Record contexts are not allocated per record, returned context is valid only till next {@link #get(ConsumerRecord)} call,
+     * so records should be processed one after another and record context should be closed before context of next record is requested.
+     */
+    private static final class AggregatingKafkaConsumerRecordsTelemetryContext<K, V> implements KafkaConsumerRecordsTelemetryContext<K, V> {
+        private final ConsumerRecords<K, V> records;
+        @Nullable
+        private final KafkaConsumerLogger<K, V> logger;
+        @Nullable
+        private final KafkaConsumerMetrics metrics;
+        @Nullable
+        private final KafkaConsumerTracer.KafkaConsumerRecordsSpan span;
+        private final long start;
+        private final KafkaConsumerTelemetryConfig.Granularity granularity;
+        private final double recordSampleRate;
+        private final ArrayList<PartitionDurations<K, V>> partitions = new ArrayList<>();
+        // records are processed one after another, so single record context is reused
+        private final KafkaConsumerRecordTelemetryContext<K, V> recordContext = this::recordClose;
+
+        @Nullable
+        private PartitionDurations<K, V> partition;
+        @Nullable
+        private ConsumerRecord<K, V> record;
+        @Nullable
+        private KafkaConsumerTracer.KafkaConsumerRecordSpan recordSpan;
+        private long recordStart;
+
+        private AggregatingKafkaConsumerRecordsTelemetryContext(ConsumerRecords<K, V> records, @Nullable KafkaConsumerLogger<K, V> logger, @Nullable KafkaConsumerMetrics metrics, @Nullable KafkaConsumerTracer.KafkaConsumerRecordsSpan span, long start, KafkaConsumerTelemetryConfig.Granularity granularity, double recordSampleRate) {
+            this.records = records;
+            this.logger = logger;
+            this.metrics = metrics;
+            this.span = span;
+            this.start = start;
+            this.granularity = granularity;
+            this.recordSampleRate = recordSampleRate;
+        }
+
+        @Override
+        public KafkaConsumerRecordTelemetryContext<K, V> get(ConsumerRecord<K, V> record) {
+            if (this.record != null) {
+                throw new IllegalStateException("Context of record " + this.record.topic() + "-" + this.record.partition() + "@" + this.record.offset()
+                    + " is not closed, records should be processed one after another with " + this.granularity + " telemetry granularity");
+            }
+            if (this.partition == null || this.partition.partition.partition() != record.partition() || !this.partition.partition.topic().equals(record.topic())) {
+                this.partitionEnd(null);
+                var topicPartition = new TopicPartition(record.topic(), record.partition());
+                this.partition = new PartitionDurations<>(topicPartition, this.records.records(topicPartition));
+            }
+            this.record = record;
+            this.recordSpan = this.span != null && this.recordSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < this.recordSampleRate
+                ? this.span.get(record)
+                : null;
+            this.recordStart = System.nanoTime();
+            return this.recordContext;
+        }
+
+        private void recordClose(@Nullable Throwable ex) {
+            if (this.record == null) {
+                return;
+            }
+            var duration = System.nanoTime() - this.recordStart;
+            var record = this.record;
+            this.record = null;
+            if (this.recordSpan != null) {
+                this.recordSpan.close(ex);
+                this.recordSpan = null;
+            }
+            if (ex == null) {
+                this.partition.add(record, duration);
+            } else {
+                if (this.metrics != null) this.metrics.onRecordProcessed(record, duration, ex);
+                if (this.logger != null) this.logger.logRecordProcessed(record, ex);
+            }
+        }
+
+        @Override
+        public void close(@Nullable Throwable ex) {
+            if (this.recordSpan != null) {
+                this.recordSpan.close(ex);
+                this.recordSpan = null;
+            }
+            this.record = null;
+            this.partitionEnd(ex);
+            var duration = System.nanoTime() - this.start;
+            if (this.span != null) this.span.close(ex);
+            if (this.metrics != null) {
+                for (var partition : this.partitions) {
+                    this.metrics.onPartitionRecordsProcessed(partition.partition, partition.processed, partition.durations);
+                }
+                this.metrics.onRecordsProcessed(this.records, duration, ex);
+            }
+            if (this.logger != null && this.granularity == KafkaConsumerTelemetryConfig.Granularity.POLL) {
+                this.logger.logRecordsProcessed(this.records, ex);
+            }
+        }
+
+        private void partitionEnd(@Nullable Throwable ex) {
+            var partition = this.partition;
+            if (partition == null) {
+                return;
+            }
+            this.partition = null;
+            this.partitions.add(partition);
+            if (this.logger != null && this.granularity == KafkaConsumerTelemetryConfig.Granularity.PARTITION) {
+                this.logger.logRecordsProcessed(new ConsumerRecords<>(Map.of(partition.partition, partition.records)), ex);
+            }
+        }
+    }
+
+    private static final class PartitionDurations<K, V> {
+        private final TopicPartition partition;
+        private final List<ConsumerRecord<K, V>> records;
+        private final ArrayList<ConsumerRecord<K, V>> processed;
+        private long[] durations;
+
+        private PartitionDurations(TopicPartition partition, List<ConsumerRecord<K, V>> records) {
+            this.partition = partition;
+            this.records = records;
+            this.processed = new ArrayList<>(records.size());
+            this.durations = new long[Math.max(records.size(), 1)];
+        }
+
+        private void add(ConsumerRecord<K, V> record, long duration) {
+            var index = this.processed.size();
+            if (index == this.durations.length) {
+                this.durations = Arrays.copyOf(this.durations, index * 2);
+            }
+            this.durations[index] = duration;
+            this.processed.add(record);
+        }
+    }
 }
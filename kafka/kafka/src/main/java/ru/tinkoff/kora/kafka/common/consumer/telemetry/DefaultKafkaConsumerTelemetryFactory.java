@@ -29,6 +29,9 @@ public final class DefaultKafkaConsumerTelemetryFactory<K, V> implements KafkaCo
             return KafkaConsumerTelemetryFactory.empty();
         }
 
+        if (config instanceof KafkaConsumerTelemetryConfig consumerConfig) {
+            return new DefaultKafkaConsumerTelemetry<>(logger, tracer, metrics, consumerConfig.granularity(), consumerConfig.tracing().recordSampleRate());
+        }
         return new DefaultKafkaConsumerTelemetry<>(logger, tracer, metrics);
     }
 }
@@ -5,6 +5,8 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.TopicPartition;
 
+import java.util.List;
+
 public interface KafkaConsumerMetrics {
 
     void onRecordsReceived(ConsumerRecords<?, ?> records);
@@ -13,5 +15,22 @@ public interface KafkaConsumerMetrics {
 
     void onRecordProcessed(ConsumerRecord<?, ?> record, long duration, @Nullable Throwable ex);
 
+    /**
+     * Called once per poll for every partition instead of {@link #onRecordProcessed} for successfully processed records,
+     * when telemetry granularity is not {@link KafkaConsumerTelemetryConfig.Granularity#RECORD}
+     *
+     * @param durations processing durations of records in the same order, array can be longer than records list
+     */
+    default void onPartitionRecordsProcessed(TopicPartition partition, List<? extends ConsumerRecord<?, ?>> records, long[] durations) {
+        for (int i = 0; i < records.size(); i++) {
+            this.onRecordProcessed(records.get(i), durations[i], null);
+        }
+    }
+
     void reportLag(TopicPartition partition, long lag);
+
+    /**
+     * @param latency milliseconds from timestamp of last processed partition record to the end of its processing
+     */
+    default void reportProcessingLatency(TopicPartition partition, long latency) {}
 }
@@ -20,4 +20,9 @@ public interface KafkaConsumerTelemetry<K, V> {
     KafkaConsumerRecordsTelemetryContext<K, V> get(ConsumerRecords<K, V> records);
 
     void reportLag(TopicPartition partition, long lag);
+
+    /**
+     * @param latency milliseconds from timestamp of last processed partition record to the end of its processing
+     */
+    default void reportProcessingLatency(TopicPartition partition, long latency) {}
 }
@@ -0,0 +1,45 @@
+package ru.tinkoff.kora.kafka.common.consumer.telemetry;
+
+import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
+
+@ConfigValueExtractor
+public interface KafkaConsumerTelemetryConfig extends TelemetryConfig {
+
+    @Override
+    KafkaConsumerTracingConfig tracing();
+
+    /**
+     * Level at which records handled one by one are reported, records handled as batch are always reported per poll.
+     * With {@link Granularity#PARTITION} and {@link Granularity#POLL} records of poll should be handled sequentially
+     */
+    default Granularity granularity() {
+        return Granularity.RECORD;
+    }
+
+    @ConfigValueExtractor
+    interface KafkaConsumerTracingConfig extends TelemetryConfig.TracingConfig {
+
+        /**
+         * Share of records that still get own span with {@link Granularity#PARTITION} and {@link Granularity#POLL} granularity, from 0 to 1
+         */
+        default double recordSampleRate() {
+            return 0.0;
+        }
+    }
+
+    enum Granularity {
+        /**
+         * Span, log entries and metrics observation per record
+         */
+        RECORD,
+        /**
+         * Log entry per partition batch, record processing durations are aggregated and reported once per poll
+         */
+        PARTITION,
+        /**
+         * Log entries per poll only, record processing durations are aggregated and reported once per poll
+         */
+        POLL
+    }
+}
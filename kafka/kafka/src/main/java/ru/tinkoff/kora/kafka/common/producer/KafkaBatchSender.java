@@ -0,0 +1,77 @@
+package ru.tinkoff.kora.kafka.common.producer;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import ru.tinkoff.kora.kafka.common.producer.telemetry.KafkaProducerTelemetry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sends records of batch publisher method with single telemetry context.
+ * Records are not flushed, so they are accumulated by producer according to linger.ms and batch.size as any other record.
+ */
+public final class KafkaBatchSender {
+
+    private KafkaBatchSender() {}
+
+    /**
+     * @return future completed when every record is acknowledged or failed with first error
+     */
+    public static CompletableFuture<List<RecordMetadata>> send(Producer<byte[], byte[]> producer, KafkaProducerTelemetry telemetry, List<ProducerRecord<byte[], byte[]>> records) {
+        if (records.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        var batch = new Batch(telemetry.batch(records), records.size());
+        for (int i = 0; i < records.size(); i++) {
+            var index = i;
+            try {
+                producer.send(records.get(i), (metadata, exception) -> batch.complete(index, metadata, exception, 1));
+            } catch (Exception e) {
+                // records after failed one are never sent
+                batch.complete(index, null, e, records.size() - index);
+                break;
+            }
+        }
+        return batch.future;
+    }
+
+    private static final class Batch {
+        private final CompletableFuture<List<RecordMetadata>> future = new CompletableFuture<>();
+        private final KafkaProducerTelemetry.KafkaProducerBatchTelemetryContext telemetry;
+        private final RecordMetadata[] metadata;
+        private final AtomicInteger remaining;
+        private final AtomicReference<Exception> error = new AtomicReference<>();
+
+        private Batch(KafkaProducerTelemetry.KafkaProducerBatchTelemetryContext telemetry, int size) {
+            this.telemetry = telemetry;
+            this.metadata = new RecordMetadata[size];
+            this.remaining = new AtomicInteger(size);
+        }
+
+        private void complete(int index, RecordMetadata metadata, Exception exception, int records) {
+            if (exception != null) {
+                this.error.compareAndSet(null, exception);
+            } else {
+                this.metadata[index] = metadata;
+            }
+            if (this.remaining.addAndGet(-records) != 0) {
+                return;
+            }
+            var error = this.error.get();
+            if (error != null) {
+                this.telemetry.sendEnd(error);
+                this.future.completeExceptionally(error);
+            } else {
+                var result = Collections.unmodifiableList(Arrays.asList(this.metadata));
+                this.telemetry.sendEnd(result);
+                this.future.complete(result);
+            }
+        }
+    }
+}
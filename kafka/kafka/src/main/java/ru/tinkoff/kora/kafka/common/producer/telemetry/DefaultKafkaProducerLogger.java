@@ -10,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
@@ -34,6 +35,21 @@ public class DefaultKafkaProducerLogger implements KafkaProducerLogger {
         logger.debug("Kafka Producer success sending record to topic {} and partition {} and offset {}", metadata.topic(), metadata.partition(), metadata.offset());
     }
 
+    @Override
+    public void sendBatchBegin(List<? extends ProducerRecord<?, ?>> records) {
+        logger.debug("Kafka Producer sending {} records", records.size());
+    }
+
+    @Override
+    public void sendBatchEnd(List<? extends ProducerRecord<?, ?>> records, Throwable e) {
+        logger.warn("Kafka Producer error sending {} records", records.size(), e);
+    }
+
+    @Override
+    public void sendBatchEnd(List<RecordMetadata> metadata) {
+        logger.debug("Kafka Producer success sending {} records", metadata.size());
+    }
+
     @Override
     public void txBegin() {
         logger.debug("Kafka Producer starting transaction...");
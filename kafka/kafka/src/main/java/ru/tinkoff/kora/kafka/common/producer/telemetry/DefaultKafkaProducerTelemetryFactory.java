@@ -13,6 +13,7 @@ import ru.tinkoff.kora.kafka.common.producer.telemetry.KafkaProducerTracer.Kafka
 import ru.tinkoff.kora.kafka.common.producer.telemetry.KafkaProducerTracer.KafkaProducerTxSpan;
 import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -91,6 +92,16 @@ public class DefaultKafkaProducerTelemetryFactory implements KafkaProducerTeleme
 
             return new DefaultKafkaProducerRecordTelemetryContext(record, span, this.logger, this.metrics);
         }
+
+        @Override
+        public KafkaProducerBatchTelemetryContext batch(List<? extends ProducerRecord<?, ?>> records) {
+            if (this.logger != null) {
+                this.logger.sendBatchBegin(records);
+            }
+            var span = this.tracer == null ? null : this.tracer.batch(records);
+
+            return new DefaultKafkaProducerBatchTelemetryContext(records, span, this.logger, this.metrics);
+        }
     }
 
     private static final class DefaultKafkaProducerTransactionTelemetryContext implements KafkaProducerTelemetry.KafkaProducerTransactionTelemetryContext {
@@ -198,4 +209,65 @@ public class DefaultKafkaProducerTelemetryFactory implements KafkaProducerTeleme
             }
         }
     }
+
+    private static final class DefaultKafkaProducerBatchTelemetryContext implements KafkaProducerTelemetry.KafkaProducerBatchTelemetryContext {
+        private final List<? extends ProducerRecord<?, ?>> records;
+        @Nullable
+        private final KafkaProducerTracer.KafkaProducerBatchSpan span;
+        @Nullable
+        private final KafkaProducerLogger logger;
+        @Nullable
+        private final KafkaProducerMetrics metrics;
+        private final Context ctx;
+        private final long start;
+
+        private DefaultKafkaProducerBatchTelemetryContext(List<? extends ProducerRecord<?, ?>> records, @Nullable KafkaProducerTracer.KafkaProducerBatchSpan span, @Nullable KafkaProducerLogger logger, @Nullable KafkaProducerMetrics metrics) {
+            this.records = records;
+            this.span = span;
+            this.logger = logger;
+            this.metrics = metrics;
+            this.ctx = Context.current().fork();
+            this.start = System.nanoTime();
+        }
+
+        @Override
+        public void sendEnd(Throwable e) {
+            var oldCtx = Context.current();
+            try {
+                this.ctx.inject();
+                var duration = (System.nanoTime() - start);
+                if (this.span != null) {
+                    this.span.close(e);
+                }
+                if (this.metrics != null) {
+                    this.metrics.sendBatchEnd(this.records, duration, e);
+                }
+                if (this.logger != null) {
+                    this.logger.sendBatchEnd(this.records, e);
+                }
+            } finally {
+                oldCtx.inject();
+            }
+        }
+
+        @Override
+        public void sendEnd(List<RecordMetadata> metadata) {
+            var oldCtx = Context.current();
+            try {
+                this.ctx.inject();
+                var duration = (System.nanoTime() - start);
+                if (this.span != null) {
+                    this.span.close(metadata);
+                }
+                if (this.metrics != null) {
+                    this.metrics.sendBatchEnd(this.records, duration, metadata);
+                }
+                if (this.logger != null) {
+                    this.logger.sendBatchEnd(metadata);
+                }
+            } finally {
+                oldCtx.inject();
+            }
+        }
+    }
 }
@@ -7,6 +7,7 @@ import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.TopicPartition;
 
 import jakarta.annotation.Nullable;
+import java.util.List;
 import java.util.Map;
 
 public interface KafkaProducerLogger {
@@ -16,6 +17,24 @@ public interface KafkaProducerLogger {
 
     void sendEnd(RecordMetadata metadata);
 
+    default void sendBatchBegin(List<? extends ProducerRecord<?, ?>> records) {
+        for (var record : records) {
+            this.sendBegin(record);
+        }
+    }
+
+    default void sendBatchEnd(List<? extends ProducerRecord<?, ?>> records, Throwable e) {
+        for (var record : records) {
+            this.sendEnd(record, e);
+        }
+    }
+
+    default void sendBatchEnd(List<RecordMetadata> metadata) {
+        for (var m : metadata) {
+            this.sendEnd(m);
+        }
+    }
+
     void txBegin();
 
     void sendOffsetsToTransaction(Map<TopicPartition, OffsetAndMetadata> offsets, ConsumerGroupMetadata groupMetadata);
@@ -4,6 +4,8 @@ import jakarta.annotation.Nullable;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 
+import java.util.List;
+
 public interface KafkaProducerMetrics {
     KafkaProducerTxMetrics tx();
 
@@ -11,6 +13,18 @@ public interface KafkaProducerMetrics {
 
     void sendEnd(ProducerRecord<?, ?> record, long durationNanos, RecordMetadata metadata);
 
+    default void sendBatchEnd(List<? extends ProducerRecord<?, ?>> records, long durationNanos, Throwable e) {
+        for (var record : records) {
+            this.sendEnd(record, durationNanos, e);
+        }
+    }
+
+    default void sendBatchEnd(List<? extends ProducerRecord<?, ?>> records, long durationNanos, List<RecordMetadata> metadata) {
+        for (int i = 0; i < records.size(); i++) {
+            this.sendEnd(records.get(i), durationNanos, metadata.get(i));
+        }
+    }
+
     interface KafkaProducerTxMetrics {
         void commit();
 
@@ -8,6 +8,8 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.TopicPartition;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public interface KafkaProducerTelemetry extends AutoCloseable {
@@ -18,6 +20,31 @@ public interface KafkaProducerTelemetry extends AutoCloseable {
 
     KafkaProducerRecordTelemetryContext record(ProducerRecord<?, ?> record);
 
+    /**
+     * Telemetry of records sent with single publisher call, should be created before records are sent
+     */
+    default KafkaProducerBatchTelemetryContext batch(List<? extends ProducerRecord<?, ?>> records) {
+        var contexts = new ArrayList<KafkaProducerRecordTelemetryContext>(records.size());
+        for (var record : records) {
+            contexts.add(this.record(record));
+        }
+        return new KafkaProducerBatchTelemetryContext() {
+            @Override
+            public void sendEnd(Throwable e) {
+                for (var context : contexts) {
+                    context.sendEnd(e);
+                }
+            }
+
+            @Override
+            public void sendEnd(List<RecordMetadata> metadata) {
+                for (int i = 0; i < contexts.size(); i++) {
+                    contexts.get(i).sendEnd(metadata.get(i));
+                }
+            }
+        };
+    }
+
     interface KafkaProducerTransactionTelemetryContext {
         void sendOffsetsToTransaction(Map<TopicPartition, OffsetAndMetadata> offsets, ConsumerGroupMetadata groupMetadata);
 
@@ -26,6 +53,18 @@ public interface KafkaProducerTelemetry extends AutoCloseable {
         void rollback(@Nullable Throwable e);
     }
 
+    interface KafkaProducerBatchTelemetryContext {
+        /**
+         * Called once for whole batch when any record failed
+         */
+        void sendEnd(Throwable e);
+
+        /**
+         * @param metadata metadata of every record in order of records
+         */
+        void sendEnd(List<RecordMetadata> metadata);
+    }
+
     interface KafkaProducerRecordTelemetryContext extends Callback {
         void sendEnd(Throwable e);
 
@@ -4,6 +4,8 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 
 import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 public interface KafkaProducerTracer {
     interface KafkaProducerRecordSpan {
@@ -18,7 +20,35 @@ public interface KafkaProducerTracer {
         void rollback(@Nullable Throwable e);
     }
 
+    interface KafkaProducerBatchSpan {
+        void close(List<RecordMetadata> metadata);
+
+        void close(Throwable e);
+    }
+
     KafkaProducerRecordSpan get(ProducerRecord<?, ?> record);
 
+    default KafkaProducerBatchSpan batch(List<? extends ProducerRecord<?, ?>> records) {
+        var spans = new ArrayList<KafkaProducerRecordSpan>(records.size());
+        for (var record : records) {
+            spans.add(this.get(record));
+        }
+        return new KafkaProducerBatchSpan() {
+            @Override
+            public void close(List<RecordMetadata> metadata) {
+                for (int i = 0; i < spans.size(); i++) {
+                    spans.get(i).close(metadata.get(i));
+                }
+            }
+
+            @Override
+            public void close(Throwable e) {
+                for (var span : spans) {
+                    span.close(e);
+                }
+            }
+        };
+    }
+
     KafkaProducerTxSpan tx();
 }
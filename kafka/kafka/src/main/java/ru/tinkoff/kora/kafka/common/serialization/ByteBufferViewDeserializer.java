@@ -0,0 +1,22 @@
+package ru.tinkoff.kora.kafka.common.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Returns record bytes as is instead of their copy, buffer is backed by fetched data and should not be modified
+ */
+public final class ByteBufferViewDeserializer implements Deserializer<ByteBuffer> {
+
+    @Override
+    public ByteBuffer deserialize(String topic, byte[] data) {
+        return data == null ? null : ByteBuffer.wrap(data);
+    }
+
+    @Override
+    public ByteBuffer deserialize(String topic, Headers headers, ByteBuffer data) {
+        return data;
+    }
+}
@@ -0,0 +1,105 @@
+package ru.tinkoff.kora.kafka.common.consumer.containers;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.kafka.common.exceptions.RecordKeyDeserializationException;
+import ru.tinkoff.kora.kafka.common.exceptions.RecordValueDeserializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsumerRecordWrapperTest {
+
+    @Test
+    void keyAndValueAreDeserializedFromBuffers() {
+        var buffers = new AtomicInteger();
+        Deserializer<String> deserializer = new Deserializer<>() {
+            @Override
+            public String deserialize(String topic, byte[] data) {
+                throw new AssertionError("Buffer should be deserialized without copying into array");
+            }
+
+            @Override
+            public String deserialize(String topic, Headers headers, ByteBuffer data) {
+                buffers.incrementAndGet();
+                return StandardCharsets.UTF_8.decode(data).toString();
+            }
+        };
+        var wrapper = new ConsumerRecordWrapper<>(record("key", "value"), deserializer, deserializer);
+
+        assertThat(wrapper.key()).isEqualTo("key");
+        assertThat(wrapper.value()).isEqualTo("value");
+        assertThat(wrapper.key()).isEqualTo("key");
+        assertThat(buffers).hasValue(2);
+    }
+
+    @Test
+    void deserializerDoesNotMoveSharedBuffer() {
+        var record = record("key", "value");
+        var wrapper = new ConsumerRecordWrapper<>(record, new StringDeserializer(), new StringDeserializer());
+
+        assertThat(wrapper.value()).isEqualTo("value");
+
+        assertThat(record.value().remaining()).isEqualTo(5);
+        var other = new ConsumerRecordWrapper<>(record, new StringDeserializer(), new StringDeserializer());
+        assertThat(other.value()).isEqualTo("value");
+    }
+
+    @Test
+    void valueDeserializationErrorHasByteArrayRecord() {
+        Deserializer<String> failing = (topic, data) -> {
+            throw new IllegalArgumentException("test");
+        };
+        var wrapper = new ConsumerRecordWrapper<>(record("key", "value"), new StringDeserializer(), failing);
+
+        assertThatThrownBy(wrapper::value)
+            .hasCauseInstanceOf(IllegalArgumentException.class)
+            .isInstanceOfSatisfying(RecordValueDeserializationException.class, e -> {
+                var failed = e.getRecord();
+                assertThat(failed.topic()).isEqualTo("topic");
+                assertThat(failed.partition()).isEqualTo(1);
+                assertThat(failed.offset()).isEqualTo(10);
+                assertThat(failed.timestamp()).isEqualTo(100);
+                assertThat(failed.headers().lastHeader("header").value()).isEqualTo("header-value".getBytes(StandardCharsets.UTF_8));
+                assertThat(failed.key()).isEqualTo("key".getBytes(StandardCharsets.UTF_8));
+                assertThat(failed.value()).isEqualTo("value".getBytes(StandardCharsets.UTF_8));
+            });
+        assertThat(wrapper.key()).isEqualTo("key");
+    }
+
+    @Test
+    void keyDeserializationErrorHasByteArrayRecord() {
+        Deserializer<String> failing = (topic, data) -> {
+            throw new IllegalArgumentException("test");
+        };
+        var wrapper = new ConsumerRecordWrapper<>(record("key", null), failing, new StringDeserializer());
+
+        assertThatThrownBy(wrapper::key)
+            .isInstanceOfSatisfying(RecordKeyDeserializationException.class, e -> {
+                assertThat(e.getRecord().key()).isEqualTo("key".getBytes(StandardCharsets.UTF_8));
+                assertThat(e.getRecord().value()).isNull();
+            });
+        assertThat(wrapper.value()).isNull();
+    }
+
+    private static ConsumerRecord<ByteBuffer, ByteBuffer> record(String key, String value) {
+        var headers = new RecordHeaders();
+        headers.add("header", "header-value".getBytes(StandardCharsets.UTF_8));
+        return new ConsumerRecord<>("topic", 1, 10, 100, TimestampType.CREATE_TIME, 3, value == null ? -1 : value.length(),
+            buffer(key), buffer(value), headers, Optional.empty());
+    }
+
+    private static ByteBuffer buffer(String value) {
+        return value == null ? null : ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,160 @@
+package ru.tinkoff.kora.kafka.common.consumer.containers;
+
+import org.apache.kafka.clients.consumer.CommitFailedException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.kafka.common.consumer.containers.handlers.BaseKafkaRecordsHandler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PausingRecordsHandlerTest {
+
+    private static final TopicPartition FIRST = new TopicPartition("topic", 0);
+    private static final TopicPartition SECOND = new TopicPartition("topic", 1);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final CountDownLatch rebalanced = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        this.consumer.subscribe(List.of("topic"));
+        this.consumer.rebalance(List.of(FIRST, SECOND));
+        this.consumer.updateBeginningOffsets(Map.of(FIRST, 0L, SECOND, 0L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void revokedRecordsAreNotCommittedAndFetchedAgain() {
+        this.consumer.addRecord(new ConsumerRecord<>("topic", 0, 0, "k0", "v0"));
+        this.consumer.addRecord(new ConsumerRecord<>("topic", 1, 0, "k1", "v1"));
+        var records = this.consumer.poll(Duration.ZERO);
+        var commitError = new AtomicReference<Throwable>();
+        var handler = this.handler((rs, c, commitAllowed) -> {
+            this.awaitRebalance();
+            try {
+                c.commitSync();
+            } catch (CommitFailedException e) {
+                commitError.set(e);
+                throw e;
+            }
+        });
+        this.rebalanceOnPausedPoll(handler, List.of(SECOND), List.of(FIRST));
+
+        handler.handle(records, this.consumer, true);
+
+        assertThat(commitError.get()).isInstanceOf(CommitFailedException.class);
+        assertThat(this.consumer.committed(Set.of(SECOND)).get(SECOND)).isNull();
+        assertThat(this.consumer.position(SECOND)).isEqualTo(0);
+        assertThat(this.consumer.paused()).isEmpty();
+    }
+
+    @Test
+    void revocationOfOtherPartitionDoesNotFailRecords() {
+        this.consumer.addRecord(new ConsumerRecord<>("topic", 0, 0, "k0", "v0"));
+        var records = this.consumer.poll(Duration.ZERO);
+        var handler = this.handler((rs, c, commitAllowed) -> {
+            this.awaitRebalance();
+            c.commitSync();
+        });
+        this.rebalanceOnPausedPoll(handler, List.of(FIRST), List.of(SECOND));
+
+        handler.handle(records, this.consumer, true);
+
+        assertThat(this.consumer.committed(Set.of(FIRST)).get(FIRST).offset()).isEqualTo(1);
+        assertThat(this.consumer.position(FIRST)).isEqualTo(1);
+        assertThat(this.consumer.paused()).isEmpty();
+    }
+
+    @Test
+    void handlerErrorIsThrownWhenRecordsAreNotRevoked() {
+        this.consumer.addRecord(new ConsumerRecord<>("topic", 0, 0, "k0", "v0"));
+        var records = this.consumer.poll(Duration.ZERO);
+        var error = new IllegalStateException("test");
+        var handler = this.handler((rs, c, commitAllowed) -> {
+            this.awaitRebalance();
+            throw error;
+        });
+        this.rebalanceOnPausedPoll(handler, List.of(FIRST, SECOND), List.of());
+
+        assertThatThrownBy(() -> handler.handle(records, this.consumer, true)).isSameAs(error);
+        assertThat(this.consumer.paused()).isEmpty();
+    }
+
+    @Test
+    void partitionsAreHandledConcurrentlyAndCommittedSeparately() {
+        this.consumer.addRecord(new ConsumerRecord<>("topic", 0, 0, "k0", "v0"));
+        this.consumer.addRecord(new ConsumerRecord<>("topic", 0, 1, "k1", "v1"));
+        this.consumer.addRecord(new ConsumerRecord<>("topic", 1, 0, "k2", "v2"));
+        var records = this.consumer.poll(Duration.ZERO);
+        var barrier = new CyclicBarrier(2);
+        var handled = new ConcurrentHashMap<TopicPartition, List<String>>();
+        var error = new IllegalStateException("test");
+        var handler = new PausingRecordsHandler<String, String>((rs, c, commitAllowed) -> {
+            assertThat(rs.partitions()).hasSize(1);
+            var partition = rs.partitions().iterator().next();
+            try {
+                // every partition has its own thread, so both handlers reach barrier
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            for (var record : rs) {
+                handled.computeIfAbsent(partition, p -> new CopyOnWriteArrayList<>()).add(record.value());
+            }
+            if (partition.equals(SECOND)) {
+                throw error;
+            }
+            c.commitSync();
+        }, this.executor, Duration.ZERO, Duration.ofMillis(10), true, "test");
+
+        assertThatThrownBy(() -> handler.handle(records, this.consumer, true)).isSameAs(error);
+
+        assertThat(handled).containsEntry(FIRST, List.of("v0", "v1")).containsEntry(SECOND, List.of("v2"));
+        assertThat(this.consumer.committed(Set.of(FIRST)).get(FIRST).offset()).isEqualTo(2);
+        assertThat(this.consumer.committed(Set.of(SECOND)).get(SECOND)).isNull();
+    }
+
+    private PausingRecordsHandler<String, String> handler(BaseKafkaRecordsHandler<String, String> handler) {
+        return new PausingRecordsHandler<>(handler, this.executor, Duration.ofMillis(10), Duration.ofMillis(10), false, "test");
+    }
+
+    private void rebalanceOnPausedPoll(PausingRecordsHandler<String, String> handler, List<TopicPartition> assignment, List<TopicPartition> revoked) {
+        this.consumer.schedulePollTask(() -> {
+            this.consumer.rebalance(assignment);
+            handler.onPartitionsRevoked(this.consumer, revoked);
+            this.rebalanced.countDown();
+        });
+    }
+
+    private void awaitRebalance() {
+        try {
+            assertThat(this.rebalanced.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
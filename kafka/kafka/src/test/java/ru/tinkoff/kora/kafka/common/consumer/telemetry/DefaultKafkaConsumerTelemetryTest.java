@@ -0,0 +1,156 @@
+package ru.tinkoff.kora.kafka.common.consumer.telemetry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class DefaultKafkaConsumerTelemetryTest {
+
+    private static final TopicPartition FIRST = new TopicPartition("topic", 0);
+    private static final TopicPartition SECOND = new TopicPartition("topic", 1);
+
+    @SuppressWarnings("unchecked")
+    private final KafkaConsumerLogger<String, String> logger = mock(KafkaConsumerLogger.class);
+    private final KafkaConsumerMetrics metrics = mock(KafkaConsumerMetrics.class);
+    private final KafkaConsumerTracer tracer = mock(KafkaConsumerTracer.class);
+    private final KafkaConsumerTracer.KafkaConsumerRecordsSpan span = mock(KafkaConsumerTracer.KafkaConsumerRecordsSpan.class);
+    private final KafkaConsumerTracer.KafkaConsumerRecordSpan recordSpan = mock(KafkaConsumerTracer.KafkaConsumerRecordSpan.class);
+    private final ConsumerRecords<String, String> records = records();
+
+    DefaultKafkaConsumerTelemetryTest() {
+        when(this.tracer.get(any())).thenReturn(this.span);
+        when(this.span.get(any())).thenReturn(this.recordSpan);
+    }
+
+    @Test
+    void recordGranularityReportsEveryRecord() {
+        this.handle(KafkaConsumerTelemetryConfig.Granularity.RECORD, 0.0);
+
+        for (var record : this.records) {
+            verify(this.logger).logRecord(record);
+            verify(this.logger).logRecordProcessed(record, null);
+            verify(this.metrics).onRecordProcessed(eq(record), anyLong(), isNull());
+            verify(this.span).get(record);
+        }
+        verify(this.recordSpan, times(4)).close(null);
+        verify(this.metrics, never()).onPartitionRecordsProcessed(any(), any(), any());
+        verify(this.logger).logRecordsProcessed(this.records, null);
+        verify(this.metrics).onRecordsProcessed(eq(this.records), anyLong(), isNull());
+        verify(this.span).close(null);
+    }
+
+    @Test
+    void partitionGranularityReportsEveryPartition() {
+        this.handle(KafkaConsumerTelemetryConfig.Granularity.PARTITION, 0.0);
+
+        verify(this.logger, never()).logRecord(any());
+        verify(this.logger, never()).logRecordProcessed(any(), any());
+        verify(this.metrics, never()).onRecordProcessed(any(), anyLong(), any());
+        verify(this.span, never()).get(any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ConsumerRecords<String, String>> logged = ArgumentCaptor.forClass(ConsumerRecords.class);
+        verify(this.logger, times(2)).logRecordsProcessed(logged.capture(), isNull());
+        assertThat(logged.getAllValues().get(0).partitions()).containsExactly(FIRST);
+        assertThat(logged.getAllValues().get(1).partitions()).containsExactly(SECOND);
+        this.verifyPartitionDurations();
+        verify(this.metrics).onRecordsProcessed(eq(this.records), anyLong(), isNull());
+        verify(this.span).close(null);
+    }
+
+    @Test
+    void pollGranularityReportsPollOnly() {
+        this.handle(KafkaConsumerTelemetryConfig.Granularity.POLL, 0.0);
+
+        verify(this.logger, never()).logRecord(any());
+        verify(this.logger, never()).logRecordProcessed(any(), any());
+        verify(this.metrics, never()).onRecordProcessed(any(), anyLong(), any());
+        verify(this.logger).logRecordsProcessed(this.records, null);
+        this.verifyPartitionDurations();
+        verify(this.metrics).onRecordsProcessed(eq(this.records), anyLong(), isNull());
+    }
+
+    @Test
+    void failedRecordIsReportedSeparately() {
+        var telemetry = new DefaultKafkaConsumerTelemetry<>(this.logger, this.tracer, this.metrics, KafkaConsumerTelemetryConfig.Granularity.POLL, 0.0);
+        var ctx = telemetry.get(this.records);
+        var iterator = this.records.iterator();
+        var ok = iterator.next();
+        var failed = iterator.next();
+        var error = new RuntimeException("test");
+
+        ctx.get(ok).close(null);
+        ctx.get(failed).close(error);
+        ctx.close(error);
+
+        verify(this.metrics).onRecordProcessed(eq(failed), anyLong(), eq(error));
+        verify(this.logger).logRecordProcessed(failed, error);
+        verify(this.metrics, never()).onRecordProcessed(eq(ok), anyLong(), any());
+        verify(this.metrics).onPartitionRecordsProcessed(eq(FIRST), eq(List.of(ok)), any());
+        verify(this.logger).logRecordsProcessed(this.records, error);
+        verify(this.span).close(error);
+    }
+
+    @Test
+    void recordSampleRateCreatesRecordSpans() {
+        this.handle(KafkaConsumerTelemetryConfig.Granularity.PARTITION, 1.0);
+
+        for (var record : this.records) {
+            verify(this.span).get(record);
+        }
+        verify(this.recordSpan, times(4)).close(null);
+        verify(this.logger, never()).logRecord(any());
+    }
+
+    @Test
+    void aggregatingContextRequiresSequentialRecords() {
+        var telemetry = new DefaultKafkaConsumerTelemetry<>(this.logger, this.tracer, this.metrics, KafkaConsumerTelemetryConfig.Granularity.PARTITION, 0.0);
+        var ctx = telemetry.get(this.records);
+        var iterator = this.records.iterator();
+        var first = iterator.next();
+        var second = iterator.next();
+
+        ctx.get(first);
+
+        assertThatThrownBy(() -> ctx.get(second)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void handle(KafkaConsumerTelemetryConfig.Granularity granularity, double recordSampleRate) {
+        var telemetry = new DefaultKafkaConsumerTelemetry<>(this.logger, this.tracer, this.metrics, granularity, recordSampleRate);
+        var ctx = telemetry.get(this.records);
+        for (var record : this.records) {
+            ctx.get(record).close(null);
+        }
+        ctx.close(null);
+    }
+
+    private void verifyPartitionDurations() {
+        var durations = ArgumentCaptor.forClass(long[].class);
+        verify(this.metrics).onPartitionRecordsProcessed(eq(FIRST), eq(this.records.records(FIRST)), durations.capture());
+        verify(this.metrics).onPartitionRecordsProcessed(eq(SECOND), eq(this.records.records(SECOND)), durations.capture());
+        for (var value : durations.getAllValues()) {
+            assertThat(value).hasSizeGreaterThanOrEqualTo(2);
+            assertThat(value[0]).isNotNegative();
+            assertThat(value[1]).isNotNegative();
+        }
+    }
+
+    private static ConsumerRecords<String, String> records() {
+        var records = new LinkedHashMap<TopicPartition, List<ConsumerRecord<String, String>>>();
+        records.put(FIRST, List.of(new ConsumerRecord<>("topic", 0, 0, "k0", "v0"), new ConsumerRecord<>("topic", 0, 1, "k1", "v1")));
+        records.put(SECOND, List.of(new ConsumerRecord<>("topic", 1, 0, "k2", "v2"), new ConsumerRecord<>("topic", 1, 1, "k3", "v3")));
+        return new ConsumerRecords<>(records);
+    }
+}
@@ -16,10 +16,11 @@ import ru.tinkoff.kora.common.util.Either;
 import ru.tinkoff.kora.kafka.common.consumer.$KafkaListenerConfig_ConfigValueExtractor;
 import ru.tinkoff.kora.kafka.common.consumer.containers.KafkaAssignConsumerContainer;
 import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetry;
-import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.$KafkaConsumerTelemetryConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.$KafkaConsumerTelemetryConfig_KafkaConsumerTracingConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetryConfig;
 import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_LogConfig_ConfigValueExtractor;
 import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_MetricsConfig_ConfigValueExtractor;
-import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_TracingConfig_ConfigValueExtractor;
 import ru.tinkoff.kora.test.kafka.KafkaParams;
 import ru.tinkoff.kora.test.kafka.KafkaTestContainer;
 
@@ -60,10 +61,14 @@ class KafkaAssignConsumerContainerTest {
             Duration.ofSeconds(1),
             Duration.ofMillis(10000),
             true,
-            new $TelemetryConfig_ConfigValueExtractor.TelemetryConfig_Impl(
+            Duration.ZERO,
+            Duration.ofSeconds(1),
+            false,
+            new $KafkaConsumerTelemetryConfig_ConfigValueExtractor.KafkaConsumerTelemetryConfig_Impl(
+                new $KafkaConsumerTelemetryConfig_KafkaConsumerTracingConfig_ConfigValueExtractor.KafkaConsumerTracingConfig_Impl(0.0, true),
                 new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(true),
-                new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
-                new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null)
+                new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null),
+                KafkaConsumerTelemetryConfig.Granularity.RECORD
             )
         );
         var deque = new ConcurrentLinkedDeque<>();
@@ -0,0 +1,177 @@
+package ru.tinkoff.kora.kafka.common.containers;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.IntegerDeserializer;
+import org.apache.kafka.common.serialization.IntegerSerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import ru.tinkoff.kora.application.graph.internal.loom.VirtualThreadExecutorHolder;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.common.util.Either;
+import ru.tinkoff.kora.kafka.common.consumer.$KafkaListenerConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.kafka.common.consumer.containers.KafkaSubscribeConsumerContainer;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.$KafkaConsumerTelemetryConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.$KafkaConsumerTelemetryConfig_KafkaConsumerTracingConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetryConfig;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_LogConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_MetricsConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.test.kafka.KafkaParams;
+import ru.tinkoff.kora.test.kafka.KafkaTestContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Consumes records with handler blocked on every record as it would be on slow HTTP or database call.
+ * Single consumer handles partitions one after another on platform threads and concurrently on virtual threads
+ */
+@ExtendWith(KafkaTestContainer.class)
+class KafkaConsumerContainerLoadTest {
+    static {
+        if (LoggerFactory.getLogger("org.apache.kafka") instanceof Logger log) {
+            log.setLevel(Level.OFF);
+        }
+    }
+
+    private static final int PARTITIONS = 8;
+    private static final int RECORDS = 800;
+    private static final Duration RECORD_PROCESSING = Duration.ofMillis(20);
+    private static final Context.Key<String> KEY = new Context.KeyImmutable<>() {};
+
+    KafkaParams params;
+
+    @Test
+    void platformThreads() throws InterruptedException {
+        this.consume(false);
+    }
+
+    @Test
+    void virtualThreads() throws InterruptedException {
+        Assumptions.assumeTrue(VirtualThreadExecutorHolder.status() == VirtualThreadExecutorHolder.VirtualThreadStatus.ENABLED);
+        this.consume(true);
+    }
+
+    private void consume(boolean virtualThreads) throws InterruptedException {
+        var driverProps = new Properties();
+        driverProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, params.bootstrapServers());
+        driverProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        driverProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 50);
+        driverProps.put(CommonClientConfigs.GROUP_ID_CONFIG, UUID.randomUUID().toString());
+        var testTopic = params.createTopic("load-topic", PARTITIONS);
+        var config = new $KafkaListenerConfig_ConfigValueExtractor.KafkaListenerConfig_Impl(
+            driverProps,
+            List.of(testTopic),
+            null,
+            null,
+            Either.right("earliest"),
+            Duration.ofMillis(100),
+            Duration.ofMillis(100),
+            Integer.valueOf(1),
+            Duration.ofMillis(10000),
+            Duration.ofMillis(10000),
+            false,
+            Duration.ofMillis(100),
+            Duration.ofMillis(100),
+            virtualThreads,
+            new $KafkaConsumerTelemetryConfig_ConfigValueExtractor.KafkaConsumerTelemetryConfig_Impl(
+                new $KafkaConsumerTelemetryConfig_KafkaConsumerTracingConfig_ConfigValueExtractor.KafkaConsumerTracingConfig_Impl(0.0, true),
+                new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(true),
+                new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null),
+                KafkaConsumerTelemetryConfig.Granularity.RECORD
+            )
+        );
+
+        var received = ConcurrentHashMap.<Integer>newKeySet();
+        var leakedContext = new AtomicInteger();
+        var outOfOrder = new AtomicInteger();
+        var lastValues = new ConcurrentHashMap<Integer, Integer>();
+        var handling = new AtomicInteger();
+        var maxHandling = new AtomicInteger();
+        var platformHandlers = new AtomicInteger();
+        var virtualHandlers = new AtomicInteger();
+        var latch = new CountDownLatch(RECORDS);
+        var container = new KafkaSubscribeConsumerContainer<>(config, new StringDeserializer(), new IntegerDeserializer(), (records, consumer, commitAllowed) -> {
+            // handler of previous records should not leave its context on thread
+            if (Context.current().get(KEY) != null || MDC.get("record") != null) {
+                leakedContext.incrementAndGet();
+            }
+            if (isVirtual(Thread.currentThread())) {
+                virtualHandlers.incrementAndGet();
+            } else {
+                platformHandlers.incrementAndGet();
+            }
+            maxHandling.accumulateAndGet(handling.incrementAndGet(), Math::max);
+            for (var record : records) {
+                var previous = lastValues.put(record.partition(), record.value());
+                if (previous != null && previous >= record.value()) {
+                    outOfOrder.incrementAndGet();
+                }
+                Context.current().set(KEY, record.key());
+                MDC.put("record", record.key());
+                try {
+                    Thread.sleep(RECORD_PROCESSING.toMillis());
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                if (record.key().equals(Context.current().get(KEY)) && received.add(record.value())) {
+                    latch.countDown();
+                }
+            }
+            handling.decrementAndGet();
+            consumer.commitSync();
+        });
+
+        try {
+            container.init();
+            var started = System.nanoTime();
+            params.withProducer(new IntegerSerializer(), producer -> {
+                for (int i = 0; i < RECORDS; i++) {
+                    producer.send(new ProducerRecord<>(testTopic, i % PARTITIONS, String.valueOf(i), i));
+                }
+                producer.flush();
+            });
+
+            assertThat(latch.await(60, TimeUnit.SECONDS)).isTrue();
+            var took = Duration.ofNanos(System.nanoTime() - started);
+            LoggerFactory.getLogger(KafkaConsumerContainerLoadTest.class).info(
+                "Consumed {} records with {} threads in {}", RECORDS, virtualThreads ? "virtual" : "platform", took
+            );
+            assertThat(received).hasSize(RECORDS);
+            assertThat(leakedContext).hasValue(0);
+            assertThat(outOfOrder).hasValue(0);
+            if (virtualThreads) {
+                assertThat(platformHandlers).hasValue(0);
+                assertThat(maxHandling.get()).isGreaterThan(1);
+            } else {
+                assertThat(virtualHandlers).hasValue(0);
+                assertThat(maxHandling).hasValue(1);
+            }
+        } finally {
+            container.release();
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
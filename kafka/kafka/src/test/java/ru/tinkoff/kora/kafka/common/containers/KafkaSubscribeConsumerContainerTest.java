@@ -13,10 +13,11 @@ import ru.tinkoff.kora.common.util.Either;
 import ru.tinkoff.kora.kafka.common.consumer.$KafkaListenerConfig_ConfigValueExtractor;
 import ru.tinkoff.kora.kafka.common.consumer.containers.KafkaSubscribeConsumerContainer;
 import ru.tinkoff.kora.kafka.common.exceptions.RecordValueDeserializationException;
-import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.$KafkaConsumerTelemetryConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.$KafkaConsumerTelemetryConfig_KafkaConsumerTracingConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerTelemetryConfig;
 import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_LogConfig_ConfigValueExtractor;
 import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_MetricsConfig_ConfigValueExtractor;
-import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_TracingConfig_ConfigValueExtractor;
 import ru.tinkoff.kora.test.kafka.KafkaParams;
 import ru.tinkoff.kora.test.kafka.KafkaTestContainer;
 
@@ -59,10 +60,14 @@ class KafkaSubscribeConsumerContainerTest {
             Duration.ofMillis(10000),
             Duration.ofMillis(10000),
             true,
-            new $TelemetryConfig_ConfigValueExtractor.TelemetryConfig_Impl(
+            Duration.ZERO,
+            Duration.ofSeconds(1),
+            false,
+            new $KafkaConsumerTelemetryConfig_ConfigValueExtractor.KafkaConsumerTelemetryConfig_Impl(
+                new $KafkaConsumerTelemetryConfig_KafkaConsumerTracingConfig_ConfigValueExtractor.KafkaConsumerTracingConfig_Impl(0.0, true),
                 new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(true),
-                new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
-                new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null)
+                new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null),
+                KafkaConsumerTelemetryConfig.Granularity.RECORD
             )
         );
         var queue = new ArrayBlockingQueue<>(3);
@@ -89,4 +94,60 @@ class KafkaSubscribeConsumerContainerTest {
             container.release();
         }
     }
+
+    @Test
+    void slowHandlerDoesNotTriggerRebalance() throws InterruptedException {
+        var driverProps = new Properties();
+        driverProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, params.bootstrapServers());
+        driverProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        driverProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 1000);
+        driverProps.put(CommonClientConfigs.GROUP_ID_CONFIG, UUID.randomUUID().toString());
+        var testTopic = params.createTopic("test-topic", 1);
+        var config = new $KafkaListenerConfig_ConfigValueExtractor.KafkaListenerConfig_Impl(
+            driverProps,
+            List.of(testTopic),
+            null,
+            null,
+            Either.right("earliest"),
+            Duration.ofMillis(100),
+            Duration.ofMillis(100),
+            Integer.valueOf(1),
+            Duration.ofMillis(10000),
+            Duration.ofMillis(10000),
+            false,
+            Duration.ofMillis(100),
+            Duration.ofMillis(100),
+            false,
+            new $KafkaConsumerTelemetryConfig_ConfigValueExtractor.KafkaConsumerTelemetryConfig_Impl(
+                new $KafkaConsumerTelemetryConfig_KafkaConsumerTracingConfig_ConfigValueExtractor.KafkaConsumerTracingConfig_Impl(0.0, true),
+                new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(true),
+                new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(null, null),
+                KafkaConsumerTelemetryConfig.Granularity.RECORD
+            )
+        );
+        var queue = new ArrayBlockingQueue<>(3);
+        var container = new KafkaSubscribeConsumerContainer<>(config, new StringDeserializer(), new IntegerDeserializer(), (records, consumer, commitAllowed) -> {
+            for (var record : records) {
+                try {
+                    // processed longer than max.poll.interval.ms
+                    Thread.sleep(3000);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                queue.offer(record.value());
+            }
+            consumer.commitSync();
+        });
+        try {
+            container.init();
+            params.send("test-topic", 0, "1", 1);
+            assertThat(queue.poll(20, TimeUnit.SECONDS)).isEqualTo(1);
+            params.send("test-topic", 0, "2", 2);
+            assertThat(queue.poll(10, TimeUnit.SECONDS)).isEqualTo(2);
+            // paused partitions are polled, so there is no rebalance: commit succeeds and records are not handled again
+            assertThat(queue.poll(5, TimeUnit.SECONDS)).isNull();
+        } finally {
+            container.release();
+        }
+    }
 }
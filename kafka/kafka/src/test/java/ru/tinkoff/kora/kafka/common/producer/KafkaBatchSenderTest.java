@@ -0,0 +1,145 @@
+package ru.tinkoff.kora.kafka.common.producer;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.semconv.SemanticAttributes;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.kafka.common.producer.telemetry.DefaultKafkaProducerTelemetryFactory;
+import ru.tinkoff.kora.kafka.common.producer.telemetry.KafkaProducerTelemetry;
+import ru.tinkoff.kora.opentelemetry.module.kafka.consumer.OpentelemetryKafkaProducerTracer;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_LogConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_MetricsConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_TracingConfig_ConfigValueExtractor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KafkaBatchSenderTest {
+    private final List<ReadableSpan> spans = new CopyOnWriteArrayList<>();
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+        .addSpanProcessor(new SpanProcessor() {
+            @Override
+            public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+            @Override
+            public boolean isStartRequired() {
+                return false;
+            }
+
+            @Override
+            public void onEnd(ReadableSpan span) {
+                spans.add(span);
+            }
+
+            @Override
+            public boolean isEndRequired() {
+                return true;
+            }
+        })
+        .build();
+    private final MockProducer<byte[], byte[]> producer = new MockProducer<>(false, new ByteArraySerializer(), new ByteArraySerializer());
+    private final KafkaProducerTelemetry telemetry = new DefaultKafkaProducerTelemetryFactory(
+        (config, p, properties) -> new OpentelemetryKafkaProducerTracer(this.tracerProvider.get("test")),
+        null,
+        null
+    ).get(new $TelemetryConfig_ConfigValueExtractor.TelemetryConfig_Impl(
+        new $TelemetryConfig_LogConfig_ConfigValueExtractor.LogConfig_Impl(false),
+        new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
+        new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(false, null)
+    ), this.producer, new Properties());
+
+    @AfterEach
+    void tearDown() {
+        this.tracerProvider.close();
+    }
+
+    @Test
+    void recordsAreSentInOrderAndMetadataIsReturnedInOrder() throws Exception {
+        var records = records(3);
+
+        var future = KafkaBatchSender.send(this.producer, this.telemetry, records);
+
+        assertThat(this.producer.history()).containsExactlyElementsOf(records);
+        assertThat(this.producer.completeNext()).isTrue();
+        assertThat(this.producer.completeNext()).isTrue();
+        assertThat(future).isNotDone();
+        assertThat(this.producer.completeNext()).isTrue();
+
+        assertThat(future.get()).extracting(RecordMetadata::offset).containsExactly(0L, 1L, 2L);
+        assertThat(this.spans).hasSize(1);
+        assertThat(this.spans.get(0).toSpanData().getStatus().getStatusCode()).isEqualTo(StatusCode.UNSET);
+    }
+
+    @Test
+    void everyRecordGetsTraceparentOfBatchSpan() {
+        var records = records(3);
+
+        KafkaBatchSender.send(this.producer, this.telemetry, records);
+        while (this.producer.completeNext()) {}
+
+        assertThat(this.spans).hasSize(1);
+        var span = this.spans.get(0).toSpanData();
+        assertThat(span.getName()).isEqualTo("test-topic send");
+        assertThat(span.getAttributes().get(SemanticAttributes.MESSAGING_BATCH_MESSAGE_COUNT)).isEqualTo(3L);
+        var traceparent = "00-" + span.getTraceId() + "-" + span.getSpanId() + "-01";
+        for (var record : this.producer.history()) {
+            var headers = record.headers().headers("traceparent");
+            assertThat(headers).hasSize(1);
+            assertThat(new String(headers.iterator().next().value(), StandardCharsets.UTF_8)).isEqualTo(traceparent);
+        }
+    }
+
+    @Test
+    void batchFailsWhenAnyRecordFails() {
+        var records = records(3);
+        var error = new IllegalStateException("test");
+
+        var future = KafkaBatchSender.send(this.producer, this.telemetry, records);
+        assertThat(this.producer.completeNext()).isTrue();
+        assertThat(this.producer.errorNext(error)).isTrue();
+        // batch is completed only when every record is acknowledged or failed
+        assertThat(future).isNotDone();
+        assertThat(this.producer.completeNext()).isTrue();
+
+        assertThatThrownBy(future::get).isInstanceOf(ExecutionException.class).hasCause(error);
+        assertThat(this.spans).hasSize(1);
+        assertThat(this.spans.get(0).toSpanData().getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    }
+
+    @Test
+    void batchFailsWhenRecordCanNotBeSent() {
+        this.producer.close();
+
+        var future = KafkaBatchSender.send(this.producer, this.telemetry, records(3));
+
+        assertThat(future).isCompletedExceptionally();
+        assertThat(this.producer.history()).isEmpty();
+        assertThat(this.spans).hasSize(1);
+        assertThat(this.spans.get(0).toSpanData().getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    }
+
+    private static List<ProducerRecord<byte[], byte[]>> records(int count) {
+        var records = new ArrayList<ProducerRecord<byte[], byte[]>>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(new ProducerRecord<>("test-topic", ("key" + i).getBytes(StandardCharsets.UTF_8), ("value" + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        return records;
+    }
+}
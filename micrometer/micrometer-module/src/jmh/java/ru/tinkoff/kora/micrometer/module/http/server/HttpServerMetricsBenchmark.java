@@ -0,0 +1,56 @@
+package ru.tinkoff.kora.micrometer.module.http.server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.kora.http.common.HttpResultCode;
+import ru.tinkoff.kora.http.common.header.HttpHeaders;
+import ru.tinkoff.kora.http.server.common.telemetry.HttpServerMetrics;
+import ru.tinkoff.kora.micrometer.module.http.server.tag.Opentelemetry123MicrometerHttpServerTagsProvider;
+import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per request cost of generic metrics path with route metrics resolved at route registration,
+ * run with {@code -prof gc} to see allocations per request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5, iterations = 5)
+@Warmup(time = 5, iterations = 3)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+@Fork(1)
+public class HttpServerMetricsBenchmark {
+    private HttpServerMetrics metrics;
+    private HttpServerMetrics.RouteMetrics routeMetrics;
+
+    @Setup
+    public void setup() {
+        var config = new TelemetryConfig.MetricsConfig() {
+            @Override
+            public Boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public double[] slo() {
+                return null;
+            }
+        };
+        this.metrics = new Opentelemetry123HttpServerMetrics(new SimpleMeterRegistry(), new Opentelemetry123MicrometerHttpServerTagsProvider(), config);
+        this.routeMetrics = this.metrics.route("GET", "/api/items/{id}");
+    }
+
+    @Benchmark
+    public void generic() {
+        this.metrics.requestStarted("GET", "/api/items/{id}", "localhost", "http");
+        this.metrics.requestFinished(200, HttpResultCode.SUCCESS, "http", "localhost", "GET", "/api/items/{id}", "1.1", HttpHeaders.empty(), 1_000_000, null);
+    }
+
+    @Benchmark
+    public void route() {
+        this.routeMetrics.requestStarted("localhost", "http");
+        this.routeMetrics.requestFinished(200, HttpResultCode.SUCCESS, "http", "localhost", "1.1", HttpHeaders.empty(), 1_000_000, null);
+    }
+}
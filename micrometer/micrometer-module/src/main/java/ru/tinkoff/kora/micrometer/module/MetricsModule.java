@@ -13,10 +13,12 @@ import ru.tinkoff.kora.micrometer.module.cache.MicrometerCacheMetrics;
 import ru.tinkoff.kora.micrometer.module.cache.caffeine.MicrometerCaffeineCacheMetricCollector;
 import ru.tinkoff.kora.micrometer.module.camunda.engine.bpmn.MicrometerCamundaEngineBpmnMetricsFactory;
 import ru.tinkoff.kora.micrometer.module.camunda.rest.MicrometerCamundaRestMetricsFactory;
+import ru.tinkoff.kora.micrometer.module.config.MicrometerConfigWatcherMetrics;
 import ru.tinkoff.kora.micrometer.module.db.MicrometerDataBaseMetricWriterFactory;
 import ru.tinkoff.kora.micrometer.module.grpc.client.MicrometerGrpcClientMetricsFactory;
 import ru.tinkoff.kora.micrometer.module.grpc.server.MicrometerGrpcServerMetricsFactory;
 import ru.tinkoff.kora.micrometer.module.http.client.MicrometerHttpClientMetricsFactory;
+import ru.tinkoff.kora.micrometer.module.http.client.MicrometerHttpClientPoolMetrics;
 import ru.tinkoff.kora.micrometer.module.http.server.MicrometerHttpServerMetricsFactory;
 import ru.tinkoff.kora.micrometer.module.http.server.MicrometerPrivateApiMetrics;
 import ru.tinkoff.kora.micrometer.module.http.server.tag.DefaultMicrometerHttpServerTagsProvider;
@@ -65,6 +67,11 @@ public interface MetricsModule {
         return new MicrometerHttpClientMetricsFactory(meterRegistry, metricsConfig);
     }
 
+    @DefaultComponent
+    default MicrometerHttpClientPoolMetrics micrometerHttpClientPoolMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerHttpClientPoolMetrics(meterRegistry);
+    }
+
     @DefaultComponent
     default MicrometerSoapClientMetricsFactory micrometerSoapClientMetricsFactory(MeterRegistry meterRegistry, MetricsConfig metricsConfig) {
         return new MicrometerSoapClientMetricsFactory(meterRegistry, metricsConfig);
@@ -159,4 +166,9 @@ public interface MetricsModule {
     default MicrometerCamundaRestMetricsFactory micrometerCamundaRestMetricsFactory(MeterRegistry meterRegistry, MetricsConfig metricsConfig) {
         return new MicrometerCamundaRestMetricsFactory(meterRegistry, metricsConfig);
     }
+
+    @DefaultComponent
+    default MicrometerConfigWatcherMetrics micrometerConfigWatcherMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerConfigWatcherMetrics(meterRegistry);
+    }
 }
@@ -0,0 +1,48 @@
+package ru.tinkoff.kora.micrometer.module.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.config.common.ConfigWatcherMetrics;
+
+import java.util.concurrent.TimeUnit;
+
+public final class MicrometerConfigWatcherMetrics implements ConfigWatcherMetrics {
+
+    private final Timer successLatency;
+    private final Timer successRefresh;
+    private final Timer errorLatency;
+    private final Timer errorRefresh;
+
+    public MicrometerConfigWatcherMetrics(MeterRegistry registry) {
+        this.successLatency = latency(registry, "success");
+        this.successRefresh = refresh(registry, "success");
+        this.errorLatency = latency(registry, "error");
+        this.errorRefresh = refresh(registry, "error");
+    }
+
+    @Override
+    public void recordReload(long latencyNanos, long refreshNanos, @Nullable Throwable error) {
+        if (error == null) {
+            this.successLatency.record(latencyNanos, TimeUnit.NANOSECONDS);
+            this.successRefresh.record(refreshNanos, TimeUnit.NANOSECONDS);
+        } else {
+            this.errorLatency.record(latencyNanos, TimeUnit.NANOSECONDS);
+            this.errorRefresh.record(refreshNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer latency(MeterRegistry registry, String status) {
+        return Timer.builder("config.reload.latency")
+            .description("Time from config file change till refreshed config is applied")
+            .tag("status", status)
+            .register(registry);
+    }
+
+    private static Timer refresh(MeterRegistry registry, String status) {
+        return Timer.builder("config.reload.duration")
+            .description("Time spent parsing changed config and refreshing dependent components")
+            .tag("status", status)
+            .register(registry);
+    }
+}
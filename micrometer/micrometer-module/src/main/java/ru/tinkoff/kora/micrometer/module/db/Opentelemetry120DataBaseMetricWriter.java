@@ -1,5 +1,6 @@
 package ru.tinkoff.kora.micrometer.module.db;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.opentelemetry.semconv.SemanticAttributes;
@@ -16,11 +17,15 @@ public final class Opentelemetry120DataBaseMetricWriter implements DataBaseMetri
     private final ConcurrentHashMap<DbKey, DbMetrics> metrics = new ConcurrentHashMap<>();
     private final MeterRegistry meterRegistry;
     private final TelemetryConfig.MetricsConfig config;
+    private final Counter preparedCacheHits;
+    private final Counter preparedCacheMisses;
 
     public Opentelemetry120DataBaseMetricWriter(MeterRegistry meterRegistry, TelemetryConfig.MetricsConfig config, String poolName) {
         this.poolName = poolName;
         this.meterRegistry = meterRegistry;
         this.config = config;
+        this.preparedCacheHits = preparedCacheCounter(true);
+        this.preparedCacheMisses = preparedCacheCounter(false);
     }
 
     @Override
@@ -31,6 +36,15 @@ public final class Opentelemetry120DataBaseMetricWriter implements DataBaseMetri
         metrics.duration().record((double) duration / 1_000_000);
     }
 
+    @Override
+    public void recordPreparedStatementCache(boolean hit) {
+        if (hit) {
+            this.preparedCacheHits.increment();
+        } else {
+            this.preparedCacheMisses.increment();
+        }
+    }
+
     @Override
     public Object getMetricRegistry() {
         return this.meterRegistry;
@@ -56,4 +70,11 @@ public final class Opentelemetry120DataBaseMetricWriter implements DataBaseMetri
 
         return new DbMetrics(builder.register(this.meterRegistry));
     }
+
+    private Counter preparedCacheCounter(boolean hit) {
+        return Counter.builder("database.client.prepared_statement.cache")
+            .tag("pool", this.poolName)
+            .tag("result", hit ? "hit" : "miss")
+            .register(this.meterRegistry);
+    }
 }
@@ -1,5 +1,6 @@
 package ru.tinkoff.kora.micrometer.module.db;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -17,11 +18,15 @@ public final class Opentelemetry123DataBaseMetricWriter implements DataBaseMetri
     private final ConcurrentHashMap<DbKey, DbMetrics> metrics = new ConcurrentHashMap<>();
     private final MeterRegistry meterRegistry;
     private final TelemetryConfig.MetricsConfig config;
+    private final Counter preparedCacheHits;
+    private final Counter preparedCacheMisses;
 
     public Opentelemetry123DataBaseMetricWriter(MeterRegistry meterRegistry, TelemetryConfig.MetricsConfig config, String poolName) {
         this.poolName = poolName;
         this.meterRegistry = meterRegistry;
         this.config = config;
+        this.preparedCacheHits = preparedCacheCounter(true);
+        this.preparedCacheMisses = preparedCacheCounter(false);
     }
 
     @Override
@@ -32,6 +37,15 @@ public final class Opentelemetry123DataBaseMetricWriter implements DataBaseMetri
         metrics.duration().record((double) duration / 1_000_000_000);
     }
 
+    @Override
+    public void recordPreparedStatementCache(boolean hit) {
+        if (hit) {
+            this.preparedCacheHits.increment();
+        } else {
+            this.preparedCacheMisses.increment();
+        }
+    }
+
     @Override
     public Object getMetricRegistry() {
         return this.meterRegistry;
@@ -57,4 +71,11 @@ public final class Opentelemetry123DataBaseMetricWriter implements DataBaseMetri
 
         return new DbMetrics(builder.register(this.meterRegistry));
     }
+
+    private Counter preparedCacheCounter(boolean hit) {
+        return Counter.builder("db.client.prepared_statement.cache")
+            .tag(SemanticAttributes.POOL_NAME.getKey(), this.poolName)
+            .tag("result", hit ? "hit" : "miss")
+            .register(this.meterRegistry);
+    }
 }
@@ -1,10 +1,13 @@
 package ru.tinkoff.kora.micrometer.module.grpc.client;
 
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.ServiceDescriptor;
 import io.grpc.Status;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.opentelemetry.semconv.SemanticAttributes;
@@ -18,6 +21,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.IntSupplier;
 
 public final class Opentelemetry120GrpcClientMetrics implements GrpcClientMetrics {
     private final ConcurrentHashMap<MetricsKey, Metrics> metrics = new ConcurrentHashMap<>();
@@ -126,4 +130,28 @@ public final class Opentelemetry120GrpcClientMetrics implements GrpcClientMetric
     public <RespT, ReqT> void recordReceiveMessage(MethodDescriptor<ReqT, RespT> method, RespT message) {
         RESPONSES_PER_RPC.incrementAndGet(this);
     }
+
+    @Override
+    public void registerSubchannel(int index, ManagedChannel channel, IntSupplier activeCalls) {
+        var serverPort = this.uri.getPort();
+        if (serverPort == -1) {
+            serverPort = 80;
+        }
+        var tags = List.of(
+            Tag.of(SemanticAttributes.RPC_SERVICE.getKey(), Objects.requireNonNullElse(this.service.getName(), "GrpcService")),
+            Tag.of(SemanticAttributes.RPC_SYSTEM.getKey(), SemanticAttributes.RpcSystemValues.GRPC),
+            Tag.of(SemanticAttributes.SERVER_ADDRESS.getKey(), this.uri.getHost()),
+            Tag.of(SemanticAttributes.SERVER_PORT.getKey(), String.valueOf(serverPort)),
+            Tag.of("rpc.grpc.subchannel", String.valueOf(index))
+        );
+
+        // supplier is referenced only by gauge, weak reference would let it be collected
+        Gauge.builder("rpc.client.subchannel.active_calls", activeCalls, IntSupplier::getAsInt)
+            .strongReference(true)
+            .tags(tags)
+            .register(this.registry);
+        Gauge.builder("rpc.client.subchannel.ready", channel, c -> c.getState(false) == ConnectivityState.READY ? 1 : 0)
+            .tags(tags)
+            .register(this.registry);
+    }
 }
@@ -19,6 +19,7 @@ public final class MicrometerGrpcServerMetricsFactory implements GrpcServerMetri
     private final ConcurrentHashMap<MetricsKey, GrpcServerMetrics> metrics = new ConcurrentHashMap<>();
     private final MeterRegistry meterRegistry;
     private final MetricsConfig metricsConfig;
+    private volatile DistributionSummary executorQueueDuration;
 
     public MicrometerGrpcServerMetricsFactory(MeterRegistry meterRegistry, MetricsConfig metricsConfig) {
         this.meterRegistry = meterRegistry;
@@ -32,6 +33,26 @@ public final class MicrometerGrpcServerMetricsFactory implements GrpcServerMetri
         return this.metrics.computeIfAbsent(new MetricsKey(serviceName, methodName), key -> buildMetrics(config, key));
     }
 
+    @Override
+    public void recordExecutorQueueTime(TelemetryConfig.MetricsConfig config, long queueTimeNanos) {
+        var summary = this.executorQueueDuration;
+        if (summary == null) {
+            summary = DistributionSummary.builder("rpc.server.executor.queue.duration")
+                .serviceLevelObjectives(config.slo(metricsConfig.opentelemetrySpec()))
+                .baseUnit(switch (metricsConfig.opentelemetrySpec()) {
+                    case V120 -> "milliseconds";
+                    case V123 -> "s";
+                })
+                .tag(SemanticAttributes.RPC_SYSTEM.getKey(), SemanticAttributes.RpcSystemValues.GRPC)
+                .register(this.meterRegistry);
+            this.executorQueueDuration = summary;
+        }
+        switch (metricsConfig.opentelemetrySpec()) {
+            case V120 -> summary.record((double) queueTimeNanos / 1_000_000);
+            case V123 -> summary.record((double) queueTimeNanos / 1_000_000_000);
+        }
+    }
+
     private GrpcServerMetrics buildMetrics(TelemetryConfig.MetricsConfig config, MetricsKey metricsKey) {
         var duration = (Function<Integer, DistributionSummary>) code -> DistributionSummary.builder("rpc.server.duration")
             .serviceLevelObjectives(config.slo(metricsConfig.opentelemetrySpec()))
@@ -0,0 +1,67 @@
+package ru.tinkoff.kora.micrometer.module.http.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.http.client.common.telemetry.HttpClientPoolMetrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public final class MicrometerHttpClientPoolMetrics implements HttpClientPoolMetrics {
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, PoolState> pools = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<AcquireKey, Timer> acquireTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<HostKey, Boolean> hostGauges = new ConcurrentHashMap<>();
+
+    public MicrometerHttpClientPoolMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    private record AcquireKey(String pool, String host, @Nullable Class<? extends Throwable> errorType) {}
+
+    private record HostKey(String pool, String host) {}
+
+    @Override
+    public void registerPool(String pool, PoolState state) {
+        this.pools.put(pool, state);
+        Gauge.builder("http.client.open_connections", state, PoolState::activeConnections)
+            .tag("pool", pool)
+            .tag("http.connection.state", "active")
+            .register(this.registry);
+        Gauge.builder("http.client.open_connections", state, PoolState::idleConnections)
+            .tag("pool", pool)
+            .tag("http.connection.state", "idle")
+            .register(this.registry);
+        Gauge.builder("http.client.pool.pending_requests", state, PoolState::pendingAcquires)
+            .tag("pool", pool)
+            .register(this.registry);
+    }
+
+    @Override
+    public void recordAcquire(String pool, String host, long acquireTimeNanos, @Nullable Throwable error) {
+        var key = new AcquireKey(pool, host, error == null ? null : error.getClass());
+        this.acquireTimers.computeIfAbsent(key, this::acquireTimer).record(acquireTimeNanos, TimeUnit.NANOSECONDS);
+        var state = this.pools.get(pool);
+        if (state != null) {
+            // hosts are not known beforehand, so per host gauge is registered on first request to host
+            this.hostGauges.computeIfAbsent(new HostKey(pool, host), k -> {
+                Gauge.builder("http.client.pool.active_connections", state, s -> s.activeConnections(k.host()))
+                    .tag("pool", k.pool())
+                    .tag("server.address", k.host())
+                    .register(this.registry);
+                return Boolean.TRUE;
+            });
+        }
+    }
+
+    private Timer acquireTimer(AcquireKey key) {
+        return Timer.builder("http.client.connection.acquire.duration")
+            .description("Time from request start till connection is acquired from pool or established")
+            .tag("pool", key.pool())
+            .tag("server.address", key.host())
+            .tag("error.type", key.errorType() == null ? "" : key.errorType().getCanonicalName())
+            .register(this.registry);
+    }
+}
@@ -0,0 +1,112 @@
+package ru.tinkoff.kora.micrometer.module.http.server;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.http.common.HttpResultCode;
+import ru.tinkoff.kora.http.common.header.HttpHeaders;
+import ru.tinkoff.kora.http.server.common.telemetry.HttpServerMetrics;
+import ru.tinkoff.kora.micrometer.module.http.server.tag.ActiveRequestsKey;
+import ru.tinkoff.kora.micrometer.module.http.server.tag.DurationKey;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Meters of single route, resolved once per host and status code so request without error doesn't allocate keys
+ * and doesn't look up shared meter maps. Meters are still registered through shared maps, so they are the same
+ * as ones used by generic path. Summaries are cached in segments per status code class, segment is allocated
+ * when first response of its class is recorded.
+ */
+final class HttpServerRouteMetrics implements HttpServerMetrics.RouteMetrics {
+    private static final String[] PROTOCOL_VERSIONS = {"1.0", "1.1", "2"};
+    private static final int MIN_STATUS_CODE = 100;
+    private static final int MAX_STATUS_CODE = 599;
+    private static final int SEGMENT_SIZE = 100 * PROTOCOL_VERSIONS.length;
+
+    private final String method;
+    private final String route;
+    private final Function<ActiveRequestsKey, AtomicInteger> activeRequests;
+    private final Function<DurationKey, DistributionSummary> duration;
+    private final double nanosPerUnit;
+    private final ConcurrentHashMap<String, HostMeters> hosts = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile HostMeters lastHost;
+
+    HttpServerRouteMetrics(String method, String route, Function<ActiveRequestsKey, AtomicInteger> activeRequests, Function<DurationKey, DistributionSummary> duration, double nanosPerUnit) {
+        this.method = method;
+        this.route = route;
+        this.activeRequests = activeRequests;
+        this.duration = duration;
+        this.nanosPerUnit = nanosPerUnit;
+    }
+
+    @Override
+    public void requestStarted(String host, String scheme) {
+        this.hostMeters(host, scheme).activeRequests.incrementAndGet();
+    }
+
+    @Override
+    public void requestFinished(int statusCode, HttpResultCode resultCode, String scheme, String host, String protocolVersion, HttpHeaders headers, long processingTimeNanos, @Nullable Throwable exception) {
+        var meters = this.hostMeters(host, scheme);
+        meters.activeRequests.decrementAndGet();
+        meters.duration(statusCode, protocolVersion, exception).record(processingTimeNanos / this.nanosPerUnit);
+    }
+
+    private HostMeters hostMeters(String host, String scheme) {
+        // almost every route is requested with single host and scheme
+        var last = this.lastHost;
+        if (last != null && last.host.equals(host) && last.scheme.equals(scheme)) {
+            return last;
+        }
+        var meters = this.hosts.computeIfAbsent(scheme + "://" + host, k -> new HostMeters(host, scheme));
+        this.lastHost = meters;
+        return meters;
+    }
+
+    private static int protocolIndex(String protocolVersion) {
+        return switch (protocolVersion) {
+            case "1.0" -> 0;
+            case "1.1" -> 1;
+            case "2" -> 2;
+            default -> -1;
+        };
+    }
+
+    private final class HostMeters {
+        private final String host;
+        private final String scheme;
+        private final AtomicInteger activeRequests;
+        private final AtomicReferenceArray<AtomicReferenceArray<DistributionSummary>> durations = new AtomicReferenceArray<>((MAX_STATUS_CODE + 1 - MIN_STATUS_CODE) / 100);
+
+        private HostMeters(String host, String scheme) {
+            this.host = host;
+            this.scheme = scheme;
+            this.activeRequests = HttpServerRouteMetrics.this.activeRequests.apply(new ActiveRequestsKey(method, route, host, scheme));
+        }
+
+        private DistributionSummary duration(int statusCode, String protocolVersion, @Nullable Throwable exception) {
+            var protocol = protocolIndex(protocolVersion);
+            if (exception != null || protocol < 0 || statusCode < MIN_STATUS_CODE || statusCode > MAX_STATUS_CODE) {
+                var errorType = exception == null ? null : exception.getClass();
+                return HttpServerRouteMetrics.this.duration.apply(new DurationKey(statusCode, method, route, this.host, this.scheme, protocolVersion, errorType));
+            }
+            var segmentIndex = (statusCode - MIN_STATUS_CODE) / 100;
+            var segment = this.durations.get(segmentIndex);
+            if (segment == null) {
+                segment = new AtomicReferenceArray<>(SEGMENT_SIZE);
+                if (!this.durations.compareAndSet(segmentIndex, null, segment)) {
+                    segment = this.durations.get(segmentIndex);
+                }
+            }
+            var index = (statusCode % 100) * PROTOCOL_VERSIONS.length + protocol;
+            var summary = segment.get(index);
+            if (summary == null) {
+                summary = HttpServerRouteMetrics.this.duration.apply(new DurationKey(statusCode, method, route, this.host, this.scheme, PROTOCOL_VERSIONS[protocol], null));
+                segment.set(index, summary);
+            }
+            return summary;
+        }
+    }
+}
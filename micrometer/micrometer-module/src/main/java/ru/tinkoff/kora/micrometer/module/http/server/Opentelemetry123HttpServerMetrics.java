@@ -30,25 +30,39 @@ public final class Opentelemetry123HttpServerMetrics implements HttpServerMetric
 
     @Override
     public void requestStarted(String method, String pathTemplate, String host, String scheme) {
-        var counter = requestCounters.computeIfAbsent(new ActiveRequestsKey(method, pathTemplate, host, scheme), activeRequestsKey -> {
-            var c = new AtomicInteger(0);
-            this.registerActiveRequestsGauge(activeRequestsKey, c);
-            return c;
-        });
+        var counter = this.activeRequests(new ActiveRequestsKey(method, pathTemplate, host, scheme));
         counter.incrementAndGet();
     }
 
     @Override
     public void requestFinished(int statusCode, HttpResultCode resultCode, String scheme, String host, String method, String pathTemplate, HttpHeaders headers, long processingTimeNanos, Throwable exception) {
-        var counter = requestCounters.computeIfAbsent(new ActiveRequestsKey(method, pathTemplate, host, scheme), activeRequestsKey -> {
+        this.requestFinished(statusCode, resultCode, scheme, host, method, pathTemplate, "1.1", headers, processingTimeNanos, exception);
+    }
+
+    @Override
+    public void requestFinished(int statusCode, HttpResultCode resultCode, String scheme, String host, String method, String pathTemplate, String protocolVersion, HttpHeaders headers, long processingTimeNanos, Throwable exception) {
+        var counter = this.activeRequests(new ActiveRequestsKey(method, pathTemplate, host, scheme));
+        counter.decrementAndGet();
+        var key = new DurationKey(statusCode, method, pathTemplate, host, scheme, protocolVersion, exception == null ? null : exception.getClass());
+        this.duration(key)
+            .record(((double) processingTimeNanos) / 1_000_000_000);
+    }
+
+    @Override
+    public RouteMetrics route(String method, String pathTemplate) {
+        return new HttpServerRouteMetrics(method, pathTemplate, this::activeRequests, this::duration, 1_000_000_000.0);
+    }
+
+    private AtomicInteger activeRequests(ActiveRequestsKey key) {
+        return this.requestCounters.computeIfAbsent(key, activeRequestsKey -> {
             var c = new AtomicInteger(0);
             this.registerActiveRequestsGauge(activeRequestsKey, c);
             return c;
         });
-        counter.decrementAndGet();
-        var key = new DurationKey(statusCode, method, pathTemplate, host, scheme, exception == null ? null : exception.getClass());
-        this.duration.computeIfAbsent(key, this::requestDuration)
-            .record(((double) processingTimeNanos) / 1_000_000_000);
+    }
+
+    private DistributionSummary duration(DurationKey key) {
+        return this.duration.computeIfAbsent(key, this::requestDuration);
     }
 
     private void registerActiveRequestsGauge(ActiveRequestsKey key, AtomicInteger counter) {
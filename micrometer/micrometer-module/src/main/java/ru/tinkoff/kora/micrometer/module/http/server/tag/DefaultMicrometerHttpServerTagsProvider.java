@@ -30,6 +30,7 @@ public class DefaultMicrometerHttpServerTagsProvider implements MicrometerHttpSe
             Tag.of(SemanticAttributes.HTTP_ROUTE.getKey(), key.route()),
             Tag.of(SemanticAttributes.SERVER_ADDRESS.getKey(), key.host()),
             Tag.of(SemanticAttributes.URL_SCHEME.getKey(), key.scheme()),
+            Tag.of(SemanticAttributes.NETWORK_PROTOCOL_VERSION.getKey(), key.protocolVersion()),
             Tag.of(SemanticAttributes.HTTP_TARGET.getKey(), key.route()),
             Tag.of(SemanticAttributes.HTTP_METHOD.getKey(), key.method()),
             Tag.of(SemanticAttributes.HTTP_STATUS_CODE.getKey(), Integer.toString(key.statusCode()))
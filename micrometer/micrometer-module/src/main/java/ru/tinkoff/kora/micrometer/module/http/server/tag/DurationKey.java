@@ -2,4 +2,8 @@ package ru.tinkoff.kora.micrometer.module.http.server.tag;
 
 import jakarta.annotation.Nullable;
 
-public record DurationKey(int statusCode, String method, String route, String host, String scheme, @Nullable Class<? extends Throwable> errorType) {}
+public record DurationKey(int statusCode, String method, String route, String host, String scheme, String protocolVersion, @Nullable Class<? extends Throwable> errorType) {
+    public DurationKey(int statusCode, String method, String route, String host, String scheme, @Nullable Class<? extends Throwable> errorType) {
+        this(statusCode, method, route, host, scheme, "1.1", errorType);
+    }
+}
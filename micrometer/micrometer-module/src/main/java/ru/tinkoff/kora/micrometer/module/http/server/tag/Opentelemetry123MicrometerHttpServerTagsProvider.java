@@ -23,7 +23,7 @@ public final class Opentelemetry123MicrometerHttpServerTagsProvider implements M
 
     @Override
     public Iterable<Tag> getDurationTags(DurationKey key) {
-        var list = new ArrayList<Tag>(6);
+        var list = new ArrayList<Tag>(7);
         if (key.errorType() != null) {
             list.add(Tag.of(SemanticAttributes.ERROR_TYPE.getKey(), key.errorType().getCanonicalName()));
         } else {
@@ -34,6 +34,7 @@ public final class Opentelemetry123MicrometerHttpServerTagsProvider implements M
         list.add(Tag.of(SemanticAttributes.HTTP_ROUTE.getKey(), key.route()));
         list.add(Tag.of(SemanticAttributes.URL_SCHEME.getKey(), key.scheme()));
         list.add(Tag.of(SemanticAttributes.SERVER_ADDRESS.getKey(), key.host()));
+        list.add(Tag.of(SemanticAttributes.NETWORK_PROTOCOL_VERSION.getKey(), key.protocolVersion()));
         return list;
     }
 
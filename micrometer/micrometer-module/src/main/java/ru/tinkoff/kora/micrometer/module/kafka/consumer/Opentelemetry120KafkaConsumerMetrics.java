@@ -14,6 +14,7 @@ import ru.tinkoff.kora.kafka.common.consumer.telemetry.KafkaConsumerMetrics;
 import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
@@ -26,6 +27,7 @@ public class Opentelemetry120KafkaConsumerMetrics implements KafkaConsumerMetric
     private final MeterRegistry meterRegistry;
     private final ConcurrentHashMap<DurationKey, DistributionSummary> metrics = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<TopicPartition, LagGauge> lagMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<TopicPartition, LatencyGauge> latencyMetrics = new ConcurrentHashMap<>();
     private final TelemetryConfig.MetricsConfig config;
     private final Properties driverProperties;
 
@@ -70,6 +72,19 @@ public class Opentelemetry120KafkaConsumerMetrics implements KafkaConsumerMetric
         lagMetrics.computeIfAbsent(partition, p -> new LagGauge(p, meterRegistry)).offsetLag = lag;
     }
 
+    @Override
+    public void reportProcessingLatency(TopicPartition partition, long latency) {
+        latencyMetrics.computeIfAbsent(partition, p -> new LatencyGauge(p, meterRegistry)).latency = latency;
+    }
+
+    @Override
+    public void onPartitionRecordsProcessed(TopicPartition partition, List<? extends ConsumerRecord<?, ?>> records, long[] durations) {
+        var metrics = this.metrics.computeIfAbsent(new DurationKey(partition.topic(), partition.partition()), this::metrics);
+        for (int i = 0; i < records.size(); i++) {
+            metrics.record(((double) durations[i]) / 1_000_000);
+        }
+    }
+
     @Override
     public void onRecordsProcessed(ConsumerRecords<?, ?> records, long duration, Throwable ex) {
 
@@ -92,6 +107,11 @@ public class Opentelemetry120KafkaConsumerMetrics implements KafkaConsumerMetric
         for (var lagMetric : lagMetrics) {
             lagMetric.gauge.close();
         }
+        var latencyMetrics = new ArrayList<>(this.latencyMetrics.values());
+        this.latencyMetrics.clear();
+        for (var latencyMetric : latencyMetrics) {
+            latencyMetric.gauge.close();
+        }
     }
 
     private static class LagGauge {
@@ -106,4 +126,18 @@ public class Opentelemetry120KafkaConsumerMetrics implements KafkaConsumerMetric
                 .register(meterRegistry);
         }
     }
+
+    private static class LatencyGauge {
+        private final Gauge gauge;
+        private volatile double latency;
+
+        private LatencyGauge(TopicPartition partition, MeterRegistry meterRegistry) {
+            gauge = Gauge.builder("messaging.kafka.consumer.processing.latency", () -> latency)
+                .baseUnit("milliseconds")
+                .tag(SemanticAttributes.MESSAGING_SYSTEM.getKey(), "kafka")
+                .tag(SemanticAttributes.MESSAGING_DESTINATION_NAME.getKey(), partition.topic())
+                .tag(SemanticAttributes.MESSAGING_KAFKA_DESTINATION_PARTITION.getKey(), Objects.toString(partition.partition()))
+                .register(meterRegistry);
+        }
+    }
 }
@@ -13,6 +13,7 @@ import org.apache.kafka.common.TopicPartition;
 import ru.tinkoff.kora.kafka.common.producer.telemetry.KafkaProducerMetrics;
 import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
@@ -62,6 +63,36 @@ public class Opentelemetry120KafkaProducerMetrics implements KafkaProducerMetric
         m.record((double) durationNanos / 1_000_000);
     }
 
+    @Override
+    public void sendBatchEnd(List<? extends ProducerRecord<?, ?>> records, long durationNanos, Throwable e) {
+        var duration = (double) durationNanos / 1_000_000;
+        DistributionSummary m = null;
+        TopicPartition topicPartition = null;
+        for (var record : records) {
+            var partition = Objects.requireNonNullElse(record.partition(), -1);
+            // records of batch usually have same topic and partition, so meter is looked up only when they change
+            if (m == null || topicPartition.partition() != partition || !topicPartition.topic().equals(record.topic())) {
+                topicPartition = new TopicPartition(record.topic(), partition);
+                m = this.metrics.computeIfAbsent(topicPartition, this::metrics);
+            }
+            m.record(duration);
+        }
+    }
+
+    @Override
+    public void sendBatchEnd(List<? extends ProducerRecord<?, ?>> records, long durationNanos, List<RecordMetadata> metadata) {
+        var duration = (double) durationNanos / 1_000_000;
+        DistributionSummary m = null;
+        TopicPartition topicPartition = null;
+        for (var recordMetadata : metadata) {
+            if (m == null || topicPartition.partition() != recordMetadata.partition() || !topicPartition.topic().equals(recordMetadata.topic())) {
+                topicPartition = new TopicPartition(recordMetadata.topic(), recordMetadata.partition());
+                m = this.metrics.computeIfAbsent(topicPartition, this::metrics);
+            }
+            m.record(duration);
+        }
+    }
+
     @Override
     public void close() throws Exception {
         this.micrometerMetrics.close();
@@ -12,6 +12,7 @@ import org.apache.kafka.clients.producer.RecordMetadata;
 import ru.tinkoff.kora.kafka.common.producer.telemetry.KafkaProducerMetrics;
 import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
@@ -63,6 +64,33 @@ public class Opentelemetry123KafkaProducerMetrics implements KafkaProducerMetric
         m.record((double) durationNanos / 1_000_000_000);
     }
 
+    @Override
+    public void sendBatchEnd(List<? extends ProducerRecord<?, ?>> records, long durationNanos, Throwable e) {
+        this.recordBatch(records, durationNanos, e.getClass());
+    }
+
+    @Override
+    public void sendBatchEnd(List<? extends ProducerRecord<?, ?>> records, long durationNanos, List<RecordMetadata> metadata) {
+        this.recordBatch(records, durationNanos, null);
+    }
+
+    // records of batch usually have same topic and partition, so meter is looked up only when they change
+    private void recordBatch(List<? extends ProducerRecord<?, ?>> records, long durationNanos, @Nullable Class<? extends Throwable> errorType) {
+        var duration = (double) durationNanos / 1_000_000_000;
+        String topic = null;
+        var partition = -1;
+        DistributionSummary m = null;
+        for (var record : records) {
+            var recordPartition = Objects.requireNonNullElse(record.partition(), -1);
+            if (m == null || recordPartition != partition || !record.topic().equals(topic)) {
+                topic = record.topic();
+                partition = recordPartition;
+                m = this.metrics.computeIfAbsent(new DurationKey(topic, partition, errorType), this::metrics);
+            }
+            m.record(duration);
+        }
+    }
+
     @Override
     public void close() {
         this.micrometerMetrics.close();
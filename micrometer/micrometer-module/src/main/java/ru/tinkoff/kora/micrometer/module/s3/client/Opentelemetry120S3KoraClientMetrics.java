@@ -1,5 +1,6 @@
 package ru.tinkoff.kora.micrometer.module.s3.client;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -23,6 +24,7 @@ public class Opentelemetry120S3KoraClientMetrics implements S3KoraClientMetrics
     private static final AttributeKey<String> CLIENT_NAME = stringKey("aws.client.name");
 
     private final ConcurrentHashMap<DurationKey, DistributionSummary> duration = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<TransferKey, TransferMeters> transfer = new ConcurrentHashMap<>();
     private final MeterRegistry meterRegistry;
     private final TelemetryConfig.MetricsConfig config;
     private final Class<?> client;
@@ -56,5 +58,34 @@ public class Opentelemetry120S3KoraClientMetrics implements S3KoraClientMetrics
         return builder.register(meterRegistry);
     }
 
+    @Override
+    public void recordTransfer(String operation, String bucket, long transferredBytes, long processingTimeNanos) {
+        var meters = this.transfer.computeIfAbsent(new TransferKey(operation, bucket), this::transfer);
+        meters.bytes().increment(transferredBytes);
+        if (processingTimeNanos > 0) {
+            meters.throughput().record(transferredBytes * 1_000_000_000.0 / processingTimeNanos);
+        }
+    }
+
+    private TransferMeters transfer(TransferKey key) {
+        var bytes = Counter.builder("s3.kora.client.transferred")
+            .baseUnit("By")
+            .tag(CLIENT_NAME.getKey(), client.getSimpleName())
+            .tag(AWS_S3_BUCKET.getKey(), key.bucket())
+            .tag("aws.operation.name", key.operation())
+            .register(meterRegistry);
+        var throughput = DistributionSummary.builder("s3.kora.client.throughput")
+            .baseUnit("By/s")
+            .tag(CLIENT_NAME.getKey(), client.getSimpleName())
+            .tag(AWS_S3_BUCKET.getKey(), key.bucket())
+            .tag("aws.operation.name", key.operation())
+            .register(meterRegistry);
+        return new TransferMeters(bytes, throughput);
+    }
+
+    private record TransferKey(String operation, String bucket) {}
+
+    private record TransferMeters(Counter bytes, DistributionSummary throughput) {}
+
     private record DurationKey(String operation, String bucket, @Nullable String key, @Nullable String errorCode) {}
 }
@@ -0,0 +1,132 @@
+package ru.tinkoff.kora.micrometer.module.http.server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.tinkoff.kora.common.Context;
+import ru.tinkoff.kora.http.common.body.HttpBody;
+import ru.tinkoff.kora.http.common.body.HttpBodyInput;
+import ru.tinkoff.kora.http.common.header.HttpHeaders;
+import ru.tinkoff.kora.http.server.common.$HttpServerConfig_CompressionConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.http.server.common.$HttpServerConfig_ConfigValueExtractor.HttpServerConfig_Impl;
+import ru.tinkoff.kora.http.server.common.$HttpServerConfig_Http2Config_ConfigValueExtractor;
+import ru.tinkoff.kora.http.server.common.HttpServerConfig;
+import ru.tinkoff.kora.http.server.common.HttpServerResponse;
+import ru.tinkoff.kora.http.server.common.handler.HttpServerRequestHandlerImpl;
+import ru.tinkoff.kora.http.server.common.router.PublicApiHandler;
+import ru.tinkoff.kora.http.server.common.router.PublicApiRequest;
+import ru.tinkoff.kora.http.server.common.telemetry.$HttpServerLoggerConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.http.server.common.telemetry.$HttpServerTelemetryConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.http.server.common.telemetry.DefaultHttpServerTelemetry;
+import ru.tinkoff.kora.micrometer.module.http.server.tag.Opentelemetry123MicrometerHttpServerTagsProvider;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_MetricsConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.$TelemetryConfig_TracingConfig_ConfigValueExtractor;
+import ru.tinkoff.kora.telemetry.common.TelemetryConfig;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpServerRouteMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PublicApiHandler handler = this.handler();
+
+    @Test
+    void matchedRouteIsRecordedWithRouteTemplate() {
+        this.request("GET", "/users/1", "1.1");
+        this.request("GET", "/users/2", "1.1");
+
+        var duration = this.registry.get("http.server.request.duration")
+            .tag("http.route", "/users/{id}")
+            .tag("http.request.method", "GET")
+            .tag("http.response.status_code", "200")
+            .tag("network.protocol.version", "1.1")
+            .tag("server.address", "localhost")
+            .tag("url.scheme", "http")
+            .summary();
+        assertThat(duration.count()).isEqualTo(2);
+        var activeRequests = this.registry.get("http.server.active_requests")
+            .tag("http.route", "/users/{id}")
+            .gauge();
+        assertThat(activeRequests.value()).isZero();
+    }
+
+    @Test
+    void statusCodesAndProtocolsAreRecordedSeparately() {
+        this.request("GET", "/users/1", "1.1");
+        this.request("GET", "/users/1", "2");
+        this.request("GET", "/users/error", "1.1");
+
+        assertThat(this.registry.get("http.server.request.duration").tag("http.route", "/users/{id}").tag("http.response.status_code", "200").summaries()).hasSize(2);
+        var notFound = this.registry.get("http.server.request.duration")
+            .tag("http.route", "/users/{id}")
+            .tag("http.response.status_code", "404")
+            .summary();
+        assertThat(notFound.count()).isEqualTo(1);
+    }
+
+    @Test
+    void routeMetersAreSameAsGenericPathMeters() {
+        this.request("GET", "/users/1", "1.1");
+        this.request("GET", "/unknown", "1.1");
+
+        var routeDurations = this.registry.get("http.server.request.duration").tag("http.route", "/users/{id}").summaries();
+        assertThat(routeDurations).hasSize(1);
+        var unmatchedDurations = this.registry.get("http.server.request.duration").tag("http.route", "UNKNOWN_ROUTE").summaries();
+        assertThat(unmatchedDurations).hasSize(1);
+    }
+
+    private void request(String method, String path, String protocolVersion) {
+        var rs = this.handler.process(Context.clear(), new Request(method, path, "localhost", "http", protocolVersion, HttpHeaders.of(), Map.of(), HttpBody.empty()));
+        var response = rs.response().join();
+        rs.closeSendResponseSuccess(response.code(), response.headers(), null);
+    }
+
+    private PublicApiHandler handler() {
+        var metricsConfig = new $TelemetryConfig_MetricsConfig_ConfigValueExtractor.MetricsConfig_Impl(true, TelemetryConfig.MetricsConfig.DEFAULT_SLO);
+        var metrics = new Opentelemetry123HttpServerMetrics(this.registry, new Opentelemetry123MicrometerHttpServerTagsProvider(), metricsConfig);
+        var telemetry = new DefaultHttpServerTelemetry(metrics, null, null);
+        var handlers = List.of(new HttpServerRequestHandlerImpl("GET", "/users/{id}", (ctx, request) -> {
+            var code = "error".equals(request.pathParams().get("id")) ? 404 : 200;
+            return CompletableFuture.completedFuture(HttpServerResponse.of(code));
+        }));
+        return new PublicApiHandler(handlers, List.of(), config -> telemetry, config(metricsConfig));
+    }
+
+    private static HttpServerConfig config(TelemetryConfig.MetricsConfig metricsConfig) {
+        return new HttpServerConfig_Impl(
+            8080,
+            8085,
+            "/metrics",
+            "/system/readiness",
+            "/system/liveness",
+            false,
+            10,
+            10,
+            Duration.ofMillis(100),
+            new $HttpServerTelemetryConfig_ConfigValueExtractor.HttpServerTelemetryConfig_Impl(
+                new $HttpServerLoggerConfig_ConfigValueExtractor.HttpServerLoggerConfig_Defaults(),
+                new $TelemetryConfig_TracingConfig_ConfigValueExtractor.TracingConfig_Impl(true),
+                metricsConfig
+            ),
+            new $HttpServerConfig_CompressionConfig_ConfigValueExtractor.CompressionConfig_Defaults(),
+            new $HttpServerConfig_Http2Config_ConfigValueExtractor.Http2Config_Defaults()
+        );
+    }
+
+    private record Request(
+        String method,
+        String path,
+        String hostName,
+        String scheme,
+        String protocolVersion,
+        HttpHeaders headers,
+        Map<String, ? extends Collection<String>> queryParams,
+        HttpBodyInput body
+    ) implements PublicApiRequest {
+    }
+}
@@ -15,6 +15,7 @@ import ru.tinkoff.kora.kafka.common.producer.telemetry.KafkaProducerTracer;
 import ru.tinkoff.kora.opentelemetry.common.OpentelemetryContext;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 public class OpentelemetryKafkaProducerTracer implements KafkaProducerTracer {
     private final Tracer tracer;
@@ -39,6 +40,35 @@ public class OpentelemetryKafkaProducerTracer implements KafkaProducerTracer {
         return new OpentelemetryKafkaProducerRecordSpan(span);
     }
 
+    @Override
+    public KafkaProducerBatchSpan batch(List<? extends ProducerRecord<?, ?>> records) {
+        var ctx = Context.current();
+        var otctx = OpentelemetryContext.get(ctx);
+        var topic = records.get(0).topic();
+        for (var record : records) {
+            if (!record.topic().equals(topic)) {
+                topic = null;
+                break;
+            }
+        }
+        var builder = this.tracer.spanBuilder(topic == null ? "send" : topic + " send")
+            .setSpanKind(SpanKind.PRODUCER)
+            .setParent(otctx.getContext())
+            .setAttribute(SemanticAttributes.MESSAGING_SYSTEM, "kafka")
+            .setAttribute(SemanticAttributes.MESSAGING_OPERATION, SemanticAttributes.MessagingOperationValues.PUBLISH)
+            .setAttribute(SemanticAttributes.MESSAGING_BATCH_MESSAGE_COUNT, (long) records.size());
+        if (topic != null) {
+            builder.setAttribute(SemanticAttributes.MESSAGING_DESTINATION_NAME, topic);
+        }
+        var span = builder.startSpan();
+        var spanContext = otctx.getContext().with(span);
+        for (var record : records) {
+            W3CTraceContextPropagator.getInstance().inject(spanContext, record, ProducerRecordTextMapSetter.INSTANCE);
+        }
+
+        return new OpentelemetryKafkaProducerBatchSpan(span);
+    }
+
     @Override
     public KafkaProducerTxSpan tx() {
         var ctx = Context.current();
@@ -75,6 +105,27 @@ public class OpentelemetryKafkaProducerTracer implements KafkaProducerTracer {
         }
     }
 
+    private static final class OpentelemetryKafkaProducerBatchSpan implements KafkaProducerBatchSpan {
+        private final Span span;
+
+        private OpentelemetryKafkaProducerBatchSpan(Span span) {
+            this.span = span;
+        }
+
+        @Override
+        public void close(List<RecordMetadata> metadata) {
+            span.end();
+        }
+
+        @Override
+        public void close(Throwable e) {
+            span.setAttribute(SemanticAttributes.ERROR_TYPE, e.getClass().getName());
+            span.setStatus(StatusCode.ERROR);
+            span.recordException(e);
+            span.end();
+        }
+    }
+
     private static final class OpentelemetryKafkaProducerTxSpan implements KafkaProducerTxSpan {
         private final Context context;
         private final OpentelemetryContext ctx;
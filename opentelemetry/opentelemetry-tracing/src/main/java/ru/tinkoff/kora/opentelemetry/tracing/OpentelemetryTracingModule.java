@@ -13,6 +13,9 @@ import ru.tinkoff.kora.common.DefaultComponent;
 import ru.tinkoff.kora.config.common.Config;
 import ru.tinkoff.kora.config.common.extractor.ConfigValueExtractor;
 import ru.tinkoff.kora.opentelemetry.module.OpentelemetryModule;
+import ru.tinkoff.kora.opentelemetry.tracing.sampler.OpentelemetrySamplerConfig;
+import ru.tinkoff.kora.opentelemetry.tracing.sampler.RuleBasedSampler;
+import ru.tinkoff.kora.opentelemetry.tracing.sampler.TailSamplingSpanProcessor;
 
 import jakarta.annotation.Nullable;
 import java.util.function.Supplier;
@@ -41,15 +44,22 @@ public interface OpentelemetryTracingModule extends OpentelemetryModule {
         return SpanLimits::getDefault;
     }
 
+    default OpentelemetrySamplerConfig opentelemetrySamplerConfig(Config config, ConfigValueExtractor<OpentelemetrySamplerConfig> extractor) {
+        return extractor.extract(config.get("tracing.sampler"));
+    }
+
     @DefaultComponent
-    default Sampler opentelemetryTracingSampler() {
-        return Sampler.parentBased(Sampler.alwaysOn());
+    default Sampler opentelemetryTracingSampler(OpentelemetrySamplerConfig config) {
+        return Sampler.parentBased(RuleBasedSampler.fromConfig(config));
     }
 
-    default LifecycleWrapper<SdkTracerProvider> opentelemetryTracerProvider(IdGenerator idGenerator, Supplier<SpanLimits> spanLimits, Sampler sampler, @Nullable SpanProcessor spanProcessor, Resource resource) {
+    default LifecycleWrapper<SdkTracerProvider> opentelemetryTracerProvider(IdGenerator idGenerator, Supplier<SpanLimits> spanLimits, Sampler sampler, @Nullable SpanProcessor spanProcessor, Resource resource, OpentelemetrySamplerConfig samplerConfig) {
         if (spanProcessor == null) {
             spanProcessor = SpanProcessor.composite();
         }
+        if (samplerConfig.tail().enabled()) {
+            spanProcessor = new TailSamplingSpanProcessor(spanProcessor, samplerConfig.tail());
+        }
         return new LifecycleWrapper<>(
             SdkTracerProvider.builder()
                 .setIdGenerator(idGenerator)
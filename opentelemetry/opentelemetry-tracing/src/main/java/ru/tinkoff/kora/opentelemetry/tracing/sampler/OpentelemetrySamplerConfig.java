@@ -0,0 +1,93 @@
+package ru.tinkoff.kora.opentelemetry.tracing.sampler;
+
+import jakarta.annotation.Nullable;
+import ru.tinkoff.kora.config.common.annotation.ConfigValueExtractor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sampling of root spans, child spans follow decision of their parent
+ */
+@ConfigValueExtractor
+public interface OpentelemetrySamplerConfig {
+
+    /**
+     * Ratio of traces sampled, from 0 to 1
+     */
+    default double ratio() {
+        return 1.0;
+    }
+
+    /**
+     * Max number of traces sampled per second, unlimited if not set
+     */
+    @Nullable
+    Double rateLimit();
+
+    /**
+     * Rules are checked in order, first rule matching root span overrides {@link #ratio()} and {@link #rateLimit()}
+     */
+    default List<RuleConfig> rules() {
+        return List.of();
+    }
+
+    TailConfig tail();
+
+    @ConfigValueExtractor
+    interface RuleConfig {
+
+        /**
+         * Span attributes values required for rule to match, like http.route, messaging.destination.name or db.statement
+         */
+        Map<String, String> attributes();
+
+        default double ratio() {
+            return 1.0;
+        }
+
+        @Nullable
+        Double rateLimit();
+    }
+
+    /**
+     * Spans of sampled traces are kept in memory till local root span is ended and exported only if trace
+     * has error or is slow or is sampled by ratio
+     */
+    @ConfigValueExtractor
+    interface TailConfig {
+
+        default boolean enabled() {
+            return false;
+        }
+
+        /**
+         * Traces with local root span longer than threshold are exported
+         */
+        default Duration slowThreshold() {
+            return Duration.ofSeconds(1);
+        }
+
+        /**
+         * Ratio of traces without errors and faster than threshold that are exported
+         */
+        default double ratio() {
+            return 0.0;
+        }
+
+        /**
+         * Max number of traces kept in memory, spans of traces over limit are exported without tail sampling
+         */
+        default int maxTraces() {
+            return 10000;
+        }
+
+        /**
+         * Traces which root span wasn't ended in time are dropped
+         */
+        default Duration maxTraceDuration() {
+            return Duration.ofMinutes(1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package ru.tinkoff.kora.opentelemetry.tracing.sampler;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples at most given number of traces per second, bursts up to one second of traces are allowed
+ */
+public final class RateLimitingSampler implements Sampler {
+    private final double tracesPerSecond;
+    private final long interval;
+    private final long tolerance;
+    // theoretical arrival time of next trace, see generic cell rate algorithm
+    private final AtomicLong nextArrival;
+
+    public RateLimitingSampler(double tracesPerSecond) {
+        if (tracesPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit should be positive: " + tracesPerSecond);
+        }
+        this.tracesPerSecond = tracesPerSecond;
+        this.interval = (long) (1_000_000_000L / tracesPerSecond);
+        this.tolerance = Math.max(0L, 1_000_000_000L - this.interval);
+        this.nextArrival = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind, Attributes attributes, List<LinkData> parentLinks) {
+        return this.tryAcquire() ? SamplingResult.recordAndSample() : SamplingResult.drop();
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            var now = System.nanoTime();
+            var current = this.nextArrival.get();
+            var arrival = current - now > 0 ? current : now;
+            if (arrival - now > this.tolerance) {
+                return false;
+            }
+            if (this.nextArrival.compareAndSet(current, arrival + this.interval)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return "RateLimitingSampler{" + this.tracesPerSecond + "}";
+    }
+
+    @Override
+    public String toString() {
+        return this.getDescription();
+    }
+}
@@ -0,0 +1,120 @@
+package ru.tinkoff.kora.opentelemetry.tracing.sampler;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selects sampler by span attributes known at span start, like http.route of HTTP server span or
+ * messaging.destination.name of Kafka consumer span, first matching rule wins
+ */
+public final class RuleBasedSampler implements Sampler {
+    private final Rule[] rules;
+    private final Sampler defaultSampler;
+
+    public record Rule(List<AttributeKey<String>> keys, List<String> values, Sampler sampler) {
+        public Rule {
+            if (keys.size() != values.size()) {
+                throw new IllegalArgumentException("Keys and values should have same size");
+            }
+        }
+
+        boolean matches(Attributes attributes) {
+            for (int i = 0; i < this.keys.size(); i++) {
+                if (!this.values.get(i).equals(attributes.get(this.keys.get(i)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    public RuleBasedSampler(List<Rule> rules, Sampler defaultSampler) {
+        this.rules = rules.toArray(Rule[]::new);
+        this.defaultSampler = defaultSampler;
+    }
+
+    public static Sampler fromConfig(OpentelemetrySamplerConfig config) {
+        var defaultSampler = sampler(config.ratio(), config.rateLimit());
+        if (config.rules().isEmpty()) {
+            return defaultSampler;
+        }
+        var rules = new ArrayList<Rule>(config.rules().size());
+        for (var rule : config.rules()) {
+            var keys = new ArrayList<AttributeKey<String>>(rule.attributes().size());
+            var values = new ArrayList<String>(rule.attributes().size());
+            for (var entry : rule.attributes().entrySet()) {
+                keys.add(AttributeKey.stringKey(entry.getKey()));
+                values.add(entry.getValue());
+            }
+            rules.add(new Rule(keys, values, sampler(rule.ratio(), rule.rateLimit())));
+        }
+        return new RuleBasedSampler(rules, defaultSampler);
+    }
+
+    static Sampler sampler(double ratio, @Nullable Double rateLimit) {
+        if (ratio <= 0.0 || rateLimit != null && rateLimit <= 0.0) {
+            return Sampler.alwaysOff();
+        }
+        if (rateLimit == null) {
+            return ratio >= 1.0 ? Sampler.alwaysOn() : Sampler.traceIdRatioBased(ratio);
+        }
+        var rateLimiting = new RateLimitingSampler(rateLimit);
+        if (ratio >= 1.0) {
+            return rateLimiting;
+        }
+        return new RatioRateLimitingSampler(Sampler.traceIdRatioBased(ratio), rateLimiting);
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind, Attributes attributes, List<LinkData> parentLinks) {
+        for (var rule : this.rules) {
+            if (rule.matches(attributes)) {
+                return rule.sampler.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+            }
+        }
+        return this.defaultSampler.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+    }
+
+    @Override
+    public String getDescription() {
+        var sb = new StringBuilder("RuleBasedSampler{rules=[");
+        for (int i = 0; i < this.rules.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(this.rules[i].keys).append('=').append(this.rules[i].values).append(" -> ").append(this.rules[i].sampler.getDescription());
+        }
+        return sb.append("], default=").append(this.defaultSampler.getDescription()).append('}').toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.getDescription();
+    }
+
+    private record RatioRateLimitingSampler(Sampler ratio, RateLimitingSampler rateLimiting) implements Sampler {
+        @Override
+        public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind, Attributes attributes, List<LinkData> parentLinks) {
+            var result = this.ratio.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+            if (result.getDecision() != SamplingDecision.RECORD_AND_SAMPLE) {
+                return result;
+            }
+            return this.rateLimiting.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+        }
+
+        @Override
+        public String getDescription() {
+            return this.ratio.getDescription() + " and " + this.rateLimiting.getDescription();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package ru.tinkoff.kora.opentelemetry.tracing.sampler;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps ended spans of sampled traces in memory till local root span is ended and then passes them to delegate
+ * only if any of spans has error, local root span is slower than threshold or trace is sampled by ratio.
+ * Decisions of last max traces are remembered, so spans ended after their local root follow decision made for trace.
+ * Late spans of traces which decision is already forgotten are buffered as new trace and dropped when it expires.
+ */
+public final class TailSamplingSpanProcessor implements SpanProcessor {
+    private final SpanProcessor delegate;
+    private final long slowThresholdNanos;
+    private final double ratio;
+    private final int maxTraces;
+    private final long maxTraceDurationNanos;
+    private final ConcurrentHashMap<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    private final AtomicInteger tracesCount = new AtomicInteger();
+    private final ConcurrentHashMap<String, Boolean> decisions = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> decisionsOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger decisionsCount = new AtomicInteger();
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, OpentelemetrySamplerConfig.TailConfig config) {
+        this.delegate = delegate;
+        this.slowThresholdNanos = config.slowThreshold().toNanos();
+        this.ratio = config.ratio();
+        this.maxTraces = config.maxTraces();
+        this.maxTraceDurationNanos = config.maxTraceDuration().toNanos();
+    }
+
+    private static final class TraceBuffer {
+        private final long created = System.nanoTime();
+        private final ArrayList<ReadableSpan> spans = new ArrayList<>(4);
+        // null till local root is ended
+        private Boolean keep;
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        this.delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return this.delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        var spanContext = span.getSpanContext();
+        if (!spanContext.isSampled()) {
+            this.delegate.onEnd(span);
+            return;
+        }
+        var parent = span.getParentSpanContext();
+        var isLocalRoot = !parent.isValid() || parent.isRemote();
+        var buffer = this.traces.get(spanContext.getTraceId());
+        if (buffer == null) {
+            var decision = this.decisions.get(spanContext.getTraceId());
+            if (decision != null) {
+                if (decision) {
+                    this.delegate.onEnd(span);
+                }
+                return;
+            }
+            if (isLocalRoot) {
+                var keep = this.shouldKeep(span);
+                this.decided(spanContext.getTraceId(), keep);
+                if (keep) {
+                    this.delegate.onEnd(span);
+                }
+                return;
+            }
+            buffer = this.newBuffer(spanContext.getTraceId());
+            if (buffer == null) {
+                // too many traces in flight, tail sampling is skipped
+                this.delegate.onEnd(span);
+                return;
+            }
+        }
+        synchronized (buffer) {
+            if (buffer.keep == null) {
+                buffer.spans.add(span);
+                if (!isLocalRoot) {
+                    return;
+                }
+                buffer.keep = this.shouldKeep(buffer);
+                // decision is visible before buffer is removed, so spans ending concurrently are not buffered again
+                this.decided(spanContext.getTraceId(), buffer.keep);
+            } else if (buffer.keep) {
+                this.delegate.onEnd(span);
+                return;
+            } else {
+                return;
+            }
+        }
+        if (this.traces.remove(spanContext.getTraceId(), buffer)) {
+            this.tracesCount.decrementAndGet();
+        }
+        if (buffer.keep) {
+            for (var s : buffer.spans) {
+                this.delegate.onEnd(s);
+            }
+        }
+    }
+
+    @Nullable
+    private TraceBuffer newBuffer(String traceId) {
+        if (this.tracesCount.get() >= this.maxTraces) {
+            this.evictExpired();
+            if (this.tracesCount.get() >= this.maxTraces) {
+                return null;
+            }
+        }
+        return this.traces.computeIfAbsent(traceId, k -> {
+            this.tracesCount.incrementAndGet();
+            return new TraceBuffer();
+        });
+    }
+
+    private void decided(String traceId, boolean keep) {
+        if (this.decisions.put(traceId, keep) != null) {
+            return;
+        }
+        this.decisionsOrder.add(traceId);
+        if (this.decisionsCount.incrementAndGet() > this.maxTraces) {
+            var eldest = this.decisionsOrder.poll();
+            if (eldest != null) {
+                this.decisions.remove(eldest);
+                this.decisionsCount.decrementAndGet();
+            }
+        }
+    }
+
+    private void evictExpired() {
+        var now = System.nanoTime();
+        var iterator = this.traces.values().iterator();
+        while (iterator.hasNext()) {
+            var buffer = iterator.next();
+            // traces which local root was not ended in process or was ended long ago
+            if (now - buffer.created > this.maxTraceDurationNanos) {
+                iterator.remove();
+                this.tracesCount.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean shouldKeep(TraceBuffer buffer) {
+        for (var span : buffer.spans) {
+            if (isError(span)) {
+                return true;
+            }
+        }
+        var root = buffer.spans.get(buffer.spans.size() - 1);
+        return root.getLatencyNanos() >= this.slowThresholdNanos || this.sampledByRatio();
+    }
+
+    private boolean shouldKeep(ReadableSpan root) {
+        return root.getLatencyNanos() >= this.slowThresholdNanos || isError(root) || this.sampledByRatio();
+    }
+
+    private boolean sampledByRatio() {
+        return this.ratio > 0.0 && (this.ratio >= 1.0 || ThreadLocalRandom.current().nextDouble() < this.ratio);
+    }
+
+    private static boolean isError(ReadableSpan span) {
+        return span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR;
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        this.traces.clear();
+        this.tracesCount.set(0);
+        this.decisions.clear();
+        this.decisionsOrder.clear();
+        this.decisionsCount.set(0);
+        return this.delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return this.delegate.forceFlush();
+    }
+}
@@ -0,0 +1,60 @@
+package ru.tinkoff.kora.opentelemetry.tracing.sampler;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitingSamplerTest {
+
+    @Test
+    void burstIsLimitedToOneSecondOfTraces() {
+        var sampler = new RateLimitingSampler(10);
+
+        var sampled = 0;
+        for (int i = 0; i < 100; i++) {
+            if (sampler.tryAcquire()) {
+                sampled++;
+            }
+        }
+
+        // one more trace could be sampled if loop took longer than interval
+        assertThat(sampled).isBetween(10, 11);
+    }
+
+    @Test
+    void tracesAreSampledAgainAfterInterval() throws InterruptedException {
+        var sampler = new RateLimitingSampler(10);
+        while (sampler.tryAcquire()) {
+            // exhaust burst
+        }
+        assertThat(sampler.tryAcquire()).isFalse();
+
+        Thread.sleep(250);
+
+        assertThat(sampler.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void samplingResultFollowsLimit() {
+        var sampler = new RateLimitingSampler(1);
+
+        assertThat(shouldSample(sampler)).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+        assertThat(shouldSample(sampler)).isEqualTo(SamplingDecision.DROP);
+    }
+
+    @Test
+    void nonPositiveLimitIsRejected() {
+        assertThatThrownBy(() -> new RateLimitingSampler(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SamplingDecision shouldSample(RateLimitingSampler sampler) {
+        return sampler.shouldSample(Context.root(), "00000000000000000000000000000001", "test", SpanKind.SERVER, Attributes.empty(), List.of()).getDecision();
+    }
+}
@@ -0,0 +1,73 @@
+package ru.tinkoff.kora.opentelemetry.tracing.sampler;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RuleBasedSamplerTest {
+
+    private static final AttributeKey<String> ROUTE = AttributeKey.stringKey("http.route");
+    private static final AttributeKey<String> METHOD = AttributeKey.stringKey("http.request.method");
+
+    @Test
+    void matchingRuleSamplerIsUsed() {
+        var sampler = new RuleBasedSampler(List.of(
+            new RuleBasedSampler.Rule(List.of(ROUTE), List.of("/health"), Sampler.alwaysOff())
+        ), Sampler.alwaysOn());
+
+        assertThat(shouldSample(sampler, Attributes.of(ROUTE, "/health"))).isEqualTo(SamplingDecision.DROP);
+        assertThat(shouldSample(sampler, Attributes.of(ROUTE, "/users"))).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+        assertThat(shouldSample(sampler, Attributes.empty())).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    }
+
+    @Test
+    void ruleMatchesOnlyWhenAllAttributesMatch() {
+        var sampler = new RuleBasedSampler(List.of(
+            new RuleBasedSampler.Rule(List.of(ROUTE, METHOD), List.of("/users", "GET"), Sampler.alwaysOff())
+        ), Sampler.alwaysOn());
+
+        assertThat(shouldSample(sampler, Attributes.of(ROUTE, "/users", METHOD, "GET"))).isEqualTo(SamplingDecision.DROP);
+        assertThat(shouldSample(sampler, Attributes.of(ROUTE, "/users", METHOD, "POST"))).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+        assertThat(shouldSample(sampler, Attributes.of(ROUTE, "/users"))).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    }
+
+    @Test
+    void firstMatchingRuleWins() {
+        var sampler = new RuleBasedSampler(List.of(
+            new RuleBasedSampler.Rule(List.of(ROUTE), List.of("/users"), Sampler.alwaysOn()),
+            new RuleBasedSampler.Rule(List.of(ROUTE), List.of("/users"), Sampler.alwaysOff())
+        ), Sampler.alwaysOff());
+
+        assertThat(shouldSample(sampler, Attributes.of(ROUTE, "/users"))).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    }
+
+    @Test
+    void ruleKeysAndValuesShouldHaveSameSize() {
+        assertThatThrownBy(() -> new RuleBasedSampler.Rule(List.of(ROUTE, METHOD), List.of("/users"), Sampler.alwaysOn()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void samplerFromRatioAndRateLimit() {
+        assertThat(shouldSample(RuleBasedSampler.sampler(0.0, null), Attributes.empty())).isEqualTo(SamplingDecision.DROP);
+        assertThat(shouldSample(RuleBasedSampler.sampler(1.0, 0.0), Attributes.empty())).isEqualTo(SamplingDecision.DROP);
+        assertThat(shouldSample(RuleBasedSampler.sampler(1.0, null), Attributes.empty())).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+
+        var rateLimited = RuleBasedSampler.sampler(1.0, 1.0);
+        assertThat(shouldSample(rateLimited, Attributes.empty())).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+        assertThat(shouldSample(rateLimited, Attributes.empty())).isEqualTo(SamplingDecision.DROP);
+    }
+
+    private static SamplingDecision shouldSample(Sampler sampler, Attributes attributes) {
+        return sampler.shouldSample(Context.root(), "00000000000000000000000000000001", "test", SpanKind.SERVER, attributes, List.of()).getDecision();
+    }
+}
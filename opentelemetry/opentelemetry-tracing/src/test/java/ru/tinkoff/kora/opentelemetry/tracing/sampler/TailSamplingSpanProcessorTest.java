@@ -0,0 +1,158 @@
+package ru.tinkoff.kora.opentelemetry.tracing.sampler;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TailSamplingSpanProcessorTest {
+
+    private final List<String> exported = new CopyOnWriteArrayList<>();
+    private SdkTracerProvider provider;
+
+    @AfterEach
+    void tearDown() {
+        if (this.provider != null) {
+            this.provider.close();
+        }
+    }
+
+    @Test
+    void fastTraceWithoutErrorsIsDropped() {
+        var tracer = this.tracer(Duration.ofSeconds(10), 1000);
+
+        var root = tracer.spanBuilder("root").startSpan();
+        child(tracer, root, "child").end();
+        root.end();
+
+        assertThat(this.exported).isEmpty();
+    }
+
+    @Test
+    void traceWithErrorIsKept() {
+        var tracer = this.tracer(Duration.ofSeconds(10), 1000);
+
+        var root = tracer.spanBuilder("root").startSpan();
+        var child = child(tracer, root, "child");
+        child.setStatus(StatusCode.ERROR);
+        child.end();
+        assertThat(this.exported).isEmpty();
+        root.end();
+
+        assertThat(this.exported).containsExactly("child", "root");
+    }
+
+    @Test
+    void slowTraceIsKept() {
+        var tracer = this.tracer(Duration.ZERO, 1000);
+
+        var root = tracer.spanBuilder("root").startSpan();
+        child(tracer, root, "child").end();
+        root.end();
+
+        assertThat(this.exported).containsExactly("child", "root");
+    }
+
+    @Test
+    void lateChildFollowsKeepDecision() {
+        var tracer = this.tracer(Duration.ofSeconds(10), 1000);
+
+        var root = tracer.spanBuilder("root").startSpan();
+        var child = child(tracer, root, "child");
+        root.setStatus(StatusCode.ERROR);
+        root.end();
+        child.end();
+
+        assertThat(this.exported).containsExactly("root", "child");
+    }
+
+    @Test
+    void lateChildFollowsDropDecisionAndIsNotBuffered() {
+        var tracer = this.tracer(Duration.ofSeconds(10), 1);
+
+        var root = tracer.spanBuilder("root").startSpan();
+        var child = child(tracer, root, "child");
+        root.end();
+        child.end();
+        assertThat(this.exported).isEmpty();
+
+        // late child does not hold the only buffer slot, so next trace is still tail sampled
+        var next = tracer.spanBuilder("next").startSpan();
+        child(tracer, next, "next-child").end();
+        next.end();
+
+        assertThat(this.exported).isEmpty();
+    }
+
+    @Test
+    void spansOverTracesLimitAreExportedWithoutTailSampling() {
+        var tracer = this.tracer(Duration.ofSeconds(10), 1);
+
+        var first = tracer.spanBuilder("first").startSpan();
+        var second = tracer.spanBuilder("second").startSpan();
+        child(tracer, first, "first-child").end();
+        child(tracer, second, "second-child").end();
+
+        assertThat(this.exported).containsExactly("second-child");
+        first.end();
+        second.end();
+    }
+
+    private Tracer tracer(Duration slowThreshold, int maxTraces) {
+        var config = new OpentelemetrySamplerConfig.TailConfig() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public Duration slowThreshold() {
+                return slowThreshold;
+            }
+
+            @Override
+            public int maxTraces() {
+                return maxTraces;
+            }
+        };
+        var delegate = new SpanProcessor() {
+            @Override
+            public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+            @Override
+            public boolean isStartRequired() {
+                return false;
+            }
+
+            @Override
+            public void onEnd(ReadableSpan span) {
+                exported.add(span.getName());
+            }
+
+            @Override
+            public boolean isEndRequired() {
+                return true;
+            }
+        };
+        this.provider = SdkTracerProvider.builder()
+            .addSpanProcessor(new TailSamplingSpanProcessor(delegate, config))
+            .build();
+        return this.provider.get("test");
+    }
+
+    private static Span child(Tracer tracer, Span parent, String name) {
+        return tracer.spanBuilder(name).setParent(Context.root().with(parent)).startSpan();
+    }
+}
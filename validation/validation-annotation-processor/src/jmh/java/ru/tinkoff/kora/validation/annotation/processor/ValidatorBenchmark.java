@@ -0,0 +1,63 @@
+package ru.tinkoff.kora.validation.annotation.processor;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.kora.application.graph.TypeRef;
+import ru.tinkoff.kora.validation.annotation.processor.dto.$OrderItem_Validator;
+import ru.tinkoff.kora.validation.annotation.processor.dto.$Order_Validator;
+import ru.tinkoff.kora.validation.annotation.processor.dto.Order;
+import ru.tinkoff.kora.validation.annotation.processor.dto.OrderItem;
+import ru.tinkoff.kora.validation.common.ValidationContext;
+import ru.tinkoff.kora.validation.common.Validator;
+import ru.tinkoff.kora.validation.common.Violation;
+import ru.tinkoff.kora.validation.common.constraint.ValidatorModule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5, iterations = 5)
+@Warmup(time = 5, iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ValidatorBenchmark {
+    @Param({"1000"})
+    private int items;
+
+    private Validator<Order> validator;
+    private Order valid;
+    private Order invalid;
+
+    @Setup
+    public void setup() {
+        var module = new ValidatorModule() {};
+        var itemValidator = new $OrderItem_Validator(module.notBlankStringConstraintFactory(), module.rangeIntegerConstraintFactory());
+        this.validator = new $Order_Validator(module.notBlankStringConstraintFactory(), module.listValidator(itemValidator, TypeRef.of(OrderItem.class)));
+
+        var validItems = new ArrayList<OrderItem>(this.items);
+        var invalidItems = new ArrayList<OrderItem>(this.items);
+        for (int i = 0; i < this.items; i++) {
+            validItems.add(new OrderItem("item" + i, i % 100 + 1));
+            // every tenth item is invalid
+            invalidItems.add(new OrderItem(i % 10 == 0 ? " " : "item" + i, i % 100 + 1));
+        }
+        this.valid = new Order("order", validItems);
+        this.invalid = new Order("order", invalidItems);
+    }
+
+    @Benchmark
+    public List<Violation> valid() {
+        return this.validator.validate(this.valid, ValidationContext.full());
+    }
+
+    @Benchmark
+    public List<Violation> invalid() {
+        return this.validator.validate(this.invalid, ValidationContext.full());
+    }
+
+    @Benchmark
+    public List<Violation> invalidFailFast() {
+        return this.validator.validate(this.invalid, ValidationContext.failFast());
+    }
+}
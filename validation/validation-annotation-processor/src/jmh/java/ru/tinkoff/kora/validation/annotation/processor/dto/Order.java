@@ -0,0 +1,9 @@
+package ru.tinkoff.kora.validation.annotation.processor.dto;
+
+import ru.tinkoff.kora.validation.common.annotation.NotBlank;
+import ru.tinkoff.kora.validation.common.annotation.Valid;
+
+import java.util.List;
+
+@Valid
+public record Order(@NotBlank String id, @Valid List<OrderItem> items) {}
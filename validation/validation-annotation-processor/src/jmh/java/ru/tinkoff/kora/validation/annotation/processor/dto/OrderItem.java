@@ -0,0 +1,8 @@
+package ru.tinkoff.kora.validation.annotation.processor.dto;
+
+import ru.tinkoff.kora.validation.common.annotation.NotBlank;
+import ru.tinkoff.kora.validation.common.annotation.Range;
+import ru.tinkoff.kora.validation.common.annotation.Valid;
+
+@Valid
+public record OrderItem(@NotBlank String name, @Range(from = 1, to = 100) int quantity) {}
@@ -133,9 +133,11 @@ public class ValidatorGenerator {
                 checkBuilder.addStatement("var $L = context.addPath($S)", contextField, field.name());
                 checkBuilder.beginControlFlow("if (context.isFailFast())");
                 checkBuilder.addStatement("return $T.of($L.violates(\"Must be non null, but was null\"))", List.class, contextField);
-                checkBuilder.nextControlFlow("else");
-                checkBuilder.addStatement("_violations.add($L.violates(\"Must be non null, but was null\"))", contextField);
                 checkBuilder.endControlFlow();
+                checkBuilder.beginControlFlow("if (_violations == null)");
+                checkBuilder.addStatement("_violations = new $T<>()", ArrayList.class);
+                checkBuilder.endControlFlow();
+                checkBuilder.addStatement("_violations.add($L.violates(\"Must be non null, but was null\"))", contextField);
             }
 
             if (!field.constraint().isEmpty() || !field.validates().isEmpty()) {
@@ -153,20 +155,25 @@ public class ValidatorGenerator {
                     }
                 }
 
-                checkBuilder.addStatement("var $L = context.addPath($S)", contextField, field.name());
+                // nested values are validated with own context, field path is only created when violations occurred
                 for (int j = 1; j <= field.constraint().size(); j++) {
                     final ValidMeta.Constraint constraint = field.constraint().get(j - 1);
                     final String suffix = i + "_" + j;
                     final String constraintField = constraintToFieldName.computeIfAbsent(constraint.factory(), (k) -> "_constraint" + suffix);
                     final String constraintResultField = "_constraintResult_" + suffix;
                     checkBuilder.add("""
-                        var $N = $L.validate(value.$L, $L);
-                        if (!$N.isEmpty() && context.isFailFast()) {
-                            return $N;
-                        } else {
+                        var $N = $L.validate(value.$L, context);
+                        if (!$N.isEmpty()) {
+                            $N = context.withPath($S, $N);
+                            if (context.isFailFast()) {
+                                return $N;
+                            }
+                            if (_violations == null) {
+                                _violations = new $T<>();
+                            }
                             _violations.addAll($N);
                         }
-                        """, constraintResultField, constraintField, field.valueAccessor(), contextField, constraintResultField, constraintResultField, constraintResultField);
+                        """, constraintResultField, constraintField, field.valueAccessor(), constraintResultField, constraintResultField, field.name(), constraintResultField, constraintResultField, ArrayList.class, constraintResultField);
                 }
 
                 for (int j = 1; j <= field.validates().size(); j++) {
@@ -176,13 +183,18 @@ public class ValidatorGenerator {
                     final String validatorResultField = "_validatorResult_" + suffix;
 
                     checkBuilder.add("""
-                        var $N = $L.validate(value.$L, $L);
-                        if (!$N.isEmpty() && context.isFailFast()) {
-                            return $N;
-                        } else {
+                        var $N = $L.validate(value.$L, context);
+                        if (!$N.isEmpty()) {
+                            $N = context.withPath($S, $N);
+                            if (context.isFailFast()) {
+                                return $N;
+                            }
+                            if (_violations == null) {
+                                _violations = new $T<>();
+                            }
                             _violations.addAll($N);
                         }
-                        """, validatorResultField, validatorField, field.valueAccessor(), contextField, validatorResultField, validatorResultField, validatorResultField);
+                        """, validatorResultField, validatorField, field.valueAccessor(), validatorResultField, validatorResultField, field.name(), validatorResultField, validatorResultField, ArrayList.class, validatorResultField);
                 }
 
                 if (!field.isPrimitive()) {
@@ -239,10 +251,10 @@ public class ValidatorGenerator {
                                 return $T.of(context.violates(\"$L input must be non null, but was null\"));
                             }
                                                         
-                            final $T<$T> _violations = new $T<>();""",
-                        List.class, meta.sourceElement().getSimpleName(), List.class, ValidTypes.violation, ArrayList.class),
+                            $T<$T> _violations = null;""",
+                        List.class, meta.sourceElement().getSimpleName(), List.class, ValidTypes.violation),
                     CodeBlock.join(fieldConstraintBuilder, "\n"),
-                    CodeBlock.of("return _violations;")),
+                    CodeBlock.of("return (_violations == null) ? $T.of() : _violations;", List.class)),
                 "\n\n"));
 
         final TypeSpec validatorSpec = validatorSpecBuilder
@@ -101,6 +101,21 @@ class ValidAnnotationProcessorTests extends ValidRunner {
         assertThat(violations).hasSize(1);
     }
 
+    @Test
+    void validateInnerValidatorPath() {
+        // given
+        var service = getFooValidator();
+        var value = new ValidFoo("1", 1L, OffsetDateTime.now(), new ValidBar()
+            .setId("1")
+            .setCodes(List.of(1))
+            .setTazs(List.of(new ValidTaz("1"), new ValidTaz("a"))));
+
+        // then
+        final List<Violation> violations = service.validate(value);
+        assertThat(violations).hasSize(1);
+        assertEquals("bar.tazs.[1].number", violations.get(0).path().full());
+    }
+
     @Test
     void validateFailFast() {
         // given
@@ -2,8 +2,37 @@ package ru.tinkoff.kora.validation.common;
 
 import jakarta.annotation.Nonnull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 record SimpleValidationContext(Path path, boolean isFailFast) implements ValidationContext {
 
+    static List<Violation> rebase(Path base, Path target, List<Violation> violations) {
+        var result = new ArrayList<Violation>(violations.size());
+        for (var violation : violations) {
+            result.add(new SimpleViolation(violation.message(), rebase(base, target, violation.path())));
+        }
+        return result;
+    }
+
+    private static Path rebase(Path base, Path target, Path path) {
+        if (path == base) {
+            return target;
+        }
+        var root = path.root();
+        if (root == null) {
+            // path is not derived from base, nothing to place under target
+            return path;
+        }
+        var rebasedRoot = rebase(base, target, root);
+        if (rebasedRoot == root) {
+            return path;
+        }
+        return path instanceof SimpleIndexPath indexPath
+            ? rebasedRoot.add(indexPath.index())
+            : rebasedRoot.add(path.value());
+    }
+
     record SimpleFieldPath(Path root, String value) implements ValidationContext.Path {
 
         static final Path ROOT = new SimpleFieldPath(null, "");
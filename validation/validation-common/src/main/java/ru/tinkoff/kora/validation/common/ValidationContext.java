@@ -2,6 +2,8 @@ package ru.tinkoff.kora.validation.common;
 
 import jakarta.annotation.Nonnull;
 
+import java.util.List;
+
 /**
  * Context of current validation progress and validation options
  */
@@ -28,6 +30,33 @@ public interface ValidationContext {
         return new SimpleValidationContext(path().add(pathIndex), isFailFast());
     }
 
+    /**
+     * Places violations found with this context under given field, so nested values can be validated with this context
+     * and nested path is only created when violations occurred
+     *
+     * @param path       field name violations belong to
+     * @param violations found with this context
+     * @return violations with paths under given field
+     */
+    @Nonnull
+    default List<Violation> withPath(@Nonnull String path, @Nonnull List<Violation> violations) {
+        if (violations.isEmpty()) {
+            return violations;
+        }
+        return SimpleValidationContext.rebase(path(), path().add(path), violations);
+    }
+
+    /**
+     * Same as {@link #withPath(String, List)} for element index
+     */
+    @Nonnull
+    default List<Violation> withPath(int pathIndex, @Nonnull List<Violation> violations) {
+        if (violations.isEmpty()) {
+            return violations;
+        }
+        return SimpleValidationContext.rebase(path(), path().add(pathIndex), violations);
+    }
+
     /**
      * @param message of violation
      * @return violation for current context
@@ -21,16 +21,24 @@ final class IterableValidator<T, I extends Iterable<T>> implements Validator<I>
     @Nonnull
     public List<Violation> validate(I iterable, @Nonnull ValidationContext context) {
         if (iterable != null) {
-            final List<Violation> violations = new ArrayList<>();
+            List<Violation> violations = null;
             final Iterator<T> iterator = iterable.iterator();
             int i = 0;
 
             while (iterator.hasNext()) {
                 final T t = iterator.next();
-                violations.addAll(validator.validate(t, context.addPath(i++)));
+                // elements are validated with own context, index path is only created for violated elements
+                final List<Violation> elementViolations = validator.validate(t, context);
+                if (!elementViolations.isEmpty()) {
+                    if (violations == null) {
+                        violations = new ArrayList<>();
+                    }
+                    violations.addAll(context.withPath(i, elementViolations));
+                }
+                i++;
             }
 
-            return violations;
+            return (violations == null) ? Collections.emptyList() : violations;
         }
 
         return Collections.emptyList();
@@ -17,10 +17,26 @@ final class NotBlankStringValidator<T extends CharSequence> implements Validator
             return List.of(context.violates("Should be not blank, but was null"));
         } else if (value.isEmpty()) {
             return List.of(context.violates("Should be not blank, but was empty"));
-        } else if (value.toString().isBlank()) {
+        } else if (isBlank(value)) {
             return List.of(context.violates("Should be not blank, but was blank"));
         }
 
         return Collections.emptyList();
     }
+
+    private static boolean isBlank(CharSequence value) {
+        if (value instanceof String string) {
+            return string.isBlank();
+        }
+
+        for (int i = 0; i < value.length(); ) {
+            final int codePoint = Character.codePointAt(value, i);
+            if (!Character.isWhitespace(codePoint)) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+
+        return true;
+    }
 }
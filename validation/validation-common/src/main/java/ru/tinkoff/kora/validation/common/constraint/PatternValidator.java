@@ -6,6 +6,7 @@ import ru.tinkoff.kora.validation.common.Validator;
 import ru.tinkoff.kora.validation.common.Violation;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -13,9 +14,12 @@ import java.util.regex.Pattern;
 final class PatternValidator<T extends CharSequence> implements Validator<T> {
 
     private final Pattern pattern;
+    @Nullable
+    private final SimplePatternMatcher simpleMatcher;
 
     PatternValidator(@Language("RegExp") String pattern, int flags) {
         this.pattern = Pattern.compile(pattern, flags);
+        this.simpleMatcher = SimplePatternMatcher.compile(pattern, flags);
     }
 
     @Nonnull
@@ -23,10 +27,16 @@ final class PatternValidator<T extends CharSequence> implements Validator<T> {
     public List<Violation> validate(T value, @Nonnull ValidationContext context) {
         if (value == null) {
             return List.of(context.violates("Should match RegEx " + pattern + " but was null"));
-        } else if (!pattern.matcher(value).matches()) {
+        } else if (!matches(value)) {
             return List.of(context.violates("Should match RegEx " + pattern + " but was: " + value));
         }
 
         return Collections.emptyList();
     }
+
+    private boolean matches(T value) {
+        return (simpleMatcher != null)
+            ? simpleMatcher.matches(value)
+            : pattern.matcher(value).matches();
+    }
 }
@@ -0,0 +1,28 @@
+package ru.tinkoff.kora.validation.common.constraint;
+
+import ru.tinkoff.kora.validation.common.Validator;
+import ru.tinkoff.kora.validation.common.constraint.factory.PatternValidatorFactory;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares validator between all fields with same pattern and flags, so pattern is compiled once
+ */
+final class PatternValidatorCache<T> implements PatternValidatorFactory<T> {
+
+    private record Key(String pattern, int flags) {}
+
+    private final PatternValidatorFactory<T> delegate;
+    private final ConcurrentHashMap<Key, Validator<T>> validators = new ConcurrentHashMap<>();
+
+    PatternValidatorCache(PatternValidatorFactory<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Nonnull
+    @Override
+    public Validator<T> create(String pattern, int flags) {
+        return validators.computeIfAbsent(new Key(pattern, flags), key -> delegate.create(key.pattern(), key.flags()));
+    }
+}
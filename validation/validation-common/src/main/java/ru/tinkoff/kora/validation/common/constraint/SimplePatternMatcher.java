@@ -0,0 +1,271 @@
+package ru.tinkoff.kora.validation.common.constraint;
+
+import jakarta.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches whole input against simple patterns without {@link java.util.regex}.
+ * Supported pattern is sequence of ASCII literals and ASCII character classes ({@code [a-z0-9_-]}, {@code [^,]}, {@code \d}, {@code \w}, {@code \s})
+ * with quantifiers ({@code ?}, {@code *}, {@code +}, {@code {n}}, {@code {n,}}, {@code {n,m}}), where only last element may have variable count,
+ * optionally surrounded with {@code ^} and {@code $}.
+ * Examples: {@code \d+}, {@code [0-9a-f]{32}}, {@code ID-\d{1,10}}, {@code [A-Z]{2}\d{6}}
+ */
+final class SimplePatternMatcher {
+
+    private record Element(boolean[] ascii, boolean negated, int min, int max) {
+
+        boolean matches(int codePoint) {
+            if (codePoint < 128) {
+                return this.ascii[codePoint] != this.negated;
+            }
+            return this.negated;
+        }
+    }
+
+    private final Element[] elements;
+    private final boolean asciiOnly;
+    private final long minLength;
+    private final long maxLength;
+
+    private SimplePatternMatcher(List<Element> elements) {
+        this.elements = elements.toArray(Element[]::new);
+        var asciiOnly = true;
+        long minLength = 0;
+        long maxLength = 0;
+        for (var element : elements) {
+            asciiOnly &= !element.negated();
+            minLength += element.min();
+            maxLength += element.max();
+        }
+        this.asciiOnly = asciiOnly;
+        this.minLength = minLength;
+        // supplementary character takes two chars
+        this.maxLength = asciiOnly ? maxLength : maxLength * 2;
+    }
+
+    boolean matches(CharSequence value) {
+        var length = value.length();
+        if (length < this.minLength || length > this.maxLength) {
+            return false;
+        }
+        var i = 0;
+        for (var element : this.elements) {
+            var count = 0;
+            while (count < element.max() && i < length) {
+                final int codePoint;
+                if (this.asciiOnly) {
+                    codePoint = value.charAt(i);
+                } else {
+                    codePoint = Character.codePointAt(value, i);
+                }
+                if (!element.matches(codePoint)) {
+                    break;
+                }
+                i += Character.charCount(codePoint);
+                count++;
+            }
+            if (count < element.min()) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    /**
+     * @return matcher equivalent to {@link java.util.regex.Matcher#matches()} of given pattern or null if pattern is not simple
+     */
+    @Nullable
+    static SimplePatternMatcher compile(String pattern, int flags) {
+        if (flags != 0) {
+            return null;
+        }
+        var start = pattern.startsWith("^") ? 1 : 0;
+        var end = pattern.length();
+        // "$" before end of matched input is redundant for whole input match
+        if (end > start && pattern.charAt(end - 1) == '$' && !isEscaped(pattern, end - 1)) {
+            end--;
+        }
+        var elements = new ArrayList<Element>();
+        var i = start;
+        while (i < end) {
+            var c = pattern.charAt(i);
+            boolean[] ascii;
+            var negated = false;
+            if (c == '[') {
+                negated = i + 1 < end && pattern.charAt(i + 1) == '^';
+                ascii = new boolean[128];
+                var classEnd = parseClass(pattern, negated ? i + 2 : i + 1, end, ascii);
+                if (classEnd < 0) {
+                    return null;
+                }
+                i = classEnd + 1;
+            } else if (c == '\\') {
+                if (i + 1 >= end) {
+                    return null;
+                }
+                ascii = parseEscape(pattern.charAt(i + 1));
+                if (ascii == null) {
+                    return null;
+                }
+                i += 2;
+            } else if (c < 128 && "^$.|?*+()[]{}".indexOf(c) < 0) {
+                ascii = new boolean[128];
+                ascii[c] = true;
+                i++;
+            } else {
+                return null;
+            }
+
+            var min = 1;
+            var max = 1;
+            if (i < end) {
+                var q = pattern.charAt(i);
+                if (q == '?') {
+                    min = 0;
+                    i++;
+                } else if (q == '*') {
+                    min = 0;
+                    max = Integer.MAX_VALUE;
+                    i++;
+                } else if (q == '+') {
+                    max = Integer.MAX_VALUE;
+                    i++;
+                } else if (q == '{') {
+                    var quantifierEnd = pattern.indexOf('}', i);
+                    if (quantifierEnd < 0 || quantifierEnd >= end) {
+                        return null;
+                    }
+                    var quantifier = pattern.substring(i + 1, quantifierEnd);
+                    var comma = quantifier.indexOf(',');
+                    try {
+                        if (comma < 0) {
+                            min = max = Integer.parseInt(quantifier);
+                        } else {
+                            min = Integer.parseInt(quantifier.substring(0, comma));
+                            max = comma == quantifier.length() - 1
+                                ? Integer.MAX_VALUE
+                                : Integer.parseInt(quantifier.substring(comma + 1));
+                        }
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                    if (min < 0 || max < min) {
+                        return null;
+                    }
+                    i = quantifierEnd + 1;
+                }
+                // lazy and possessive quantifiers are not supported
+                if (i < end && (pattern.charAt(i) == '?' || pattern.charAt(i) == '+')) {
+                    return null;
+                }
+            }
+            // matching is greedy without backtracking, that is only equivalent to regex when preceding elements have fixed count
+            if (!elements.isEmpty()) {
+                var previous = elements.get(elements.size() - 1);
+                if (previous.min() != previous.max()) {
+                    return null;
+                }
+            }
+            elements.add(new Element(ascii, negated, min, max));
+        }
+        if (elements.isEmpty()) {
+            return null;
+        }
+        return new SimplePatternMatcher(elements);
+    }
+
+    private static boolean isEscaped(String pattern, int index) {
+        var backslashes = 0;
+        for (var i = index - 1; i >= 0 && pattern.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 1;
+    }
+
+    /**
+     * @return index of class closing bracket or -1 if class is not simple
+     */
+    private static int parseClass(String pattern, int from, int end, boolean[] ascii) {
+        var i = from;
+        while (i < end) {
+            var c = pattern.charAt(i);
+            if (c == ']') {
+                return i == from ? -1 : i;
+            }
+            final int low;
+            if (c == '\\') {
+                if (i + 1 >= end) {
+                    return -1;
+                }
+                var escaped = pattern.charAt(i + 1);
+                var escapedClass = parseEscape(escaped);
+                if (escapedClass == null) {
+                    return -1;
+                }
+                i += 2;
+                if (Character.isLetterOrDigit(escaped)) {
+                    // predefined class can't be range bound
+                    for (int j = 0; j < 128; j++) {
+                        ascii[j] |= escapedClass[j];
+                    }
+                    continue;
+                }
+                low = escaped;
+            } else if (c == '[' || c == '&' || c >= 128) {
+                // nested classes, intersections and non ASCII characters are left to regex
+                return -1;
+            } else {
+                low = c;
+                i++;
+            }
+            if (i + 1 < end && pattern.charAt(i) == '-' && pattern.charAt(i + 1) != ']') {
+                var high = pattern.charAt(i + 1);
+                if (high == '\\' || high == '[' || high == '&' || high >= 128 || high < low) {
+                    return -1;
+                }
+                for (int j = low; j <= high; j++) {
+                    ascii[j] = true;
+                }
+                i += 2;
+            } else {
+                ascii[low] = true;
+            }
+        }
+        return -1;
+    }
+
+    @Nullable
+    private static boolean[] parseEscape(char c) {
+        var ascii = new boolean[128];
+        switch (c) {
+            case 'd' -> {
+                for (int j = '0'; j <= '9'; j++) {
+                    ascii[j] = true;
+                }
+            }
+            case 'w' -> {
+                for (int j = 0; j < 128; j++) {
+                    ascii[j] = (j >= 'a' && j <= 'z') || (j >= 'A' && j <= 'Z') || (j >= '0' && j <= '9') || j == '_';
+                }
+            }
+            case 's' -> {
+                ascii[' '] = true;
+                ascii['\t'] = true;
+                ascii['\n'] = true;
+                ascii[0x0B] = true;
+                ascii['\f'] = true;
+                ascii['\r'] = true;
+            }
+            default -> {
+                // escaped ASCII punctuation is literal, other escapes have special meaning
+                if (c >= 128 || Character.isLetterOrDigit(c) || Character.isWhitespace(c)) {
+                    return null;
+                }
+                ascii[c] = true;
+            }
+        }
+        return ascii;
+    }
+}
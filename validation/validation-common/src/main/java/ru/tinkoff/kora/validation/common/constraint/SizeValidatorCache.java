@@ -0,0 +1,28 @@
+package ru.tinkoff.kora.validation.common.constraint;
+
+import ru.tinkoff.kora.validation.common.Validator;
+import ru.tinkoff.kora.validation.common.constraint.factory.SizeValidatorFactory;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares validator between all fields with same size range
+ */
+final class SizeValidatorCache<T> implements SizeValidatorFactory<T> {
+
+    private record Key(int from, int to) {}
+
+    private final SizeValidatorFactory<T> delegate;
+    private final ConcurrentHashMap<Key, Validator<T>> validators = new ConcurrentHashMap<>();
+
+    SizeValidatorCache(SizeValidatorFactory<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Nonnull
+    @Override
+    public Validator<T> create(int from, int to) {
+        return validators.computeIfAbsent(new Key(from, to), key -> delegate.create(key.from(), key.to()));
+    }
+}
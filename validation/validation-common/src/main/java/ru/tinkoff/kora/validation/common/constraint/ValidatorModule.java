@@ -54,11 +54,13 @@ public interface ValidatorModule {
     }
 
     default NotBlankValidatorFactory<String> notBlankStringConstraintFactory() {
-        return NotBlankStringValidator::new;
+        var validator = new NotBlankStringValidator<String>();
+        return () -> validator;
     }
 
     default NotBlankValidatorFactory<CharSequence> notBlankCharSequenceConstraintFactory() {
-        return NotBlankStringValidator::new;
+        var validator = new NotBlankStringValidator<CharSequence>();
+        return () -> validator;
     }
 
     default RangeValidatorFactory<Short> rangeShortConstraintFactory() {
@@ -90,34 +92,34 @@ public interface ValidatorModule {
     }
 
     default SizeValidatorFactory<String> sizeStringConstraintFactory() {
-        return SizeStringValidator::new;
+        return new SizeValidatorCache<>(SizeStringValidator::new);
     }
 
     default SizeValidatorFactory<CharSequence> sizeCharSequenceConstraintFactory() {
-        return SizeStringValidator::new;
+        return new SizeValidatorCache<>(SizeStringValidator::new);
     }
 
     default <K, V> SizeValidatorFactory<Map<K, V>> sizeDoubleConstraintFactory(TypeRef<K> keyRef, TypeRef<V> valueRef) {
-        return SizeMapValidator::new;
+        return new SizeValidatorCache<>(SizeMapValidator::new);
     }
 
     default <V> SizeValidatorFactory<Collection<V>> sizeIterableConstraintFactory(TypeRef<V> valueRef) {
-        return SizeCollectionValidator::new;
+        return new SizeValidatorCache<>(SizeCollectionValidator::new);
     }
 
     default <V> SizeValidatorFactory<List<V>> sizeListConstraintFactory(TypeRef<V> valueRef) {
-        return SizeCollectionValidator::new;
+        return new SizeValidatorCache<>(SizeCollectionValidator::new);
     }
 
     default <V> SizeValidatorFactory<Set<V>> sizeSetConstraintFactory(TypeRef<V> valueRef) {
-        return SizeCollectionValidator::new;
+        return new SizeValidatorCache<>(SizeCollectionValidator::new);
     }
 
     default PatternValidatorFactory<String> patternStringConstraintFactory() {
-        return PatternValidator::new;
+        return new PatternValidatorCache<>(PatternValidator::new);
     }
 
     default PatternValidatorFactory<CharSequence> patternCharSequenceConstraintFactory() {
-        return PatternValidator::new;
+        return new PatternValidatorCache<>(PatternValidator::new);
     }
 }
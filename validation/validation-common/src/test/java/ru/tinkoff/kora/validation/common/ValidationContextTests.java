@@ -3,6 +3,8 @@ package ru.tinkoff.kora.validation.common;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 class ValidationContextTests extends Assertions {
 
     @Test
@@ -30,4 +32,33 @@ class ValidationContextTests extends Assertions {
         assertEquals("field2", context.path().value());
         assertEquals("field1.[1].field2", context.path().full());
     }
+
+    @Test
+    void violationsPlacedUnderPath() {
+        // given
+        var context = ValidationContext.builder().build().addPath("field1");
+        var violations = List.of(
+            context.violates("own"),
+            context.addPath("field2").addPath(1).violates("nested"));
+
+        // when
+        var placed = context.withPath(2, context.withPath("field3", violations));
+
+        // then
+        assertEquals(2, placed.size());
+        assertEquals("own", placed.get(0).message());
+        assertEquals("field1.[2].field3", placed.get(0).path().full());
+        assertEquals("nested", placed.get(1).message());
+        assertEquals("field1.[2].field3.field2.[1]", placed.get(1).path().full());
+    }
+
+    @Test
+    void noViolationsPlacedUnderPath() {
+        // given
+        var context = ValidationContext.builder().build();
+        List<Violation> violations = List.of();
+
+        // then
+        assertSame(violations, context.withPath("field1", violations));
+    }
 }
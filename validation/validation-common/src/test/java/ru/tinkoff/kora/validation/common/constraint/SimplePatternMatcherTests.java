@@ -0,0 +1,41 @@
+package ru.tinkoff.kora.validation.common.constraint;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+class SimplePatternMatcherTests extends Assertions {
+
+    private static final List<String> INPUTS = List.of(
+        "", "1", "12", "123", "1234567890", "a", "ab", "A", "AZ", "A1Z", "a_1", "ID-", "ID-1", "ID-123", "id-1", "-", "a-b", " ", "\t\n",
+        "AB123456", "AB12345", "ab123456", "0123456789abcdef0123456789abcdef", "0123456789ABCDEF0123456789abcdef",
+        "ф", "1ф", "😀", "😀😀", "a😀", "1\n", "$", "a$", "[", "]", "a]", "^a"
+    );
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "\\d", "\\d+", "^\\d*$", "\\d{2}", "\\d{1,3}", "\\d{2,}", "\\w+", "\\s*", "[A-Z]+", "[a-zA-Z0-9_-]{1,64}", "[0-9a-f]{32}",
+        "ID-\\d+", "ID-\\d{1,10}", "[A-Z]{2}\\d{6}", "[^,]+", "[^a]{2}", "[^\\d]?", "a?", "[\\w-]+", "[-a]+", "[a-]+", "\\$", "a\\$?", "\\[", "a\\]?",
+        "[\\^a]+", "[\\]a]+"
+    })
+    void simplePatternMatchesAsRegex(String pattern) {
+        var matcher = SimplePatternMatcher.compile(pattern, 0);
+        assertNotNull(matcher, pattern);
+        var regex = Pattern.compile(pattern);
+        for (var input : INPUTS) {
+            assertEquals(regex.matcher(input).matches(), matcher.matches(input), () -> pattern + " on " + input);
+            assertEquals(regex.matcher(input).matches(), matcher.matches(new StringBuilder(input)), () -> pattern + " on " + input);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "", "^", "^$", ".+", "a|b", "(ab)+", "[a-z]+\\d", "\\d+?", "\\d++", "[a-z&&[def]]", "[[a]]", "\\p{L}+", "\\D", "\\u0041", "ф+", "[ф]", "[]a]", "a{,2}"
+    })
+    void complexPatternLeftToRegex(String pattern) {
+        assertNull(SimplePatternMatcher.compile(pattern, 0), pattern);
+    }
+}
@@ -117,4 +117,15 @@ class ValidationTests extends Assertions implements ValidatorModule {
     void boundaryFailureForLong() {
         assertThrows(IllegalArgumentException.class, () -> new RangeLongNumberValidator<>(2.0, 1.0, Range.Boundary.INCLUSIVE_INCLUSIVE));
     }
+
+    @Test
+    void validatorsCachedPerParameters() {
+        var patternFactory = patternStringConstraintFactory();
+        assertSame(patternFactory.create("\\d+", 0), patternFactory.create("\\d+", 0));
+        assertNotSame(patternFactory.create("\\d+", 0), patternFactory.create("\\d+", java.util.regex.Pattern.CASE_INSENSITIVE));
+
+        var sizeFactory = sizeStringConstraintFactory();
+        assertSame(sizeFactory.create(1, 5), sizeFactory.create(1, 5));
+        assertNotSame(sizeFactory.create(1, 5), sizeFactory.create(1, 6));
+    }
 }